@@ -0,0 +1,17 @@
+package com.sparta.ecommerce.application.coupon.dto;
+
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 쿠폰 발급 결과 조회 응답 DTO
+ */
+public record CouponIssueStatusResponse(
+        @Schema(description = "쿠폰 ID", example = "C001")
+        String couponId,
+        @Schema(description = "사용자 ID", example = "user1")
+        String userId,
+        @Schema(description = "발급 상태", example = "ISSUED")
+        CouponIssueStatus status
+) {
+}
@@ -0,0 +1,38 @@
+package com.sparta.ecommerce.application.coupon.dto;
+
+import com.sparta.ecommerce.domain.coupon.DiscountType;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 메타데이터 (생성 후 변하지 않는 필드만)
+ *
+ * 재고는 포함하지 않음 → 노드 로컬 캐시에 두어도 무효화가 필요 없음 (CouponNearCacheService)
+ */
+public record CouponMetadata(
+        String couponId,
+        String name,
+        DiscountType discountType,
+        long discountValue,
+        long minOrderAmount,
+        LocalDateTime expiresAt
+) {
+    public static CouponMetadata from(Coupon coupon) {
+        return new CouponMetadata(
+                coupon.getCouponId(),
+                coupon.getName(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMinOrderAmount(),
+                coupon.getExpiresAt()
+        );
+    }
+
+    /**
+     * 만료되었는지 확인
+     */
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -2,6 +2,7 @@ package com.sparta.ecommerce.application.coupon.dto;
 
 import com.sparta.ecommerce.domain.coupon.DiscountType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -37,6 +38,17 @@ public record CreateCouponRequest(
 
         @Schema(description = "만료 일시", example = "2025-12-31T23:59:59")
         @NotNull(message = "만료 일시는 필수입니다")
-        LocalDateTime expiresAt
+        LocalDateTime expiresAt,
+
+        @Schema(description = "재고 버킷 수 (미지정/1: 일반 쿠폰, 2 이상: 재고와 발급 요청을 버킷별로 나누어 여러 파티션에서 처리)", example = "8")
+        @Min(value = 1, message = "재고 버킷 수는 1 이상이어야 합니다")
+        @Max(value = 64, message = "재고 버킷 수는 64 이하여야 합니다")
+        Integer stockBucketCount
 ) {
+    /**
+     * 버킷 쿠폰 여부
+     */
+    public boolean isStockBucketed() {
+        return stockBucketCount != null && stockBucketCount > 1;
+    }
 }
@@ -54,4 +54,21 @@ public record UserCouponResponse(
                 userCoupon.getExpiresAt()
         );
     }
+
+    /**
+     * UserCoupon과 CouponMetadata로 UserCouponResponse 생성
+     */
+    public static UserCouponResponse from(UserCoupon userCoupon, CouponMetadata coupon) {
+        return new UserCouponResponse(
+                userCoupon.getUserCouponId(),
+                userCoupon.getUserId(),
+                userCoupon.getCouponId(),
+                coupon.name(),
+                coupon.discountType(),
+                coupon.discountValue(),
+                userCoupon.getIssuedAt(),
+                userCoupon.getUsedAt(),
+                userCoupon.getExpiresAt()
+        );
+    }
 }
@@ -0,0 +1,158 @@
+package com.sparta.ecommerce.application.coupon.service;
+
+import com.sparta.ecommerce.application.coupon.dto.CouponMetadata;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.entity.CouponStockBucket;
+import com.sparta.ecommerce.domain.coupon.exception.CouponSoldOutException;
+import com.sparta.ecommerce.domain.coupon.exception.InvalidCouponException;
+import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
+import com.sparta.ecommerce.domain.coupon.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿠폰 일괄 발급 트랜잭션 처리 서비스
+ * 배치 Kafka Consumer (CouponIssueProcessor.processBatchIssue)에서 호출됨
+ *
+ * 같은 쿠폰의 발급 요청 N건을 한 트랜잭션에서 처리
+ * - 쿠폰 행 비관적 락 1회 (만료/남은 재고 확인)
+ * - user_coupons JDBC Batch INSERT (중복은 unique(user_id, coupon_id) 제약으로 건너뜀, 존재 확인 조회 없음)
+ * - 재고 UPDATE 1회 (실제 발급된 건수만큼 차감)
+ *
+ * 버킷 쿠폰은 쿠폰 행 대신 버킷 행을 잠그고 차감 (만료 확인은 메타데이터 캐시)
+ * → 버킷마다 다른 Consumer가 동시에 처리해도 서로 기다리지 않음
+ *
+ * 요청별 결과(IssueOutcome)만 반환하고 Redis 보상은 호출자가 커밋 후 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponBatchIssueService {
+
+    private final CouponRepository couponRepository;
+    private final CouponStockBucketRepository stockBucketRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponNearCacheService couponNearCacheService;
+
+    /**
+     * 요청별 발급 결과
+     */
+    public enum IssueOutcome {
+        ISSUED,
+        DUPLICATE,
+        SOLD_OUT,
+        EXPIRED,
+        INVALID;
+
+        /**
+         * 발급 결과 조회용 상태 (Redis 결과 Hash 저장 값)
+         */
+        public CouponIssueStatus toIssueStatus() {
+            return switch (this) {
+                case ISSUED -> CouponIssueStatus.ISSUED;
+                case DUPLICATE -> CouponIssueStatus.DUPLICATE;
+                case SOLD_OUT -> CouponIssueStatus.SOLD_OUT;
+                case EXPIRED -> CouponIssueStatus.EXPIRED;
+                case INVALID -> CouponIssueStatus.INVALID;
+            };
+        }
+    }
+
+    /**
+     * 쿠폰 일괄 발급
+     *
+     * 재고보다 요청이 많으면 요청 순서대로 발급하고 나머지는 SOLD_OUT
+     * 중복으로 건너뛴 요청이 있으면 남은 재고만큼 다음 요청을 이어서 INSERT
+     *
+     * @param couponId 쿠폰 ID
+     * @param bucket   버킷 번호 (버킷 쿠폰이면 해당 버킷 재고에서 차감, 일반 쿠폰이면 null)
+     * @param userIds  발급 요청 사용자 ID (요청 순서)
+     * @return 요청별 발급 결과 (userIds와 같은 순서)
+     */
+    @Transactional
+    public List<IssueOutcome> issueAll(String couponId, Integer bucket, List<String> userIds) {
+        IssueOutcome[] outcomes = new IssueOutcome[userIds.size()];
+
+        // 1. 재고 행 잠금 (같은 쿠폰/버킷의 다른 배치/단건 발급과 직렬화)
+        LocalDateTime expiresAt;
+        int remaining;
+        if (bucket == null) {
+            Coupon coupon = couponRepository.findByIdWithLock(couponId).orElse(null);
+            if (coupon == null) {
+                Arrays.fill(outcomes, IssueOutcome.INVALID);
+                return List.of(outcomes);
+            }
+            expiresAt = coupon.getExpiresAt();
+            remaining = coupon.getStock().getRemainingQuantity();
+        } else {
+            CouponMetadata metadata;
+            try {
+                metadata = couponNearCacheService.getMetadata(couponId);
+            } catch (InvalidCouponException e) {
+                Arrays.fill(outcomes, IssueOutcome.INVALID);
+                return List.of(outcomes);
+            }
+            CouponStockBucket stockBucket = stockBucketRepository.findByCouponIdAndBucketNoWithLock(couponId, bucket)
+                    .orElse(null);
+            if (stockBucket == null) {
+                Arrays.fill(outcomes, IssueOutcome.INVALID);
+                return List.of(outcomes);
+            }
+            expiresAt = metadata.expiresAt();
+            remaining = stockBucket.getRemainingQuantity();
+        }
+        if (LocalDateTime.now().isAfter(expiresAt)) {
+            Arrays.fill(outcomes, IssueOutcome.EXPIRED);
+            return List.of(outcomes);
+        }
+
+        // 2. 배치 안의 같은 사용자 요청은 첫 요청만 발급 대상
+        Set<String> seen = new HashSet<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (seen.add(userIds.get(i))) {
+                pending.add(i);
+            } else {
+                outcomes[i] = IssueOutcome.DUPLICATE;
+            }
+        }
+
+        // 3. 남은 재고만큼 일괄 INSERT (중복으로 빠진 만큼 다음 요청으로 채움)
+        int issued = 0;
+        int next = 0;
+        while (next < pending.size() && issued < remaining) {
+            List<Integer> chunk = pending.subList(next, Math.min(pending.size(), next + remaining - issued));
+            next += chunk.size();
+
+            Set<String> inserted = userCouponRepository.insertAllIgnoringDuplicates(couponId, expiresAt,
+                    chunk.stream().map(userIds::get).toList());
+            for (int index : chunk) {
+                outcomes[index] = inserted.contains(userIds.get(index)) ? IssueOutcome.ISSUED : IssueOutcome.DUPLICATE;
+            }
+            issued += inserted.size();
+        }
+        for (int index : pending.subList(next, pending.size())) {
+            outcomes[index] = IssueOutcome.SOLD_OUT;
+        }
+
+        // 4. 재고 차감 1회 (재고 행 락 보유 중이므로 실패하지 않음)
+        if (issued > 0) {
+            int updated = bucket == null
+                    ? couponRepository.issueCoupons(couponId, issued)
+                    : stockBucketRepository.issueFromBucket(couponId, bucket, issued);
+            if (updated == 0) {
+                throw new CouponSoldOutException(couponId);
+            }
+        }
+        return List.of(outcomes);
+    }
+}
@@ -1,17 +1,39 @@
 package com.sparta.ecommerce.application.coupon.service;
 
+import com.sparta.ecommerce.application.coupon.service.CouponBatchIssueService.IssueOutcome;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
 import com.sparta.ecommerce.domain.coupon.exception.CouponExpiredException;
 import com.sparta.ecommerce.domain.coupon.exception.CouponSoldOutException;
 import com.sparta.ecommerce.domain.coupon.exception.DuplicateCouponIssueException;
 import com.sparta.ecommerce.domain.coupon.exception.InvalidCouponException;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 쿠폰 발급 처리 서비스 (트랜잭션 전용)
  * Kafka Consumer에서 호출하여 트랜잭션 컨텍스트에서 쿠폰을 발급합니다.
+ *
+ * - 단건: processSingleIssue (CouponKafkaConsumer)
+ * - 일괄: processBatchIssue (CouponBatchKafkaConsumer, coupon.issue.batch.enabled=true)
+ *
+ * 요청별 최종 결과는 Redis 결과 Hash에 저장 (GET /api/coupons/{couponId}/issue-status 조회용)
+ * - 발급 성공은 커밋 후 저장 (조회 결과가 ISSUED면 사용자 쿠폰이 DB에 있음)
+ * - 결과 저장 실패는 발급 처리에 영향 없음 (조회 시 PENDING → 결과 보관 기간 후 NOT_REQUESTED)
+ *
+ * 재고 소진 플래그는 DB 재고가 0임을 확인한 경우에만 설정
+ * - 일반 쿠폰: 쿠폰 재고 차감 실패 시
+ * - 버킷 쿠폰: 버킷 차감 실패 후 모든 버킷(coupon_stock_buckets) 재고 합계가 0일 때
+ * (접수 단계의 Redis 재고 소진 시점에는 접수된 요청이 아직 Kafka에 남아 있으므로 설정하지 않음)
  */
 @Slf4j
 @Service
@@ -19,28 +41,44 @@ import org.springframework.transaction.annotation.Transactional;
 public class CouponIssueProcessor {
 
     private final CouponIssueService couponIssueService;
+    private final CouponBatchIssueService couponBatchIssueService;
     private final CouponIssueRedisService redisService;
+    private final CouponNearCacheService couponNearCacheService;
+    private final CouponStockBucketRepository stockBucketRepository;
 
     /**
      * 단일 쿠폰 발급 처리 (트랜잭션 내에서 실행)
      *
      * @param userId 사용자 ID
      * @param couponId 쿠폰 ID
+     * @param bucket 접수 시 재고를 차감한 버킷 번호 (일반 쿠폰이면 null)
      */
     @Transactional
-    public void processSingleIssue(String userId, String couponId) {
-        // 재고 소진 플래그 확인 (빠른 종료)
-        if (redisService.isSoldOut(couponId)) {
+    public void processSingleIssue(String userId, String couponId, Integer bucket) {
+        // 재고 소진 플래그 확인 (빠른 종료, 소진 확인된 쿠폰은 로컬 캐시에서 응답)
+        if (couponNearCacheService.isSoldOut(couponId)) {
             log.info("이미 재고 소진된 쿠폰 - 처리 스킵: userId={}, couponId={}", userId, couponId);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.SOLD_OUT));
             return;
         }
 
         try {
             // 쿠폰 발급
-            couponIssueService.issue(userId, couponId);
-            log.info("쿠폰 발급 성공: userId={}, couponId={}", userId, couponId);
+            couponIssueService.issue(userId, couponId, bucket);
+            log.info("쿠폰 발급 성공: userId={}, couponId={}, bucket={}", userId, couponId, bucket);
+            saveResultAfterCommit(couponId, userId, CouponIssueStatus.ISSUED);
 
         } catch (CouponSoldOutException e) {
+            if (bucket != null) {
+                // 버킷 재고 소진 (Redis-DB 버킷 불일치) - 다른 버킷으로 재요청할 수 있도록 Set에서만 제거
+                // 비어 있는 DB 버킷의 Redis 재고는 복구하지 않고, 모든 버킷이 비었을 때만 소진 플래그 설정
+                log.warn("쿠폰 버킷 재고 소진: userId={}, couponId={}, bucket={}", userId, couponId, bucket);
+                redisService.removeFromIssuedSet(couponId, userId);
+                markSoldOutIfAllBucketsEmpty(couponId);
+                saveResult(couponId, Map.of(userId, CouponIssueStatus.SOLD_OUT));
+                return;
+            }
+
             // 재고 소진 - Redis 플래그 설정하여 후속 요청 빠르게 차단
             log.warn("쿠폰 재고 소진: userId={}, couponId={}", userId, couponId);
 
@@ -49,6 +87,7 @@ public class CouponIssueProcessor {
 
             // Redis 재고 복구 (API에서 감소했지만 DB 저장 실패)
             redisService.incrementStock(couponId);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.SOLD_OUT));
 
         } catch (DuplicateCouponIssueException e) {
             // 이미 발급됨 (Redis-DB 불일치 케이스)
@@ -58,25 +97,135 @@ public class CouponIssueProcessor {
             redisService.removeFromIssuedSet(couponId, userId);
 
             // Redis 재고 복구 (중복이므로 실제 발급 안 됨)
-            redisService.incrementStock(couponId);
+            redisService.incrementStock(couponId, bucket, 1);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.DUPLICATE));
 
         } catch (CouponExpiredException e) {
             // 쿠폰 만료
             log.warn("쿠폰 만료: userId={}, couponId={}", userId, couponId);
             redisService.removeFromIssuedSet(couponId, userId);
-            redisService.incrementStock(couponId);
+            redisService.incrementStock(couponId, bucket, 1);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.EXPIRED));
 
         } catch (InvalidCouponException e) {
             // 유효하지 않은 쿠폰
             log.error("유효하지 않은 쿠폰: userId={}, couponId={}", userId, couponId);
             redisService.removeFromIssuedSet(couponId, userId);
-            redisService.incrementStock(couponId);
+            redisService.incrementStock(couponId, bucket, 1);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.INVALID));
 
         } catch (Exception e) {
             // 기타 예외 - 재시도 가능하도록 Set에서 제거 및 재고 복구
             log.error("쿠폰 발급 실패: userId={}, couponId={}", userId, couponId, e);
             redisService.removeFromIssuedSet(couponId, userId);
-            redisService.incrementStock(couponId);
+            redisService.incrementStock(couponId, bucket, 1);
+            saveResult(couponId, Map.of(userId, CouponIssueStatus.FAILED));
+        }
+    }
+
+    /**
+     * 같은 쿠폰(버킷 쿠폰은 같은 버킷)의 발급 요청 일괄 처리
+     *
+     * 발급은 CouponBatchIssueService 트랜잭션 1회로 처리하고,
+     * 커밋/롤백이 확정된 뒤 요청별 결과에 따라 Redis 보상
+     * - SOLD_OUT: 재고 소진 플래그 설정 + 재고 복구 (Set은 유지, 단건과 동일)
+     *   버킷 쿠폰은 Set에서만 제거하고 모든 버킷이 비었을 때만 소진 플래그 설정 (단건과 동일)
+     * - DUPLICATE, EXPIRED, INVALID: Set에서 제거 + 재고 복구
+     * - 트랜잭션 실패: 전체 요청 Set에서 제거 + 재고 복구
+     * 요청별 결과는 Redis 결과 Hash에 한 번에 저장 (배치 안 중복 요청은 첫 요청 결과 유지)
+     *
+     * @param couponId 쿠폰 ID
+     * @param bucket 버킷 번호 (일반 쿠폰이면 null)
+     * @param userIds 발급 요청 사용자 ID (요청 순서)
+     */
+    public void processBatchIssue(String couponId, Integer bucket, List<String> userIds) {
+        // 재고 소진 플래그 확인 (빠른 종료)
+        if (couponNearCacheService.isSoldOut(couponId)) {
+            log.info("이미 재고 소진된 쿠폰 - 일괄 처리 스킵: couponId={}, count={}", couponId, userIds.size());
+            saveResult(couponId, toResults(userIds, CouponIssueStatus.SOLD_OUT));
+            return;
+        }
+
+        List<IssueOutcome> outcomes;
+        try {
+            outcomes = couponBatchIssueService.issueAll(couponId, bucket, userIds);
+        } catch (Exception e) {
+            // 배치 전체 롤백 - 재시도 가능하도록 Set에서 제거 및 재고 복구
+            log.error("쿠폰 일괄 발급 실패: couponId={}, bucket={}, count={}", couponId, bucket, userIds.size(), e);
+            redisService.releaseAll(couponId, bucket, userIds);
+            saveResult(couponId, toResults(userIds, CouponIssueStatus.FAILED));
+            return;
+        }
+
+        int issued = 0;
+        List<String> soldOut = new ArrayList<>();
+        List<String> released = new ArrayList<>();
+        Map<String, CouponIssueStatus> results = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            results.putIfAbsent(userIds.get(i), outcomes.get(i).toIssueStatus());
+            switch (outcomes.get(i)) {
+                case ISSUED -> issued++;
+                case SOLD_OUT -> soldOut.add(userIds.get(i));
+                default -> released.add(userIds.get(i));
+            }
         }
+
+        if (!soldOut.isEmpty()) {
+            if (bucket == null) {
+                redisService.setSoldOutFlag(couponId);
+                redisService.incrementStock(couponId, null, soldOut.size());
+            } else {
+                redisService.removeAllFromIssuedSet(couponId, soldOut);
+                markSoldOutIfAllBucketsEmpty(couponId);
+            }
+        }
+        redisService.releaseAll(couponId, bucket, released);
+        saveResult(couponId, results);
+
+        log.info("쿠폰 일괄 발급 완료: couponId={}, bucket={}, requested={}, issued={}, soldOut={}, released={}",
+                couponId, bucket, userIds.size(), issued, soldOut.size(), released.size());
+    }
+
+    /**
+     * 버킷 쿠폰의 모든 DB 버킷 재고가 0이면 재고 소진 플래그 설정
+     * 한 버킷만 빈 경우에는 다른 버킷으로 접수된 요청이 아직 발급될 수 있으므로 설정하지 않음
+     */
+    private void markSoldOutIfAllBucketsEmpty(String couponId) {
+        if (stockBucketRepository.sumRemainingQuantity(couponId) == 0) {
+            redisService.setSoldOutFlag(couponId);
+        }
+    }
+
+    /**
+     * 발급 결과 저장 (실패해도 발급 처리는 계속)
+     */
+    private void saveResult(String couponId, Map<String, CouponIssueStatus> results) {
+        try {
+            redisService.saveResults(couponId, results);
+        } catch (Exception e) {
+            log.error("쿠폰 발급 결과 저장 실패: couponId={}, count={}", couponId, results.size(), e);
+        }
+    }
+
+    /**
+     * 발급 결과를 트랜잭션 커밋 후 저장 (롤백되면 저장하지 않음)
+     */
+    private void saveResultAfterCommit(String couponId, String userId, CouponIssueStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            saveResult(couponId, Map.of(userId, status));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                saveResult(couponId, Map.of(userId, status));
+            }
+        });
+    }
+
+    private Map<String, CouponIssueStatus> toResults(List<String> userIds, CouponIssueStatus status) {
+        Map<String, CouponIssueStatus> results = new LinkedHashMap<>();
+        userIds.forEach(userId -> results.put(userId, status));
+        return results;
     }
 }
@@ -1,10 +1,21 @@
 package com.sparta.ecommerce.application.coupon.service;
 
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * 쿠폰 발급 Redis 관리 서비스
  *
@@ -16,6 +27,17 @@ import org.springframework.stereotype.Service;
  * - Kafka 방식: Redis Set으로 중복 체크 + Kafka로 메시지 큐잉
  * - Set 키: coupon:issued:{couponId}
  * - 값: userId (발급 요청한 사용자 목록)
+ *
+ * 키 구조 (같은 쿠폰의 키는 해시태그 {couponId}로 같은 슬롯에 배치 → Redis Cluster에서도 스크립트 실행 가능):
+ * - coupon:stock:{couponId}     남은 재고
+ * - coupon:issued:{couponId}    발급 요청한 사용자 Set
+ * - coupon:sold-out:{couponId}  재고 소진 플래그
+ * - coupon:buckets:{couponId}   재고 버킷 수 (버킷 쿠폰만)
+ * - coupon:stock:{couponId}:{n} 버킷 n의 남은 재고 (버킷 쿠폰은 coupon:stock:{couponId} 대신 사용)
+ * - coupon:result:{couponId}    사용자별 발급 결과 Hash (userId → CouponIssueStatus, coupon.issue.result-ttl-seconds 후 만료)
+ *
+ * 재고 소진 플래그 설정 시 coupon:sold-out 채널로 쿠폰 ID 발행 → 각 노드 로컬 캐시 갱신 (CouponNearCacheService)
+ * 발급 결과 저장 시 coupon:issue-result 채널로 쿠폰 ID 발행 → 결과를 기다리는 조회 요청 응답 (CouponIssueStatusService)
  */
 @Slf4j
 @Service
@@ -24,30 +46,123 @@ public class CouponIssueRedisService {
 
     private final StringRedisTemplate redisTemplate;
 
+    @Value("${coupon.issue.result-ttl-seconds:3600}")
+    private long resultTtlSeconds;
+
+    private static final String STOCK_PREFIX = "coupon:stock:";
     private static final String ISSUED_SET_PREFIX = "coupon:issued:";
     private static final String SOLD_OUT_FLAG_PREFIX = "coupon:sold-out:";
+    private static final String BUCKET_COUNT_PREFIX = "coupon:buckets:";
+    private static final String RESULT_PREFIX = "coupon:result:";
+
+    /**
+     * 재고 소진 알림 채널 (메시지: 쿠폰 ID)
+     */
+    public static final String SOLD_OUT_CHANNEL = "coupon:sold-out";
+
+    /**
+     * 재고 소진 플래그 유지 시간
+     */
+    public static final Duration SOLD_OUT_FLAG_TTL = Duration.ofHours(1);
+
+    /**
+     * 발급 결과 저장 알림 채널 (메시지: IssueResultMessage 인코딩 - 쿠폰 ID + 사용자별 결과)
+     */
+    public static final String RESULT_CHANNEL = "coupon:issue-result";
 
     /**
-     * Redis Set에 사용자 추가 (중복 체크)
-     * Kafka 방식에서 사용
+     * 발급 요청 접수 판정 (중복 체크 + 재고 확인 + 재고 차감을 원자적으로)
+     * KEYS: 발급 Set 키, 발급 결과 Hash 키, 재고 키 (일반 쿠폰 1개 / 버킷 쿠폰은 버킷 번호 순서로 K개)
+     * ARGV: 사용자 ID, 버킷 탐색 시작 위치
+     * 반환: {상태, 버킷 번호, 접수 순번} - 상태 0 접수, 1 중복 요청, 2 재고 소진
      *
-     * @param couponId 쿠폰 ID
-     * @param userId 사용자 ID
-     * @return 추가 성공 시 1, 이미 존재 시 0
+     * 버킷 쿠폰은 시작 위치부터 재고가 남은 첫 버킷에서 차감 → 모든 버킷이 비어야 재고 소진
+     * 접수 시 이전 요청의 발급 결과(FAILED 등)를 지워 재요청이 PENDING으로 조회되도록 함
+     * 재고 소진/중복이면 아무것도 변경하지 않으므로 롤백(INCR, SREM)이 필요 없음
      */
-    public Long addToIssuedSet(String couponId, String userId) {
-        String issuedSetKey = ISSUED_SET_PREFIX + couponId;
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return {1, -1, 0}
+            end
+            local bucketCount = #KEYS - 2
+            local start = tonumber(ARGV[2])
+            for i = 0, bucketCount - 1 do
+                local bucket = (start + i) % bucketCount
+                local stockKey = KEYS[bucket + 3]
+                if tonumber(redis.call('GET', stockKey) or '0') > 0 then
+                    redis.call('DECR', stockKey)
+                    redis.call('SADD', KEYS[1], ARGV[1])
+                    redis.call('HDEL', KEYS[2], ARGV[1])
+                    return {0, bucket, redis.call('SCARD', KEYS[1])}
+                end
+            end
+            return {2, -1, 0}
+            """, List.class);
 
-        // Set에 추가 시도 (SADD - atomic operation)
-        Long added = redisTemplate.opsForSet().add(issuedSetKey, userId);
+    /**
+     * 발급 요청 접수 결과 (선언 순서 = ADMIT_SCRIPT 반환 상태)
+     */
+    public enum Admission {
+        ADMITTED,
+        DUPLICATE,
+        SOLD_OUT
+    }
 
-        if (added != null && added > 0) {
-            log.debug("중복 체크 통과 - Set에 추가: userId={}, couponId={}", userId, couponId);
+    /**
+     * 발급 요청 접수 판정 결과
+     *
+     * @param admission 접수 결과
+     * @param bucket    재고를 차감한 버킷 번호 (버킷 쿠폰이 접수된 경우만, 그 외 null)
+     * @param position  접수 순번 (접수된 경우만, 그 외 0)
+     */
+    public record AdmitResult(Admission admission, Integer bucket, long position) {
+    }
+
+    /**
+     * 발급 요청 접수 판정 (Redis 왕복 1회)
+     *
+     * @param couponId 쿠폰 ID
+     * @param stockBucketCount 재고 버킷 수 (0이면 일반 쿠폰)
+     * @param userId 사용자 ID
+     * @return 접수 결과 (ADMITTED면 재고 1 차감 + 발급 Set 추가 완료)
+     */
+    public AdmitResult admit(String couponId, int stockBucketCount, String userId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(issuedSetKey(couponId));
+        keys.add(resultKey(couponId));
+        int start = 0;
+        if (stockBucketCount > 0) {
+            for (int bucket = 0; bucket < stockBucketCount; bucket++) {
+                keys.add(stockKey(couponId, bucket));
+            }
+            // 버킷마다 고르게 차감되도록 탐색 시작 위치를 무작위로
+            start = ThreadLocalRandom.current().nextInt(stockBucketCount);
         } else {
-            log.debug("중복 발급 요청 감지: userId={}, couponId={}", userId, couponId);
+            keys.add(stockKey(couponId));
         }
 
-        return added;
+        List<?> result = redisTemplate.execute(ADMIT_SCRIPT, keys, userId, String.valueOf(start));
+        Admission admission = Admission.values()[((Number) result.get(0)).intValue()];
+        Integer bucket = admission == Admission.ADMITTED && stockBucketCount > 0
+                ? ((Number) result.get(1)).intValue()
+                : null;
+        long position = ((Number) result.get(2)).longValue();
+
+        log.debug("쿠폰 발급 요청 판정: userId={}, couponId={}, result={}, bucket={}, position={}",
+                userId, couponId, admission, bucket, position);
+        return new AdmitResult(admission, bucket, position);
+    }
+
+    /**
+     * 재고 버킷 수 조회 (쿠폰 생성 시 저장, 이후 변하지 않음)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 재고 버킷 수 (일반 쿠폰이면 0)
+     */
+    public int getStockBucketCount(String couponId) {
+        String count = redisTemplate.opsForValue().get(bucketCountKey(couponId));
+        return count == null ? 0 : Integer.parseInt(count);
     }
 
     /**
@@ -58,8 +173,7 @@ public class CouponIssueRedisService {
      * @return true: 발급 요청함, false: 요청 안 함
      */
     public boolean hasRequested(String couponId, String userId) {
-        String issuedSetKey = ISSUED_SET_PREFIX + couponId;
-        Boolean isMember = redisTemplate.opsForSet().isMember(issuedSetKey, userId);
+        Boolean isMember = redisTemplate.opsForSet().isMember(issuedSetKey(couponId), userId);
         return Boolean.TRUE.equals(isMember);
     }
 
@@ -71,21 +185,21 @@ public class CouponIssueRedisService {
      * @param userId 사용자 ID
      */
     public void removeFromIssuedSet(String couponId, String userId) {
-        String issuedSetKey = ISSUED_SET_PREFIX + couponId;
-        redisTemplate.opsForSet().remove(issuedSetKey, userId);
+        redisTemplate.opsForSet().remove(issuedSetKey(couponId), userId);
         log.debug("발급 실패로 Set에서 제거 (재시도 가능): userId={}, couponId={}", userId, couponId);
     }
 
     /**
      * 재고 소진 플래그 설정
      * 재고가 소진되면 플래그를 설정하여 후속 요청을 빠르게 차단
+     * 설정 후 SOLD_OUT_CHANNEL로 발행하여 모든 노드의 로컬 캐시에 즉시 반영
      *
      * @param couponId 쿠폰 ID
      */
     public void setSoldOutFlag(String couponId) {
-        String soldOutKey = SOLD_OUT_FLAG_PREFIX + couponId;
-        redisTemplate.opsForValue().set(soldOutKey, "true");
-        redisTemplate.expire(soldOutKey, 1, java.util.concurrent.TimeUnit.HOURS);
+        String soldOutKey = soldOutKey(couponId);
+        redisTemplate.opsForValue().set(soldOutKey, "true", SOLD_OUT_FLAG_TTL);
+        redisTemplate.convertAndSend(SOLD_OUT_CHANNEL, couponId);
         log.info("재고 소진 플래그 설정: couponId={}", couponId);
     }
 
@@ -96,8 +210,7 @@ public class CouponIssueRedisService {
      * @return true: 재고 소진, false: 재고 있음
      */
     public boolean isSoldOut(String couponId) {
-        String soldOutKey = SOLD_OUT_FLAG_PREFIX + couponId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(soldOutKey));
+        return Boolean.TRUE.equals(redisTemplate.hasKey(soldOutKey(couponId)));
     }
 
     /**
@@ -107,22 +220,22 @@ public class CouponIssueRedisService {
      * @param quantity 초기 재고 수량
      */
     public void initializeStock(String couponId, Integer quantity) {
-        String stockKey = "coupon:stock:" + couponId;
-        redisTemplate.opsForValue().set(stockKey, String.valueOf(quantity));
+        redisTemplate.opsForValue().set(stockKey(couponId), String.valueOf(quantity));
         log.info("Redis 재고 초기화: couponId={}, quantity={}", couponId, quantity);
     }
 
     /**
-     * Redis 재고 1 감소 (원자적)
+     * Redis 버킷 재고 초기화 (버킷 쿠폰 생성 시)
      *
      * @param couponId 쿠폰 ID
-     * @return 감소 후 남은 재고 (음수 가능)
+     * @param quantities 버킷별 초기 재고 수량 (버킷 번호 순서)
      */
-    public Long decrementStock(String couponId) {
-        String stockKey = "coupon:stock:" + couponId;
-        Long remaining = redisTemplate.opsForValue().decrement(stockKey);
-        log.debug("Redis 재고 감소: couponId={}, remaining={}", couponId, remaining);
-        return remaining;
+    public void initializeBucketedStock(String couponId, List<Integer> quantities) {
+        for (int bucket = 0; bucket < quantities.size(); bucket++) {
+            redisTemplate.opsForValue().set(stockKey(couponId, bucket), String.valueOf(quantities.get(bucket)));
+        }
+        redisTemplate.opsForValue().set(bucketCountKey(couponId), String.valueOf(quantities.size()));
+        log.info("Redis 버킷 재고 초기화: couponId={}, quantities={}", couponId, quantities);
     }
 
     /**
@@ -132,9 +245,152 @@ public class CouponIssueRedisService {
      * @return 증가 후 재고
      */
     public Long incrementStock(String couponId) {
-        String stockKey = "coupon:stock:" + couponId;
-        Long remaining = redisTemplate.opsForValue().increment(stockKey);
-        log.debug("Redis 재고 복구: couponId={}, remaining={}", couponId, remaining);
+        return incrementStock(couponId, null, 1);
+    }
+
+    /**
+     * Redis 재고 증가 (롤백/복구용)
+     *
+     * @param couponId 쿠폰 ID
+     * @param bucket 버킷 번호 (일반 쿠폰이면 null)
+     * @param quantity 복구 수량
+     * @return 증가 후 재고
+     */
+    public Long incrementStock(String couponId, Integer bucket, long quantity) {
+        Long remaining = redisTemplate.opsForValue().increment(stockKey(couponId, bucket), quantity);
+        log.debug("Redis 재고 복구: couponId={}, bucket={}, quantity={}, remaining={}", couponId, bucket, quantity, remaining);
         return remaining;
     }
+
+    /**
+     * 발급 실패 요청 일괄 복구 (Set에서 제거 + 재고 복구)
+     * 배치 Consumer에서 처리 실패한 요청에 대해 호출
+     *
+     * @param couponId 쿠폰 ID
+     * @param bucket 버킷 번호 (일반 쿠폰이면 null)
+     * @param userIds 실패한 요청의 사용자 ID (요청 건수만큼 재고 복구)
+     */
+    public void releaseAll(String couponId, Integer bucket, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        removeAllFromIssuedSet(couponId, userIds);
+        incrementStock(couponId, bucket, userIds.size());
+    }
+
+    /**
+     * 발급 실패 요청 Set에서 일괄 제거 (재고 복구 없이)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 사용자 ID
+     */
+    public void removeAllFromIssuedSet(String couponId, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(issuedSetKey(couponId), userIds.toArray());
+        log.debug("발급 실패로 Set에서 일괄 제거 (재시도 가능): couponId={}, count={}", couponId, userIds.size());
+    }
+
+    /**
+     * 발급 결과 저장 (Consumer 처리 완료 시)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param status 발급 결과
+     */
+    public void saveResult(String couponId, String userId, CouponIssueStatus status) {
+        saveResults(couponId, Map.of(userId, status));
+    }
+
+    /**
+     * 발급 결과 일괄 저장 (HSET 1회) 후 결과 알림 발행
+     * 결과 Hash는 쿠폰 단위로 저장할 때마다 만료 시간 갱신
+     *
+     * @param couponId 쿠폰 ID
+     * @param results 사용자 ID별 발급 결과
+     */
+    public void saveResults(String couponId, Map<String, CouponIssueStatus> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Map<String, String> fields = new HashMap<>(results.size());
+        results.forEach((userId, status) -> fields.put(userId, status.name()));
+
+        String resultKey = resultKey(couponId);
+        redisTemplate.opsForHash().putAll(resultKey, fields);
+        redisTemplate.expire(resultKey, Duration.ofSeconds(resultTtlSeconds));
+        redisTemplate.convertAndSend(RESULT_CHANNEL, new IssueResultMessage(couponId, results).encode());
+        log.debug("쿠폰 발급 결과 저장: couponId={}, count={}", couponId, results.size());
+    }
+
+    /**
+     * 발급 결과 알림 메시지
+     * 결과를 함께 실어 보내 수신 노드가 Redis를 다시 조회하지 않고 대기 요청을 완료
+     *
+     * 인코딩: 첫 줄 쿠폰 ID, 이후 한 줄에 하나씩 "사용자 ID=결과"
+     *
+     * @param couponId 쿠폰 ID
+     * @param results  사용자 ID별 발급 결과
+     */
+    public record IssueResultMessage(String couponId, Map<String, CouponIssueStatus> results) {
+
+        public String encode() {
+            StringBuilder message = new StringBuilder(couponId);
+            results.forEach((userId, status) -> message.append('\n').append(userId).append('=').append(status.name()));
+            return message.toString();
+        }
+
+        public static IssueResultMessage decode(String message) {
+            String[] lines = message.split("\n");
+            Map<String, CouponIssueStatus> results = new HashMap<>(lines.length - 1);
+            for (int i = 1; i < lines.length; i++) {
+                int separator = lines[i].lastIndexOf('=');
+                results.put(lines[i].substring(0, separator),
+                        CouponIssueStatus.valueOf(lines[i].substring(separator + 1)));
+            }
+            return new IssueResultMessage(lines[0], results);
+        }
+    }
+
+    /**
+     * 발급 결과 일괄 조회 (HMGET 1회)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 사용자 ID
+     * @return userIds와 같은 순서의 발급 결과 (결과가 없으면 null)
+     */
+    public List<CouponIssueStatus> getResults(String couponId, List<String> userIds) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(resultKey(couponId), new ArrayList<>(userIds));
+        return values.stream()
+                .map(value -> value == null ? null : CouponIssueStatus.valueOf((String) value))
+                .toList();
+    }
+
+    private String stockKey(String couponId) {
+        return STOCK_PREFIX + "{" + couponId + "}";
+    }
+
+    /**
+     * 버킷 재고 키 (해시태그는 쿠폰 ID → 모든 버킷이 발급 Set과 같은 슬롯)
+     */
+    private String stockKey(String couponId, Integer bucket) {
+        return bucket == null ? stockKey(couponId) : stockKey(couponId) + ":" + bucket;
+    }
+
+    private String resultKey(String couponId) {
+        return RESULT_PREFIX + "{" + couponId + "}";
+    }
+
+    private String bucketCountKey(String couponId) {
+        return BUCKET_COUNT_PREFIX + "{" + couponId + "}";
+    }
+
+    private String issuedSetKey(String couponId) {
+        return ISSUED_SET_PREFIX + "{" + couponId + "}";
+    }
+
+    private String soldOutKey(String couponId) {
+        return SOLD_OUT_FLAG_PREFIX + "{" + couponId + "}";
+    }
 }
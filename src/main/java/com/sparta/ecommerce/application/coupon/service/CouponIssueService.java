@@ -1,13 +1,13 @@
 package com.sparta.ecommerce.application.coupon.service;
 
+import com.sparta.ecommerce.application.coupon.dto.CouponMetadata;
 import com.sparta.ecommerce.application.coupon.dto.UserCouponResponse;
-import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import com.sparta.ecommerce.domain.coupon.exception.CouponExpiredException;
 import com.sparta.ecommerce.domain.coupon.exception.CouponSoldOutException;
 import com.sparta.ecommerce.domain.coupon.exception.DuplicateCouponIssueException;
-import com.sparta.ecommerce.domain.coupon.exception.InvalidCouponException;
 import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
 import com.sparta.ecommerce.domain.coupon.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,22 +20,28 @@ import org.springframework.stereotype.Service;
  * - Kafka Consumer가 메시지를 순차 처리 (동시 호출 없음)
  * - 원자적 UPDATE 쿼리로 재고 차감 (DB 레벨 동시성 보장)
  * - 분산락 불필요 (Kafka가 이미 순서 보장)
+ * - 버킷 쿠폰은 버킷별로 다른 파티션에서 동시에 발급되지만, 버킷 재고 행이 서로 달라 행 락 경합 없음
+ *
+ * 쿠폰 메타데이터는 노드 로컬 캐시(CouponNearCacheService)에서 조회 → 발급 한 건 = 중복 확인 + 재고 UPDATE + INSERT
  */
 @Service
 @RequiredArgsConstructor
 public class CouponIssueService {
 
     private final CouponRepository couponRepository;
+    private final CouponStockBucketRepository stockBucketRepository;
     private final UserCouponRepository userCouponRepository;
+    private final CouponNearCacheService couponNearCacheService;
 
     /**
      * 쿠폰 발급 비즈니스 로직
      * Kafka Consumer가 순차 처리하므로 동시성 문제 없음
+     *
+     * @param bucket 버킷 번호 (버킷 쿠폰이면 해당 버킷 재고에서 차감, 일반 쿠폰이면 null)
      */
-    public UserCouponResponse issue(String userId, String couponId) {
-        // 1. 쿠폰 조회
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new InvalidCouponException("존재하지 않는 쿠폰입니다"));
+    public UserCouponResponse issue(String userId, String couponId, Integer bucket) {
+        // 1. 쿠폰 메타데이터 조회 (로컬 캐시, 없는 쿠폰이면 InvalidCouponException)
+        CouponMetadata coupon = couponNearCacheService.getMetadata(couponId);
 
         // 2. 중복 발급 체크
         if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
@@ -48,14 +54,16 @@ public class CouponIssueService {
         }
 
         // 4. 쿠폰 재고 차감 (원자적 UPDATE - 재고 있을 때만 차감)
-        int updated = couponRepository.issueCoupon(couponId);
+        int updated = bucket == null
+                ? couponRepository.issueCoupon(couponId)
+                : stockBucketRepository.issueFromBucket(couponId, bucket, 1);
         if (updated == 0) {
             // UPDATE 실패 = 재고 부족 (음수 재고 방지)
             throw new CouponSoldOutException(couponId);
         }
 
         // 5. 사용자 쿠폰 발급
-        UserCoupon userCoupon = UserCoupon.issue(userId, coupon);
+        UserCoupon userCoupon = UserCoupon.issue(userId, couponId, coupon.expiresAt());
         userCouponRepository.save(userCoupon);
 
         // 7. 응답 반환
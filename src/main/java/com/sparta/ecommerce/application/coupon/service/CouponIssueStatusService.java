@@ -0,0 +1,130 @@
+package com.sparta.ecommerce.application.coupon.service;
+
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService.IssueResultMessage;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 결과 조회 서비스 (Long Polling)
+ *
+ * 발급 요청 후 결과를 DB(사용자 쿠폰 목록) 대신 Redis 결과 Hash(coupon:result:{couponId})에서 조회
+ * - 결과가 있으면 즉시 응답
+ * - 처리 대기 중이면 최대 wait 동안 대기 후 응답 (요청 스레드는 반환, CompletableFuture로 완료)
+ *
+ * 대기 중 결과 수신:
+ * - Consumer가 결과 저장 시 coupon:issue-result 채널로 쿠폰 ID + 사용자별 결과 발행 (배치 저장은 한 메시지)
+ * - 메시지에 결과가 있는 사용자의 대기 요청만 완료 (Redis 재조회 없음)
+ * - 알림을 놓쳐도 대기 시간이 지나면 PENDING으로 응답 → 클라이언트 재조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueStatusService {
+
+    private final CouponIssueRedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 쿠폰 ID별 결과 대기 요청
+     */
+    private final Map<String, Set<Waiter>> waitersByCoupon = new ConcurrentHashMap<>();
+
+    private record Waiter(String userId, CompletableFuture<CouponIssueStatus> future) {
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onResultSaved(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CouponIssueRedisService.RESULT_CHANNEL));
+    }
+
+    /**
+     * 발급 결과 조회
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 발급 결과 (결과가 없으면 발급 Set 기준 PENDING / NOT_REQUESTED)
+     */
+    public CouponIssueStatus getStatus(String couponId, String userId) {
+        CouponIssueStatus status = redisService.getResults(couponId, List.of(userId)).get(0);
+        if (status != null) {
+            return status;
+        }
+        return redisService.hasRequested(couponId, userId) ? CouponIssueStatus.PENDING : CouponIssueStatus.NOT_REQUESTED;
+    }
+
+    /**
+     * 발급 결과 대기 (Long Polling)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param wait 최대 대기 시간 (0이면 즉시 응답)
+     * @return 발급 결과 (대기 시간 안에 처리되지 않으면 PENDING)
+     */
+    public CompletableFuture<CouponIssueStatus> awaitStatus(String couponId, String userId, Duration wait) {
+        CouponIssueStatus status = getStatus(couponId, userId);
+        if (status != CouponIssueStatus.PENDING || wait.isZero()) {
+            return CompletableFuture.completedFuture(status);
+        }
+
+        Waiter waiter = new Waiter(userId, new CompletableFuture<>());
+        waitersByCoupon.computeIfAbsent(couponId, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiter.future().whenComplete((result, e) -> removeWaiter(couponId, waiter));
+
+        // 등록 전에 저장된 결과는 알림을 받을 수 없으므로 등록 후 한 번 더 조회
+        CouponIssueStatus current = getStatus(couponId, userId);
+        if (current != CouponIssueStatus.PENDING) {
+            waiter.future().complete(current);
+        }
+
+        return waiter.future().completeOnTimeout(CouponIssueStatus.PENDING, wait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 결과 저장 알림 수신 → 알림에 결과가 포함된 사용자의 대기 요청만 완료
+     */
+    void onResultSaved(String message) {
+        IssueResultMessage result;
+        try {
+            result = IssueResultMessage.decode(message);
+        } catch (RuntimeException e) {
+            // 해석할 수 없는 알림은 무시 (대기 요청은 타임아웃으로 PENDING 응답)
+            log.warn("쿠폰 발급 결과 알림 해석 실패: message={}", message, e);
+            return;
+        }
+
+        Set<Waiter> waiters = waitersByCoupon.get(result.couponId());
+        if (waiters == null || waiters.isEmpty()) {
+            return;
+        }
+
+        for (Waiter waiter : List.copyOf(waiters)) {
+            CouponIssueStatus status = result.results().get(waiter.userId());
+            if (status != null) {
+                waiter.future().complete(status);
+            }
+        }
+    }
+
+    private void removeWaiter(String couponId, Waiter waiter) {
+        waitersByCoupon.computeIfPresent(couponId, (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+}
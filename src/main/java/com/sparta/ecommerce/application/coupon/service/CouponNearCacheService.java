@@ -0,0 +1,198 @@
+package com.sparta.ecommerce.application.coupon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.ecommerce.application.coupon.dto.CouponMetadata;
+import com.sparta.ecommerce.domain.coupon.exception.InvalidCouponException;
+import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 쿠폰 노드 로컬 캐시 (Near Cache)
+ *
+ * 쿠폰 발급 API와 Kafka Consumer가 요청마다 반복하던 조회를 노드 메모리에서 응답
+ * - 메타데이터 (이름, 할인, 만료 일시): 생성 후 변하지 않으므로 무효화 없이 캐시 (CouponIssueService의 쿠폰 조회 대체)
+ * - 재고 소진 여부: 소진으로 확인된 쿠폰은 Redis 조회 없이 즉시 거절
+ * - 재고 버킷 수: 생성 시 Redis에 저장된 값, 변하지 않으므로 무효화 없이 캐시 (발급 접수 시 버킷 재고 키 결정)
+ *
+ * 재고 소진 상태 갱신:
+ * - setSoldOutFlag가 coupon:sold-out 채널로 쿠폰 ID 발행 → 모든 노드가 구독하여 즉시 소진으로 표시
+ * - 소진 아님 결과는 available-ttl-ms 동안만 보관 (구독 끊김 등으로 알림을 놓쳐도 이 시간 안에 Redis 플래그로 수렴)
+ * - 소진 표시는 Redis 플래그와 같은 시간(SOLD_OUT_FLAG_TTL) 유지
+ *
+ * 메트릭: cache.gets{cache=coupon-metadata|coupon-sold-out|coupon-bucket-count, result=hit|miss}
+ */
+@Slf4j
+@Service
+public class CouponNearCacheService {
+
+    private static final String METADATA_CACHE_NAME = "coupon-metadata";
+    private static final String SOLD_OUT_CACHE_NAME = "coupon-sold-out";
+    private static final String BUCKET_COUNT_CACHE_NAME = "coupon-bucket-count";
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueRedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Counter metadataHitCounter;
+    private final Counter metadataMissCounter;
+    private final Counter soldOutHitCounter;
+    private final Counter soldOutMissCounter;
+    private final Counter bucketCountHitCounter;
+    private final Counter bucketCountMissCounter;
+
+    @Value("${coupon.near-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${coupon.near-cache.metadata-ttl-seconds:3600}")
+    private long metadataTtlSeconds;
+
+    @Value("${coupon.near-cache.available-ttl-ms:1000}")
+    private long availableTtlMs;
+
+    private Cache<String, CouponMetadata> metadataCache;
+
+    /**
+     * 쿠폰별 재고 소진 여부 (true: 소진, false: 소진 아님)
+     */
+    private Cache<String, Boolean> soldOutCache;
+
+    private Cache<String, Integer> bucketCountCache;
+
+    public CouponNearCacheService(CouponRepository couponRepository,
+                                  CouponIssueRedisService redisService,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.metadataHitCounter = meterRegistry.counter("cache.gets", "cache", METADATA_CACHE_NAME, "result", "hit");
+        this.metadataMissCounter = meterRegistry.counter("cache.gets", "cache", METADATA_CACHE_NAME, "result", "miss");
+        this.soldOutHitCounter = meterRegistry.counter("cache.gets", "cache", SOLD_OUT_CACHE_NAME, "result", "hit");
+        this.soldOutMissCounter = meterRegistry.counter("cache.gets", "cache", SOLD_OUT_CACHE_NAME, "result", "miss");
+        this.bucketCountHitCounter = meterRegistry.counter("cache.gets", "cache", BUCKET_COUNT_CACHE_NAME, "result", "hit");
+        this.bucketCountMissCounter = meterRegistry.counter("cache.gets", "cache", BUCKET_COUNT_CACHE_NAME, "result", "miss");
+    }
+
+    @PostConstruct
+    void init() {
+        metadataCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(metadataTtlSeconds))
+                .build();
+        soldOutCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SoldOutExpiry(CouponIssueRedisService.SOLD_OUT_FLAG_TTL, Duration.ofMillis(availableTtlMs)))
+                .build();
+        bucketCountCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(metadataTtlSeconds))
+                .build();
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> markSoldOut(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CouponIssueRedisService.SOLD_OUT_CHANNEL));
+    }
+
+    /**
+     * 쿠폰 메타데이터 조회 (미스 시 DB 조회 후 저장)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 쿠폰 메타데이터
+     * @throws InvalidCouponException 존재하지 않는 쿠폰 (캐시하지 않음)
+     */
+    public CouponMetadata getMetadata(String couponId) {
+        CouponMetadata cached = metadataCache.getIfPresent(couponId);
+        if (cached != null) {
+            metadataHitCounter.increment();
+            return cached;
+        }
+        metadataMissCounter.increment();
+
+        CouponMetadata metadata = couponRepository.findById(couponId)
+                .map(CouponMetadata::from)
+                .orElseThrow(() -> new InvalidCouponException("존재하지 않는 쿠폰입니다"));
+        metadataCache.put(couponId, metadata);
+        return metadata;
+    }
+
+    /**
+     * 재고 소진 여부 확인 (미스 시 Redis 플래그 조회 후 저장)
+     *
+     * @param couponId 쿠폰 ID
+     * @return true: 재고 소진, false: 재고 있음
+     */
+    public boolean isSoldOut(String couponId) {
+        Boolean cached = soldOutCache.getIfPresent(couponId);
+        if (cached != null) {
+            soldOutHitCounter.increment();
+            return cached;
+        }
+        soldOutMissCounter.increment();
+
+        boolean soldOut = redisService.isSoldOut(couponId);
+        // 조회 중 도착한 소진 알림을 이전 조회 결과로 덮어쓰지 않음
+        Boolean current = soldOutCache.asMap().putIfAbsent(couponId, soldOut);
+        return current != null ? current : soldOut;
+    }
+
+    /**
+     * 재고 버킷 수 조회 (미스 시 Redis 조회 후 저장)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 재고 버킷 수 (일반 쿠폰이면 0)
+     */
+    public int getStockBucketCount(String couponId) {
+        Integer cached = bucketCountCache.getIfPresent(couponId);
+        if (cached != null) {
+            bucketCountHitCounter.increment();
+            return cached;
+        }
+        bucketCountMissCounter.increment();
+
+        int bucketCount = redisService.getStockBucketCount(couponId);
+        bucketCountCache.put(couponId, bucketCount);
+        return bucketCount;
+    }
+
+    /**
+     * 재고 소진 표시 (소진 알림 수신 시)
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void markSoldOut(String couponId) {
+        soldOutCache.put(couponId, true);
+        log.info("쿠폰 재고 소진 로컬 반영: couponId={}", couponId);
+    }
+
+    /**
+     * 소진 표시는 Redis 플래그 TTL, 소진 아님은 짧은 TTL로 만료
+     */
+    private record SoldOutExpiry(Duration soldOutTtl, Duration availableTtl) implements Expiry<String, Boolean> {
+
+        @Override
+        public long expireAfterCreate(String couponId, Boolean soldOut, long currentTime) {
+            return (soldOut ? soldOutTtl : availableTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String couponId, Boolean soldOut, long currentTime, long currentDuration) {
+            return expireAfterCreate(couponId, soldOut, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String couponId, Boolean soldOut, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
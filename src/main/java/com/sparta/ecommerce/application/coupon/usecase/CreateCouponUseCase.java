@@ -3,15 +3,25 @@ package com.sparta.ecommerce.application.coupon.usecase;
 import com.sparta.ecommerce.application.coupon.dto.CouponResponse;
 import com.sparta.ecommerce.application.coupon.dto.CreateCouponRequest;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.entity.CouponStockBucket;
 import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
 import com.sparta.ecommerce.domain.coupon.vo.CouponStock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 쿠폰 생성 유스케이스 (관리자용)
+ *
+ * 버킷 쿠폰 (stockBucketCount 2 이상):
+ * - 재고를 K개 버킷으로 나누어 DB(coupon_stock_buckets)와 Redis(coupon:stock:{couponId}:{n})에 같은 수량으로 저장
+ * - 발급 접수 시 재고를 차감한 버킷 번호가 Kafka 메시지 키(couponId#bucket)가 되어 여러 파티션으로 분산
+ * - 버킷별 DB 차감은 해당 버킷 재고 안에서만 성공하므로 초과 발급 없음
  */
 @Slf4j
 @Service
@@ -19,16 +29,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponStockBucketRepository stockBucketRepository;
     private final com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService redisService;
 
     @Transactional
     public CouponResponse execute(CreateCouponRequest request) {
-        // 1. CouponStock 생성
-        CouponStock stock = new CouponStock(
-                request.totalQuantity(),
-                0,  // 발급된 수량
-                request.totalQuantity()  // 남은 수량
-        );
+        int totalQuantity = request.totalQuantity();
+        int bucketCount = request.isStockBucketed() ? request.stockBucketCount() : 0;
+
+        // 1. CouponStock 생성 (버킷 쿠폰은 재고 전체를 버킷으로 옮긴 상태)
+        CouponStock stock = bucketCount > 0
+                ? new CouponStock(totalQuantity, totalQuantity, 0)
+                : new CouponStock(
+                        totalQuantity,
+                        0,  // 발급된 수량
+                        totalQuantity  // 남은 수량
+                );
 
         // 2. Coupon 엔티티 생성 (UUID 자동 생성)
         Coupon coupon = Coupon.builder()
@@ -38,22 +54,44 @@ public class CreateCouponUseCase {
                 .stock(stock)
                 .minOrderAmount(request.minOrderAmount())
                 .expiresAt(request.expiresAt())
+                .stockBucketCount(bucketCount)
+                .bucketRemainingQuantity(bucketCount > 0 ? totalQuantity : 0)
                 .build();
 
         // 3. 저장 (UUID 자동 생성됨)
         Coupon savedCoupon = couponRepository.save(coupon);
 
-        // 4. Redis 재고 초기화 ⭐
+        // 4. 버킷 쿠폰이면 재고 버킷 저장
+        List<Integer> bucketQuantities = new ArrayList<>(bucketCount);
+        if (bucketCount > 0) {
+            List<CouponStockBucket> buckets = new ArrayList<>(bucketCount);
+            for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+                int quantity = totalQuantity / bucketCount + (bucketNo < totalQuantity % bucketCount ? 1 : 0);
+                bucketQuantities.add(quantity);
+                buckets.add(CouponStockBucket.builder()
+                        .couponId(savedCoupon.getCouponId())
+                        .bucketNo(bucketNo)
+                        .remainingQuantity(quantity)
+                        .build());
+            }
+            stockBucketRepository.saveAll(buckets);
+        }
+
+        // 5. Redis 재고 초기화 ⭐
         try {
-            redisService.initializeStock(savedCoupon.getCouponId(), request.totalQuantity());
-            log.info("쿠폰 생성 완료 (Redis 재고 초기화): couponId={}, name={}, quantity={}",
-                    savedCoupon.getCouponId(), savedCoupon.getName(), request.totalQuantity());
+            if (bucketCount > 0) {
+                redisService.initializeBucketedStock(savedCoupon.getCouponId(), bucketQuantities);
+            } else {
+                redisService.initializeStock(savedCoupon.getCouponId(), totalQuantity);
+            }
+            log.info("쿠폰 생성 완료 (Redis 재고 초기화): couponId={}, name={}, quantity={}, buckets={}",
+                    savedCoupon.getCouponId(), savedCoupon.getName(), totalQuantity, bucketCount);
         } catch (Exception e) {
             log.error("Redis 재고 초기화 실패 (쿠폰은 생성됨): couponId={}", savedCoupon.getCouponId(), e);
             // DB는 저장되었으므로 Redis 실패해도 계속 진행
         }
 
-        // 5. 응답 변환
+        // 6. 응답 변환
         return CouponResponse.from(savedCoupon);
     }
 }
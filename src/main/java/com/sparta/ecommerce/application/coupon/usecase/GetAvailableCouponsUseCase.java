@@ -29,6 +29,7 @@ public class GetAvailableCouponsUseCase {
         List<Coupon> availableCoupons = couponRepository.findAvailableCoupons(LocalDateTime.now());
 
         return availableCoupons.stream()
+                .filter(Coupon::hasStock)  // 버킷 쿠폰은 버킷 합계로 재고 확인
                 .map(CouponResponse::from)
                 .toList();
     }
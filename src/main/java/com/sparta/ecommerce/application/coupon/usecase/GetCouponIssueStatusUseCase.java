@@ -0,0 +1,38 @@
+package com.sparta.ecommerce.application.coupon.usecase;
+
+import com.sparta.ecommerce.application.coupon.dto.CouponIssueStatusResponse;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 쿠폰 발급 결과 조회 유스케이스
+ *
+ * 발급 요청(IssueCouponWithQueueUseCase) 후 최종 결과를 Redis 결과 Hash에서 조회
+ * - waitMs > 0 이면 결과가 나올 때까지 최대 waitMs 대기 (Long Polling, 최대 coupon.issue.status.max-wait-ms)
+ * - 사용자 쿠폰 목록(DB) 반복 조회 대신 Redis 조회 1~2회로 응답
+ */
+@Service
+@RequiredArgsConstructor
+public class GetCouponIssueStatusUseCase {
+
+    private final CouponIssueStatusService couponIssueStatusService;
+
+    @Value("${coupon.issue.status.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    /**
+     * @param couponId 쿠폰 ID
+     * @param userId   사용자 ID
+     * @param waitMs   최대 대기 시간 (0이면 즉시 응답, max-wait-ms 초과 시 max-wait-ms)
+     */
+    public CompletableFuture<CouponIssueStatusResponse> execute(String couponId, String userId, long waitMs) {
+        Duration wait = Duration.ofMillis(Math.max(0, Math.min(waitMs, maxWaitMs)));
+        return couponIssueStatusService.awaitStatus(couponId, userId, wait)
+                .thenApply(status -> new CouponIssueStatusResponse(couponId, userId, status));
+    }
+}
@@ -1,6 +1,9 @@
 package com.sparta.ecommerce.application.coupon.usecase;
 
 import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService;
+import com.sparta.ecommerce.application.coupon.service.CouponNearCacheService;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService.Admission;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService.AdmitResult;
 import com.sparta.ecommerce.application.coupon.dto.CouponQueueResponse;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.exception.CouponExpiredException;
@@ -24,7 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
  * - 요청 즉시 응답 후 백그라운드 처리
  *
  * 흐름:
- * 1. 요청 → Redis Set 중복 체크 → Kafka 메시지 발행 → 즉시 응답
+ * 0. 재고 소진으로 확인된 쿠폰은 노드 로컬 캐시에서 즉시 거절 (네트워크 호출 없음)
+ * 1. 요청 → Redis 접수 판정 (Lua 스크립트 1회: 중복 체크 + 재고 확인 + 차감) → Kafka 메시지 발행 → 즉시 응답
  * 2. Kafka Consumer가 Partition별로 병렬 처리
  *
  * 트랜잭션:
@@ -34,6 +38,11 @@ import org.springframework.transaction.annotation.Transactional;
  * 변경 이력:
  * - 기존: Redis Queue (List) 사용
  * - 변경: Kafka Topic 사용 (메시지 영속성, 확장성 개선)
+ * - 변경: SADD → DECR → (품절 시 INCR, SREM) 개별 호출을 Lua 스크립트 1회로 통합
+ *   (품절 요청도 왕복 1회, 롤백 호출 사이의 경쟁 구간 제거)
+ * - 변경: 재고 소진 확인된 쿠폰은 노드 로컬 캐시에서 거절 (CouponNearCacheService)
+ * - 변경: 버킷 쿠폰은 접수 시 차감한 버킷 번호를 메시지 키(couponId#bucket)에 포함 → 여러 파티션에서 병렬 발급
+ * - 변경: 응답의 대기 순번은 접수 순번(발급 Set 크기), 최종 결과는 GET /api/coupons/{couponId}/issue-status로 조회
  */
 @Slf4j
 @Service
@@ -42,37 +51,40 @@ public class IssueCouponWithQueueUseCase {
 
     private final CouponRepository couponRepository;
     private final CouponIssueRedisService redisService;
+    private final CouponNearCacheService couponNearCacheService;
     private final CouponKafkaProducer kafkaProducer;
 
     @Trace
     public CouponQueueResponse execute(String userId, String couponId) {
-        // 1. 중복 체크 (먼저 체크하여 불필요한 재고 감소 방지)
-        Long added = redisService.addToIssuedSet(couponId, userId);
+        // 0. 재고 소진 쿠폰 빠른 거절 (Consumer가 소진 확인 후 발행한 알림 기준)
+        if (couponNearCacheService.isSoldOut(couponId)) {
+            throw new CouponSoldOutException("쿠폰이 모두 소진되었습니다");
+        }
+
+        // 1. 중복 체크 + 재고 확인 + 차감 (선착순 결정, 원자적) ⭐
+        //    버킷 쿠폰은 재고가 남은 버킷 하나에서 차감
+        int stockBucketCount = couponNearCacheService.getStockBucketCount(couponId);
+        AdmitResult result = redisService.admit(couponId, stockBucketCount, userId);
+        Admission admission = result.admission();
 
-        if (added == null || added == 0) {
+        if (admission == Admission.DUPLICATE) {
             // 이미 발급 요청한 경우
             throw new DuplicateCouponIssueException(couponId);
         }
-
-        // 2. Redis 재고 원자적 감소 (선착순 결정) ⭐
-        Long remaining = redisService.decrementStock(couponId);
-
-        if (remaining < 0) {
-            // 재고 부족 → 롤백
-            redisService.incrementStock(couponId);
-            redisService.removeFromIssuedSet(couponId, userId);
+        if (admission == Admission.SOLD_OUT) {
+            // 재고 부족 (Redis 상태 변경 없음)
             throw new CouponSoldOutException("쿠폰이 모두 소진되었습니다");
         }
 
-        // 3. Kafka 메시지 발행 (비동기 처리)
-        kafkaProducer.publishCouponIssueRequest(couponId, userId);
+        // 2. Kafka 메시지 발행 (비동기 처리)
+        kafkaProducer.publishCouponIssueRequest(couponId, userId, result.bucket());
 
-        log.info("쿠폰 발급 요청 접수: userId={}, couponId={}, remaining={}", userId, couponId, remaining);
+        log.info("쿠폰 발급 요청 접수: userId={}, couponId={}, position={}", userId, couponId, result.position());
 
         return new CouponQueueResponse(
                 true,
                 "쿠폰 발급 요청이 접수되었습니다. 순차적으로 처리됩니다.",
-                0L  // Kafka는 실시간 큐 사이즈 조회 불가
+                result.position()  // 접수 순번 (Kafka는 실시간 큐 사이즈 조회 불가)
         );
     }
 }
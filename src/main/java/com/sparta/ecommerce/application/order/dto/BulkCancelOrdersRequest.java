@@ -0,0 +1,26 @@
+package com.sparta.ecommerce.application.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 일괄 취소 요청 DTO (관리자용)
+ */
+public record BulkCancelOrdersRequest(
+        @Schema(description = "쿠폰(프로모션) ID 필터 (미입력 시 기간 내 전체 주문)", example = "COUPON001")
+        String couponId,
+
+        @Schema(description = "주문 생성 일시 시작 (포함)", example = "2025-11-06T00:00:00")
+        @NotNull(message = "주문 생성 일시 시작은 필수입니다")
+        LocalDateTime createdFrom,
+
+        @Schema(description = "주문 생성 일시 끝 (미포함)", example = "2025-11-07T00:00:00")
+        @NotNull(message = "주문 생성 일시 끝은 필수입니다")
+        LocalDateTime createdTo,
+
+        @Schema(description = "취소 사유", example = "프로모션 오류로 인한 일괄 취소")
+        String reason
+) {
+}
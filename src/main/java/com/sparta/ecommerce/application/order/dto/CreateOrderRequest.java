@@ -1,5 +1,7 @@
 package com.sparta.ecommerce.application.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 
@@ -9,7 +11,31 @@ public record CreateOrderRequest (
         String userId,
 
         @Schema(description = "쿠폰 ID(선택)", example = "C001")
-        String couponId
+        String couponId,
+
+        @Schema(description = "결제 수단(선택, 기본값 BALANCE)", example = "BALANCE")
+        PaymentMethod paymentMethod,
+
+        // Idempotency-Key 헤더 값 (본문으로 받지 않음)
+        @JsonIgnore
+        @Schema(hidden = true)
+        String idempotencyKey
 ){
+    public CreateOrderRequest {
+        if (paymentMethod == null) {
+            paymentMethod = PaymentMethod.BALANCE;
+        }
+    }
+
+    public CreateOrderRequest(String userId, String couponId, PaymentMethod paymentMethod) {
+        this(userId, couponId, paymentMethod, null);
+    }
+
+    public CreateOrderRequest(String userId, String couponId) {
+        this(userId, couponId, PaymentMethod.BALANCE);
+    }
 
+    public CreateOrderRequest withIdempotencyKey(String idempotencyKey) {
+        return new CreateOrderRequest(userId, couponId, paymentMethod, idempotencyKey);
+    }
 }
@@ -0,0 +1,39 @@
+package com.sparta.ecommerce.application.order.dto;
+
+import com.sparta.ecommerce.domain.order.OrderCancelJobStatus;
+import com.sparta.ecommerce.domain.order.entity.OrderCancelJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 일괄 취소 작업 상태 응답
+ */
+public record OrderCancelJobResponse(
+        @Schema(description = "작업 ID")
+        String jobId,
+        @Schema(description = "작업 상태", example = "RUNNING")
+        OrderCancelJobStatus status,
+        @Schema(description = "취소된 주문 수", example = "1500")
+        long cancelledCount,
+        @Schema(description = "환불 금액 합계", example = "75000000")
+        long refundedAmount,
+        @Schema(description = "마지막으로 처리한 주문 ID (체크포인트)")
+        String lastOrderId,
+        @Schema(description = "마지막 실패 사유")
+        String failureReason,
+        @Schema(description = "완료 일시")
+        LocalDateTime completedAt
+) {
+    public static OrderCancelJobResponse from(OrderCancelJob job) {
+        return new OrderCancelJobResponse(
+                job.getJobId(),
+                job.getStatus(),
+                job.getCancelledCount(),
+                job.getRefundedAmount(),
+                job.getLastOrderId(),
+                job.getFailureReason(),
+                job.getCompletedAt()
+        );
+    }
+}
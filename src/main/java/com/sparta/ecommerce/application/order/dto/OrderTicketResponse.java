@@ -0,0 +1,24 @@
+package com.sparta.ecommerce.application.order.dto;
+
+import com.sparta.ecommerce.domain.order.OrderTicketStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 비동기 주문 접수 티켓 응답 DTO
+ */
+public record OrderTicketResponse(
+        @Schema(description = "티켓 ID", example = "2f1c8e3a-7b7d-4a8e-9a55-1f0f4d1c2b3a")
+        String ticketId,
+        @Schema(description = "처리 상태", example = "PENDING")
+        OrderTicketStatus status,
+        @Schema(description = "주문 ID (완료 시)", example = "ORD20251106001")
+        String orderId,
+        @Schema(description = "에러 코드 (실패 시)", example = "P002")
+        String errorCode,
+        @Schema(description = "에러 메시지 (실패 시)", example = "재고가 부족합니다")
+        String errorMessage
+) {
+    public static OrderTicketResponse pending(String ticketId) {
+        return new OrderTicketResponse(ticketId, OrderTicketStatus.PENDING, null, null, null);
+    }
+}
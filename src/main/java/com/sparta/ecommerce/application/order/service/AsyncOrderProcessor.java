@@ -0,0 +1,58 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 주문 처리 서비스
+ * Kafka Consumer에서 호출하여 주문을 생성하고 결과를 티켓에 기록합니다.
+ *
+ * - 동기 주문(POST /orders)과 같은 사용자 분산 락(order:user:{userId})으로 주문 생성
+ *   (파티션 순서만으로는 동기 주문/리밸런싱 중 재전달과의 동시 실행을 막을 수 없음)
+ * - 티켓을 PENDING → PROCESSING으로 원자적으로 선점한 Consumer만 처리
+ *   → 재전달 메시지가 완료된 티켓을 다시 처리하거나 FAILED로 덮어쓰지 않음
+ * - 선점 후 비정상 종료된 티켓은 PROCESSING으로 남아 TTL 만료까지 재처리하지 않음 (중복 주문보다 미처리를 선택)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncOrderProcessor {
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderTicketRedisService ticketRedisService;
+
+    /**
+     * 주문 처리
+     *
+     * @param ticketId 주문 접수 티켓 ID
+     * @param userId   사용자 ID
+     * @param couponId 쿠폰 ID (nullable)
+     */
+    public void process(String ticketId, String userId, String couponId) {
+        if (!ticketRedisService.claim(ticketId)) {
+            log.info("이미 처리 중이거나 처리/만료된 주문 티켓 - 처리 스킵: ticketId={}", ticketId);
+            return;
+        }
+
+        try {
+            OrderResponse response = createOrderUseCase.execute(new CreateOrderRequest(userId, couponId));
+            ticketRedisService.markCompleted(ticketId, response.orderId());
+            log.info("비동기 주문 성공: ticketId={}, orderId={}", ticketId, response.orderId());
+
+        } catch (BusinessException e) {
+            // 재고 부족, 잔액 부족 등 비즈니스 실패
+            log.warn("비동기 주문 실패: ticketId={}, userId={}, code={}", ticketId, userId, e.getCode());
+            ticketRedisService.markFailed(ticketId, e.getCode(), e.getMessage());
+
+        } catch (Exception e) {
+            log.error("비동기 주문 처리 오류: ticketId={}, userId={}", ticketId, userId, e);
+            ticketRedisService.markFailed(ticketId, ErrorCode.COMMON004.getCode(), ErrorCode.COMMON004.getMessage());
+        }
+    }
+}
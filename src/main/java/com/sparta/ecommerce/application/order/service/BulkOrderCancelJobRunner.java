@@ -0,0 +1,64 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.sparta.ecommerce.domain.order.OrderCancelJobStatus;
+import com.sparta.ecommerce.domain.order.entity.OrderCancelJob;
+import com.sparta.ecommerce.domain.order.repository.OrderCancelJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 일괄 취소 작업 실행 Scheduler
+ *
+ * 진행 중(RUNNING) 작업을 체크포인트부터 청크 단위로 이어서 처리
+ * - 서버가 중간에 종료되어도 다음 주기에 어느 서버든 마지막 커밋된 체크포인트부터 재개
+ * - 작업별 Redisson 락으로 같은 작업이 여러 서버에서 동시에 실행되지 않도록 보호
+ * - 한 주기에 처리하는 청크 수를 제한하여 다른 @Scheduled 작업(핫 상품 재고 반영 등)을 오래 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkOrderCancelJobRunner {
+
+    private static final String JOB_LOCK_KEY_PREFIX = "LOCK:order:bulk-cancel:";
+
+    private final OrderCancelJobRepository orderCancelJobRepository;
+    private final BulkOrderCancelService bulkOrderCancelService;
+    private final RedissonClient redissonClient;
+
+    @Value("${order.bulk-cancel.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    @Scheduled(fixedDelayString = "${order.bulk-cancel.poll-interval-ms:1000}")
+    public void run() {
+        for (OrderCancelJob job : orderCancelJobRepository.findByStatusOrderByJobId(OrderCancelJobStatus.RUNNING)) {
+            RLock lock = redissonClient.getLock(JOB_LOCK_KEY_PREFIX + job.getJobId());
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                runChunks(job.getJobId());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void runChunks(String jobId) {
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            try {
+                if (!bulkOrderCancelService.processChunk(jobId)) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("주문 일괄 취소 청크 처리 실패 - jobId={}", jobId, e);
+                bulkOrderCancelService.recordFailure(jobId, e.getMessage());
+                return;
+            }
+        }
+    }
+}
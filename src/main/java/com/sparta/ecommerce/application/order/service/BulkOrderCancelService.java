@@ -0,0 +1,201 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.sparta.ecommerce.application.user.service.UserBalanceCacheService;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.entity.OrderCancelJob;
+import com.sparta.ecommerce.domain.order.exception.OrderCancelJobNotFoundException;
+import com.sparta.ecommerce.domain.order.repository.OrderCancelJobRepository;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import com.sparta.ecommerce.domain.order.service.OrderCompensationService;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 일괄 취소/환불 청크 처리 서비스
+ *
+ * 청크 하나를 하나의 트랜잭션으로 처리하고 같은 트랜잭션에서 체크포인트 갱신
+ * (커밋된 청크는 다시 처리되지 않고, 롤백된 청크는 체크포인트가 그대로라 재시도됨)
+ *
+ * 대상은 잔액 결제 주문만 (카드/간편결제 주문은 PG 취소 없이 CANCELLED로 바꾸면 환불이 누락되므로 제외)
+ *
+ * 청크 처리 순서 (주문 생성 트랜잭션의 락 순서: 상품 → 사용자 → 사용자 쿠폰과 맞춤):
+ * 1. 대상 주문 ID 조회 (잠금 없음) → PK로 주문 잠금 (FOR UPDATE) → 상태 일괄 변경
+ * 2. 완료된 잔액 결제 조회 (FOR UPDATE) → 상태 일괄 변경
+ * 3. 재고 복구 (OrderCompensationService)
+ * 4. 잔액 환불: 사용자별로 합산하여 balance = balance + ? JDBC Batch, 주문별 BalanceHistory도 JDBC Batch INSERT
+ * 5. 쿠폰 복구 (OrderCompensationService)
+ * 6. 커밋 후 주문 조회 캐시 무효화, 잔액 캐시 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkOrderCancelService {
+
+    private static final String REFUND_TRANSACTION_PREFIX = "REFUND-";
+
+    private final OrderCancelJobRepository orderCancelJobRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserRepository userRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final OrderCompensationService orderCompensationService;
+    private final OrderReadCacheService orderReadCacheService;
+    private final UserBalanceCacheService userBalanceCacheService;
+
+    @Value("${order.bulk-cancel.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.bulk-cancel.max-failures:3}")
+    private int maxFailures;
+
+    /**
+     * 청크 하나 처리
+     *
+     * @param jobId 작업 ID
+     * @return 남은 대상이 있을 수 있으면 true (작업이 완료되었거나 진행 중이 아니면 false)
+     */
+    @Transactional
+    public boolean processChunk(String jobId) {
+        OrderCancelJob job = orderCancelJobRepository.findById(jobId)
+                .orElseThrow(() -> new OrderCancelJobNotFoundException(jobId));
+        if (!job.isRunning()) {
+            return false;
+        }
+
+        // 범위 스캔은 잠금 없이 ID만 조회하고, 잠금은 PK로만 획득
+        List<String> targetIds = orderRepository.findCancelTargetIds(
+                job.getLastOrderId(), job.getCouponId(), job.getCreatedFrom(), job.getCreatedTo(),
+                PageRequest.of(0, chunkSize));
+        if (targetIds.isEmpty()) {
+            job.complete();
+            log.info("주문 일괄 취소 완료 - jobId={}, cancelled={}, refunded={}",
+                    jobId, job.getCancelledCount(), job.getRefundedAmount());
+            return false;
+        }
+
+        // ID 조회 이후 다른 경로로 취소된 주문은 잠금 조회에서 제외됨
+        List<Order> orders = orderRepository.findCancelTargetsWithLock(targetIds);
+        long refundedAmount = 0L;
+        if (!orders.isEmpty()) {
+            List<String> orderIds = orders.stream().map(Order::getOrderId).toList();
+            orderRepository.cancelAllByIds(orderIds);
+
+            List<Payment> refunds = cancelPayments(orderIds);
+            orderCompensationService.restoreStock(orderIds);
+            refundedAmount = refund(refunds);
+            orderCompensationService.releaseCoupons(orders);
+            orderReadCacheService.invalidateAfterCommit(orders);
+        }
+
+        job.advance(targetIds.get(targetIds.size() - 1), orders.size(), refundedAmount);
+
+        log.info("주문 일괄 취소 청크 처리 - jobId={}, orders={}, refunded={}, checkpoint={}",
+                jobId, orders.size(), refundedAmount, job.getLastOrderId());
+
+        // 청크보다 적게 조회되었으면 마지막 청크
+        if (targetIds.size() < chunkSize) {
+            job.complete();
+            log.info("주문 일괄 취소 완료 - jobId={}, cancelled={}, refunded={}",
+                    jobId, job.getCancelledCount(), job.getRefundedAmount());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 청크 처리 실패 기록 (별도 트랜잭션, 연속 실패 시 작업 중단)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(String jobId, String reason) {
+        orderCancelJobRepository.findById(jobId)
+                .ifPresent(job -> job.recordFailure(reason, maxFailures));
+    }
+
+    /**
+     * 완료된 잔액 결제 취소
+     * 외부 결제는 대상 주문 조회에서 제외되지만, PG 취소 없이 취소 상태로 바뀌지 않도록 한 번 더 거름
+     *
+     * @return 환불 대상 잔액 결제 목록
+     */
+    private List<Payment> cancelPayments(List<String> orderIds) {
+        List<Payment> refunds = paymentRepository.findCompletedByOrderIdsWithLock(orderIds).stream()
+                .filter(payment -> payment.getMethod() == PaymentMethod.BALANCE)
+                .toList();
+        if (refunds.isEmpty()) {
+            return List.of();
+        }
+
+        paymentRepository.cancelAllByIds(refunds.stream().map(Payment::getPaymentId).toList(), LocalDateTime.now());
+        return refunds;
+    }
+
+    /**
+     * 잔액 환불 (사용자별 합산 UPDATE + 주문별 이력)
+     */
+    private long refund(List<Payment> refunds) {
+        if (refunds.isEmpty()) {
+            return 0L;
+        }
+
+        Map<String, List<Payment>> refundsByUser = refunds.stream()
+                .collect(Collectors.groupingBy(Payment::getUserId, TreeMap::new, Collectors.toList()));
+        Map<String, Long> amounts = new LinkedHashMap<>();
+        refundsByUser.forEach((userId, userRefunds) ->
+                amounts.put(userId, userRefunds.stream().mapToLong(Payment::getAmount).sum()));
+
+        Map<String, Long> balances = userRepository.increaseBalanceInBatch(amounts);
+
+        // 증가 후 잔액에서 역산하여 주문별 이전/현재 잔액 기록
+        List<BalanceHistory> histories = new ArrayList<>(refunds.size());
+        refundsByUser.forEach((userId, userRefunds) -> {
+            Long balanceAfter = balances.get(userId);
+            if (balanceAfter == null) {
+                log.warn("환불 대상 사용자를 찾을 수 없습니다 - userId={}", userId);
+                return;
+            }
+            long running = balanceAfter - amounts.get(userId);
+            for (Payment payment : userRefunds) {
+                histories.add(BalanceHistory.builder()
+                        .userId(userId)
+                        .transactionId(REFUND_TRANSACTION_PREFIX + payment.getOrderId())
+                        .amount(payment.getAmount())
+                        .previousBalance(running)
+                        .currentBalance(running + payment.getAmount())
+                        .paymentMethod(PaymentMethod.BALANCE.name())
+                        .build());
+                running += payment.getAmount();
+            }
+        });
+        List<Long> historyIds = balanceHistoryRepository.insertAllInBatch(histories);
+
+        // 사용자별 마지막 환불 이력 ID를 버전으로 잔액 캐시 갱신
+        Map<String, Long> versions = new HashMap<>();
+        for (int i = 0; i < histories.size(); i++) {
+            versions.merge(histories.get(i).getUserId(), historyIds.get(i), Math::max);
+        }
+        versions.forEach((userId, version) ->
+                userBalanceCacheService.putAfterCommit(userId, balances.get(userId), version));
+
+        return refunds.stream().mapToLong(Payment::getAmount).sum();
+    }
+}
@@ -1,23 +1,22 @@
 package com.sparta.ecommerce.application.order.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderDetailResponse;
 import com.sparta.ecommerce.application.order.dto.OrderResponse;
-import com.sparta.ecommerce.application.product.service.ProductRankingService;
+import com.sparta.ecommerce.application.order.dto.OrderSummaryResponse;
+import com.sparta.ecommerce.application.payment.service.PaymentConfirmService;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 import com.sparta.ecommerce.domain.order.service.OrderFacade;
-import com.sparta.ecommerce.infrastructure.outbox.EventStatus;
-import com.sparta.ecommerce.infrastructure.outbox.entity.OutboxEvent;
-import com.sparta.ecommerce.infrastructure.outbox.repository.OutboxEventRepository;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 주문 생성 트랜잭션 처리 서비스
@@ -26,6 +25,10 @@ import java.time.LocalDateTime;
  * Outbox Pattern 적용:
  * - 주문 생성과 이벤트 저장을 하나의 트랜잭션으로 처리
  * - Kafka 발행은 별도의 Scheduler가 비동기로 처리
+ *
+ * 주문 완료 이벤트/랭킹(OrderCompletionRecorder)은 결제가 확정된 시점에 기록:
+ * - 잔액 결제: 이 트랜잭션에서 기록
+ * - 외부 결제: PG 승인 기록 시점에 기록 (거절될 주문이 완료 이벤트/랭킹에 반영되지 않도록)
  */
 @Slf4j
 @Service
@@ -33,9 +36,9 @@ import java.time.LocalDateTime;
 public class CreateOrderService {
 
     private final OrderFacade orderFacade;
-    private final ProductRankingService rankingService;
-    private final OutboxEventRepository outboxEventRepository;
-    private final ObjectMapper objectMapper;
+    private final OrderCompletionRecorder orderCompletionRecorder;
+    private final OrderReadCacheService orderReadCacheService;
+    private final PaymentConfirmService paymentConfirmService;
 
     /**
      * 주문 생성 비즈니스 로직 (트랜잭션)
@@ -52,18 +55,24 @@ public class CreateOrderService {
         // 1. 주문 생성 (모든 복잡한 로직은 Facade가 처리)
         OrderFacade.OrderResult result = orderFacade.createOrder(
                 request.userId(),
-                request.couponId()
+                request.couponId(),
+                request.paymentMethod(),
+                request.idempotencyKey()
         );
 
-        // 2. 상품 랭킹 업데이트 (주문 완료 시)
-        // 부하 테스트용 임시 비활성화 - 트랜잭션 시간 단축
-        updateProductRanking(result.orderItems());
+        // 2~3. 결제가 확정된 주문만 Outbox 이벤트 저장(같은 트랜잭션) + 상품 랭킹 업데이트(커밋 이후)
+        //      외부 결제는 PG 승인 기록 시 PaymentOutcomeRecorder에서 처리
+        if (isPaymentSettled(result.payment())) {
+            orderCompletionRecorder.record(result.order(), result.orderItems());
+        }
+
+        // 4. 주문 조회 캐시 Write-Through (커밋 이후)
+        publishToReadCache(result.order(), result.orderItems());
 
-        // 3. Outbox에 이벤트 저장 (같은 트랜잭션 - 원자성 보장)
-        // 부하 테스트용 임시 비활성화 - JSON 직렬화 오버헤드 제거
-        saveToOutbox(result.order());
+        // 5. 외부 결제 승인 요청 (커밋 이후, 트랜잭션 밖)
+        confirmExternalPayment(result.payment());
 
-        // 4. 응답 생성
+        // 6. 응답 생성
         return OrderResponse.from(
                 result.order(),
                 result.orderItems()
@@ -71,49 +80,58 @@ public class CreateOrderService {
     }
 
     /**
-     * 상품 랭킹 업데이트 (Redis)
-     * 주문 완료 시 구매된 상품의 랭킹 점수 증가
+     * 주문 트랜잭션 안에서 결제가 확정되었는지 (잔액 결제는 완료, 외부 결제는 PG 승인 대기)
      */
-    private void updateProductRanking(List<OrderItem> orderItems) {
-        try {
-            orderItems.forEach(item -> {
-                rankingService.incrementPurchaseCount(item.getProductId());
-            });
-            log.debug("상품 랭킹 업데이트 완료: {} 건", orderItems.size());
-        } catch (Exception e) {
-            // 랭킹 업데이트 실패해도 주문은 성공해야 함
-            log.error("상품 랭킹 업데이트 실패", e);
-        }
+    private boolean isPaymentSettled(Payment payment) {
+        return payment == null || payment.getStatus() == PaymentStatus.COMPLETED;
     }
 
     /**
-     * Outbox에 주문 완료 이벤트 저장
-     * 주문 트랜잭션과 함께 커밋되어 원자성 보장
+     * 주문 조회 캐시 Write-Through
+     * 주문 직후 이어지는 상세/목록 조회가 DB를 거치지 않도록 커밋 이후 캐시에 반영
      */
-    private void saveToOutbox(Order order) {
-        try {
-            // 주문 데이터를 JSON으로 직렬화
-            String payload = objectMapper.writeValueAsString(order);
-
-            // Outbox 이벤트 생성
-            OutboxEvent outboxEvent = OutboxEvent.builder()
-                    .aggregateType("ORDER")
-                    .aggregateId(order.getOrderId())
-                    .eventType("ORDER_COMPLETED")
-                    .payload(payload)
-                    .status(EventStatus.PENDING)
-                    .retryCount(0)
-                    .nextRetryAt(LocalDateTime.now())
-                    .build();
-
-            outboxEventRepository.save(outboxEvent);
+    private void publishToReadCache(Order order, List<OrderItem> orderItems) {
+        OrderDetailResponse detail = OrderDetailResponse.from(order, orderItems);
+        OrderSummaryResponse summary = OrderSummaryResponse.from(order);
+        runAfterCommit(() -> {
+            try {
+                orderReadCacheService.publishCreated(order.getUserId(), detail, summary);
+            } catch (Exception e) {
+                // 캐시 반영 실패해도 주문은 성공해야 함 (조회 시 DB에서 다시 채움)
+                log.error("주문 조회 캐시 반영 실패 - orderId={}", order.getOrderId(), e);
+            }
+        });
+    }
 
-            log.info("Outbox 이벤트 저장 완료 - orderId={}, eventId={}",
-                    order.getOrderId(), outboxEvent.getId());
+    /**
+     * 외부 결제(카드/간편결제) 승인 요청
+     * 주문 트랜잭션에서는 결제 대기로 예약만 하고, PG 호출은 커밋 이후 비동기로 실행
+     */
+    private void confirmExternalPayment(Payment payment) {
+        if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+            return;
+        }
+        runAfterCommit(() -> paymentConfirmService.confirm(payment)
+                .whenComplete((status, error) -> {
+                    if (error != null) {
+                        log.error("외부 결제 결과 기록 실패 - paymentId={}", payment.getPaymentId(), error);
+                    }
+                }));
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("Outbox 이벤트 JSON 직렬화 실패 - orderId={}", order.getOrderId(), e);
-            throw new RuntimeException("이벤트 저장 실패", e);
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행)
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
         }
+        action.run();
     }
 }
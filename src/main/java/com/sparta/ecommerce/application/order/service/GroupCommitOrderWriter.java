@@ -0,0 +1,322 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.domain.cart.repository.CartItemRepository;
+import com.sparta.ecommerce.domain.order.exception.OrderQueueFullException;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.infrastructure.metrics.TransactionCommitTimer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 커밋 주문 Writer
+ *
+ * 여러 사용자의 주문 요청을 노드별 큐에 모아 하나의 DB 트랜잭션으로 처리
+ * - max-wait-ms 동안 또는 max-batch-size 건이 모이면 배치 실행
+ * - 커밋(fsync) 1회로 여러 주문을 처리하여 피크 시 커밋 비용 분산
+ * - 호출자마다 개별 CompletableFuture로 결과/실패 전달
+ *
+ * [실패 격리]
+ * - 배치 도중 주문 하나가 비즈니스 예외(재고/잔액 부족 등)로 실패하면 배치 트랜잭션 전체를 롤백하고,
+ *   실패한 주문만 예외로 완료한 뒤 나머지 주문으로 배치를 다시 실행
+ * - 그 외 예외(락 대기 타임아웃, 데드락 등)는 주문 자체의 실패로 단정할 수 없으므로
+ *   배치를 중단하고 남은 주문을 주문별 개별 트랜잭션으로 처리
+ * - 재시도가 max-batch-retries를 넘거나 커밋 자체가 실패해도 개별 트랜잭션으로 처리
+ * - 개별 트랜잭션은 일시적 DB 오류(TransientDataAccessException)면 individual-max-retries까지 재시도
+ * - savepoint(NESTED)는 JPA 영속성 컨텍스트를 되돌리지 못하고, 참여 트랜잭션 실패 시
+ *   전체 트랜잭션이 rollback-only로 표시되므로 사용하지 않음
+ *
+ * [동시성 제어]
+ * - 한 배치에는 사용자당 주문 1건만 포함 (같은 사용자의 다음 주문은 다음 배치로 이월)
+ * - 배치 시작 시 사용자 행을 ID 오름차순 비관적 락으로 잠가 다른 노드와의 잔액 경합 방지
+ *   (그룹 커밋 모드에서는 사용자별 Redisson 락을 사용하지 않음)
+ * - 이어서 배치 전체 장바구니의 상품 행을 ID 오름차순으로 한 번에 잠금
+ *   (주문별 차감은 주문 안에서만 정렬되므로, 배치 안 여러 주문이 순서대로 잠그면
+ *    다른 노드의 배치와 상품 행 락 순서가 엇갈려 교착 상태 발생)
+ * - 재고 분산 상품은 버킷 행으로 경합을 분산하므로 상품 행을 잠그지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupCommitOrderWriter {
+
+    private final CreateOrderService createOrderService;
+    private final UserRepository userRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionCommitTimer transactionCommitTimer;
+
+    @Value("${order.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.group-commit.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${order.group-commit.max-wait-ms:5}")
+    private long maxWaitMs;
+
+    @Value("${order.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${order.group-commit.max-batch-retries:3}")
+    private int maxBatchRetries;
+
+    @Value("${order.group-commit.individual-max-retries:2}")
+    private int individualMaxRetries;
+
+    private BlockingQueue<PendingOrder> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    /**
+     * 같은 사용자 중복으로 다음 배치로 이월된 주문 (Writer 스레드 전용)
+     */
+    private final List<PendingOrder> carryOver = new ArrayList<>();
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+
+        writerThread = new Thread(this::runLoop, "order-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("주문 그룹 커밋 Writer 시작 - maxBatchSize={}, maxWaitMs={}", maxBatchSize, maxWaitMs);
+    }
+
+    /**
+     * 종료 시 큐에 남은 주문까지 처리한 뒤 Writer 스레드 종료
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 요청 등록
+     *
+     * @param request 주문 요청
+     * @return 주문 결과 (배치 커밋 후 완료)
+     */
+    public CompletableFuture<OrderResponse> submit(CreateOrderRequest request) {
+        CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+        if (!running || !queue.offer(new PendingOrder(request, future))) {
+            future.completeExceptionally(new OrderQueueFullException());
+        }
+        return future;
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty() || !carryOver.isEmpty()) {
+            try {
+                List<PendingOrder> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("주문 그룹 커밋 처리 중 예상치 못한 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 배치 수집
+     * 첫 주문 도착 후 max-wait-ms 이내에 모인 주문을 최대 max-batch-size 건까지 수집
+     */
+    List<PendingOrder> collectBatch() throws InterruptedException {
+        List<PendingOrder> candidates = new ArrayList<>(carryOver);
+        carryOver.clear();
+
+        if (candidates.isEmpty()) {
+            PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return List.of();
+            }
+            candidates.add(first);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (candidates.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            candidates.add(next);
+        }
+
+        // 사용자당 1건만 포함, 나머지는 순서를 유지하여 다음 배치로 이월
+        List<PendingOrder> batch = new ArrayList<>(candidates.size());
+        Set<String> userIds = new HashSet<>();
+        for (PendingOrder pending : candidates) {
+            if (userIds.add(pending.request().userId())) {
+                batch.add(pending);
+            } else {
+                carryOver.add(pending);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 배치 처리
+     * 실패한 주문을 제외하며 배치 트랜잭션 재실행, 한도 초과 시 개별 트랜잭션으로 처리
+     */
+    void processBatch(List<PendingOrder> batch) {
+        List<PendingOrder> remaining = new ArrayList<>(batch);
+
+        for (int attempt = 0; attempt <= maxBatchRetries && !remaining.isEmpty(); attempt++) {
+            BatchResult result = executeBatch(remaining);
+
+            if (result.failedIndex() < 0) {
+                // 커밋 성공 → 전체 완료
+                for (int i = 0; i < remaining.size(); i++) {
+                    remaining.get(i).future().complete(result.responses().get(i));
+                }
+                log.debug("주문 그룹 커밋 완료 - {}건", remaining.size());
+                return;
+            }
+
+            if (result.failedIndex() >= remaining.size()) {
+                // 커밋 실패 → 원인 주문 특정 불가
+                log.warn("주문 그룹 커밋 실패 - 개별 트랜잭션으로 전환 ({}건)", remaining.size(), result.cause());
+                break;
+            }
+
+            // 실패 주문만 예외 완료, 나머지로 재실행
+            remaining.remove(result.failedIndex()).future().completeExceptionally(result.cause());
+        }
+
+        remaining.forEach(this::executeIndividually);
+    }
+
+    /**
+     * 배치 1회 실행 (단일 트랜잭션)
+     *
+     * @return 성공 시 failedIndex = -1, 주문의 비즈니스 예외 시 해당 인덱스,
+     *         그 외 예외/커밋 실패 시 batch.size()
+     */
+    private BatchResult executeBatch(List<PendingOrder> batch) {
+        List<OrderResponse> responses = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                transactionCommitTimer.register("GroupCommitOrderWriter.batch");
+
+                List<String> userIds = batch.stream()
+                        .map(pending -> pending.request().userId())
+                        .sorted()
+                        .toList();
+                userRepository.findAllByIdsWithLock(userIds);
+                lockProducts(userIds);
+
+                for (int i = 0; i < batch.size(); i++) {
+                    try {
+                        responses.add(createOrderService.create(batch.get(i).request()));
+                    } catch (BusinessException e) {
+                        throw new OrderFailure(i, e);
+                    }
+                }
+            });
+            return new BatchResult(responses, -1, null);
+        } catch (OrderFailure failure) {
+            return new BatchResult(responses, failure.index, failure.getCause());
+        } catch (RuntimeException e) {
+            return new BatchResult(responses, batch.size(), e);
+        }
+    }
+
+    /**
+     * 사용자들의 장바구니 상품 행을 ID 오름차순으로 잠금
+     */
+    private void lockProducts(List<String> userIds) {
+        List<String> productIds = cartItemRepository.findProductIdsByUserIds(userIds).stream()
+                .sorted()
+                .toList();
+        if (!productIds.isEmpty()) {
+            productRepository.findAllUnshardedByIdsWithLock(productIds);
+        }
+    }
+
+    /**
+     * 개별 트랜잭션 처리 (배치 격리 실패 시 Fallback)
+     * 일시적 DB 오류(락 대기 타임아웃, 데드락 등)는 새 트랜잭션으로 재시도
+     */
+    private void executeIndividually(PendingOrder pending) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                OrderResponse response = transactionTemplate.execute(status -> {
+                    transactionCommitTimer.register("GroupCommitOrderWriter.individual");
+                    List<String> userIds = List.of(pending.request().userId());
+                    userRepository.findAllByIdsWithLock(userIds);
+                    lockProducts(userIds);
+                    return createOrderService.create(pending.request());
+                });
+                pending.future().complete(response);
+                return;
+            } catch (TransientDataAccessException | PessimisticLockingFailureException e) {
+                if (attempt >= individualMaxRetries) {
+                    pending.future().completeExceptionally(e);
+                    return;
+                }
+                log.warn("주문 개별 트랜잭션 재시도 ({}/{}) - userId={}, cause={}",
+                        attempt + 1, individualMaxRetries, pending.request().userId(), e.toString());
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    record PendingOrder(CreateOrderRequest request, CompletableFuture<OrderResponse> future) {}
+
+    private record BatchResult(List<OrderResponse> responses, int failedIndex, Throwable cause) {}
+
+    /**
+     * 배치 내 특정 주문의 비즈니스 실패 (트랜잭션 롤백 트리거)
+     */
+    private static class OrderFailure extends RuntimeException {
+        private final int index;
+
+        OrderFailure(int index, BusinessException cause) {
+            super(cause);
+            this.index = index;
+        }
+    }
+}
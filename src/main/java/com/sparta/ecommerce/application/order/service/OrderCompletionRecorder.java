@@ -0,0 +1,119 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.application.product.service.ProductRankingService;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.entity.OrderItem;
+import com.sparta.ecommerce.infrastructure.outbox.EventStatus;
+import com.sparta.ecommerce.infrastructure.outbox.entity.OutboxEvent;
+import com.sparta.ecommerce.infrastructure.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 완료 기록 서비스
+ *
+ * 결제가 확정된 주문에 대해 실행
+ * - 잔액 결제: 주문 트랜잭션 안에서 (CreateOrderService)
+ * - 외부 결제(카드/간편결제): PG 승인 기록 트랜잭션 안에서 (PaymentOutcomeRecorder.approve)
+ *
+ * 처리 내용:
+ * - Outbox에 ORDER_COMPLETED 이벤트 저장 (호출 트랜잭션과 함께 커밋)
+ * - 상품 랭킹 업데이트 (커밋 이후, 실패해도 주문에 영향 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderCompletionRecorder {
+
+    private final ProductRankingService rankingService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문 완료 기록
+     *
+     * @param order      결제가 확정된 주문
+     * @param orderItems 주문 항목
+     */
+    public void record(Order order, List<OrderItem> orderItems) {
+        saveToOutbox(order);
+        updateProductRanking(orderItems);
+    }
+
+    /**
+     * 상품 랭킹 업데이트 (Redis)
+     * 주문 완료 시 구매된 상품의 랭킹 점수 증가
+     *
+     * 커밋 이후에 반영하여 롤백된 주문(그룹 커밋 재시도 포함)이 랭킹에 집계되지 않도록 함
+     */
+    private void updateProductRanking(List<OrderItem> orderItems) {
+        runAfterCommit(() -> incrementPurchaseCounts(orderItems));
+    }
+
+    private void incrementPurchaseCounts(List<OrderItem> orderItems) {
+        try {
+            orderItems.forEach(item -> {
+                rankingService.incrementPurchaseCount(item.getProductId());
+            });
+            log.debug("상품 랭킹 업데이트 완료: {} 건", orderItems.size());
+        } catch (Exception e) {
+            // 랭킹 업데이트 실패해도 주문은 성공해야 함
+            log.error("상품 랭킹 업데이트 실패", e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행)
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * Outbox에 주문 완료 이벤트 저장
+     * 호출 트랜잭션과 함께 커밋되어 원자성 보장
+     */
+    private void saveToOutbox(Order order) {
+        try {
+            // 주문 데이터를 JSON으로 직렬화
+            String payload = objectMapper.writeValueAsString(order);
+
+            // Outbox 이벤트 생성
+            OutboxEvent outboxEvent = OutboxEvent.builder()
+                    .aggregateType("ORDER")
+                    .aggregateId(order.getOrderId())
+                    .eventType("ORDER_COMPLETED")
+                    .payload(payload)
+                    .status(EventStatus.PENDING)
+                    .retryCount(0)
+                    .nextRetryAt(LocalDateTime.now())
+                    .build();
+
+            outboxEventRepository.save(outboxEvent);
+
+            log.info("Outbox 이벤트 저장 완료 - orderId={}, eventId={}",
+                    order.getOrderId(), outboxEvent.getId());
+
+        } catch (JsonProcessingException e) {
+            log.error("Outbox 이벤트 JSON 직렬화 실패 - orderId={}", order.getOrderId(), e);
+            throw new RuntimeException("이벤트 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.domain.order.exception.OrderInProgressException;
+import com.sparta.ecommerce.domain.order.repository.OrderItemRepository;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 멱등성 키(Idempotency-Key) 관리 서비스
+ *
+ * 2단계 저장소:
+ * - 로컬 캐시 (Caffeine): 같은 노드로 들어온 재시도는 Redis 조회 없이 응답
+ * - Redis: 노드 간 공유, SET NX로 처리 선점
+ *
+ * 키 구조:
+ * - order:idempotency:{userId}:{idempotencyKey} (String)
+ *   - "PROCESSING": 처리 중 (processing-ttl-seconds 후 만료 → 처리 노드 장애 시 재시도 허용)
+ *   - OrderResponse JSON: 처리 완료 (ttl-seconds 동안 보관)
+ *
+ * PROCESSING 유지:
+ * - 선점한 노드가 처리 중인 키의 TTL을 주기적으로 연장 (락 대기/그룹 커밋으로 주문이 길어져도 만료되지 않음)
+ * - 노드 장애 시 연장이 멈추므로 processing-ttl-seconds 후 재시도 허용
+ * - 로컬 캐시의 처리 중 표시도 processing-ttl-seconds 후 만료 (Redis 상태와 같은 수명)
+ *
+ * 완료 결과 저장(Redis) 실패 시:
+ * - 키는 PROCESSING으로 남았다가 만료되고, 재시도 주문은 orders(user_id, idempotency_key) 유니크 제약에 걸려 실패
+ * - 이때 recover()로 DB의 기존 주문을 조회해 응답 (중복 주문 없이 같은 결과 반환)
+ *
+ * 주문이 실패하면 키를 삭제하여 클라이언트가 같은 키로 다시 시도할 수 있도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "order:idempotency:";
+    private static final String PROCESSING = "PROCESSING";
+
+    /**
+     * 값이 PROCESSING일 때만 TTL 연장 (완료/해제된 키는 건드리지 않음)
+     * KEYS: 멱등성 키 / ARGV: PROCESSING, TTL(초)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('EXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    @Value("${order.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${order.idempotency.processing-ttl-seconds:30}")
+    private long processingTtlSeconds;
+
+    @Value("${order.idempotency.local-cache-size:10000}")
+    private long localCacheSize;
+
+    @Value("${order.idempotency.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    /**
+     * 로컬 캐시 (값이 비어 있으면 처리 중)
+     */
+    private Cache<String, Optional<OrderResponse>> localCache;
+
+    /**
+     * 이 노드가 선점하여 처리 중인 키 (TTL 연장 대상)
+     */
+    private final Set<String> processingKeys = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        // 처리 중 표시는 Redis PROCESSING TTL, 완료 응답은 local-ttl-seconds 동안 보관
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localCacheSize)
+                .expireAfter(Expiry.<String, Optional<OrderResponse>>writing((key, value) -> value.isEmpty()
+                        ? Duration.ofSeconds(processingTtlSeconds)
+                        : Duration.ofSeconds(localTtlSeconds)))
+                .build();
+    }
+
+    /**
+     * 주문 처리 선점
+     *
+     * @param userId         사용자 ID
+     * @param idempotencyKey 멱등성 키
+     * @return 이미 완료된 주문이면 저장된 응답, 처리를 선점했으면 Optional.empty()
+     * @throws OrderInProgressException 같은 키의 주문이 처리 중인 경우
+     */
+    public Optional<OrderResponse> begin(String userId, String idempotencyKey) {
+        String key = key(userId, idempotencyKey);
+
+        // 1. 로컬 캐시
+        Optional<OrderResponse> local = localCache.getIfPresent(key);
+        if (local != null) {
+            if (local.isEmpty()) {
+                throw new OrderInProgressException();
+            }
+            return local;
+        }
+
+        // 2. Redis 선점 (SET NX)
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(key, PROCESSING, Duration.ofSeconds(processingTtlSeconds));
+        if (Boolean.TRUE.equals(acquired)) {
+            processingKeys.add(key);
+            localCache.put(key, Optional.empty());
+            return Optional.empty();
+        }
+
+        // 3. 이미 존재하는 키 → 처리 중 또는 완료
+        String stored = redisTemplate.opsForValue().get(key);
+        if (stored == null) {
+            // 조회 사이에 만료됨 → 한 번 더 선점 시도
+            return begin(userId, idempotencyKey);
+        }
+        if (PROCESSING.equals(stored)) {
+            throw new OrderInProgressException();
+        }
+
+        OrderResponse response = deserialize(stored);
+        localCache.put(key, Optional.of(response));
+        log.info("멱등성 키 재요청 - 저장된 주문 응답 반환: userId={}, orderId={}", userId, response.orderId());
+        return Optional.of(response);
+    }
+
+    /**
+     * 주문 완료 결과 저장
+     * Redis 저장에 실패해도 주문은 이미 커밋되었으므로 예외를 던지지 않음 (재시도는 recover()로 응답)
+     */
+    public void complete(String userId, String idempotencyKey, OrderResponse response) {
+        String key = key(userId, idempotencyKey);
+        processingKeys.remove(key);
+        localCache.put(key, Optional.of(response));
+        try {
+            redisTemplate.opsForValue().set(key, serialize(response), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("멱등성 키 완료 저장 실패 - 재시도 시 DB 주문 조회로 응답: userId={}, orderId={}",
+                    userId, response.orderId(), e);
+        }
+    }
+
+    /**
+     * 주문 실패 시 선점 해제 (같은 키로 재시도 허용)
+     */
+    public void release(String userId, String idempotencyKey) {
+        String key = key(userId, idempotencyKey);
+        processingKeys.remove(key);
+        localCache.invalidate(key);
+        redisTemplate.delete(key);
+    }
+
+    /**
+     * DB에 저장된 같은 멱등성 키의 주문 조회 (완료 결과 저장 실패 후 재시도 대비)
+     * 주문이 있으면 완료 결과로 다시 저장
+     *
+     * @return 기존 주문 응답 (없으면 Optional.empty())
+     */
+    public Optional<OrderResponse> recover(String userId, String idempotencyKey) {
+        Optional<OrderResponse> stored = orderRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .map(order -> OrderResponse.from(order, orderItemRepository.findByOrderId(order.getOrderId())));
+        stored.ifPresent(response -> {
+            log.info("멱등성 키 중복 주문 - DB의 기존 주문 응답 반환: userId={}, orderId={}", userId, response.orderId());
+            complete(userId, idempotencyKey, response);
+        });
+        return stored;
+    }
+
+    /**
+     * 처리 중인 키의 PROCESSING TTL 연장
+     * processing-ttl-seconds보다 짧은 주기로 실행되어야 함
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.processing-renew-interval-ms:10000}")
+    public void renewProcessing() {
+        for (String key : processingKeys) {
+            try {
+                redisTemplate.execute(RENEW_SCRIPT, List.of(key), PROCESSING, String.valueOf(processingTtlSeconds));
+            } catch (Exception e) {
+                log.warn("멱등성 키 PROCESSING TTL 연장 실패: key={}", key, e);
+            }
+        }
+    }
+
+    private String key(String userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+
+    private String serialize(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화 실패", e);
+        }
+    }
+
+    private OrderResponse deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 역직렬화 실패", e);
+        }
+    }
+}
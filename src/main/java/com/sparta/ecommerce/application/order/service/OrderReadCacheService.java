@@ -0,0 +1,405 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.application.order.dto.OrderDetailResponse;
+import com.sparta.ecommerce.application.order.dto.OrderListResponse;
+import com.sparta.ecommerce.application.order.dto.OrderSummaryResponse;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 조회 캐시 서비스 (주문 생성 시 Write-Through)
+ *
+ * 주문 직후 클라이언트가 호출하는 주문 상세/목록 조회를 DB 대신 Redis에서 응답
+ * - 주문 생성 커밋 후 상세 엔트리 저장 + 사용자 첫 페이지 목록 맨 앞에 추가
+ * - 조회 미스 시 DB 조회 결과로 채움
+ *
+ * 키 구조 (같은 주문/사용자의 키는 같은 슬롯에 배치되도록 해시태그 사용):
+ * - order:cache:detail:{orderId}          상세 (Hash: version, body)
+ * - order:cache:detail:{orderId}:version  상세 버전
+ * - order:cache:list:{userId}:version     목록 버전
+ * - order:cache:list:{userId}:v{버전}       최신 주문 요약 목록 (List, 최대 list-window 건)
+ * - order:cache:list:{userId}:v{버전}:count 전체 주문 수
+ *
+ * 버전 기반 무효화:
+ * - 주문 상태 변경 시 invalidate()로 주문/사용자 버전 증가 → 이전 버전 엔트리는 더 이상 조회되지 않음
+ * - 조회 미스 시 DB 조회 전에 읽은 버전으로 저장 → DB 조회 도중 상태가 바뀌면 저장된 엔트리는 바로 무효
+ * - 버전 키는 엔트리 저장 시마다 TTL 연장 (엔트리보다 먼저 만료되어 버전이 0으로 돌아가지 않도록)
+ *
+ * Redis 장애 시 조회는 미스로 처리하고 버전 없이 반환 → 호출 측은 DB 조회 후 저장을 건너뜀
+ *
+ * 메트릭: cache.gets{cache=order-detail|order-list, result=hit|miss}
+ */
+@Slf4j
+@Service
+public class OrderReadCacheService {
+
+    private static final String DETAIL_KEY_PREFIX = "order:cache:detail:";
+    private static final String LIST_KEY_PREFIX = "order:cache:list:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String DETAIL_CACHE_NAME = "order-detail";
+    private static final String LIST_CACHE_NAME = "order-list";
+
+    /**
+     * 상세 조회
+     * KEYS: 상세 키, 상세 버전 키
+     * 반환: [현재 버전, 본문 (버전 불일치/미스 시 빈 문자열)]
+     */
+    private static final RedisScript<List> GET_DETAIL_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            local entry = redis.call('HMGET', KEYS[1], 'version', 'body')
+            if entry[1] == version and entry[2] then
+                return {version, entry[2]}
+            end
+            return {version, ''}
+            """, List.class);
+
+    /**
+     * 상세 저장
+     * KEYS: 상세 키, 상세 버전 키 / ARGV: 버전, 본문, TTL(초)
+     */
+    private static final RedisScript<Long> PUT_DETAIL_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'version', ARGV[1], 'body', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3]) * 2)
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 목록 조회
+     * KEYS: 목록 버전 키 / ARGV: 목록 키 접두사, 시작 인덱스, 끝 인덱스
+     * 반환: [현재 버전] (미스) 또는 [현재 버전, 전체 주문 수, 요약 JSON...]
+     */
+    private static final RedisScript<List> GET_LIST_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[1]) or '0'
+            local base = ARGV[1] .. version
+            local count = redis.call('GET', base .. ':count')
+            if not count then
+                return {version}
+            end
+            local items = redis.call('LRANGE', base, ARGV[2], ARGV[3])
+            table.insert(items, 1, count)
+            table.insert(items, 1, version)
+            return items
+            """, List.class);
+
+    /**
+     * 목록 저장 (조회 미스 시, 버전이 그대로일 때만)
+     * KEYS: 목록 버전 키 / ARGV: 목록 키 접두사, 조회 전 버전, 전체 주문 수, TTL(초), 요약 JSON...
+     */
+    private static final RedisScript<Long> PUT_LIST_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[1]) or '0'
+            if version ~= ARGV[2] then
+                return 0
+            end
+            local base = ARGV[1] .. version
+            redis.call('DEL', base)
+            for i = 5, #ARGV do
+                redis.call('RPUSH', base, ARGV[i])
+            end
+            redis.call('SET', base .. ':count', ARGV[3], 'EX', ARGV[4])
+            redis.call('EXPIRE', base, ARGV[4])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]) * 2)
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 새 주문을 목록 맨 앞에 추가
+     * KEYS: 목록 버전 키 / ARGV: 목록 키 접두사, 요약 JSON, 주문 ID, 최대 건수, TTL(초)
+     *
+     * 캐시된 목록이 없으면 버전을 올려 진행 중인 조회 미스 저장을 무효화
+     * (커밋 전 DB를 읽은 조회가 새 주문 없는 목록을 저장하는 것 방지)
+     * 커밋 후 DB를 읽은 조회가 이미 새 주문을 포함했으면 중복 추가하지 않음
+     */
+    private static final RedisScript<Long> PREPEND_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[1]) or '0'
+            local base = ARGV[1] .. version
+            if redis.call('EXISTS', base .. ':count') == 0 then
+                redis.call('INCR', KEYS[1])
+                redis.call('EXPIRE', KEYS[1], tonumber(ARGV[5]) * 2)
+                return 0
+            end
+            local head = redis.call('LRANGE', base, 0, 9)
+            for _, item in ipairs(head) do
+                if string.find(item, ARGV[3], 1, true) then
+                    return 0
+                end
+            end
+            redis.call('LPUSH', base, ARGV[2])
+            redis.call('LTRIM', base, 0, tonumber(ARGV[4]) - 1)
+            redis.call('INCR', base .. ':count')
+            redis.call('EXPIRE', base, ARGV[5])
+            redis.call('EXPIRE', base .. ':count', ARGV[5])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[5]) * 2)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter detailHitCounter;
+    private final Counter detailMissCounter;
+    private final Counter listHitCounter;
+    private final Counter listMissCounter;
+
+    @Value("${order.read-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${order.read-cache.list-window:50}")
+    private int listWindow;
+
+    public OrderReadCacheService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.detailHitCounter = meterRegistry.counter("cache.gets", "cache", DETAIL_CACHE_NAME, "result", "hit");
+        this.detailMissCounter = meterRegistry.counter("cache.gets", "cache", DETAIL_CACHE_NAME, "result", "miss");
+        this.listHitCounter = meterRegistry.counter("cache.gets", "cache", LIST_CACHE_NAME, "result", "hit");
+        this.listMissCounter = meterRegistry.counter("cache.gets", "cache", LIST_CACHE_NAME, "result", "miss");
+    }
+
+    /**
+     * 주문 생성 Write-Through (커밋 이후 호출)
+     */
+    public void publishCreated(String userId, OrderDetailResponse detail, OrderSummaryResponse summary) {
+        redisTemplate.execute(PREPEND_SCRIPT, List.of(listVersionKey(userId)),
+                listKeyPrefix(userId), serialize(summary), summary.orderId(),
+                String.valueOf(listWindow), String.valueOf(ttlSeconds));
+        // 새 주문은 상태 변경 이력이 없으므로 버전 0
+        putDetail("0", detail);
+    }
+
+    /**
+     * 주문 상태 변경 시 캐시 무효화 (커밋 이후 호출)
+     */
+    public void invalidate(String orderId, String userId) {
+        Duration versionTtl = Duration.ofSeconds(ttlSeconds * 2);
+
+        String detailVersionKey = detailKey(orderId) + VERSION_SUFFIX;
+        redisTemplate.opsForValue().increment(detailVersionKey);
+        redisTemplate.expire(detailVersionKey, versionTtl);
+
+        redisTemplate.opsForValue().increment(listVersionKey(userId));
+        redisTemplate.expire(listVersionKey(userId), versionTtl);
+
+        redisTemplate.delete(detailKey(orderId));
+    }
+
+    /**
+     * 주문 상태 변경 트랜잭션 커밋 이후 캐시 무효화 등록 (트랜잭션 밖이면 즉시 무효화)
+     * 무효화 실패는 로그만 남김 (엔트리는 TTL로 만료)
+     */
+    public void invalidateAfterCommit(Collection<Order> orders) {
+        Runnable invalidation = () -> orders.forEach(order -> {
+            try {
+                invalidate(order.getOrderId(), order.getUserId());
+            } catch (Exception e) {
+                log.error("주문 조회 캐시 무효화 실패 - orderId={}", order.getOrderId(), e);
+            }
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    /**
+     * 상세 조회 (Redis 장애 시 미스로 처리)
+     *
+     * @return 캐시 결과 (미스 시 DB 조회 후 putDetail에 넘길 버전 포함, Redis 장애 시 버전 null)
+     */
+    public CachedDetail getDetail(String orderId) {
+        CachedDetail cached;
+        try {
+            cached = readDetail(orderId);
+        } catch (Exception e) {
+            log.warn("주문 상세 캐시 조회 실패 - orderId={}", orderId, e);
+            cached = new CachedDetail(null, Optional.empty());
+        }
+
+        if (cached.response().isEmpty()) {
+            detailMissCounter.increment();
+            return cached;
+        }
+        detailHitCounter.increment();
+        return cached;
+    }
+
+    private CachedDetail readDetail(String orderId) {
+        List<?> result = redisTemplate.execute(GET_DETAIL_SCRIPT,
+                List.of(detailKey(orderId), detailKey(orderId) + VERSION_SUFFIX));
+        String version = (String) result.get(0);
+        String body = (String) result.get(1);
+        if (body.isEmpty()) {
+            return new CachedDetail(version, Optional.empty());
+        }
+        return new CachedDetail(version, Optional.of(deserialize(body, OrderDetailResponse.class)));
+    }
+
+    /**
+     * 상세 저장 (조회 미스 시)
+     *
+     * @param version DB 조회 전에 읽은 버전
+     */
+    public void putDetail(String version, OrderDetailResponse detail) {
+        redisTemplate.execute(PUT_DETAIL_SCRIPT,
+                List.of(detailKey(detail.orderId()), detailKey(detail.orderId()) + VERSION_SUFFIX),
+                version, serialize(detail), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 목록 캐시로 응답 가능한 페이지인지 확인 (최신 list-window 건 이내)
+     */
+    public boolean isCacheablePage(int page, int limit) {
+        return page >= 1 && limit >= 1 && (long) page * limit <= listWindow;
+    }
+
+    public int getListWindow() {
+        return listWindow;
+    }
+
+    /**
+     * 목록 조회 (상태 필터 없는 최신순 목록, Redis 장애 시 미스로 처리)
+     *
+     * @return 캐시 결과 (미스 시 DB 조회 후 putList에 넘길 버전 포함, Redis 장애 시 버전 null)
+     */
+    public CachedList getList(String userId, int page, int limit) {
+        CachedList cached;
+        try {
+            cached = readList(userId, page, limit);
+        } catch (Exception e) {
+            log.warn("주문 목록 캐시 조회 실패 - userId={}", userId, e);
+            cached = new CachedList(null, Optional.empty());
+        }
+
+        if (cached.response().isEmpty()) {
+            listMissCounter.increment();
+            return cached;
+        }
+        listHitCounter.increment();
+        return cached;
+    }
+
+    private CachedList readList(String userId, int page, int limit) {
+        int start = (page - 1) * limit;
+        List<?> result = redisTemplate.execute(GET_LIST_SCRIPT, List.of(listVersionKey(userId)),
+                listKeyPrefix(userId), String.valueOf(start), String.valueOf(start + limit - 1));
+
+        String version = (String) result.get(0);
+        if (result.size() == 1) {
+            return new CachedList(version, Optional.empty());
+        }
+
+        int totalCount = Integer.parseInt((String) result.get(1));
+        List<OrderSummaryResponse> orders = new ArrayList<>(result.size() - 2);
+        for (int i = 2; i < result.size(); i++) {
+            orders.add(deserialize((String) result.get(i), OrderSummaryResponse.class));
+        }
+        int totalPages = (int) Math.ceil((double) totalCount / limit);
+        return new CachedList(version, Optional.of(new OrderListResponse(orders, page, totalPages, totalCount)));
+    }
+
+    /**
+     * 목록 저장 (조회 미스 시, 최신 list-window 건)
+     *
+     * @param version    DB 조회 전에 읽은 버전
+     * @param latest     최신순 주문 요약 (최대 list-window 건)
+     * @param totalCount 전체 주문 수
+     */
+    public void putList(String userId, String version, List<OrderSummaryResponse> latest, long totalCount) {
+        List<String> args = new ArrayList<>(latest.size() + 4);
+        args.add(listKeyPrefix(userId));
+        args.add(version);
+        args.add(String.valueOf(totalCount));
+        args.add(String.valueOf(ttlSeconds));
+        latest.forEach(summary -> args.add(serialize(summary)));
+
+        redisTemplate.execute(PUT_LIST_SCRIPT, List.of(listVersionKey(userId)), args.toArray());
+    }
+
+    private String detailKey(String orderId) {
+        return DETAIL_KEY_PREFIX + "{" + orderId + "}";
+    }
+
+    private String listVersionKey(String userId) {
+        return LIST_KEY_PREFIX + "{" + userId + "}" + VERSION_SUFFIX;
+    }
+
+    private String listKeyPrefix(String userId) {
+        return LIST_KEY_PREFIX + "{" + userId + "}:v";
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 캐시 직렬화 실패", e);
+        }
+    }
+
+    private <T> T deserialize(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 캐시 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 상세 캐시 조회 결과
+     *
+     * @param version  조회 시점 버전 (Redis 장애 시 null)
+     * @param response 캐시된 응답 (미스 시 empty)
+     */
+    public record CachedDetail(String version, Optional<OrderDetailResponse> response) {
+
+        /**
+         * DB 조회 결과를 캐시에 저장해도 되는지 (Redis 장애로 버전을 읽지 못했으면 false)
+         */
+        public boolean writable() {
+            return version != null;
+        }
+    }
+
+    /**
+     * 목록 캐시 조회 결과
+     *
+     * @param version  조회 시점 버전 (Redis 장애 시 null)
+     * @param response 캐시된 응답 (미스 시 empty)
+     */
+    public record CachedList(String version, Optional<OrderListResponse> response) {
+
+        /**
+         * DB 조회 결과를 캐시에 저장해도 되는지 (Redis 장애로 버전을 읽지 못했으면 false)
+         */
+        public boolean writable() {
+            return version != null;
+        }
+    }
+}
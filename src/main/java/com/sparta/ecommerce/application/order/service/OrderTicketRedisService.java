@@ -0,0 +1,132 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.sparta.ecommerce.application.order.dto.OrderTicketResponse;
+import com.sparta.ecommerce.domain.order.OrderTicketStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 티켓 Redis 관리 서비스
+ *
+ * 키 구조:
+ * - order:ticket:{ticketId} (Hash)
+ *   - status: PENDING / PROCESSING / COMPLETED / FAILED
+ *   - userId, orderId, errorCode, errorMessage
+ *
+ * 티켓은 order.async.ticket-ttl-seconds 이후 자동 만료 (폴링 조회 용도)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderTicketRedisService {
+
+    private static final String TICKET_KEY_PREFIX = "order:ticket:";
+
+    /**
+     * 상태가 기대값일 때만 변경 (compare-and-set)
+     * KEYS: 티켓 키 / ARGV: 기대 상태, 변경할 상태
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${order.async.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    /**
+     * 티켓 생성 (PENDING)
+     */
+    public void createTicket(String ticketId, String userId) {
+        String key = TICKET_KEY_PREFIX + ticketId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "status", OrderTicketStatus.PENDING.name(),
+                "userId", userId
+        ));
+        redisTemplate.expire(key, Duration.ofSeconds(ticketTtlSeconds));
+    }
+
+    /**
+     * 티켓 선점 (PENDING → PROCESSING)
+     * 재전달 메시지나 다른 Consumer가 같은 티켓을 중복 처리하지 않도록 원자적으로 상태 변경
+     *
+     * @return 선점 성공 여부 (이미 처리 중/완료/실패이거나 만료된 티켓이면 false)
+     */
+    public boolean claim(String ticketId) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(TICKET_KEY_PREFIX + ticketId),
+                OrderTicketStatus.PENDING.name(), OrderTicketStatus.PROCESSING.name());
+        return claimed != null && claimed == 1L;
+    }
+
+    /**
+     * 주문 완료 처리
+     */
+    public void markCompleted(String ticketId, String orderId) {
+        String key = TICKET_KEY_PREFIX + ticketId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "status", OrderTicketStatus.COMPLETED.name(),
+                "orderId", orderId
+        ));
+        redisTemplate.expire(key, Duration.ofSeconds(ticketTtlSeconds));
+        log.debug("주문 티켓 완료: ticketId={}, orderId={}", ticketId, orderId);
+    }
+
+    /**
+     * 주문 실패 처리
+     */
+    public void markFailed(String ticketId, String errorCode, String errorMessage) {
+        String key = TICKET_KEY_PREFIX + ticketId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "status", OrderTicketStatus.FAILED.name(),
+                "errorCode", errorCode,
+                "errorMessage", errorMessage != null ? errorMessage : ""
+        ));
+        redisTemplate.expire(key, Duration.ofSeconds(ticketTtlSeconds));
+        log.debug("주문 티켓 실패: ticketId={}, errorCode={}", ticketId, errorCode);
+    }
+
+    /**
+     * 티켓 상태 조회
+     *
+     * @return 티켓이 없거나 만료되면 Optional.empty()
+     */
+    public Optional<OrderTicketStatus> getStatus(String ticketId) {
+        Object status = redisTemplate.opsForHash().get(TICKET_KEY_PREFIX + ticketId, "status");
+        return Optional.ofNullable(status).map(value -> OrderTicketStatus.valueOf((String) value));
+    }
+
+    /**
+     * 티켓 조회
+     *
+     * @return 티켓이 없거나 만료되면 Optional.empty()
+     */
+    public Optional<OrderTicketResponse> getTicket(String ticketId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(TICKET_KEY_PREFIX + ticketId);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new OrderTicketResponse(
+                ticketId,
+                OrderTicketStatus.valueOf((String) entries.get("status")),
+                (String) entries.get("orderId"),
+                (String) entries.get("errorCode"),
+                (String) entries.get("errorMessage")
+        ));
+    }
+}
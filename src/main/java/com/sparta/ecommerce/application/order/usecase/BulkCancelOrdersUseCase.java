@@ -0,0 +1,71 @@
+package com.sparta.ecommerce.application.order.usecase;
+
+import com.sparta.ecommerce.application.order.dto.BulkCancelOrdersRequest;
+import com.sparta.ecommerce.application.order.dto.OrderCancelJobResponse;
+import com.sparta.ecommerce.domain.order.entity.OrderCancelJob;
+import com.sparta.ecommerce.domain.order.exception.OrderCancelJobNotFoundException;
+import com.sparta.ecommerce.domain.order.repository.OrderCancelJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 일괄 취소 유스케이스 (관리자용)
+ *
+ * 작업만 등록하고 실제 취소/환불은 BulkOrderCancelJobRunner가 청크 단위로 비동기 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkCancelOrdersUseCase {
+
+    private final OrderCancelJobRepository orderCancelJobRepository;
+
+    /**
+     * 일괄 취소 작업 등록
+     *
+     * @param request 주문 필터
+     * @return 등록된 작업 상태
+     */
+    @Transactional
+    public OrderCancelJobResponse start(BulkCancelOrdersRequest request) {
+        if (!request.createdFrom().isBefore(request.createdTo())) {
+            throw new IllegalArgumentException("주문 생성 일시 시작은 끝보다 이전이어야 합니다");
+        }
+
+        OrderCancelJob job = orderCancelJobRepository.save(OrderCancelJob.builder()
+                .couponId(request.couponId())
+                .createdFrom(request.createdFrom())
+                .createdTo(request.createdTo())
+                .reason(request.reason())
+                .build());
+
+        log.info("주문 일괄 취소 작업 등록 - jobId={}, couponId={}, from={}, to={}",
+                job.getJobId(), request.couponId(), request.createdFrom(), request.createdTo());
+        return OrderCancelJobResponse.from(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public OrderCancelJobResponse getJob(String jobId) {
+        return OrderCancelJobResponse.from(findJob(jobId));
+    }
+
+    /**
+     * 연속 실패로 중단된 작업 재개 (마지막 체크포인트부터)
+     */
+    @Transactional
+    public OrderCancelJobResponse resume(String jobId) {
+        OrderCancelJob job = findJob(jobId);
+        job.resume();
+        return OrderCancelJobResponse.from(job);
+    }
+
+    private OrderCancelJob findJob(String jobId) {
+        return orderCancelJobRepository.findById(jobId)
+                .orElseThrow(() -> new OrderCancelJobNotFoundException(jobId));
+    }
+}
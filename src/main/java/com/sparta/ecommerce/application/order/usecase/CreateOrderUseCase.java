@@ -1,6 +1,7 @@
 package com.sparta.ecommerce.application.order.usecase;
 
 import com.sparta.ecommerce.application.order.service.CreateOrderService;
+import com.sparta.ecommerce.application.order.service.GroupCommitOrderWriter;
 import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
 import com.sparta.ecommerce.application.order.dto.OrderResponse;
 import com.sparta.ecommerce.infrastructure.aop.annotation.DistributedLock;
@@ -8,6 +9,8 @@ import com.sparta.ecommerce.infrastructure.aop.annotation.Trace;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 주문 생성 유스케이스
  *
@@ -28,20 +31,42 @@ import org.springframework.stereotype.Service;
  * - 재고 부족 시 UPDATE 실패로 안전하게 처리
  * - 분산 락 + DB 검증 2단계 안전장치
  *
+ * [잔액 안전성 보장]
+ * - 조건부 UPDATE로 차감 (UPDATE users ... WHERE balance >= amount)
+ * - 잔액 정합성은 분산 락 없이도 DB가 보장 → 락은 같은 사용자의 장바구니/쿠폰 중복 사용 방지 용도
+ *
  * 주문 생성은 다음을 포함합니다:
  * - 재고 차감 (여러 상품)
  * - 결제 처리 (잔액 차감)
  * - 쿠폰 사용 처리
+ *
+ * [그룹 커밋 모드] (order.group-commit.enabled = true)
+ * - GroupCommitOrderWriter가 여러 사용자의 주문을 하나의 트랜잭션으로 묶어 커밋
+ * - 사용자별 동시성은 분산 락 대신 배치 내 사용자 행 비관적 락으로 보장
  */
 @Service
 @RequiredArgsConstructor
 public class CreateOrderUseCase {
 
     private final CreateOrderService createOrderService;
+    private final GroupCommitOrderWriter groupCommitOrderWriter;
 
     @Trace
     @DistributedLock(key = "'order:user:' + #request.userId")
     public OrderResponse execute(CreateOrderRequest request) {
         return createOrderService.create(request);
     }
+
+    /**
+     * 그룹 커밋 모드 주문 생성
+     * 배치 커밋 완료 시 결과가 완료되며, 실패는 주문별로 전달됨
+     */
+    @Trace
+    public CompletableFuture<OrderResponse> executeGroupCommit(CreateOrderRequest request) {
+        return groupCommitOrderWriter.submit(request);
+    }
+
+    public boolean isGroupCommitEnabled() {
+        return groupCommitOrderWriter.isEnabled();
+    }
 }
@@ -1,6 +1,7 @@
 package com.sparta.ecommerce.application.order.usecase;
 
 import com.sparta.ecommerce.application.order.dto.OrderDetailResponse;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 import com.sparta.ecommerce.domain.order.repository.OrderRepository;
@@ -14,6 +15,9 @@ import java.util.List;
 
 /**
  * 주문 상세 조회 UseCase
+ *
+ * 주문 생성 시 Write-Through된 캐시를 먼저 조회하고, 미스 시 DB 조회 후 캐시 저장
+ * (Redis 장애로 조회에 실패했으면 DB 조회 결과를 저장하지 않음)
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +25,7 @@ public class GetOrderDetailUseCase {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderReadCacheService orderReadCacheService;
 
     /**
      * 주문 상세 정보 조회
@@ -30,12 +35,21 @@ public class GetOrderDetailUseCase {
      */
     @Transactional(readOnly = true)
     public OrderDetailResponse execute(String orderId) {
+        OrderReadCacheService.CachedDetail cached = orderReadCacheService.getDetail(orderId);
+        if (cached.response().isPresent()) {
+            return cached.response().get();
+        }
+
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         // 주문 아이템 조회
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
 
-        return OrderDetailResponse.from(order, orderItems);
+        OrderDetailResponse response = OrderDetailResponse.from(order, orderItems);
+        if (cached.writable()) {
+            orderReadCacheService.putDetail(cached.version(), response);
+        }
+        return response;
     }
 }
@@ -0,0 +1,22 @@
+package com.sparta.ecommerce.application.order.usecase;
+
+import com.sparta.ecommerce.application.order.dto.OrderTicketResponse;
+import com.sparta.ecommerce.application.order.service.OrderTicketRedisService;
+import com.sparta.ecommerce.domain.order.exception.OrderTicketNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 주문 접수 결과 조회 유스케이스
+ */
+@Service
+@RequiredArgsConstructor
+public class GetOrderTicketUseCase {
+
+    private final OrderTicketRedisService ticketRedisService;
+
+    public OrderTicketResponse execute(String ticketId) {
+        return ticketRedisService.getTicket(ticketId)
+                .orElseThrow(() -> new OrderTicketNotFoundException(ticketId));
+    }
+}
@@ -2,6 +2,7 @@ package com.sparta.ecommerce.application.order.usecase;
 
 import com.sparta.ecommerce.application.order.dto.OrderListResponse;
 import com.sparta.ecommerce.application.order.dto.OrderSummaryResponse;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.repository.OrderRepository;
 import com.sparta.ecommerce.domain.order.OrderStatus;
@@ -17,12 +18,16 @@ import java.util.List;
 
 /**
  * 주문 목록 조회 UseCase
+ *
+ * 상태 필터 없는 최신 list-window 건 이내 페이지는 캐시에서 응답
+ * (주문 생성 시 첫 페이지 맨 앞에 Write-Through, 미스 시 최신 list-window 건을 한 번에 조회하여 저장)
  */
 @Service
 @RequiredArgsConstructor
 public class GetOrdersUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderReadCacheService orderReadCacheService;
 
     /**
      * 사용자의 주문 목록 조회 (페이징)
@@ -35,6 +40,12 @@ public class GetOrdersUseCase {
      */
     @Transactional(readOnly = true)
     public OrderListResponse execute(String userId, int page, int limit, String status) {
+        boolean cacheable = (status == null || status.isEmpty())
+                && orderReadCacheService.isCacheablePage(page, limit);
+        if (cacheable) {
+            return getFromCache(userId, page, limit);
+        }
+
         // Pageable 생성 (page는 0부터 시작하므로 -1, 최신순 정렬)
         Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
 
@@ -59,4 +70,32 @@ public class GetOrdersUseCase {
                 (int) orderPage.getTotalElements()
         );
     }
+
+    /**
+     * 캐시 조회, 미스 시 최신 list-window 건 조회 후 캐시 저장 (Redis 장애 시 저장 생략)
+     */
+    private OrderListResponse getFromCache(String userId, int page, int limit) {
+        OrderReadCacheService.CachedList cached = orderReadCacheService.getList(userId, page, limit);
+        if (cached.response().isPresent()) {
+            return cached.response().get();
+        }
+
+        Page<Order> latestPage = orderRepository.findByUserId(userId,
+                PageRequest.of(0, orderReadCacheService.getListWindow(), Sort.by("createdAt").descending()));
+        List<OrderSummaryResponse> latest = latestPage.getContent().stream()
+                .map(OrderSummaryResponse::from)
+                .toList();
+        if (cached.writable()) {
+            orderReadCacheService.putList(userId, cached.version(), latest, latestPage.getTotalElements());
+        }
+
+        int start = Math.min((page - 1) * limit, latest.size());
+        int end = Math.min(start + limit, latest.size());
+        return new OrderListResponse(
+                latest.subList(start, end),
+                page,
+                (int) Math.ceil((double) latestPage.getTotalElements() / limit),
+                (int) latestPage.getTotalElements()
+        );
+    }
 }
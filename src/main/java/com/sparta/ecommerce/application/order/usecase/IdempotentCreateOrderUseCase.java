@@ -0,0 +1,104 @@
+package com.sparta.ecommerce.application.order.usecase;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.order.service.OrderIdempotencyService;
+import com.sparta.ecommerce.domain.order.exception.InvalidIdempotencyKeyException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 멱등성 키 기반 주문 생성 유스케이스
+ *
+ * 클라이언트 타임아웃 재시도가 사용자 락 대기와 주문 파이프라인을 다시 타지 않도록
+ * 분산 락 획득 전에 Idempotency-Key를 확인
+ * - 빈 키 또는 100자 초과 키: InvalidIdempotencyKeyException (400, orders.idempotency_key 컬럼 길이)
+ * - 완료된 키: 저장된 OrderResponse 반환 (DB 접근 없음)
+ * - 처리 중인 키: OrderInProgressException (409)
+ * - 새 키: CreateOrderUseCase로 위임 후 결과 저장, 실패 시 키 해제
+ * - 같은 키의 주문이 DB에 이미 있으면 (완료 결과 저장 실패 후 재시도) 유니크 제약 위반 → 기존 주문 응답 반환
+ *
+ * 잔액 충전의 transactionId 멱등성(ChargeBalanceService)과 같은 보호를 주문에 적용
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotentCreateOrderUseCase {
+
+    /**
+     * 멱등성 키 최대 길이 (orders.idempotency_key 컬럼 길이)
+     */
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderIdempotencyService idempotencyService;
+
+    /**
+     * 주문 생성
+     *
+     * @param request        주문 요청
+     * @param idempotencyKey 멱등성 키 (null이면 멱등성 처리 없이 주문)
+     * @return 주문 결과 (그룹 커밋 모드에서는 배치 커밋 후 완료)
+     * @throws InvalidIdempotencyKeyException 키가 비어 있거나 100자를 넘는 경우
+     */
+    public CompletableFuture<OrderResponse> execute(CreateOrderRequest request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(request);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        Optional<OrderResponse> stored = idempotencyService.begin(request.userId(), idempotencyKey);
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored.get());
+        }
+
+        CompletableFuture<OrderResponse> future;
+        try {
+            future = createOrder(request.withIdempotencyKey(idempotencyKey));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(recoverOrRelease(request.userId(), idempotencyKey, e));
+        }
+
+        return future.handle((response, error) -> {
+            if (error == null) {
+                idempotencyService.complete(request.userId(), idempotencyKey, response);
+                return response;
+            }
+            return recoverOrRelease(request.userId(), idempotencyKey, error);
+        });
+    }
+
+    /**
+     * 주문 실패 처리
+     * 멱등성 키 유니크 제약 위반이면 DB의 기존 주문을 응답하고, 그 외에는 키를 해제한 뒤 예외 전파
+     */
+    private OrderResponse recoverOrRelease(String userId, String idempotencyKey, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof DataIntegrityViolationException) {
+            Optional<OrderResponse> existing = idempotencyService.recover(userId, idempotencyKey);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+
+        idempotencyService.release(userId, idempotencyKey);
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new CompletionException(cause);
+    }
+
+    private CompletableFuture<OrderResponse> createOrder(CreateOrderRequest request) {
+        // 그룹 커밋 모드: 배치 커밋 완료 시 비동기 응답
+        if (createOrderUseCase.isGroupCommitEnabled()) {
+            return createOrderUseCase.executeGroupCommit(request);
+        }
+        return CompletableFuture.completedFuture(createOrderUseCase.execute(request));
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.ecommerce.application.order.usecase;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderTicketResponse;
+import com.sparta.ecommerce.application.order.service.OrderTicketRedisService;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+import com.sparta.ecommerce.domain.user.exception.UserNotFoundException;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.infrastructure.aop.annotation.Trace;
+import com.sparta.ecommerce.infrastructure.kafka.order.message.OrderRequestMessage;
+import com.sparta.ecommerce.infrastructure.kafka.order.producer.OrderRequestKafkaProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 유스케이스 (Kafka 방식)
+ *
+ * 흐름:
+ * 1. 요청 → 사용자 존재 확인 → 티켓 생성(PENDING) → Kafka 메시지 발행 → 즉시 티켓 응답
+ * 2. Kafka Consumer가 userId 파티션별로 순차 주문 처리 → 티켓에 결과 기록
+ * 3. 클라이언트는 티켓 조회 API로 결과 폴링
+ *
+ * 동기 주문(CreateOrderUseCase)과 달리 HTTP 스레드가 분산 락 대기/주문 트랜잭션을 기다리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmitOrderUseCase {
+
+    private final UserRepository userRepository;
+    private final OrderTicketRedisService ticketRedisService;
+    private final OrderRequestKafkaProducer kafkaProducer;
+
+    @Trace
+    public OrderTicketResponse execute(CreateOrderRequest request) {
+        // 1. 가벼운 검증 (PK 조회)
+        if (!userRepository.existsById(request.userId())) {
+            throw new UserNotFoundException(request.userId());
+        }
+
+        // 2. 티켓 생성 (메시지 발행 전에 생성하여 Consumer가 항상 티켓을 찾을 수 있도록 함)
+        String ticketId = UUID.randomUUID().toString();
+        ticketRedisService.createTicket(ticketId, request.userId());
+
+        // 3. Kafka 메시지 발행 (발행 실패 시 티켓을 실패 처리)
+        kafkaProducer.publishOrderRequest(OrderRequestMessage.of(ticketId, request.userId(), request.couponId()))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        ticketRedisService.markFailed(ticketId,
+                                ErrorCode.COMMON004.getCode(), "주문 접수에 실패했습니다. 다시 시도해주세요");
+                    }
+                });
+
+        log.info("비동기 주문 접수: ticketId={}, userId={}", ticketId, request.userId());
+
+        return OrderTicketResponse.pending(ticketId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.ecommerce.application.payment.dto;
+
+import com.sparta.ecommerce.domain.payment.DiscrepancyType;
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 결제 대사 불일치 응답
+ */
+public record PaymentDiscrepancyResponse(
+        @Schema(description = "주문 ID")
+        String orderId,
+        @Schema(description = "불일치 유형", example = "AMOUNT_MISMATCH")
+        DiscrepancyType type,
+        @Schema(description = "기대 금액", example = "50000")
+        Long expectedAmount,
+        @Schema(description = "실제 금액", example = "45000")
+        Long actualAmount,
+        @Schema(description = "상세")
+        String detail
+) {
+    public static PaymentDiscrepancyResponse from(PaymentDiscrepancy discrepancy) {
+        return new PaymentDiscrepancyResponse(
+                discrepancy.getOrderId(),
+                discrepancy.getType(),
+                discrepancy.getExpectedAmount(),
+                discrepancy.getActualAmount(),
+                discrepancy.getDetail()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.ecommerce.application.payment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 요청 DTO (관리자용)
+ */
+public record ReconcilePaymentsRequest(
+        @Schema(description = "주문 생성 일시 시작 (포함)", example = "2025-11-06T00:00:00")
+        @NotNull(message = "대사 구간 시작은 필수입니다")
+        LocalDateTime from,
+
+        @Schema(description = "주문 생성 일시 끝 (미포함, 최근 settle-minutes 이내는 제외)", example = "2025-11-07T00:00:00")
+        @NotNull(message = "대사 구간 끝은 필수입니다")
+        LocalDateTime to
+) {
+}
@@ -0,0 +1,42 @@
+package com.sparta.ecommerce.application.payment.dto;
+
+import com.sparta.ecommerce.domain.payment.ReconciliationRunStatus;
+import com.sparta.ecommerce.domain.payment.entity.ReconciliationRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 작업 상태 응답
+ */
+public record ReconciliationRunResponse(
+        @Schema(description = "대사 작업 ID")
+        String runId,
+        @Schema(description = "작업 상태", example = "RUNNING")
+        ReconciliationRunStatus status,
+        @Schema(description = "대사 구간 시작")
+        LocalDateTime rangeFrom,
+        @Schema(description = "대사 구간 끝 (확정 구간으로 제한된 값)")
+        LocalDateTime rangeTo,
+        @Schema(description = "검사한 주문 수", example = "1200000")
+        long scannedOrders,
+        @Schema(description = "발견한 불일치 수", example = "3")
+        long discrepancyCount,
+        @Schema(description = "실패 사유")
+        String failureReason,
+        @Schema(description = "완료 일시")
+        LocalDateTime completedAt
+) {
+    public static ReconciliationRunResponse from(ReconciliationRun run) {
+        return new ReconciliationRunResponse(
+                run.getRunId(),
+                run.getStatus(),
+                run.getRangeFrom(),
+                run.getRangeTo(),
+                run.getScannedOrders(),
+                run.getDiscrepancyCount(),
+                run.getFailureReason(),
+                run.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGatewayException;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 외부 결제 승인 서비스 (예약 → 승인 → 기록)
+ *
+ * 1. 예약: 주문 트랜잭션에서 결제 대기(PENDING) 기록 (PaymentService)
+ * 2. 승인: 커밋 이후 트랜잭션 밖에서 PG 비동기 호출 (DB 커넥션 미점유)
+ * 3. 기록: PG 응답 수신 후 짧은 트랜잭션으로 결과 반영 (PaymentOutcomeRecorder)
+ *
+ * PG 호출 실패 처리:
+ * - 요청이 전달되지 않음이 확실한 경우(서킷 오픈, 동시 호출 한도 초과, 연결 실패): 거절과 동일하게 처리
+ * - 결과를 알 수 없는 경우(타임아웃 등): 결제 대기로 두고 PG 상태 조회로 확정 (PendingPaymentResolver, 이중 결제/누락 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmService {
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentOutcomeRecorder paymentOutcomeRecorder;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 결제 승인 요청 (트랜잭션 밖에서 호출)
+     *
+     * @param payment 결제 대기 상태의 결제
+     * @return 기록된 결제 상태 (결과 미확정이면 PENDING)
+     */
+    public CompletableFuture<PaymentStatus> confirm(Payment payment) {
+        PgApprovalRequest request = new PgApprovalRequest(
+                payment.getPaymentId(),
+                payment.getOrderId(),
+                payment.getAmount(),
+                payment.getMethod()
+        );
+
+        return paymentGateway.approve(request)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        if (result.approved()) {
+                            paymentOutcomeRecorder.approve(payment.getPaymentId(), result.transactionId());
+                            return record(PaymentStatus.COMPLETED);
+                        }
+                        paymentOutcomeRecorder.decline(payment.getPaymentId(), result.failureReason());
+                        return record(PaymentStatus.FAILED);
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof PaymentGatewayException gatewayException && !gatewayException.isOutcomeUnknown()) {
+                        paymentOutcomeRecorder.decline(payment.getPaymentId(), gatewayException.getMessage());
+                        return record(PaymentStatus.FAILED);
+                    }
+
+                    log.warn("PG 승인 결과 미확정 - 결제 대기 유지 (상태 조회로 확정) - paymentId={}, cause={}",
+                            payment.getPaymentId(), cause.toString());
+                    paymentOutcomeRecorder.markOutcomeUnknown(payment.getPaymentId(), cause.toString());
+                    return record(PaymentStatus.PENDING);
+                });
+    }
+
+    private PaymentStatus record(PaymentStatus status) {
+        meterRegistry.counter("payment.external.outcome", "status", status.name()).increment();
+        return status;
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.application.order.service.OrderCompletionRecorder;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.exception.OrderNotFoundException;
+import com.sparta.ecommerce.domain.order.repository.OrderItemRepository;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import com.sparta.ecommerce.domain.order.service.OrderCompensationService;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.entity.PaymentEvent;
+import com.sparta.ecommerce.domain.payment.exception.PaymentNotFoundException;
+import com.sparta.ecommerce.domain.payment.repository.PaymentEventRepository;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 외부 결제 결과 기록 서비스
+ *
+ * PG 응답을 받은 뒤 짧은 트랜잭션으로 결과만 기록
+ * - 결제 대기(PENDING)인 경우에만 상태를 바꾸는 조건부 UPDATE → 중복 응답/재시도에도 한 번만 반영
+ * - PG 거래 ID, 거절 사유 등 전이 상세는 payment_events에 추가 (payments 행은 상태 컬럼만 갱신)
+ * - 승인 시 주문 완료 기록 (ORDER_COMPLETED Outbox 이벤트 + 상품 랭킹)
+ * - 거절 시 주문 취소 + 재고/쿠폰 복구 (보상)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOutcomeRecorder {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentEventRepository paymentEventRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderCompensationService orderCompensationService;
+    private final OrderReadCacheService orderReadCacheService;
+    private final OrderCompletionRecorder orderCompletionRecorder;
+
+    /**
+     * 승인 기록 및 주문 완료 기록
+     *
+     * @return 이번 호출로 승인 처리되었으면 true (이미 확정된 결제면 false)
+     */
+    @Transactional
+    public boolean approve(String paymentId, String pgTransactionId) {
+        if (paymentRepository.completePending(paymentId, LocalDateTime.now()) != 1) {
+            log.warn("이미 확정된 결제의 승인 응답 무시 - paymentId={}, pgTransactionId={}", paymentId, pgTransactionId);
+            return false;
+        }
+
+        paymentEventRepository.save(PaymentEvent.approved(paymentId, pgTransactionId));
+
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        Order order = orderRepository.findById(payment.getOrderId())
+                .orElseThrow(() -> new OrderNotFoundException(payment.getOrderId()));
+        orderCompletionRecorder.record(order, orderItemRepository.findByOrderId(order.getOrderId()));
+        return true;
+    }
+
+    /**
+     * 거절 기록 및 주문 보상
+     *
+     * @return 이번 호출로 실패 처리되었으면 true (이미 확정된 결제면 false)
+     */
+    @Transactional
+    public boolean decline(String paymentId, String reason) {
+        if (paymentRepository.failPending(paymentId) != 1) {
+            log.warn("이미 확정된 결제의 거절 응답 무시 - paymentId={}, reason={}", paymentId, reason);
+            return false;
+        }
+        paymentEventRepository.save(PaymentEvent.declined(paymentId, reason));
+
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        Order order = orderRepository.findById(payment.getOrderId())
+                .orElseThrow(() -> new OrderNotFoundException(payment.getOrderId()));
+
+        orderRepository.cancelAllByIds(List.of(order.getOrderId()));
+        orderCompensationService.restoreStock(List.of(order.getOrderId()));
+        orderCompensationService.releaseCoupons(List.of(order));
+        orderReadCacheService.invalidateAfterCommit(List.of(order));
+
+        log.info("외부 결제 거절 - 주문 취소 및 재고/쿠폰 복구 - paymentId={}, orderId={}, reason={}",
+                paymentId, order.getOrderId(), reason);
+        return true;
+    }
+
+    /**
+     * 결과 미확정 기록 (타임아웃 등)
+     * 결제 상태는 PENDING 그대로 두고 이력만 추가 → PG 상태 조회로 확정 (PendingPaymentResolver)
+     */
+    @Transactional
+    public void markOutcomeUnknown(String paymentId, String cause) {
+        paymentEventRepository.save(PaymentEvent.outcomeUnknown(paymentId, cause));
+    }
+}
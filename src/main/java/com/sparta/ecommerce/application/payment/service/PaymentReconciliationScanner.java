@@ -0,0 +1,286 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.domain.payment.DiscrepancyType;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+import com.sparta.ecommerce.infrastructure.jpa.id.TsidGenerator;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 주문 ID 구간 하나에 대한 결제 대사 (merge join)
+ *
+ * orders / payments / balance_history(차감, 환불)를 각각 주문 ID 순으로 스트리밍하면서
+ * 가장 작은 키부터 한 주문씩 맞춰 비교 → 구간 크기와 무관하게 메모리 사용량 일정
+ *
+ * - 스트림마다 별도 커넥션 + 전진 전용(TYPE_FORWARD_ONLY) 커서 + fetch size
+ * - 일반 SELECT(일관된 읽기)만 사용하므로 운영 테이블에 락을 걸지 않음
+ * - 잔액 이력은 거래 ID("ORDER-{주문ID}", "REFUND-{주문ID}") 범위 스캔으로 주문 ID 순서를 맞춤
+ */
+class PaymentReconciliationScanner {
+
+    static final String DEBIT_TRANSACTION_PREFIX = "ORDER-";
+    static final String REFUND_TRANSACTION_PREFIX = "REFUND-";
+
+    private static final String ORDERS_SQL =
+            "SELECT id, final_amount FROM orders WHERE id >= ? AND id < ? ORDER BY id";
+
+    private static final String PAYMENTS_SQL =
+            "SELECT order_id, method, status, amount FROM payments WHERE order_id >= ? AND order_id < ? ORDER BY order_id, id";
+
+    private static final String HISTORY_SQL =
+            "SELECT transaction_id, amount FROM balance_history WHERE transaction_id >= ? AND transaction_id < ? ORDER BY transaction_id";
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+    private final int flushSize;
+
+    PaymentReconciliationScanner(DataSource dataSource, int fetchSize, int flushSize) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+        this.flushSize = flushSize;
+    }
+
+    record OrderRow(String orderId, long finalAmount) {}
+
+    record PaymentRow(String orderId, PaymentMethod method, PaymentStatus status, long amount) {}
+
+    record HistoryRow(String orderId, long amount) {}
+
+    /**
+     * 불일치 한 건 (저장 전)
+     */
+    record Finding(DiscrepancyType type, Long expectedAmount, Long actualAmount, String detail) {}
+
+    /**
+     * 구간 대사 결과
+     */
+    record SliceResult(long scannedOrders, long discrepancyCount) {}
+
+    /**
+     * 주문 ID 구간 [fromId, toId) 대사
+     *
+     * @param runId 대사 작업 ID
+     * @param sink  불일치 저장 (flushSize 단위로 호출)
+     */
+    SliceResult scan(String runId, String fromId, String toId, Consumer<List<PaymentDiscrepancy>> sink) throws SQLException {
+        long scannedOrders = 0;
+        long discrepancyCount = 0;
+        List<PaymentDiscrepancy> buffer = new ArrayList<>(flushSize);
+
+        try (Cursor<OrderRow> orders = new Cursor<>(ORDERS_SQL, fromId, toId,
+                     (rs, n) -> new OrderRow(rs.getString("id"), rs.getLong("final_amount")), OrderRow::orderId);
+             Cursor<PaymentRow> payments = new Cursor<>(PAYMENTS_SQL, fromId, toId,
+                     (rs, n) -> new PaymentRow(rs.getString("order_id"),
+                             PaymentMethod.valueOf(rs.getString("method")),
+                             PaymentStatus.valueOf(rs.getString("status")),
+                             rs.getLong("amount")), PaymentRow::orderId);
+             Cursor<HistoryRow> debits = historyCursor(DEBIT_TRANSACTION_PREFIX, fromId, toId);
+             Cursor<HistoryRow> refunds = historyCursor(REFUND_TRANSACTION_PREFIX, fromId, toId)) {
+
+            String orderId;
+            while ((orderId = minKey(orders.key(), payments.key(), debits.key(), refunds.key())) != null) {
+                OrderRow order = orders.takeIf(orderId);
+                List<PaymentRow> orderPayments = payments.takeAll(orderId);
+                HistoryRow debit = debits.takeIf(orderId);
+                HistoryRow refund = refunds.takeIf(orderId);
+                if (order != null) {
+                    scannedOrders++;
+                }
+
+                List<Finding> findings = new ArrayList<>(1);
+                compare(order, orderPayments, debit, refund, findings::add);
+                for (Finding finding : findings) {
+                    buffer.add(toDiscrepancy(runId, orderId, finding));
+                }
+
+                if (buffer.size() >= flushSize) {
+                    discrepancyCount += flush(buffer, sink);
+                }
+            }
+        }
+
+        discrepancyCount += flush(buffer, sink);
+        return new SliceResult(scannedOrders, discrepancyCount);
+    }
+
+    /**
+     * 주문 한 건의 orders / payments / balance_history 비교
+     *
+     * @param order    주문 (없으면 null)
+     * @param payments 주문의 결제 기록
+     * @param debit    잔액 차감 이력 (없으면 null)
+     * @param refund   잔액 환불 이력 (없으면 null)
+     * @param out      발견한 불일치
+     */
+    static void compare(OrderRow order, List<PaymentRow> payments, HistoryRow debit, HistoryRow refund,
+                        Consumer<Finding> out) {
+        if (order == null) {
+            payments.forEach(payment -> out.accept(new Finding(DiscrepancyType.ORPHAN_PAYMENT,
+                    null, payment.amount(), "주문 없음 (결제 " + payment.status() + ")")));
+            if (payments.isEmpty() && debit != null) {
+                out.accept(new Finding(DiscrepancyType.ORPHAN_BALANCE_DEBIT, null, debit.amount(), "주문 없음"));
+            }
+            return;
+        }
+
+        if (payments.isEmpty()) {
+            out.accept(new Finding(DiscrepancyType.MISSING_PAYMENT, order.finalAmount(), null, null));
+            if (debit != null) {
+                out.accept(new Finding(DiscrepancyType.ORPHAN_BALANCE_DEBIT, null, debit.amount(), "결제 기록 없음"));
+            }
+            return;
+        }
+        if (payments.size() > 1) {
+            out.accept(new Finding(DiscrepancyType.DUPLICATE_PAYMENT, 1L, (long) payments.size(), null));
+        }
+
+        PaymentRow payment = payments.get(0);
+        if (payment.amount() != order.finalAmount()) {
+            out.accept(new Finding(DiscrepancyType.AMOUNT_MISMATCH, order.finalAmount(), payment.amount(), null));
+        }
+        if (payment.status() == PaymentStatus.PENDING) {
+            out.accept(new Finding(DiscrepancyType.STALE_PENDING_PAYMENT, payment.amount(), null,
+                    payment.method().name()));
+        }
+
+        if (payment.method() != PaymentMethod.BALANCE) {
+            if (debit != null) {
+                out.accept(new Finding(DiscrepancyType.ORPHAN_BALANCE_DEBIT, null, debit.amount(),
+                        "결제 수단 " + payment.method()));
+            }
+            return;
+        }
+
+        boolean debited = payment.status() == PaymentStatus.COMPLETED || payment.status() == PaymentStatus.CANCELLED;
+        if (debited && debit == null) {
+            out.accept(new Finding(DiscrepancyType.MISSING_BALANCE_DEBIT, -payment.amount(), null, null));
+        } else if (debited && debit.amount() != -payment.amount()) {
+            out.accept(new Finding(DiscrepancyType.BALANCE_DEBIT_MISMATCH, -payment.amount(), debit.amount(), null));
+        } else if (!debited && debit != null) {
+            out.accept(new Finding(DiscrepancyType.ORPHAN_BALANCE_DEBIT, null, debit.amount(),
+                    "결제 " + payment.status()));
+        }
+
+        if (payment.status() == PaymentStatus.CANCELLED) {
+            if (refund == null) {
+                out.accept(new Finding(DiscrepancyType.MISSING_REFUND, payment.amount(), null, null));
+            } else if (refund.amount() != payment.amount()) {
+                out.accept(new Finding(DiscrepancyType.REFUND_MISMATCH, payment.amount(), refund.amount(), null));
+            }
+        }
+    }
+
+    private Cursor<HistoryRow> historyCursor(String prefix, String fromId, String toId) throws SQLException {
+        return new Cursor<>(HISTORY_SQL, prefix + fromId, prefix + toId,
+                (rs, n) -> new HistoryRow(rs.getString("transaction_id").substring(prefix.length()), rs.getLong("amount")),
+                HistoryRow::orderId);
+    }
+
+    private PaymentDiscrepancy toDiscrepancy(String runId, String orderId, Finding finding) {
+        return PaymentDiscrepancy.builder()
+                .id(TsidGenerator.getInstance().nextString())
+                .runId(runId)
+                .orderId(orderId)
+                .type(finding.type())
+                .expectedAmount(finding.expectedAmount())
+                .actualAmount(finding.actualAmount())
+                .detail(finding.detail())
+                .detectedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private long flush(List<PaymentDiscrepancy> buffer, Consumer<List<PaymentDiscrepancy>> sink) {
+        if (buffer.isEmpty()) {
+            return 0;
+        }
+        int size = buffer.size();
+        sink.accept(List.copyOf(buffer));
+        buffer.clear();
+        return size;
+    }
+
+    private static String minKey(String... keys) {
+        String min = null;
+        for (String key : keys) {
+            if (key != null && (min == null || key.compareTo(min) < 0)) {
+                min = key;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 전진 전용 스트리밍 커서 (한 행 미리 읽기)
+     */
+    private final class Cursor<T> implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final RowMapper<T> rowMapper;
+        private final Function<T, String> keyExtractor;
+        private T current;
+
+        Cursor(String sql, String from, String to, RowMapper<T> rowMapper, Function<T, String> keyExtractor)
+                throws SQLException {
+            this.rowMapper = rowMapper;
+            this.keyExtractor = keyExtractor;
+            this.connection = dataSource.getConnection();
+            try {
+                connection.setReadOnly(true);
+                statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setString(1, from);
+                statement.setString(2, to);
+                resultSet = statement.executeQuery();
+                advance();
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+
+        String key() {
+            return current != null ? keyExtractor.apply(current) : null;
+        }
+
+        T takeIf(String key) throws SQLException {
+            if (!key.equals(key())) {
+                return null;
+            }
+            T row = current;
+            advance();
+            return row;
+        }
+
+        List<T> takeAll(String key) throws SQLException {
+            List<T> rows = new ArrayList<>(1);
+            T row;
+            while ((row = takeIf(key)) != null) {
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        private void advance() throws SQLException {
+            current = resultSet.next() ? rowMapper.mapRow(resultSet, 0) : null;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+}
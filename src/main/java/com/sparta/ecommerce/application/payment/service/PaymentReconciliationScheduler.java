@@ -0,0 +1,51 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 결제 대사 Scheduler
+ *
+ * 전날 주문 전체를 대사 (여러 서버에서 동시에 실행되지 않도록 Redisson 락으로 보호)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private static final String RECONCILE_LOCK_KEY = "LOCK:payment:reconciliation";
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final RedissonClient redissonClient;
+
+    @Value("${payment.reconciliation.enabled:false}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 30 4 * * *}")
+    public void reconcileYesterday() {
+        if (!enabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            paymentReconciliationService.reconcile(yesterday.atStartOfDay(), yesterday.plusDays(1).atStartOfDay());
+        } catch (Exception e) {
+            log.error("일일 결제 대사 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
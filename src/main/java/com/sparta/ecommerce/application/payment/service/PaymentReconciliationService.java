@@ -0,0 +1,203 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationScanner.SliceResult;
+import com.sparta.ecommerce.domain.payment.entity.ReconciliationRun;
+import com.sparta.ecommerce.domain.payment.exception.ReconciliationRunNotFoundException;
+import com.sparta.ecommerce.domain.payment.repository.PaymentDiscrepancyRepository;
+import com.sparta.ecommerce.domain.payment.repository.ReconciliationRunRepository;
+import com.sparta.ecommerce.infrastructure.jpa.id.TsidGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 결제 대사 서비스 (orders.final_amount ↔ payments ↔ balance_history)
+ *
+ * 1. 대사 구간을 slice-minutes 단위 시간 구간으로 나눔
+ * 2. 시간 구간 → TSID 주문 ID 구간으로 변환 (주문 ID가 생성 시각 순이므로 created_at 인덱스 없이 PK 범위 스캔)
+ * 3. 구간별 merge join을 ForkJoinPool에서 병렬 실행 (PaymentReconciliationScanner)
+ * 4. 불일치는 flush-size 단위로 payment_discrepancies에 JDBC Batch 저장
+ *
+ * 읽기 전용 커넥션 풀을 따로 사용
+ * - 대사가 애플리케이션 커넥션 풀을 점유하지 않음
+ * - payment.reconciliation.datasource.url로 복제본(replica)을 지정하면 운영 DB에 읽기 부하도 주지 않음
+ * - 미지정 시 애플리케이션 DataSource 접속 정보(JdbcConnectionDetails) 사용
+ *   (spring.datasource.* 뿐 아니라 Testcontainers @ServiceConnection 등으로 주입된 접속 정보도 따름)
+ * - useCursorFetch=true로 fetch size 단위 서버 커서 스트리밍 (결과 전체를 메모리에 올리지 않음)
+ *
+ * 진행 중인 주문/결제로 인한 오탐을 피하기 위해 구간 끝은 (현재 - settle-minutes)로 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final int STREAMS_PER_SLICE = 4;  // orders, payments, 차감 이력, 환불 이력
+
+    private final ReconciliationRunRepository reconciliationRunRepository;
+    private final PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+    private final JdbcConnectionDetails connectionDetails;
+
+    @Value("${payment.reconciliation.datasource.url:}")
+    private String replicaUrl;
+
+    @Value("${payment.reconciliation.datasource.username:}")
+    private String replicaUsername;
+
+    @Value("${payment.reconciliation.datasource.password:}")
+    private String replicaPassword;
+
+    @Value("${payment.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    @Value("${payment.reconciliation.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${payment.reconciliation.flush-size:500}")
+    private int flushSize;
+
+    @Value("${payment.reconciliation.slice-minutes:60}")
+    private long sliceMinutes;
+
+    @Value("${payment.reconciliation.settle-minutes:10}")
+    private long settleMinutes;
+
+    private HikariDataSource readDataSource;
+    private ForkJoinPool slicePool;
+    private ExecutorService coordinator;
+
+    @PostConstruct
+    void init() {
+        // 첫 대사 실행 시 커넥션 생성 (애플리케이션 기동에 영향 없음)
+        readDataSource = new HikariDataSource();
+        readDataSource.setPoolName("reconciliation");
+        if (replicaUrl.isBlank()) {
+            readDataSource.setJdbcUrl(connectionDetails.getJdbcUrl());
+            readDataSource.setUsername(connectionDetails.getUsername());
+            readDataSource.setPassword(connectionDetails.getPassword());
+        } else {
+            readDataSource.setJdbcUrl(replicaUrl);
+            readDataSource.setUsername(replicaUsername);
+            readDataSource.setPassword(replicaPassword);
+        }
+        readDataSource.setReadOnly(true);
+        readDataSource.setMinimumIdle(0);
+        readDataSource.setMaximumPoolSize(parallelism * STREAMS_PER_SLICE);
+        readDataSource.addDataSourceProperty("useCursorFetch", "true");
+
+        slicePool = new ForkJoinPool(parallelism);
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        slicePool.shutdownNow();
+        readDataSource.close();
+    }
+
+    /**
+     * 대사 작업 등록 후 백그라운드 실행
+     *
+     * @param from 주문 생성 일시 시작 (포함)
+     * @param to   주문 생성 일시 끝 (미포함)
+     * @return 등록된 대사 작업
+     */
+    public ReconciliationRun start(LocalDateTime from, LocalDateTime to) {
+        ReconciliationRun run = createRun(from, to);
+        coordinator.execute(() -> execute(run));
+        return run;
+    }
+
+    /**
+     * 대사 실행 (호출 스레드에서 완료까지 대기)
+     *
+     * @param from 주문 생성 일시 시작 (포함)
+     * @param to   주문 생성 일시 끝 (미포함)
+     * @return 완료된 대사 작업
+     */
+    public ReconciliationRun reconcile(LocalDateTime from, LocalDateTime to) {
+        ReconciliationRun run = createRun(from, to);
+        execute(run);
+        return reconciliationRunRepository.findById(run.getRunId())
+                .orElseThrow(() -> new ReconciliationRunNotFoundException(run.getRunId()));
+    }
+
+    private ReconciliationRun createRun(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("대사 구간 시작은 끝보다 이전이어야 합니다");
+        }
+        LocalDateTime settledTo = LocalDateTime.now().minusMinutes(settleMinutes);
+        LocalDateTime rangeTo = to.isAfter(settledTo) ? settledTo : to;
+        if (!from.isBefore(rangeTo)) {
+            throw new IllegalArgumentException("대사 구간이 아직 확정되지 않았습니다 (최근 " + settleMinutes + "분 제외)");
+        }
+
+        return reconciliationRunRepository.save(ReconciliationRun.builder()
+                .rangeFrom(from)
+                .rangeTo(rangeTo)
+                .build());
+    }
+
+    private void execute(ReconciliationRun run) {
+        long start = System.currentTimeMillis();
+        PaymentReconciliationScanner scanner = new PaymentReconciliationScanner(readDataSource, fetchSize, flushSize);
+
+        List<Callable<SliceResult>> slices = new ArrayList<>();
+        Duration sliceLength = Duration.ofMinutes(sliceMinutes);
+        for (LocalDateTime sliceFrom = run.getRangeFrom(); sliceFrom.isBefore(run.getRangeTo()); sliceFrom = sliceFrom.plus(sliceLength)) {
+            LocalDateTime sliceTo = sliceFrom.plus(sliceLength);
+            String fromId = toIdBound(sliceFrom);
+            String toId = toIdBound(sliceTo.isBefore(run.getRangeTo()) ? sliceTo : run.getRangeTo());
+            slices.add(() -> scanner.scan(run.getRunId(), fromId, toId, paymentDiscrepancyRepository::insertAllInBatch));
+        }
+
+        try {
+            long scannedOrders = 0;
+            long discrepancyCount = 0;
+            for (Future<SliceResult> future : slicePool.invokeAll(slices)) {
+                SliceResult result = future.get();
+                scannedOrders += result.scannedOrders();
+                discrepancyCount += result.discrepancyCount();
+            }
+
+            run.complete(scannedOrders, discrepancyCount);
+            log.info("결제 대사 완료 - runId={}, range=[{}, {}), slices={}, scannedOrders={}, discrepancies={}, elapsedMs={}",
+                    run.getRunId(), run.getRangeFrom(), run.getRangeTo(), slices.size(),
+                    scannedOrders, discrepancyCount, System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail("대사 중단");
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("결제 대사 실패 - runId={}", run.getRunId(), cause);
+            run.fail(cause.getMessage());
+        }
+        reconciliationRunRepository.save(run);
+    }
+
+    private String toIdBound(LocalDateTime time) {
+        return TsidGenerator.lowerBound(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import com.sparta.ecommerce.domain.payment.gateway.PgInquiryResult;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미확정 외부 결제 확정 Scheduler
+ *
+ * PG 승인은 주문 커밋 이후 같은 노드에서 비동기로 호출되므로 아래 경우 결제가 PENDING으로 남음
+ * - 승인 응답 타임아웃 (결과 미확정)
+ * - 커밋 직후 승인 요청 전에 노드 중단
+ * → min-age-seconds 이상 PENDING인 외부 결제를 PG 결제 상태 조회로 확정
+ *
+ * PG 조회 결과별 처리:
+ * - APPROVED: 승인 기록 (주문 완료 기록 포함)
+ * - DECLINED: 거절 기록 + 주문 취소/재고/쿠폰 복구
+ * - NOT_FOUND: 승인 요청이 PG에 도달하지 않음 → 승인 재요청 (결제 ID가 멱등 키라 이중 승인 없음)
+ *              expire-after-seconds가 지나도 도달하지 않으면 거절로 확정
+ * - 조회 실패: 다음 주기에 재시도
+ *
+ * 여러 서버에서 동시에 실행되지 않도록 Redisson 락으로 보호
+ * (결과 기록은 PENDING 조건부 UPDATE라 승인 응답과 겹쳐도 한 번만 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentResolver {
+
+    private static final String RESOLVE_LOCK_KEY = "LOCK:payment:pending-resolver";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentConfirmService paymentConfirmService;
+    private final PaymentOutcomeRecorder paymentOutcomeRecorder;
+    private final RedissonClient redissonClient;
+
+    @Value("${payment.pending-resolver.enabled:true}")
+    private boolean enabled;
+
+    @Value("${payment.pending-resolver.min-age-seconds:60}")
+    private long minAgeSeconds;
+
+    @Value("${payment.pending-resolver.expire-after-seconds:1800}")
+    private long expireAfterSeconds;
+
+    @Value("${payment.pending-resolver.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${payment.pending-resolver.interval-ms:60000}")
+    public void resolvePendingPayments() {
+        if (!enabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RESOLVE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            resolve(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("미확정 외부 결제 확정 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 미확정 결제 한 배치 확정
+     *
+     * @param now 기준 시각
+     * @return 조회된 미확정 결제 수
+     */
+    int resolve(LocalDateTime now) {
+        List<Payment> payments = paymentRepository.findUnresolvedExternalPayments(
+                now.minusSeconds(minAgeSeconds), PageRequest.of(0, batchSize));
+
+        for (Payment payment : payments) {
+            try {
+                resolve(payment, now);
+            } catch (Exception e) {
+                log.warn("미확정 외부 결제 확정 보류 (다음 주기에 재시도) - paymentId={}, cause={}",
+                        payment.getPaymentId(), e.toString());
+            }
+        }
+        return payments.size();
+    }
+
+    private void resolve(Payment payment, LocalDateTime now) {
+        PgInquiryResult result = paymentGateway.inquire(payment.getPaymentId()).join();
+
+        switch (result.status()) {
+            case APPROVED -> paymentOutcomeRecorder.approve(payment.getPaymentId(), result.transactionId());
+            case DECLINED -> paymentOutcomeRecorder.decline(payment.getPaymentId(), result.failureReason());
+            case NOT_FOUND -> {
+                if (payment.getCreatedAt().isBefore(now.minusSeconds(expireAfterSeconds))) {
+                    log.warn("PG 승인 요청 미도달 결제 만료 - paymentId={}", payment.getPaymentId());
+                    paymentOutcomeRecorder.decline(payment.getPaymentId(), "PG 승인 요청 미도달 - 결제 만료");
+                    return;
+                }
+                log.info("PG 승인 요청 미도달 - 승인 재요청 - paymentId={}", payment.getPaymentId());
+                paymentConfirmService.confirm(payment).join();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.ecommerce.application.payment.usecase;
+
+import com.sparta.ecommerce.application.payment.dto.PaymentDiscrepancyResponse;
+import com.sparta.ecommerce.application.payment.dto.ReconcilePaymentsRequest;
+import com.sparta.ecommerce.application.payment.dto.ReconciliationRunResponse;
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationService;
+import com.sparta.ecommerce.domain.payment.entity.ReconciliationRun;
+import com.sparta.ecommerce.domain.payment.exception.ReconciliationRunNotFoundException;
+import com.sparta.ecommerce.domain.payment.repository.PaymentDiscrepancyRepository;
+import com.sparta.ecommerce.domain.payment.repository.ReconciliationRunRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 결제 대사 유스케이스 (관리자용)
+ *
+ * 작업만 등록하고 실제 대사는 PaymentReconciliationService가 백그라운드에서 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconcilePaymentsUseCase {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final ReconciliationRunRepository reconciliationRunRepository;
+    private final PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+
+    /**
+     * 대사 작업 등록
+     */
+    public ReconciliationRunResponse start(ReconcilePaymentsRequest request) {
+        return ReconciliationRunResponse.from(paymentReconciliationService.start(request.from(), request.to()));
+    }
+
+    /**
+     * 대사 작업 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public ReconciliationRunResponse getRun(String runId) {
+        return ReconciliationRunResponse.from(findRun(runId));
+    }
+
+    /**
+     * 대사 불일치 목록 조회 (주문 ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentDiscrepancyResponse> getDiscrepancies(String runId, int page, int size) {
+        findRun(runId);
+        return paymentDiscrepancyRepository.findByRunIdOrderByOrderIdAscIdAsc(runId, PageRequest.of(page, size)).stream()
+                .map(PaymentDiscrepancyResponse::from)
+                .toList();
+    }
+
+    private ReconciliationRun findRun(String runId) {
+        return reconciliationRunRepository.findById(runId)
+                .orElseThrow(() -> new ReconciliationRunNotFoundException(runId));
+    }
+}
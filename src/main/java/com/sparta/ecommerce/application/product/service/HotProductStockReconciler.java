@@ -0,0 +1,121 @@
+package com.sparta.ecommerce.application.product.service;
+
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 핫 상품 재고 Redis ↔ DB 정합성 Scheduler
+ *
+ * 1. Redis에서 예약된 차감분(pending)을 가져와 DB에 JDBC Batch로 일괄 반영
+ * 2. DB 재고 기준으로 Redis 재고 드리프트 보정 (Redis 재시작, 수동 재고 변경 등)
+ * 3. 비활성화된 핫 상품의 Redis 재고 키 정리
+ *
+ * 여러 서버에서 동시에 실행되지 않도록 Redisson 락으로 보호
+ * (반영 → 보정 순서가 한 스레드에서 직렬로 실행되어야 불변식 검증이 유효)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotProductStockReconciler {
+
+    private static final String RECONCILE_LOCK_KEY = "LOCK:product:hot-stock:reconcile";
+
+    private final ProductStockRedisService stockRedisService;
+    private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${product.hot-stock.enabled:false}")
+    private boolean hotStockEnabled;
+
+    /**
+     * 1초마다 pending 차감분 DB 반영 및 드리프트 보정
+     */
+    @Scheduled(fixedDelayString = "${product.hot-stock.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        if (!hotStockEnabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            flushPending();
+            repairDrift();
+        } catch (Exception e) {
+            log.error("핫 상품 재고 정합성 처리 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Redis pending 차감분 → DB 일괄 반영
+     * DB 반영 실패 시 pending을 되돌려 다음 주기에 재시도
+     */
+    private void flushPending() {
+        Map<String, Integer> pending = stockRedisService.takePending();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> clampedProductIds = productRepository.applyStockDeltaInBatch(pending);
+            if (!clampedProductIds.isEmpty()) {
+                // Redis 예약분이 DB 재고보다 많음 (DB 직접 차감과 중복 반영) → 0으로 맞추고 드리프트 보정에 맡김
+                log.warn("핫 상품 재고 DB 반영 시 재고 부족 - 0으로 보정: productIds={}, pending={}", clampedProductIds, pending);
+            }
+            log.info("핫 상품 재고 DB 반영 완료 - {}건: {}", pending.size(), pending);
+        } catch (Exception e) {
+            stockRedisService.restorePending(pending);
+            throw e;
+        }
+    }
+
+    /**
+     * Redis 재고 드리프트 보정 (Redis 재고 = DB 재고 - pending)
+     */
+    private void repairDrift() {
+        Set<String> hotProductIds = stockRedisService.getHotProductIds();
+        if (hotProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Product> products = productRepository.findByProductIdIn(List.copyOf(hotProductIds));
+        for (Product product : products) {
+            long drift = stockRedisService.repair(product.getProductId(), product.getStock().getQuantity());
+            if (drift != 0) {
+                log.warn("핫 상품 재고 드리프트 보정 - productId={}, drift={}", product.getProductId(), drift);
+            }
+        }
+    }
+
+    /**
+     * 비활성화된 핫 상품 Redis 재고 키 정리 (pending 반영 이후)
+     *
+     * @param productId 상품 ID
+     */
+    public void cleanup(String productId) {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        lock.lock();
+        try {
+            flushPending();
+            stockRedisService.removeStock(productId);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
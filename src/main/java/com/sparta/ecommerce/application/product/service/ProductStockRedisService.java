@@ -0,0 +1,295 @@
+package com.sparta.ecommerce.application.product.service;
+
+import com.sparta.ecommerce.domain.product.stock.HotStockReserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 핫 상품(선착순 한정 판매) 재고 Redis 관리 서비스
+ *
+ * 역할:
+ * - 핫 상품으로 지정된 상품의 재고를 Redis에 미러링
+ * - 장바구니 전체 라인을 Lua 스크립트 한 번으로 원자적 예약 (다중 키 검증 + 차감)
+ * - DB 반영 대기 수량(pending)을 함께 기록 → Reconciler가 비동기 일괄 반영
+ *
+ * 키 구조 (Cluster 환경에서도 같은 슬롯에 배치되도록 {hot-stock} 해시태그 사용):
+ * - product:{hot-stock}:ids          핫 상품 ID Set
+ * - product:{hot-stock}:stock:{id}   Redis 재고
+ * - product:{hot-stock}:pending      상품 ID → DB 미반영 차감 수량 (Hash)
+ *
+ * 불변식: Redis 재고 + pending = DB 재고
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockRedisService implements HotStockReserver {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String HOT_PRODUCT_SET_KEY = "product:{hot-stock}:ids";
+    private static final String STOCK_KEY_PREFIX = "product:{hot-stock}:stock:";
+    private static final String PENDING_HASH_KEY = "product:{hot-stock}:pending";
+
+    /**
+     * 다중 상품 재고 예약
+     * KEYS: 재고 키 N개 + pending 해시 키
+     * ARGV: 차감 수량 N개 + 상품 ID N개
+     * 반환: 재고 부족 상품의 인덱스 목록 (1부터 시작, 빈 목록이면 전체 차감 성공)
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            local failed = {}
+            for i = 1, n do
+                local stock = tonumber(redis.call('GET', KEYS[i]) or '-1')
+                if stock < tonumber(ARGV[i]) then
+                    table.insert(failed, i)
+                end
+            end
+            if #failed > 0 then
+                return failed
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+            end
+            return failed
+            """, List.class);
+
+    /**
+     * 예약 취소 (보상)
+     * KEYS/ARGV 구조는 RESERVE_SCRIPT와 동일
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                redis.call('INCRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+            end
+            return n
+            """, Long.class);
+
+    /**
+     * pending 수량 전체 가져오기 (가져간 필드는 삭제)
+     * 반환: [상품 ID, 수량, 상품 ID, 수량, ...]
+     */
+    private static final RedisScript<List> TAKE_PENDING_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            local taken = {}
+            for i = 1, #entries, 2 do
+                redis.call('HDEL', KEYS[1], entries[i])
+                if tonumber(entries[i + 1]) ~= 0 then
+                    table.insert(taken, entries[i])
+                    table.insert(taken, entries[i + 1])
+                end
+            end
+            return taken
+            """, List.class);
+
+    /**
+     * Redis 재고 보정 (Redis 재고 = DB 재고 - pending)
+     * KEYS: 재고 키, pending 해시 키 / ARGV: DB 재고, 상품 ID
+     * 반환: 보정 전 Redis 재고 - 기대 재고 (0이면 정상)
+     */
+    private static final RedisScript<Long> REPAIR_SCRIPT = new DefaultRedisScript<>("""
+            local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            local expected = tonumber(ARGV[1]) - pending
+            local current = tonumber(redis.call('GET', KEYS[1]) or tostring(expected))
+            redis.call('SET', KEYS[1], expected)
+            return current - expected
+            """, Long.class);
+
+    /**
+     * 핫 상품 모드 활성화 (Redis 재고 초기화)
+     *
+     * @param productId 상품 ID
+     * @param quantity  현재 DB 재고
+     */
+    public void enableHotMode(String productId, int quantity) {
+        redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, String.valueOf(quantity));
+        redisTemplate.opsForSet().add(HOT_PRODUCT_SET_KEY, productId);
+        log.info("핫 상품 모드 활성화: productId={}, quantity={}", productId, quantity);
+    }
+
+    /**
+     * 핫 상품 모드 비활성화
+     * Redis 재고 키는 남은 pending이 DB에 반영된 뒤 Reconciler가 정리
+     *
+     * @param productId 상품 ID
+     */
+    public void disableHotMode(String productId) {
+        redisTemplate.opsForSet().remove(HOT_PRODUCT_SET_KEY, productId);
+        log.info("핫 상품 모드 비활성화: productId={}", productId);
+    }
+
+    /**
+     * 주어진 상품 중 핫 상품 필터링 (SMISMEMBER 1회)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 핫 상품 ID 집합
+     */
+    @Override
+    public Set<String> findHotProductIds(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        Map<Object, Boolean> membership = redisTemplate.opsForSet()
+                .isMember(HOT_PRODUCT_SET_KEY, productIds.toArray());
+
+        Set<String> hotProductIds = new HashSet<>();
+        if (membership != null) {
+            membership.forEach((productId, isMember) -> {
+                if (Boolean.TRUE.equals(isMember)) {
+                    hotProductIds.add((String) productId);
+                }
+            });
+        }
+        return hotProductIds;
+    }
+
+    /**
+     * 전체 핫 상품 ID 조회
+     */
+    public Set<String> getHotProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(HOT_PRODUCT_SET_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    /**
+     * 재고 원자적 예약 (전체 성공 또는 전체 실패)
+     *
+     * @param amounts 상품 ID → 차감 수량
+     * @return 재고 부족 상품 ID 목록 (빈 리스트면 예약 성공)
+     */
+    public List<String> reserve(Map<String, Integer> amounts) {
+        List<String> productIds = new ArrayList<>(amounts.keySet());
+        List<?> failedIndexes = redisTemplate.execute(RESERVE_SCRIPT, scriptKeys(productIds), scriptArgs(productIds, amounts));
+
+        List<String> failedProductIds = new ArrayList<>();
+        if (failedIndexes != null) {
+            for (Object index : failedIndexes) {
+                failedProductIds.add(productIds.get(((Long) index).intValue() - 1));
+            }
+        }
+        log.debug("핫 상품 재고 예약: amounts={}, failed={}", amounts, failedProductIds);
+        return failedProductIds;
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 재고 예약
+     * 예약에 성공하면 트랜잭션이 커밋되지 않을 때(롤백/커밋 실패) 예약을 취소하도록 등록
+     *
+     * @param amounts 상품 ID → 차감 수량
+     * @return 재고 부족 상품 ID 목록 (빈 리스트면 예약 성공)
+     * @throws IllegalStateException 트랜잭션 밖에서 호출 (롤백 보상을 등록할 수 없어 예약하지 않음)
+     */
+    @Override
+    public List<String> reserveForTransaction(Map<String, Integer> amounts) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("핫 상품 재고 예약은 트랜잭션 안에서만 가능합니다");
+        }
+
+        List<String> failedProductIds = reserve(amounts);
+        if (failedProductIds.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(amounts);
+                    }
+                }
+            });
+        }
+        return failedProductIds;
+    }
+
+    /**
+     * 예약 취소 (주문 트랜잭션 롤백 시 보상)
+     *
+     * @param amounts 상품 ID → 복구 수량
+     */
+    public void release(Map<String, Integer> amounts) {
+        List<String> productIds = new ArrayList<>(amounts.keySet());
+        redisTemplate.execute(RELEASE_SCRIPT, scriptKeys(productIds), scriptArgs(productIds, amounts));
+        log.info("핫 상품 재고 예약 취소: amounts={}", amounts);
+    }
+
+    /**
+     * DB 미반영 차감 수량 가져오기
+     *
+     * @return 상품 ID → 차감 수량 (음수면 DB 재고 증가 필요)
+     */
+    public Map<String, Integer> takePending() {
+        List<?> taken = redisTemplate.execute(TAKE_PENDING_SCRIPT, List.of(PENDING_HASH_KEY));
+
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        if (taken != null) {
+            for (int i = 0; i < taken.size(); i += 2) {
+                pending.put((String) taken.get(i), Integer.parseInt((String) taken.get(i + 1)));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * DB 반영 실패 시 pending 수량 되돌리기
+     *
+     * @param pending 상품 ID → 차감 수량
+     */
+    public void restorePending(Map<String, Integer> pending) {
+        pending.forEach((productId, amount) ->
+                redisTemplate.opsForHash().increment(PENDING_HASH_KEY, productId, amount));
+    }
+
+    /**
+     * Redis 재고 보정
+     *
+     * @param productId 상품 ID
+     * @param dbStock   DB 재고
+     * @return 보정 전 드리프트 (0이면 정상)
+     */
+    public long repair(String productId, int dbStock) {
+        Long drift = redisTemplate.execute(REPAIR_SCRIPT,
+                List.of(STOCK_KEY_PREFIX + productId, PENDING_HASH_KEY),
+                String.valueOf(dbStock), productId);
+        return drift != null ? drift : 0L;
+    }
+
+    /**
+     * 비활성화된 상품의 Redis 재고 키 정리
+     *
+     * @param productId 상품 ID
+     */
+    public void removeStock(String productId) {
+        redisTemplate.delete(STOCK_KEY_PREFIX + productId);
+    }
+
+    private List<String> scriptKeys(List<String> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        productIds.forEach(productId -> keys.add(STOCK_KEY_PREFIX + productId));
+        keys.add(PENDING_HASH_KEY);
+        return keys;
+    }
+
+    private Object[] scriptArgs(List<String> productIds, Map<String, Integer> amounts) {
+        Object[] args = new Object[productIds.size() * 2];
+        for (int i = 0; i < productIds.size(); i++) {
+            args[i] = String.valueOf(amounts.get(productIds.get(i)));
+            args[productIds.size() + i] = productIds.get(i);
+        }
+        return args;
+    }
+}
@@ -9,6 +9,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 상품 재고 조회 유스케이스
+ * 재고 분산 모드 상품은 Product.getStock()이 전체 버킷 재고 합계를 반환
+ */
 @Service
 @RequiredArgsConstructor
 public class GetProductStockUseCase {
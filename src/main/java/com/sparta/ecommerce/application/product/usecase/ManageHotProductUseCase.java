@@ -0,0 +1,56 @@
+package com.sparta.ecommerce.application.product.usecase;
+
+import com.sparta.ecommerce.application.product.service.HotProductStockReconciler;
+import com.sparta.ecommerce.application.product.service.ProductStockRedisService;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.sparta.ecommerce.domain.product.exception.StockModeConflictException;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 핫 상품(선착순 한정 판매) 모드 관리 유스케이스 (관리자용)
+ *
+ * - 활성화: DB 재고를 Redis에 미러링하고, 이후 주문은 Redis Lua 스크립트로 재고 예약
+ * - 비활성화: 남은 차감분을 DB에 반영한 뒤 Redis 재고 정리, 이후 주문은 DB 직접 차감
+ *
+ * 활성화 시점에 진행 중인 DB 차감:
+ * - 이미 차감한 주문: 상품 행 락 대기 → 커밋된 재고로 스냅샷 (스냅샷에 반영됨)
+ * - 아직 차감하지 않은 주문: 락 해제 후 차감하고 핫 상품 여부를 재확인 → 롤백 (OrderFacade)
+ * → 스냅샷 이후 DB 직접 차감이 남지 않아 Redis 재고와 이중 차감되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ManageHotProductUseCase {
+
+    private final ProductRepository productRepository;
+    private final ProductStockRedisService stockRedisService;
+    private final HotProductStockReconciler stockReconciler;
+
+    /**
+     * 핫 상품 모드 활성화
+     * 비관적 락으로 진행 중인 DB 차감이 끝나길 기다린 뒤, 락을 잡은 채 재고 스냅샷 + 핫 상품 등록
+     */
+    @Transactional
+    public void enable(String productId) {
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        // 재고 분산 상품은 Reconciler의 products.stock 일괄 반영과 맞지 않음
+        if (product.isStockSharded()) {
+            throw new StockModeConflictException(productId);
+        }
+
+        stockRedisService.enableHotMode(productId, product.getStock().getQuantity());
+    }
+
+    /**
+     * 핫 상품 모드 비활성화
+     */
+    public void disable(String productId) {
+        stockRedisService.disableHotMode(productId);
+        stockReconciler.cleanup(productId);
+    }
+}
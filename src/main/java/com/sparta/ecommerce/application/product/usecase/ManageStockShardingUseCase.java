@@ -0,0 +1,106 @@
+package com.sparta.ecommerce.application.product.usecase;
+
+import com.sparta.ecommerce.application.product.service.ProductStockRedisService;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import com.sparta.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.sparta.ecommerce.domain.product.exception.StockModeConflictException;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 분산(샤딩) 모드 관리 유스케이스 (관리자용)
+ *
+ * - 활성화: 상품 재고를 N개 버킷 행으로 나누어 저장, 이후 주문은 버킷 단위로 차감
+ * - 비활성화: 버킷 재고 합계를 상품 행으로 되돌리고 버킷 삭제
+ *
+ * 상품 행과 버킷 행을 모두 잠근 상태에서 전환하므로 진행 중인 차감과 겹치지 않음
+ * (전환 직전에 상품 정보를 읽은 주문은 옮겨진 재고를 보지 못해 재고 부족으로 실패할 뿐 초과 판매는 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManageStockShardingUseCase {
+
+    private static final int MAX_BUCKET_COUNT = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository stockBucketRepository;
+    private final ProductStockRedisService stockRedisService;
+
+    /**
+     * 재고 분산 모드 활성화 (이미 활성화된 경우 버킷 수 재조정)
+     *
+     * @param productId   상품 ID
+     * @param bucketCount 버킷 수 (2 ~ 64)
+     */
+    @Transactional
+    public void enable(String productId, int bucketCount) {
+        if (bucketCount < 2 || bucketCount > MAX_BUCKET_COUNT) {
+            throw new IllegalArgumentException("버킷 수는 2 이상 " + MAX_BUCKET_COUNT + " 이하여야 합니다");
+        }
+        if (!stockRedisService.findHotProductIds(List.of(productId)).isEmpty()) {
+            throw new StockModeConflictException(productId);
+        }
+
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        int totalQuantity = product.getStock().getQuantity();
+        if (product.isStockSharded()) {
+            totalQuantity = removeBuckets(productId);
+        }
+
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            int quantity = totalQuantity / bucketCount + (bucketNo < totalQuantity % bucketCount ? 1 : 0);
+            buckets.add(ProductStockBucket.builder()
+                    .productId(productId)
+                    .bucketNo(bucketNo)
+                    .quantity(quantity)
+                    .build());
+        }
+        stockBucketRepository.saveAll(buckets);
+        product.shardStock(bucketCount, totalQuantity);
+
+        log.info("재고 분산 모드 활성화: productId={}, buckets={}, quantity={}", productId, bucketCount, totalQuantity);
+    }
+
+    /**
+     * 재고 분산 모드 비활성화
+     *
+     * @param productId 상품 ID
+     */
+    @Transactional
+    public void disable(String productId) {
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        if (!product.isStockSharded()) {
+            return;
+        }
+
+        int totalQuantity = removeBuckets(productId);
+        product.mergeStock(totalQuantity);
+
+        log.info("재고 분산 모드 비활성화: productId={}, quantity={}", productId, totalQuantity);
+    }
+
+    /**
+     * 버킷을 잠그고 재고 합계 계산 후 삭제
+     */
+    private int removeBuckets(String productId) {
+        int totalQuantity = stockBucketRepository.findAllByProductIdWithLock(productId).stream()
+                .mapToInt(ProductStockBucket::getQuantity)
+                .sum();
+        stockBucketRepository.deleteAllByProductId(productId);
+        return totalQuantity;
+    }
+}
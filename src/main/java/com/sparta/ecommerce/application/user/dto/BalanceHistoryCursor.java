@@ -0,0 +1,45 @@
+package com.sparta.ecommerce.application.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 잔액 이력 페이지 커서 (마지막으로 응답한 이력의 charged_at, id)
+ *
+ * 클라이언트에는 "{chargedAt}|{id}"를 Base64 URL 인코딩한 불투명 문자열로 전달
+ *
+ * @param chargedAt 변경 일시
+ * @param id        이력 ID (같은 일시의 이력 구분)
+ */
+public record BalanceHistoryCursor(LocalDateTime chargedAt, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static BalanceHistoryCursor from(BalanceHistoryResponse history) {
+        return new BalanceHistoryCursor(history.chargedAt(), history.historyId());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static BalanceHistoryCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.lastIndexOf(DELIMITER);
+            return new BalanceHistoryCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((chargedAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
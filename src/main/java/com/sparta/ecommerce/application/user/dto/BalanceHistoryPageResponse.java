@@ -0,0 +1,19 @@
+package com.sparta.ecommerce.application.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 잔액 이력 페이지 응답 DTO (커서 기반)
+ */
+public record BalanceHistoryPageResponse(
+        @Schema(description = "잔액 이력 (최신순)")
+        List<BalanceHistoryResponse> histories,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMS0wNVQyMzozMDowMHwxMDI0")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,32 @@
+package com.sparta.ecommerce.application.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 이력 응답 DTO
+ * BalanceHistoryRepository의 키셋 조회에서 JPQL DTO Projection으로 직접 생성 (엔티티 로딩 없음)
+ */
+public record BalanceHistoryResponse(
+        @Schema(description = "이력 ID", example = "1024")
+        Long historyId,
+
+        @Schema(description = "거래 ID (충전: 요청 거래 ID, 주문: ORDER-{주문ID}, 환불: REFUND-{주문ID})", example = "ORDER-0NCT9WZ5Y1K3B")
+        String transactionId,
+
+        @Schema(description = "변경 금액 (차감은 음수)", example = "-50000")
+        Long amount,
+
+        @Schema(description = "변경 전 잔액", example = "2050000")
+        Long previousBalance,
+
+        @Schema(description = "변경 후 잔액", example = "2000000")
+        Long currentBalance,
+
+        @Schema(description = "결제 수단", example = "BALANCE")
+        String paymentMethod,
+
+        @Schema(description = "변경 일시", example = "2025-11-05T23:30:00")
+        LocalDateTime chargedAt
+) {
+}
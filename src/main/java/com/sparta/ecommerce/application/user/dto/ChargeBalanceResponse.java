@@ -33,4 +33,14 @@ public record ChargeBalanceResponse(
                 LocalDateTime.now()
         );
     }
+
+    public static ChargeBalanceResponse of(String userId, long previousBalance, long chargedAmount, long currentBalance) {
+        return new ChargeBalanceResponse(
+                userId,
+                previousBalance,
+                chargedAmount,
+                currentBalance,
+                LocalDateTime.now()
+        );
+    }
 }
@@ -0,0 +1,33 @@
+package com.sparta.ecommerce.application.user.listener;
+
+import com.sparta.ecommerce.application.user.service.UserBalanceCacheService;
+import com.sparta.ecommerce.domain.user.event.UserBalanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 잔액 변경 이벤트 리스너
+ *
+ * 도메인 서비스(잔액 결제)가 발행한 잔액 변경을 커밋 이후 잔액 캐시에 저장
+ * - 롤백된 변경은 캐시에 반영되지 않음
+ * - 저장 실패는 로그만 남김 (이전 엔트리는 다음 변경 또는 TTL로 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBalanceChangedEventListener {
+
+    private final UserBalanceCacheService userBalanceCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBalanceChanged(UserBalanceChangedEvent event) {
+        try {
+            userBalanceCacheService.put(event.userId(), event.balance(), event.version());
+        } catch (Exception e) {
+            log.error("잔액 캐시 저장 실패 - userId={}, version={}", event.userId(), event.version(), e);
+        }
+    }
+}
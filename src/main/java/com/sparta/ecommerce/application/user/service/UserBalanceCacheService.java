@@ -0,0 +1,129 @@
+package com.sparta.ecommerce.application.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 사용자 잔액 캐시 서비스 (잔액 변경 커밋 시 Write-Through)
+ *
+ * 충전/주문 직후 클라이언트가 반복 호출하는 잔액 조회를 DB 대신 Redis에서 응답
+ * - 충전(ChargeBalanceService), 일괄 환불(BulkOrderCancelService) 커밋 후 새 잔액 저장
+ * - 잔액 결제는 도메인 서비스(PaymentService)가 발행한 UserBalanceChangedEvent로 커밋 후 저장
+ * - 조회 미스 시 DB 조회 결과로 채움
+ *
+ * 키 구조: user:balance:{userId} (Hash: version, balance)
+ *
+ * 버전 = 해당 잔액을 만든 balance_history ID
+ * - 이력 INSERT는 사용자 행 락 안에서 실행되므로 사용자별로 커밋 순서 = ID 순서
+ * - 저장 시 캐시된 버전보다 클 때만 덮어씀 → 커밋 후 늦게 도착한 이전 값이 최신 값을 덮어쓰지 않음
+ *
+ * 메트릭: cache.gets{cache=user-balance, result=hit|miss}
+ */
+@Slf4j
+@Service
+public class UserBalanceCacheService {
+
+    private static final String KEY_PREFIX = "user:balance:";
+    private static final String CACHE_NAME = "user-balance";
+
+    /**
+     * 버전이 더 클 때만 저장
+     * KEYS: 잔액 키 / ARGV: 버전, 잔액, TTL(초)
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'version', ARGV[1], 'balance', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${user.balance-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public UserBalanceCacheService(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.hitCounter = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "hit");
+        this.missCounter = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "miss");
+    }
+
+    /**
+     * 잔액 조회 (Redis 장애 시 미스로 처리)
+     *
+     * @param userId 사용자 ID
+     * @return 캐시된 잔액 (미스 시 empty)
+     */
+    public OptionalLong get(String userId) {
+        Object balance = null;
+        try {
+            balance = redisTemplate.opsForHash().get(key(userId), "balance");
+        } catch (Exception e) {
+            log.warn("잔액 캐시 조회 실패 - userId={}", userId, e);
+        }
+
+        if (balance == null) {
+            missCounter.increment();
+            return OptionalLong.empty();
+        }
+        hitCounter.increment();
+        return OptionalLong.of(Long.parseLong((String) balance));
+    }
+
+    /**
+     * 잔액 저장 (캐시된 버전보다 클 때만)
+     *
+     * @param userId  사용자 ID
+     * @param balance 잔액
+     * @param version 잔액을 만든 balance_history ID (이력이 없으면 0)
+     */
+    public void put(String userId, long balance, long version) {
+        redisTemplate.execute(PUT_SCRIPT, List.of(key(userId)),
+                String.valueOf(version), String.valueOf(balance), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 잔액 변경 트랜잭션 커밋 이후 저장 등록 (트랜잭션 밖이면 즉시 저장)
+     * 저장 실패는 로그만 남김 (이전 엔트리는 다음 변경 또는 TTL로 교체)
+     */
+    public void putAfterCommit(String userId, long balance, long version) {
+        Runnable write = () -> {
+            try {
+                put(userId, balance, version);
+            } catch (Exception e) {
+                log.error("잔액 캐시 저장 실패 - userId={}, version={}", userId, version, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write.run();
+            }
+        });
+    }
+
+    private String key(String userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+}
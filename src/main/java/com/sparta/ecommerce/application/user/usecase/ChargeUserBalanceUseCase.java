@@ -18,6 +18,7 @@ import org.springframework.stereotype.Service;
  * 변경 이력:
  * - 기존: @DistributedLock 사용 (동시성 제어 불완전)
  * - 변경: Transaction ID + 원자적 UPDATE (진정한 멱등성)
+ * - 변경: 충전 이력 선기록(INSERT) + 잔액 UPDATE 2문장 (존재 확인/사용자 재조회 제거)
  */
 @Service
 @RequiredArgsConstructor
@@ -0,0 +1,50 @@
+package com.sparta.ecommerce.application.user.usecase;
+
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryCursor;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryPageResponse;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 사용자 잔액 이력 조회 유스케이스 (커서 기반 키셋 페이지네이션)
+ *
+ * - 정렬: charged_at DESC, id DESC (같은 일시의 이력은 ID로 구분)
+ * - 다음 페이지는 마지막 이력의 (charged_at, id) 커서부터 조회 → OFFSET 스캔 없이 페이지 깊이와 무관하게 일정한 비용
+ * - size + 1건을 조회하여 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class GetBalanceHistoryUseCase {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final BalanceHistoryRepository balanceHistoryRepository;
+
+    /**
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ 100)
+     */
+    public BalanceHistoryPageResponse execute(String userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        List<BalanceHistoryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = balanceHistoryRepository.findFirstPage(userId, size + 1);
+        } else {
+            BalanceHistoryCursor position = BalanceHistoryCursor.decode(cursor);
+            rows = balanceHistoryRepository.findPageBefore(userId, position.chargedAt(), position.id(), size + 1);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<BalanceHistoryResponse> histories = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? BalanceHistoryCursor.from(histories.get(size - 1)).encode() : null;
+        return new BalanceHistoryPageResponse(List.copyOf(histories), nextCursor, hasNext);
+    }
+}
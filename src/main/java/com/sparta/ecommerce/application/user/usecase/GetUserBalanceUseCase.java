@@ -2,25 +2,45 @@ package com.sparta.ecommerce.application.user.usecase;
 
 
 import com.sparta.ecommerce.application.user.dto.UserBalanceResponse;
+import com.sparta.ecommerce.application.user.service.UserBalanceCacheService;
 import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
 import com.sparta.ecommerce.domain.user.repository.UserRepository;
 import com.sparta.ecommerce.domain.user.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.OptionalLong;
+
+/**
+ * 사용자 잔액 조회 유스케이스
+ *
+ * 잔액 캐시(UserBalanceCacheService)에서 응답, 미스 시 DB 조회 후 캐시 저장
+ *
+ * [미스 시 조회 순서]
+ * - 최신 이력 ID(버전)를 먼저 읽고 잔액을 나중에 읽음
+ * - 두 조회 사이에 잔액이 바뀌어도 잔액은 버전보다 최신 → 이전 잔액이 더 높은 버전으로 저장되지 않음
+ * - 캐시 히트 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회
+ */
 @Service
 @RequiredArgsConstructor
 public class GetUserBalanceUseCase {
 
     private final UserRepository userRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final UserBalanceCacheService userBalanceCacheService;
 
-    @Transactional(readOnly = true)
     public UserBalanceResponse execute(String userId) {
+        OptionalLong cached = userBalanceCacheService.get(userId);
+        if (cached.isPresent()) {
+            return new UserBalanceResponse(userId, cached.getAsLong());
+        }
 
+        long version = balanceHistoryRepository.findLatestIdByUserId(userId).orElse(0L);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
+        userBalanceCacheService.putAfterCommit(userId, user.getBalance().amount(), version);
         return UserBalanceResponse.from(user);
     }
 }
@@ -8,14 +8,22 @@ public enum ErrorCode {
     // 상품 관련 에러
     P001("P001", "상품을 찾을 수 없습니다"),
     P002("P002", "재고가 부족합니다"),
+    P003("P003", "핫 상품 모드와 재고 분산 모드는 함께 사용할 수 없습니다"),
+    P004("P004", "상품 재고 관리 방식이 변경되었습니다. 주문을 다시 시도해주세요"),
 
     // 주문 관련 에러
     O001("O001", "유효하지 않은 주문 수량입니다"),
     O002("O002", "주문을 찾을 수 없습니다"),
+    O003("O003", "주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    O004("O004", "주문 접수 내역을 찾을 수 없습니다"),
+    O005("O005", "동일한 주문 요청을 처리 중입니다. 잠시 후 결과를 다시 조회해주세요"),
+    O006("O006", "주문 일괄 취소 작업을 찾을 수 없습니다"),
+    O007("O007", "Idempotency-Key는 1~100자로 입력해주세요"),
 
     // 결제 관련 에러
     PAY001("PAY001", "잔액이 부족합니다"),
     PAY002("PAY002", "결제 처리에 실패했습니다"),
+    PAY003("PAY003", "결제 대사 작업을 찾을 수 없습니다"),
 
     // 쿠폰 관련 에러
     C001("C001", "쿠폰이 모두 소진되었습니다"),
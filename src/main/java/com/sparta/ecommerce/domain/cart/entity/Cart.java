@@ -1,10 +1,9 @@
 package com.sparta.ecommerce.domain.cart.entity;
 
 import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -27,7 +26,7 @@ public class Cart extends BaseEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String cartId;
 
     @Column(name = "user_id", nullable = false, unique = true)
@@ -24,6 +24,12 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      */
     Optional<CartItem> findByCartIdAndProductId(String cartId, String productId);
 
+    /**
+     * 여러 사용자의 장바구니에 담긴 상품 ID 조회 (중복 제거)
+     */
+    @Query("SELECT DISTINCT ci.productId FROM CartItem ci, Cart c WHERE ci.cartId = c.cartId AND c.userId IN :userIds")
+    List<String> findProductIdsByUserIds(@Param("userIds") List<String> userIds);
+
     /**
      * 장바구니의 모든 항목 삭제 (장바구니 비우기)
      */
@@ -0,0 +1,12 @@
+package com.sparta.ecommerce.domain.coupon;
+
+public enum CouponIssueStatus {
+    PENDING,        // 발급 처리 대기
+    ISSUED,         // 발급 완료
+    DUPLICATE,      // 이미 발급받은 쿠폰 (보유 중)
+    SOLD_OUT,       // 재고 소진으로 발급 실패
+    EXPIRED,        // 만료된 쿠폰
+    INVALID,        // 존재하지 않는 쿠폰
+    FAILED,         // 처리 오류 (다시 요청 가능)
+    NOT_REQUESTED   // 발급 요청 없음 (또는 결과 보관 기간 만료)
+}
@@ -3,13 +3,12 @@ package com.sparta.ecommerce.domain.coupon.entity;
 import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
 import com.sparta.ecommerce.domain.coupon.DiscountType;
 import com.sparta.ecommerce.domain.coupon.vo.CouponStock;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -17,6 +16,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 import java.time.LocalDateTime;
 
@@ -33,7 +33,7 @@ public class Coupon extends BaseEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String couponId;
 
     @Column(name = "name", nullable = false)
@@ -55,6 +55,40 @@ public class Coupon extends BaseEntity {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    /**
+     * 재고 버킷 수 (0이면 일반 쿠폰, 2 이상이면 버킷 쿠폰)
+     * 버킷 쿠폰은 생성 시 재고 전체를 coupon_stock_buckets로 옮기므로 coupons 행은 (총 수량, 총 수량, 0)으로 고정
+     */
+    @Column(name = "stock_bucket_count", nullable = false, columnDefinition = "int default 0")
+    private int stockBucketCount;
+
+    /**
+     * 재고 버킷 남은 수량 합계 (조회 시점 값, 버킷 쿠폰일 때만 계산)
+     */
+    @Formula("(CASE WHEN stock_bucket_count > 0 THEN "
+            + "(SELECT COALESCE(SUM(b.remaining_quantity), 0) FROM coupon_stock_buckets b WHERE b.coupon_id = id) "
+            + "ELSE 0 END)")
+    private int bucketRemainingQuantity;
+
+    /**
+     * 재고 조회
+     * 버킷 쿠폰이면 모든 버킷의 남은 수량 합계로 계산
+     */
+    public CouponStock getStock() {
+        if (isStockBucketed()) {
+            int total = stock.getTotalQuantity();
+            return new CouponStock(total, total - bucketRemainingQuantity, bucketRemainingQuantity);
+        }
+        return stock;
+    }
+
+    /**
+     * 버킷 쿠폰 여부
+     */
+    public boolean isStockBucketed() {
+        return stockBucketCount > 0;
+    }
+
     /**
      * 발급 가능한 쿠폰인지 확인
      */
@@ -66,7 +100,7 @@ public class Coupon extends BaseEntity {
      * 재고가 남아있는지 확인
      */
     public boolean hasStock() {
-        return stock.hasStock();
+        return getStock().hasStock();
     }
 
     /**
@@ -109,6 +143,7 @@ public class Coupon extends BaseEntity {
                 .stock(newStock)
                 .minOrderAmount(this.minOrderAmount)
                 .expiresAt(this.expiresAt)
+                .stockBucketCount(this.stockBucketCount)
                 .build();
     }
 }
@@ -0,0 +1,45 @@
+package com.sparta.ecommerce.domain.coupon.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰 재고 버킷 엔티티
+ *
+ * 버킷 쿠폰의 재고를 K개 행으로 나누어 저장
+ * → 버킷마다 다른 Kafka 파티션(메시지 키 couponId#bucket)에서 차감하여 단일 행/단일 파티션 병목 제거
+ */
+@Entity
+@Table(name = "coupon_stock_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_stock_bucket", columnNames = {"coupon_id", "bucket_no"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CouponStockBucket {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bucketId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private String couponId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(name = "remaining_quantity", nullable = false)
+    private int remainingQuantity;
+}
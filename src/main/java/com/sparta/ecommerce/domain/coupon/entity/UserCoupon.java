@@ -1,14 +1,14 @@
 package com.sparta.ecommerce.domain.coupon.entity;
 
 import com.sparta.ecommerce.domain.coupon.CouponStatus;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,12 +20,18 @@ import java.time.LocalDateTime;
 
 /**
  * 사용자별 쿠폰 발급 이력 엔티티
+ *
+ * (user_id, coupon_id) unique 제약으로 사용자당 쿠폰 1장 보장
+ * - 일괄 발급(CouponBatchIssueService)은 존재 확인 조회 없이 이 제약으로 중복을 걸러냄
  */
 @Entity
-@Table(name = "user_coupons", indexes = {
-        @Index(name = "idx_user_coupons_user_coupon", columnList = "user_id, coupon_id"),
-        @Index(name = "idx_user_coupons_user_id", columnList = "user_id")
-})
+@Table(name = "user_coupons",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_coupons_user_coupon", columnNames = {"user_id", "coupon_id"})  // 중복 발급 차단
+        },
+        indexes = {
+                @Index(name = "idx_user_coupons_user_id", columnList = "user_id")
+        })
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,7 +40,7 @@ public class UserCoupon {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String userCouponId;
 
     @Column(name = "user_id", nullable = false)
@@ -63,12 +69,19 @@ public class UserCoupon {
      * 쿠폰 발급
      */
     public static UserCoupon issue(String userId, Coupon coupon) {
+        return issue(userId, coupon.getCouponId(), coupon.getExpiresAt());
+    }
+
+    /**
+     * 쿠폰 발급 (쿠폰 엔티티 없이 ID와 만료 일시로)
+     */
+    public static UserCoupon issue(String userId, String couponId, LocalDateTime expiresAt) {
         return UserCoupon.builder()
                 .userId(userId)
-                .couponId(coupon.getCouponId())
+                .couponId(couponId)
                 .issuedAt(LocalDateTime.now())
                 .usedAt(null)
-                .expiresAt(coupon.getExpiresAt())
+                .expiresAt(expiresAt)
                 .build();
     }
 
@@ -27,8 +27,9 @@ public interface CouponRepository extends JpaRepository<Coupon, String> {
 
     /**
      * 발급 가능한 쿠폰 조회 (재고 있고 만료되지 않은 쿠폰)
+     * 버킷 쿠폰은 coupons 행에 남은 수량이 없으므로 함께 조회 → 호출 측에서 getStock()으로 재고 확인
      */
-    @Query("SELECT c FROM Coupon c WHERE c.stock.remainingQuantity > 0 AND c.expiresAt > :now")
+    @Query("SELECT c FROM Coupon c WHERE (c.stock.remainingQuantity > 0 OR c.stockBucketCount > 0) AND c.expiresAt > :now")
     List<Coupon> findAvailableCoupons(@Param("now") LocalDateTime now);
 
     /**
@@ -43,4 +44,17 @@ public interface CouponRepository extends JpaRepository<Coupon, String> {
            "c.stock.remainingQuantity = c.stock.remainingQuantity - 1 " +
            "WHERE c.couponId = :couponId AND c.stock.remainingQuantity > 0")
     int issueCoupon(@Param("couponId") String couponId);
+
+    /**
+     * 쿠폰 일괄 발급 (재고 quantity만큼 한 번에 차감) - 원자적 UPDATE 쿼리
+     *
+     * @param couponId 쿠폰 ID
+     * @param quantity 발급 수량
+     * @return 업데이트된 행 수 (0이면 재고 부족, 1이면 성공)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.stock.issuedQuantity = c.stock.issuedQuantity + :quantity, " +
+           "c.stock.remainingQuantity = c.stock.remainingQuantity - :quantity " +
+           "WHERE c.couponId = :couponId AND c.stock.remainingQuantity >= :quantity")
+    int issueCoupons(@Param("couponId") String couponId, @Param("quantity") int quantity);
 }
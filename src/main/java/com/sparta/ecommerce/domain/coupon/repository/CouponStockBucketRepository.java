@@ -0,0 +1,54 @@
+package com.sparta.ecommerce.domain.coupon.repository;
+
+import com.sparta.ecommerce.domain.coupon.entity.CouponStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿠폰 재고 버킷 저장소 인터페이스
+ */
+public interface CouponStockBucketRepository extends JpaRepository<CouponStockBucket, Long> {
+
+    /**
+     * 버킷 조회 (비관적 락)
+     * 일괄 발급 시 남은 재고 확인 후 한 번에 차감
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM CouponStockBucket b WHERE b.couponId = :couponId AND b.bucketNo = :bucketNo")
+    Optional<CouponStockBucket> findByCouponIdAndBucketNoWithLock(@Param("couponId") String couponId,
+                                                                 @Param("bucketNo") int bucketNo);
+
+    /**
+     * 쿠폰의 재고 버킷 조회 (버킷 번호 오름차순)
+     */
+    List<CouponStockBucket> findByCouponIdOrderByBucketNo(String couponId);
+
+    /**
+     * 쿠폰의 전체 버킷 남은 재고 합계
+     * 버킷 하나가 비었을 때 쿠폰 전체 소진 여부 확인용
+     */
+    @Query("SELECT COALESCE(SUM(b.remainingQuantity), 0) FROM CouponStockBucket b WHERE b.couponId = :couponId")
+    long sumRemainingQuantity(@Param("couponId") String couponId);
+
+    /**
+     * 버킷 재고 차감 - 원자적 UPDATE 쿼리
+     *
+     * @param couponId 쿠폰 ID
+     * @param bucketNo 버킷 번호
+     * @param quantity 발급 수량
+     * @return 업데이트된 행 수 (0이면 버킷 재고 부족, 1이면 성공)
+     */
+    @Modifying
+    @Query("UPDATE CouponStockBucket b SET b.remainingQuantity = b.remainingQuantity - :quantity " +
+           "WHERE b.couponId = :couponId AND b.bucketNo = :bucketNo AND b.remainingQuantity >= :quantity")
+    int issueFromBucket(@Param("couponId") String couponId,
+                        @Param("bucketNo") int bucketNo,
+                        @Param("quantity") int quantity);
+}
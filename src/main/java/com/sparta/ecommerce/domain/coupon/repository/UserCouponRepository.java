@@ -4,6 +4,7 @@ import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,7 +13,7 @@ import java.util.List;
 /**
  * 사용자 쿠폰 저장소 인터페이스
  */
-public interface UserCouponRepository extends JpaRepository<UserCoupon, String> {
+public interface UserCouponRepository extends JpaRepository<UserCoupon, String>, UserCouponRepositoryCustom {
 
     /**
      * 사용자 ID로 쿠폰 목록 조회
@@ -40,4 +41,15 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, String>
      */
     java.util.Optional<UserCoupon> findByUserIdAndCouponId(String userId, String couponId);
 
+    /**
+     * 쿠폰 사용 일괄 복구 (주문 취소 시)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  사용자 ID 목록
+     * @return 복구된 사용자 쿠폰 수
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.usedAt = NULL WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    int releaseAll(@Param("couponId") String couponId, @Param("userIds") List<String> userIds);
+
 }
@@ -0,0 +1,26 @@
+package com.sparta.ecommerce.domain.coupon.repository;
+
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 쿠폰 저장소 커스텀 인터페이스
+ */
+public interface UserCouponRepositoryCustom {
+
+    /**
+     * 사용자 쿠폰 일괄 발급 (JDBC Batch INSERT)
+     *
+     * - 이미 발급받은 사용자는 unique(user_id, coupon_id) 제약으로 건너뜀 (ON DUPLICATE KEY, 예외 없음)
+     * - rewriteBatchedStatements 사용 시 행별 결과를 받을 수 없으므로
+     *   이번에 발급한 ID로 다시 조회해 실제 저장된 사용자를 확인
+     *
+     * @param couponId  쿠폰 ID
+     * @param expiresAt 쿠폰 만료 일시
+     * @param userIds   사용자 ID 목록 (중복 없음)
+     * @return 실제로 발급된 사용자 ID
+     */
+    Set<String> insertAllIgnoringDuplicates(String couponId, LocalDateTime expiresAt, List<String> userIds);
+}
@@ -0,0 +1,60 @@
+package com.sparta.ecommerce.domain.coupon.repository;
+
+import com.sparta.ecommerce.infrastructure.jpa.id.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 쿠폰 저장소 커스텀 구현체
+ *
+ * JdbcTemplate은 JPA 트랜잭션의 커넥션을 그대로 사용하므로
+ * 호출한 트랜잭션 롤백 시 함께 롤백됨
+ */
+@RequiredArgsConstructor
+public class UserCouponRepositoryCustomImpl implements UserCouponRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_coupons (id, user_id, coupon_id, issued_at, used_at, expires_at)
+            VALUES (?, ?, ?, ?, NULL, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String SELECT_INSERTED_USER_IDS_SQL =
+            "SELECT user_id FROM user_coupons WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Set<String> insertAllIgnoringDuplicates(String couponId, LocalDateTime expiresAt, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Timestamp issuedAt = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiresAtValue = Timestamp.valueOf(expiresAt);
+        List<String> ids = new ArrayList<>(userIds.size());
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            String id = TsidGenerator.getInstance().nextString();
+            ids.add(id);
+            rows.add(new Object[]{id, userId, couponId, issuedAt, expiresAtValue});
+        }
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, rows);
+
+        Set<String> inserted = new HashSet<>();
+        namedParameterJdbcTemplate.query(SELECT_INSERTED_USER_IDS_SQL,
+                new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    inserted.add(rs.getString("user_id"));
+                });
+        return inserted;
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.ecommerce.domain.order;
+
+public enum OrderCancelJobStatus {
+    RUNNING,    // 진행 중 (Scheduler가 체크포인트부터 이어서 처리)
+    COMPLETED,  // 완료
+    FAILED      // 연속 실패로 중단 (관리자 재개 필요)
+}
@@ -0,0 +1,8 @@
+package com.sparta.ecommerce.domain.order;
+
+public enum OrderTicketStatus {
+    PENDING,    // 처리 대기
+    PROCESSING, // 처리 중 (Consumer가 선점)
+    COMPLETED,  // 주문 완료
+    FAILED      // 주문 실패
+}
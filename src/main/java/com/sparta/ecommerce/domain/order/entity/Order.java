@@ -2,15 +2,15 @@ package com.sparta.ecommerce.domain.order.entity;
 
 import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
 import com.sparta.ecommerce.domain.order.OrderStatus;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +26,10 @@ import java.time.LocalDateTime;
 @Table(name = "orders", indexes = {
         @Index(name = "idx_orders_status_created_at", columnList = "status, created_at"),
         @Index(name = "idx_orders_user_id", columnList = "user_id"),
-        @Index(name = "idx_orders_user_id_status", columnList = "user_id, status")
+        @Index(name = "idx_orders_user_id_status", columnList = "user_id, status"),
+        @Index(name = "idx_orders_user_coupon_id_created_at", columnList = "user_coupon_id, created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_orders_user_id_idempotency_key", columnNames = {"user_id", "idempotency_key"})
 })
 @Getter
 @Builder
@@ -36,7 +39,7 @@ public class Order extends BaseEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String orderId;
 
     @Column(name = "user_id", nullable = false)
@@ -62,4 +65,10 @@ public class Order extends BaseEntity {
 
     @Column(name = "paid_at")
     private LocalDateTime paidAt;
+
+    /**
+     * Idempotency-Key 헤더로 요청된 주문의 멱등성 키 (사용자별 유일, 없으면 null)
+     */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
 }
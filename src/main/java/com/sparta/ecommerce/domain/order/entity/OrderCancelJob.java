@@ -0,0 +1,123 @@
+package com.sparta.ecommerce.domain.order.entity;
+
+import com.sparta.ecommerce.domain.order.OrderCancelJobStatus;
+import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 일괄 취소 작업 엔티티
+ *
+ * 필터 조건과 처리 체크포인트(마지막으로 처리한 주문 ID)를 보관
+ * - 주문 ID는 시간 순 TSID이므로 ID 오름차순 키셋 순회로 청크 단위 처리
+ * - 체크포인트는 청크의 취소/환불과 같은 트랜잭션에서 갱신 → 서버 장애 후 중복/누락 없이 재개
+ */
+@Entity
+@Table(name = "order_cancel_jobs", indexes = {
+        @Index(name = "idx_order_cancel_jobs_status", columnList = "status")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderCancelJob extends BaseEntity {
+
+    @Id
+    @Column(name = "id")
+    @TimeOrderedId
+    private String jobId;
+
+    @Column(name = "coupon_id")
+    private String couponId;  // 쿠폰(프로모션) 필터 (nullable)
+
+    @Column(name = "created_from", nullable = false)
+    private LocalDateTime createdFrom;
+
+    @Column(name = "created_to", nullable = false)
+    private LocalDateTime createdTo;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private OrderCancelJobStatus status = OrderCancelJobStatus.RUNNING;
+
+    @Column(name = "last_order_id", nullable = false)
+    @Builder.Default
+    private String lastOrderId = "";  // 체크포인트 (이 ID 이후부터 처리)
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;  // 연속 실패 횟수
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 청크 처리 결과 반영 (체크포인트 전진)
+     */
+    public void advance(String lastOrderId, int cancelledCount, long refundedAmount) {
+        this.lastOrderId = lastOrderId;
+        this.cancelledCount += cancelledCount;
+        this.refundedAmount += refundedAmount;
+        this.failureCount = 0;
+        this.failureReason = null;
+    }
+
+    /**
+     * 작업 완료 처리
+     */
+    public void complete() {
+        this.status = OrderCancelJobStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 실패 기록 (연속 실패가 maxFailures에 도달하면 중단)
+     */
+    public void recordFailure(String reason, int maxFailures) {
+        this.failureCount++;
+        this.failureReason = reason;
+        if (this.failureCount >= maxFailures) {
+            this.status = OrderCancelJobStatus.FAILED;
+        }
+    }
+
+    /**
+     * 중단된 작업 재개 (체크포인트 유지, 중단 상태가 아니면 무시)
+     */
+    public void resume() {
+        if (this.status != OrderCancelJobStatus.FAILED) {
+            return;
+        }
+        this.status = OrderCancelJobStatus.RUNNING;
+        this.failureCount = 0;
+    }
+
+    public boolean isRunning() {
+        return status == OrderCancelJobStatus.RUNNING;
+    }
+}
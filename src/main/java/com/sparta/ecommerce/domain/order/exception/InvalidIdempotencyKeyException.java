@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.order.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * Idempotency-Key 헤더 값이 비어 있거나 너무 길 때 발생하는 예외
+ */
+public class InvalidIdempotencyKeyException extends BusinessException {
+    public InvalidIdempotencyKeyException() {
+        super(ErrorCode.O007);
+    }
+}
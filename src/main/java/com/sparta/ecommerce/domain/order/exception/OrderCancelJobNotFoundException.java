@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.order.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 주문 일괄 취소 작업을 찾을 수 없을 때 발생하는 예외
+ */
+public class OrderCancelJobNotFoundException extends BusinessException {
+    public OrderCancelJobNotFoundException(String jobId) {
+        super(ErrorCode.O006, "주문 일괄 취소 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.order.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 같은 Idempotency-Key의 주문 요청이 아직 처리 중일 때 발생하는 예외
+ */
+public class OrderInProgressException extends BusinessException {
+    public OrderInProgressException() {
+        super(ErrorCode.O005);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.order.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 주문 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 예외
+ */
+public class OrderQueueFullException extends BusinessException {
+    public OrderQueueFullException() {
+        super(ErrorCode.O003);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.order.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 주문 접수 티켓을 찾을 수 없을 때 발생하는 예외 (미존재 또는 보관 기간 만료)
+ */
+public class OrderTicketNotFoundException extends BusinessException {
+    public OrderTicketNotFoundException(String ticketId) {
+        super(ErrorCode.O004, "주문 접수 내역을 찾을 수 없습니다: " + ticketId);
+    }
+}
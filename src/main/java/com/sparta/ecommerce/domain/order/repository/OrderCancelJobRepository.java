@@ -0,0 +1,18 @@
+package com.sparta.ecommerce.domain.order.repository;
+
+import com.sparta.ecommerce.domain.order.OrderCancelJobStatus;
+import com.sparta.ecommerce.domain.order.entity.OrderCancelJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 취소 작업 Repository 인터페이스
+ */
+public interface OrderCancelJobRepository extends JpaRepository<OrderCancelJob, String> {
+
+    /**
+     * 상태로 작업 목록 조회 (생성 순)
+     */
+    List<OrderCancelJob> findByStatusOrderByJobId(OrderCancelJobStatus status);
+}
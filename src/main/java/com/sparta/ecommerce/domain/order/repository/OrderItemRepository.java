@@ -19,6 +19,11 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     List<OrderItem> findByOrderId(String orderId);
 
+    /**
+     * 여러 주문의 주문 항목 조회
+     */
+    List<OrderItem> findByOrderIdIn(List<String> orderIds);
+
     /**
      * 상품 ID로 주문 항목 목록 조회 (인기 상품 분석용)
      */
@@ -4,12 +4,16 @@ import com.sparta.ecommerce.domain.order.OrderStatus;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 주문 Repository 인터페이스
@@ -36,9 +40,66 @@ public interface OrderRepository extends JpaRepository<Order, String> {
      */
     Page<Order> findByUserIdAndStatus(String userId, OrderStatus status, Pageable pageable);
 
+    /**
+     * 사용자 ID와 멱등성 키로 주문 조회
+     */
+    Optional<Order> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
     /**
      * 특정 날짜 이후의 주문 목록 조회
      */
     @Query("SELECT o FROM Order o WHERE o.createdAt >= :startDate")
     List<Order> findByCreatedAtAfter(@Param("startDate") LocalDateTime startDate);
+
+    /**
+     * 일괄 취소 대상 주문 ID 조회 (잠금 없음, 주문 ID 오름차순 키셋)
+     * 외부 결제(카드/간편결제) 주문은 PG 취소가 필요하므로 제외 (잔액 결제 주문만 대상)
+     *
+     * 잠금 조회로 범위를 스캔하면 조건에 맞지 않는 행까지 락이 걸리므로 ID만 먼저 조회하고
+     * findCancelTargetsWithLock()으로 PK 잠금
+     *
+     * @param afterOrderId 체크포인트 (이 ID보다 큰 주문부터 조회)
+     * @param couponId     쿠폰 필터 (null이면 전체)
+     * @param createdFrom  주문 생성 일시 시작 (포함)
+     * @param createdTo    주문 생성 일시 끝 (미포함)
+     * @param pageable     청크 크기
+     */
+    @Query("""
+        SELECT o.orderId FROM Order o
+        WHERE o.orderId > :afterOrderId
+          AND o.status <> com.sparta.ecommerce.domain.order.OrderStatus.CANCELLED
+          AND o.createdAt >= :createdFrom AND o.createdAt < :createdTo
+          AND (:couponId IS NULL OR o.userCouponId = :couponId)
+          AND NOT EXISTS (
+              SELECT 1 FROM Payment p
+              WHERE p.orderId = o.orderId
+                AND p.method <> com.sparta.ecommerce.domain.payment.PaymentMethod.BALANCE
+          )
+        ORDER BY o.orderId
+        """)
+    List<String> findCancelTargetIds(@Param("afterOrderId") String afterOrderId,
+                                     @Param("couponId") String couponId,
+                                     @Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo,
+                                     Pageable pageable);
+
+    /**
+     * 일괄 취소 대상 주문 잠금 (PK 조회, 비관적 락)
+     * ID 조회 이후 취소된 주문은 제외
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT o FROM Order o
+        WHERE o.orderId IN :orderIds
+          AND o.status <> com.sparta.ecommerce.domain.order.OrderStatus.CANCELLED
+        ORDER BY o.orderId
+        """)
+    List<Order> findCancelTargetsWithLock(@Param("orderIds") List<String> orderIds);
+
+    /**
+     * 주문 일괄 취소 처리
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = com.sparta.ecommerce.domain.order.OrderStatus.CANCELLED WHERE o.orderId IN :orderIds")
+    int cancelAllByIds(@Param("orderIds") List<String> orderIds);
 }
@@ -0,0 +1,84 @@
+package com.sparta.ecommerce.domain.order.service;
+
+import com.sparta.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.entity.OrderItem;
+import com.sparta.ecommerce.domain.order.repository.OrderItemRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 취소 보상 도메인 서비스
+ *
+ * 취소된 주문이 차감/사용한 재고와 쿠폰을 되돌림 (호출한 트랜잭션 안에서 실행)
+ * - 주문 일괄 취소, 외부 결제 거절 시 공통 사용
+ * - 락 순서는 주문 생성과 동일하게 상품 → 사용자 쿠폰
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCompensationService {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final UserCouponRepository userCouponRepository;
+
+    /**
+     * 재고 복구 (상품별 합산)
+     *
+     * 상품 행을 ID 순으로 잠근 뒤 일반/핫 상품은 상품 행, 재고 분산 상품은 버킷에 JDBC Batch로 복구
+     * (핫 상품의 Redis 재고는 HotProductStockReconciler가 DB 기준으로 보정)
+     *
+     * @param orderIds 취소된 주문 ID 목록
+     */
+    public void restoreStock(List<String> orderIds) {
+        Map<String, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : orderItemRepository.findByOrderIdIn(orderIds)) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        // 상품 행 잠금 → 복구 중 재고 분산 모드 전환 차단
+        List<Product> products = productRepository.findAllByIdsWithLock(new ArrayList<>(quantities.keySet()));
+
+        Map<String, Integer> productDeltas = new HashMap<>();
+        Map<String, Integer> bucketAmounts = new HashMap<>();
+        for (Product product : products) {
+            Integer quantity = quantities.get(product.getProductId());
+            if (product.isStockSharded()) {
+                bucketAmounts.put(product.getProductId(), quantity);
+            } else {
+                productDeltas.put(product.getProductId(), -quantity);  // 음수 차감 = 증가
+            }
+        }
+
+        productRepository.applyStockDeltaInBatch(productDeltas);
+        productStockBucketRepository.increaseStockInBatch(bucketAmounts);
+    }
+
+    /**
+     * 쿠폰 사용 복구 (쿠폰별 한 번의 UPDATE)
+     *
+     * @param orders 취소된 주문 목록
+     */
+    public void releaseCoupons(List<Order> orders) {
+        Map<String, List<String>> userIdsByCoupon = orders.stream()
+                .filter(order -> order.getUserCouponId() != null && !order.getUserCouponId().isEmpty())
+                .collect(Collectors.groupingBy(Order::getUserCouponId, TreeMap::new,
+                        Collectors.mapping(Order::getUserId, Collectors.toList())));
+
+        userIdsByCoupon.forEach(userCouponRepository::releaseAll);
+    }
+}
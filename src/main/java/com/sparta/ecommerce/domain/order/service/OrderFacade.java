@@ -17,12 +17,25 @@ import com.sparta.ecommerce.domain.payment.entity.Payment;
 import com.sparta.ecommerce.domain.payment.service.PaymentService;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.domain.product.exception.InsufficientStockException;
+import com.sparta.ecommerce.domain.product.exception.StockModeChangedException;
 import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.repository.ProductStockBucketRepository;
+import com.sparta.ecommerce.domain.product.stock.HotStockReserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 주문 Facade
@@ -31,6 +44,8 @@ import java.util.List;
  * - 여러 도메인 서비스를 조합
  * - 트랜잭션 경계 관리
  * - 복잡한 비즈니스 흐름 단순화
+ *
+ * 단계별 소요 시간을 order.phase{phase=...} Timer로 기록 (/actuator/prometheus 백분위 히스토그램)
  */
 @Slf4j
 @Service
@@ -42,11 +57,17 @@ public class OrderFacade {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
     private final UserCouponRepository userCouponRepository;
 
     private final OrderItemPreparationService orderItemPreparationService;
     private final OrderDiscountCalculator orderDiscountCalculator;
     private final PaymentService paymentService;
+    private final HotStockReserver hotStockReserver;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.hot-stock.enabled:false}")
+    private boolean hotStockEnabled;
 
     /**
      * 주문 생성 전체 흐름
@@ -59,43 +80,95 @@ public class OrderFacade {
      * @return 생성된 주문과 주문 항목
      */
     public OrderResult createOrder(String userId, String couponId) {
+        return createOrder(userId, couponId, PaymentMethod.BALANCE);
+    }
+
+    /**
+     * 결제 수단을 지정한 주문 생성
+     *
+     * 잔액 결제는 주문 트랜잭션 안에서 완료되고,
+     * 외부 결제(카드/간편결제)는 결제 대기 상태로 예약만 하고 PG 승인은 커밋 이후 처리
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID (nullable)
+     * @param paymentMethod 결제 수단
+     * @return 생성된 주문, 주문 항목, 결제
+     */
+    public OrderResult createOrder(String userId, String couponId, PaymentMethod paymentMethod) {
+        return createOrder(userId, couponId, paymentMethod, null);
+    }
+
+    /**
+     * 멱등성 키를 지정한 주문 생성
+     * 같은 사용자/키의 주문이 이미 있으면 커밋 시 유니크 제약 위반으로 실패 (중복 주문 방지)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID (nullable)
+     * @param paymentMethod 결제 수단
+     * @param idempotencyKey 멱등성 키 (nullable)
+     * @return 생성된 주문, 주문 항목, 결제
+     */
+    public OrderResult createOrder(String userId, String couponId, PaymentMethod paymentMethod, String idempotencyKey) {
         // 1. 장바구니 조회 및 검증
-        Cart cart = getCart(userId);
-        List<CartItem> cartItems = getCartItems(cart);
+        List<CartItem> cartItems = timed("cart_load", () -> getCartItems(getCart(userId)));
 
         // 2. 주문 항목 준비 (재고 확인, OrderItem 생성)
         OrderItemPreparationService.OrderPreparation preparation =
-                orderItemPreparationService.prepare(cartItems);
+                timed("prepare", () -> orderItemPreparationService.prepare(cartItems));
 
         // 3. 할인 계산
-        long discountAmount = orderDiscountCalculator.calculate(
+        long discountAmount = timed("discount", () -> orderDiscountCalculator.calculate(
                 userId,
                 couponId,
                 preparation.totalAmount()
-        );
+        ));
         long finalAmount = preparation.totalAmount() - discountAmount;
 
         // 4. 재고 차감
-        deductStock(preparation.lockedProducts(), cartItems);
+        timed("stock_deduction", () -> deductStock(preparation.products(), cartItems));
 
         // 5. 주문 생성
-        Order order = createOrderEntity(userId, couponId, preparation.totalAmount(), discountAmount, finalAmount);
+        Order order = timed("order_save", () ->
+                createOrderEntity(userId, couponId, preparation.totalAmount(), discountAmount, finalAmount, idempotencyKey));
 
         log.info("order : ",order.getOrderId());
 
         // 6. 주문 항목 저장 (orderId 설정 후 저장)
-        List<OrderItem> savedOrderItems = saveOrderItems(order.getOrderId(), preparation.orderItems());
+        List<OrderItem> savedOrderItems = timed("item_save", () ->
+                saveOrderItems(order.getOrderId(), preparation.orderItems()));
 
         // 7. 결제 처리
-        Payment payment = paymentService.processPayment(order, PaymentMethod.BALANCE);
+        Payment payment = timed("payment", () -> paymentService.processPayment(order, paymentMethod));
 
         // 8. 쿠폰 사용 처리
-        applyCoupon(userId, couponId);
+        timed("coupon", () -> applyCoupon(userId, couponId));
 
         // 9. 장바구니 비우기
         //cartItemRepository.deleteByCartId(cart.getCartId());
 
-        return new OrderResult(order, savedOrderItems);
+        return new OrderResult(order, savedOrderItems, payment);
+    }
+
+    /**
+     * 단계 실행 시간 기록 (성공/실패 모두 기록)
+     */
+    private <T> T timed(String phase, Supplier<T> step) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return step.get();
+        } finally {
+            sample.stop(Timer.builder("order.phase")
+                    .tag("phase", phase)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void timed(String phase, Runnable step) {
+        timed(phase, () -> {
+            step.run();
+            return null;
+        });
     }
 
     /**
@@ -120,35 +193,90 @@ public class OrderFacade {
     }
 
     /**
-     * 재고 차감 (직접 UPDATE 쿼리 사용)
+     * 재고 차감 (JDBC Batch UPDATE 일괄 실행)
      *
      * DB 레벨 재고 검증:
-     * - UPDATE 결과 확인 (affected rows)
-     * - 0이면 재고 부족으로 실패 처리
-     * - 사용자별 락 환경에서 동시성 안전장치
+     * - 장바구니 전체를 한 번의 배치 호출로 차감 (라인 수만큼의 라운드트립 제거)
+     * - 상품 ID 오름차순으로 실행하여 행 락 획득 순서 고정
+     * - affected rows = 0인 상품은 재고 부족으로 실패 처리
+     * - 실패 시 예외 → 트랜잭션 롤백으로 먼저 차감된 상품도 복구
+     *
+     * 핫 상품 (product.hot-stock.enabled = true 이고 관리자가 지정한 상품):
+     * - DB 행 락 대신 Redis Lua 스크립트로 원자적 예약 → DB 반영은 HotProductStockReconciler가 비동기 처리
+     * - 주문 트랜잭션 롤백 시 afterCompletion에서 예약 취소 (보상, 트랜잭션 밖이면 예약하지 않고 예외)
+     * - DB 차감 후 해당 상품이 그 사이 핫 상품으로 전환되었으면 주문 롤백
+     *   (핫 상품 활성화는 상품 행 락을 잡은 채 재고 스냅샷 → 락 대기 후 차감한 주문은 스냅샷에 포함되지 않음)
+     *
+     * 재고 분산 상품 (관리자가 버킷 수를 지정한 상품):
+     * - 상품 행 대신 여러 버킷 행 중 하나를 조건부 UPDATE → 주문마다 다른 행을 잠가 경합 분산
+     * - 일반 상품 차감 이후 상품 ID 오름차순으로 실행하여 락 획득 순서 고정
      */
-    private void deductStock(List<Product> lockedProducts, List<CartItem> cartItems) {
-        for (int i = 0; i < cartItems.size(); i++) {
-            CartItem cartItem = cartItems.get(i);
-            Product product = lockedProducts.get(i);
-
-            // DB 레벨에서 재고 검증하며 차감
-            int updated = productRepository.decreaseStock(product.getProductId(), cartItem.getQuantity());
-
-            // UPDATE 실패 = 재고 부족
-            if (updated == 0) {
-                throw new InsufficientStockException(
-                    String.format("재고 부족: %s (요청 수량: %d개)",
-                        product.getName(), cartItem.getQuantity())
-                );
+    private void deductStock(Map<String, Product> products, List<CartItem> cartItems) {
+        Map<String, Integer> requested = new LinkedHashMap<>();
+        for (CartItem cartItem : cartItems) {
+            requested.merge(cartItem.getProductId(), cartItem.getQuantity(), Integer::sum);
+        }
+
+        Map<String, Integer> amounts = new LinkedHashMap<>(requested);
+
+        Map<String, Integer> hotAmounts = new LinkedHashMap<>();
+        if (hotStockEnabled) {
+            Set<String> hotProductIds = hotStockReserver.findHotProductIds(amounts.keySet());
+            hotProductIds.forEach(productId -> hotAmounts.put(productId, amounts.remove(productId)));
+        }
+
+        Map<String, Integer> shardedAmounts = new TreeMap<>();
+        products.values().stream()
+                .filter(Product::isStockSharded)
+                .map(Product::getProductId)
+                .filter(amounts::containsKey)
+                .forEach(productId -> shardedAmounts.put(productId, amounts.remove(productId)));
+
+        List<String> failedProductIds = new ArrayList<>();
+
+        // 핫 상품: Redis에서 원자적 예약
+        if (!hotAmounts.isEmpty()) {
+            failedProductIds.addAll(hotStockReserver.reserveForTransaction(hotAmounts));
+        }
+
+        // 일반 상품: DB 레벨에서 재고 검증하며 일괄 차감
+        if (failedProductIds.isEmpty() && !amounts.isEmpty()) {
+            failedProductIds.addAll(productRepository.decreaseStockInBatch(amounts));
+
+            // 행 락 획득 후 핫 상품 전환 여부 재확인 (전환 전 스냅샷과 이중 차감 방지)
+            if (hotStockEnabled && failedProductIds.isEmpty()) {
+                Set<String> switchedProductIds = hotStockReserver.findHotProductIds(amounts.keySet());
+                if (!switchedProductIds.isEmpty()) {
+                    throw new StockModeChangedException(String.join(", ", switchedProductIds));
+                }
             }
         }
+
+        // 재고 분산 상품: 버킷 단위 차감
+        if (failedProductIds.isEmpty()) {
+            shardedAmounts.forEach((productId, amount) -> {
+                if (!productStockBucketRepository.decreaseStock(productId, amount)) {
+                    failedProductIds.add(productId);
+                }
+            });
+        }
+
+        // 예약/UPDATE 실패 = 재고 부족
+        if (!failedProductIds.isEmpty()) {
+            String failedProducts = failedProductIds.stream()
+                    .map(productId -> String.format("%s (요청 수량: %d개)",
+                            products.get(productId).getName(),
+                            requested.get(productId)))
+                    .collect(Collectors.joining(", "));
+            throw new InsufficientStockException("재고 부족: " + failedProducts);
+        }
     }
 
     /**
      * 주문 엔티티 생성
      */
-    private Order createOrderEntity(String userId, String couponId, long totalAmount, long discountAmount, long finalAmount) {
+    private Order createOrderEntity(String userId, String couponId, long totalAmount, long discountAmount, long finalAmount,
+                                    String idempotencyKey) {
         Order order = Order.builder()
                 .userId(userId)
                 .totalAmount(totalAmount)
@@ -156,6 +284,7 @@ public class OrderFacade {
                 .finalAmount(finalAmount)
                 .userCouponId(couponId)
                 .status(OrderStatus.PENDING)
+                .idempotencyKey(idempotencyKey)
                 .build();
 
         return orderRepository.save(order);
@@ -200,6 +329,11 @@ public class OrderFacade {
      */
     public record OrderResult(
             Order order,
-            List<com.sparta.ecommerce.domain.order.entity.OrderItem> orderItems
-    ) {}
+            List<com.sparta.ecommerce.domain.order.entity.OrderItem> orderItems,
+            Payment payment
+    ) {
+        public OrderResult(Order order, List<com.sparta.ecommerce.domain.order.entity.OrderItem> orderItems) {
+            this(order, orderItems, null);
+        }
+    }
 }
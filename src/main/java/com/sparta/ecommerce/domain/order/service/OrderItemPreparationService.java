@@ -11,6 +11,9 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 주문 항목 준비 서비스
@@ -29,18 +32,24 @@ public class OrderItemPreparationService {
     /**
      * 주문 항목 준비
      *
+     * 장바구니의 모든 상품을 IN 쿼리 한 번으로 조회한 뒤 메모리에서 결합
+     * (장바구니 라인 수만큼 발생하던 N+1 조회 제거)
+     *
      * @param cartItems 장바구니 아이템 목록
-     * @return 준비된 주문 정보
+     * @return 준비된 주문 정보 (주문 항목은 장바구니 순서 유지)
      */
     public OrderPreparation prepare(List<CartItem> cartItems) {
+        // 상품 일괄 조회 (분산 락 환경에서 일반 조회)
+        Map<String, Product> products = loadProducts(cartItems);
+
         List<OrderItem> orderItems = new ArrayList<>();
-        List<Product> lockedProducts = new ArrayList<>();
         long totalAmount = 0;
 
         for (CartItem cartItem : cartItems) {
-            // 상품 조회 (분산 락 환경에서 일반 조회)
-            Product product = productRepository.findById(cartItem.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(cartItem.getProductId()));
+            Product product = products.get(cartItem.getProductId());
+            if (product == null) {
+                throw new ProductNotFoundException(cartItem.getProductId());
+            }
 
             // 재고 확인
             if (!product.canAddToCart(cartItem.getQuantity())) {
@@ -50,9 +59,6 @@ public class OrderItemPreparationService {
                 );
             }
 
-            // 락 걸린 상품 저장 (재고 차감 시 재사용)
-            lockedProducts.add(product);
-
             // OrderItem 생성
             long price = (long) product.getPrice();
             long subtotal = price * cartItem.getQuantity();
@@ -69,7 +75,22 @@ public class OrderItemPreparationService {
             totalAmount += subtotal;
         }
 
-        return new OrderPreparation(orderItems, lockedProducts, totalAmount);
+        return new OrderPreparation(orderItems, products, totalAmount);
+    }
+
+    /**
+     * 장바구니 상품 일괄 조회
+     *
+     * @return 상품 ID → 상품 (재고 차감 시 재사용)
+     */
+    private Map<String, Product> loadProducts(List<CartItem> cartItems) {
+        List<String> productIds = cartItems.stream()
+                .map(CartItem::getProductId)
+                .distinct()
+                .toList();
+
+        return productRepository.findByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
     }
 
     /**
@@ -77,7 +98,7 @@ public class OrderItemPreparationService {
      */
     public record OrderPreparation(
             List<OrderItem> orderItems,
-            List<Product> lockedProducts,
+            Map<String, Product> products,
             long totalAmount
     ) {}
 }
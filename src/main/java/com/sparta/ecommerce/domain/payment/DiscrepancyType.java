@@ -0,0 +1,27 @@
+package com.sparta.ecommerce.domain.payment;
+
+/**
+ * 결제 대사 불일치 유형 (orders ↔ payments ↔ balance_history)
+ */
+public enum DiscrepancyType {
+    MISSING_PAYMENT("주문에 결제 기록 없음"),
+    ORPHAN_PAYMENT("주문 없는 결제 기록"),
+    DUPLICATE_PAYMENT("주문당 결제 기록 2건 이상"),
+    AMOUNT_MISMATCH("결제 금액 ≠ 주문 최종 금액"),
+    STALE_PENDING_PAYMENT("결과 미확정 결제 (PENDING)"),
+    MISSING_BALANCE_DEBIT("잔액 결제에 잔액 차감 이력 없음"),
+    BALANCE_DEBIT_MISMATCH("잔액 차감 이력 금액 ≠ 결제 금액"),
+    ORPHAN_BALANCE_DEBIT("잔액 결제 없는 잔액 차감 이력"),
+    MISSING_REFUND("취소된 잔액 결제에 환불 이력 없음"),
+    REFUND_MISMATCH("환불 이력 금액 ≠ 결제 금액");
+
+    private final String description;
+
+    DiscrepancyType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.ecommerce.domain.payment;
+
+/**
+ * 결제 이벤트 유형 (외부 결제 상태 전이 이력)
+ */
+public enum PaymentEventType {
+    APPROVED("PG 승인"),
+    DECLINED("PG 승인 거절"),
+    OUTCOME_UNKNOWN("PG 결과 미확정");
+
+    private final String description;
+
+    PaymentEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sparta.ecommerce.domain.payment;
+
+/**
+ * 결제 대사 작업 상태
+ */
+public enum ReconciliationRunStatus {
+    RUNNING,    // 진행 중
+    COMPLETED,  // 완료
+    FAILED      // 실패 (다시 실행 필요)
+}
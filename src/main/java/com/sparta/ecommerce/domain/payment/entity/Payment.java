@@ -3,12 +3,11 @@ package com.sparta.ecommerce.domain.payment.entity;
 import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
 import com.sparta.ecommerce.domain.payment.PaymentMethod;
 import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
@@ -27,6 +26,8 @@ import java.time.LocalDateTime;
  * - 주문당 하나의 결제 기록
  * - 결제 수단, 금액, 상태 등을 기록
  * - 환불, 취소 등의 이력도 관리
+ * - 동기 결제(잔액)는 최종 상태로 한 번만 INSERT
+ * - 외부 결제의 상태 전이 상세는 payment_events에 추가 (PaymentEvent)
  */
 @Entity
 @Table(name = "payments", indexes = {
@@ -42,7 +43,7 @@ public class Payment extends BaseEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String paymentId;
 
     @Column(name = "order_id", nullable = false)
@@ -75,37 +76,6 @@ public class Payment extends BaseEntity {
     @Column(name = "cancelled_at")
     private LocalDateTime cancelledAt;
 
-    /**
-     * 결제 성공 처리
-     */
-    public Payment markAsCompleted() {
-        return Payment.builder()
-                .paymentId(this.paymentId)
-                .orderId(this.orderId)
-                .userId(this.userId)
-                .amount(this.amount)
-                .method(this.method)
-                .status(PaymentStatus.COMPLETED)
-                .pgTransactionId(this.pgTransactionId)
-                .paidAt(LocalDateTime.now())
-                .build();
-    }
-
-    /**
-     * 결제 실패 처리
-     */
-    public Payment markAsFailed(String reason) {
-        return Payment.builder()
-                .paymentId(this.paymentId)
-                .orderId(this.orderId)
-                .userId(this.userId)
-                .amount(this.amount)
-                .method(this.method)
-                .status(PaymentStatus.FAILED)
-                .failureReason(reason)
-                .build();
-    }
-
     /**
      * 결제 취소 처리
      */
@@ -125,13 +95,28 @@ public class Payment extends BaseEntity {
 
     /**
      * 잔액 결제 생성 (팩토리 메서드)
+     * 잔액 차감이 끝난 뒤 완료 상태로 한 번만 저장 (PENDING 저장 후 재저장하지 않음)
      */
-    public static Payment createBalancePayment(String orderId, String userId, long amount) {
+    public static Payment completedBalancePayment(String orderId, String userId, long amount) {
         return Payment.builder()
                 .orderId(orderId)
                 .userId(userId)
                 .amount(amount)
                 .method(PaymentMethod.BALANCE)
+                .status(PaymentStatus.COMPLETED)
+                .paidAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 외부 결제(카드/간편결제) 생성 (팩토리 메서드)
+     */
+    public static Payment createExternalPayment(String orderId, String userId, long amount, PaymentMethod method) {
+        return Payment.builder()
+                .orderId(orderId)
+                .userId(userId)
+                .amount(amount)
+                .method(method)
                 .status(PaymentStatus.PENDING)
                 .build();
     }
@@ -0,0 +1,60 @@
+package com.sparta.ecommerce.domain.payment.entity;
+
+import com.sparta.ecommerce.domain.payment.DiscrepancyType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 불일치 엔티티 (대사 리포트)
+ *
+ * 대사 작업이 JDBC Batch로 직접 INSERT (PaymentDiscrepancyRepositoryCustom)
+ * ID는 INSERT 전에 애플리케이션에서 TSID로 생성
+ */
+@Entity
+@Table(name = "payment_discrepancies", indexes = {
+        @Index(name = "idx_payment_discrepancies_run_order", columnList = "run_id, order_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PaymentDiscrepancy {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DiscrepancyType type;
+
+    @Column(name = "expected_amount")
+    private Long expectedAmount;
+
+    @Column(name = "actual_amount")
+    private Long actualAmount;
+
+    @Column(name = "detail")
+    private String detail;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -0,0 +1,93 @@
+package com.sparta.ecommerce.domain.payment.entity;
+
+import com.sparta.ecommerce.domain.payment.PaymentEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 이벤트 엔티티 (추가 전용)
+ *
+ * 외부 결제의 상태 전이를 좁은 행으로 쌓는 이력 테이블
+ * - PG 거래 ID, 거절 사유 등 전이 상세는 여기에만 기록
+ * - payments 행은 상태 컬럼만 조건부 UPDATE (넓은 행 전체를 다시 쓰지 않음)
+ * - 수정/삭제 없음
+ */
+@Entity
+@Table(name = "payment_events", indexes = {
+        @Index(name = "idx_payment_events_payment_id", columnList = "payment_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PaymentEvent {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_events_seq")
+    @SequenceGenerator(name = "payment_events_seq", sequenceName = "payment_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private String paymentId;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PaymentEventType eventType;
+
+    @Column(name = "pg_transaction_id")
+    private String pgTransactionId;
+
+    @Column(name = "detail")
+    private String detail;  // 거절 사유, 미확정 원인 등
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) {
+            occurredAt = LocalDateTime.now();
+        }
+    }
+
+    public static PaymentEvent approved(String paymentId, String pgTransactionId) {
+        return PaymentEvent.builder()
+                .paymentId(paymentId)
+                .eventType(PaymentEventType.APPROVED)
+                .pgTransactionId(pgTransactionId)
+                .build();
+    }
+
+    public static PaymentEvent declined(String paymentId, String reason) {
+        return PaymentEvent.builder()
+                .paymentId(paymentId)
+                .eventType(PaymentEventType.DECLINED)
+                .detail(reason)
+                .build();
+    }
+
+    public static PaymentEvent outcomeUnknown(String paymentId, String cause) {
+        return PaymentEvent.builder()
+                .paymentId(paymentId)
+                .eventType(PaymentEventType.OUTCOME_UNKNOWN)
+                .detail(cause)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.ecommerce.domain.payment.entity;
+
+import com.sparta.ecommerce.domain.payment.ReconciliationRunStatus;
+import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 작업 엔티티
+ *
+ * 주문 생성 일시 구간 [rangeFrom, rangeTo)에 대해
+ * orders ↔ payments ↔ balance_history 정합성을 검사한 실행 단위
+ * 불일치 상세는 payment_discrepancies에 run_id로 기록
+ */
+@Entity
+@Table(name = "reconciliation_runs")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ReconciliationRun extends BaseEntity {
+
+    @Id
+    @Column(name = "id")
+    @TimeOrderedId
+    private String runId;
+
+    @Column(name = "range_from", nullable = false)
+    private LocalDateTime rangeFrom;
+
+    @Column(name = "range_to", nullable = false)
+    private LocalDateTime rangeTo;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private ReconciliationRunStatus status = ReconciliationRunStatus.RUNNING;
+
+    @Column(name = "scanned_orders", nullable = false)
+    private long scannedOrders;
+
+    @Column(name = "discrepancy_count", nullable = false)
+    private long discrepancyCount;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 대사 완료 처리
+     */
+    public void complete(long scannedOrders, long discrepancyCount) {
+        this.status = ReconciliationRunStatus.COMPLETED;
+        this.scannedOrders = scannedOrders;
+        this.discrepancyCount = discrepancyCount;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 대사 실패 처리
+     */
+    public void fail(String reason) {
+        this.status = ReconciliationRunStatus.FAILED;
+        this.failureReason = reason;
+        this.completedAt = LocalDateTime.now();
+    }
+}
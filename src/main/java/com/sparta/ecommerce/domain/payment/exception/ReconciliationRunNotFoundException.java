@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.payment.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 결제 대사 작업을 찾을 수 없을 때 발생하는 예외
+ */
+public class ReconciliationRunNotFoundException extends BusinessException {
+    public ReconciliationRunNotFoundException(String runId) {
+        super(ErrorCode.PAY003, "결제 대사 작업을 찾을 수 없습니다: " + runId);
+    }
+}
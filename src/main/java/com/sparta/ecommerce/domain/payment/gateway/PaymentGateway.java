@@ -0,0 +1,31 @@
+package com.sparta.ecommerce.domain.payment.gateway;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 PG(결제 대행) 연동 인터페이스
+ *
+ * 호출은 비동기로 이루어지며 DB 트랜잭션 밖에서 실행해야 함
+ * (느린 PG 응답이 DB 커넥션을 붙잡지 않도록 예약 → 승인 → 결과 기록 순서로 분리)
+ *
+ * 실패 시 PaymentGatewayException으로 완료되며, 승인 여부를 알 수 없는 경우(타임아웃 등)를 구분
+ */
+public interface PaymentGateway {
+
+    /**
+     * 결제 승인 요청
+     *
+     * @param request 승인 요청 (결제 ID를 멱등 키로 사용)
+     * @return 승인/거절 결과
+     */
+    CompletableFuture<PgApprovalResult> approve(PgApprovalRequest request);
+
+    /**
+     * 결제 상태 조회
+     * 승인 결과를 받지 못한 결제(타임아웃, 승인 전 노드 장애 등)를 확정할 때 사용
+     *
+     * @param paymentId 결제 ID (승인 요청의 멱등 키)
+     * @return PG 기준 결제 상태
+     */
+    CompletableFuture<PgInquiryResult> inquire(String paymentId);
+}
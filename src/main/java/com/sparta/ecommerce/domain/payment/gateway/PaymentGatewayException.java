@@ -0,0 +1,29 @@
+package com.sparta.ecommerce.domain.payment.gateway;
+
+/**
+ * PG 호출 실패 예외
+ *
+ * outcomeUnknown:
+ * - false: 요청이 PG에 전달되지 않았거나 처리되지 않음이 확실 (서킷 오픈, 동시 호출 한도 초과, 연결 실패 등)
+ *          → 결제 실패로 확정해도 안전
+ * - true:  요청은 전달되었으나 응답을 받지 못함 (타임아웃 등)
+ *          → PG에서 승인되었을 수 있으므로 결제 대기 상태로 두고 대사(reconciliation)로 확정
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    private final boolean outcomeUnknown;
+
+    public PaymentGatewayException(String message, boolean outcomeUnknown) {
+        super(message);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    public PaymentGatewayException(String message, boolean outcomeUnknown, Throwable cause) {
+        super(message, cause);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    public boolean isOutcomeUnknown() {
+        return outcomeUnknown;
+    }
+}
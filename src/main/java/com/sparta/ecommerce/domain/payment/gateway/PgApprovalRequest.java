@@ -0,0 +1,19 @@
+package com.sparta.ecommerce.domain.payment.gateway;
+
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+
+/**
+ * PG 결제 승인 요청
+ *
+ * @param paymentId 결제 ID (PG 멱등 키)
+ * @param orderId   주문 ID
+ * @param amount    결제 금액
+ * @param method    결제 수단
+ */
+public record PgApprovalRequest(
+        String paymentId,
+        String orderId,
+        long amount,
+        PaymentMethod method
+) {
+}
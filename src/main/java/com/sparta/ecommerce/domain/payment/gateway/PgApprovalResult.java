@@ -0,0 +1,22 @@
+package com.sparta.ecommerce.domain.payment.gateway;
+
+/**
+ * PG 결제 승인 결과
+ *
+ * @param approved      승인 여부
+ * @param transactionId PG 거래 ID (승인 시)
+ * @param failureReason 거절 사유 (거절 시)
+ */
+public record PgApprovalResult(
+        boolean approved,
+        String transactionId,
+        String failureReason
+) {
+    public static PgApprovalResult approved(String transactionId) {
+        return new PgApprovalResult(true, transactionId, null);
+    }
+
+    public static PgApprovalResult declined(String failureReason) {
+        return new PgApprovalResult(false, null, failureReason);
+    }
+}
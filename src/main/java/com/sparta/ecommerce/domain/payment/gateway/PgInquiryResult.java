@@ -0,0 +1,32 @@
+package com.sparta.ecommerce.domain.payment.gateway;
+
+/**
+ * PG 결제 상태 조회 결과
+ *
+ * @param status        PG 기준 결제 상태
+ * @param transactionId PG 거래 ID (승인 시)
+ * @param failureReason 거절 사유 (거절 시)
+ */
+public record PgInquiryResult(
+        Status status,
+        String transactionId,
+        String failureReason
+) {
+    public enum Status {
+        APPROVED,   // 승인 완료
+        DECLINED,   // 승인 거절
+        NOT_FOUND   // PG에 승인 요청이 도달하지 않음 (다시 승인 요청해도 안전)
+    }
+
+    public static PgInquiryResult approved(String transactionId) {
+        return new PgInquiryResult(Status.APPROVED, transactionId, null);
+    }
+
+    public static PgInquiryResult declined(String failureReason) {
+        return new PgInquiryResult(Status.DECLINED, null, failureReason);
+    }
+
+    public static PgInquiryResult notFound() {
+        return new PgInquiryResult(Status.NOT_FOUND, null, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.ecommerce.domain.payment.repository;
+
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 결제 대사 불일치 저장소 인터페이스
+ */
+@Repository
+public interface PaymentDiscrepancyRepository extends JpaRepository<PaymentDiscrepancy, String>,
+        PaymentDiscrepancyRepositoryCustom {
+
+    /**
+     * 대사 작업의 불일치 목록 조회 (주문 ID 순)
+     */
+    List<PaymentDiscrepancy> findByRunIdOrderByOrderIdAscIdAsc(String runId, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.sparta.ecommerce.domain.payment.repository;
+
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+
+import java.util.List;
+
+/**
+ * 결제 대사 불일치 저장소 커스텀 인터페이스
+ * 대사 작업이 찾은 불일치를 JDBC로 일괄 INSERT
+ */
+public interface PaymentDiscrepancyRepositoryCustom {
+
+    /**
+     * 불일치 일괄 저장 (JDBC Batch)
+     * 영속성 컨텍스트를 거치지 않으므로 대량 저장 시에도 메모리 사용량 일정
+     *
+     * @param discrepancies 불일치 목록 (ID 포함)
+     */
+    void insertAllInBatch(List<PaymentDiscrepancy> discrepancies);
+}
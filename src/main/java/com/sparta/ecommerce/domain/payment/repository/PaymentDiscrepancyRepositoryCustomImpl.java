@@ -0,0 +1,42 @@
+package com.sparta.ecommerce.domain.payment.repository;
+
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 결제 대사 불일치 저장소 커스텀 구현체
+ */
+@RequiredArgsConstructor
+public class PaymentDiscrepancyRepositoryCustomImpl implements PaymentDiscrepancyRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO payment_discrepancies
+                (id, run_id, order_id, type, expected_amount, actual_amount, detail, detected_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllInBatch(List<PaymentDiscrepancy> discrepancies) {
+        if (discrepancies.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, discrepancies, discrepancies.size(), (ps, discrepancy) -> {
+            ps.setString(1, discrepancy.getId());
+            ps.setString(2, discrepancy.getRunId());
+            ps.setString(3, discrepancy.getOrderId());
+            ps.setString(4, discrepancy.getType().name());
+            ps.setObject(5, discrepancy.getExpectedAmount(), Types.BIGINT);
+            ps.setObject(6, discrepancy.getActualAmount(), Types.BIGINT);
+            ps.setString(7, discrepancy.getDetail());
+            ps.setTimestamp(8, Timestamp.valueOf(discrepancy.getDetectedAt()));
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.ecommerce.domain.payment.repository;
+
+import com.sparta.ecommerce.domain.payment.entity.PaymentEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 결제 이벤트 저장소 인터페이스
+ */
+@Repository
+public interface PaymentEventRepository extends JpaRepository<PaymentEvent, Long> {
+
+    /**
+     * 결제의 상태 전이 이력 조회 (발생순)
+     */
+    List<PaymentEvent> findByPaymentIdOrderByIdAsc(String paymentId);
+}
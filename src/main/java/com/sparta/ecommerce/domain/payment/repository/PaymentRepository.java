@@ -2,9 +2,16 @@ package com.sparta.ecommerce.domain.payment.repository;
 
 import com.sparta.ecommerce.domain.payment.PaymentStatus;
 import com.sparta.ecommerce.domain.payment.entity.Payment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +40,77 @@ public interface PaymentRepository extends JpaRepository<Payment, String> {
      * 결제 상태로 조회
      */
     List<Payment> findByStatus(PaymentStatus status);
+
+    /**
+     * 결과가 확정되지 않은 외부 결제 조회 (생성 일시 오름차순)
+     * 승인 응답을 받지 못했거나 승인 요청 전에 노드가 중단된 결제를 PG 조회로 확정하기 위해 사용
+     *
+     * @param createdBefore 이 시각 이전에 생성된 결제만 (진행 중인 승인 요청 제외)
+     * @param pageable      조회 건수
+     */
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.PENDING
+          AND p.method <> com.sparta.ecommerce.domain.payment.PaymentMethod.BALANCE
+          AND p.createdAt < :createdBefore
+        ORDER BY p.createdAt
+        """)
+    List<Payment> findUnresolvedExternalPayments(@Param("createdBefore") LocalDateTime createdBefore,
+                                                 Pageable pageable);
+
+    /**
+     * 여러 주문의 완료된 결제 조회 (비관적 락)
+     * 단건 결제 취소와 동시에 실행되어도 한 번만 환불되도록 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE p.orderId IN :orderIds
+          AND p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.COMPLETED
+        ORDER BY p.paymentId
+        """)
+    List<Payment> findCompletedByOrderIdsWithLock(@Param("orderIds") List<String> orderIds);
+
+    /**
+     * 결제 일괄 취소 처리
+     */
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.CANCELLED, p.cancelledAt = :cancelledAt
+        WHERE p.paymentId IN :paymentIds
+        """)
+    int cancelAllByIds(@Param("paymentIds") List<String> paymentIds, @Param("cancelledAt") LocalDateTime cancelledAt);
+
+    /**
+     * 결제 대기 → 승인 완료 (PG 승인 결과 기록)
+     * 이미 다른 상태로 확정된 결제는 변경하지 않음
+     * 상태 컬럼만 갱신하고 PG 거래 ID 등 상세는 payment_events에 기록
+     *
+     * @return 변경된 행 수 (0: 이미 확정된 결제)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.COMPLETED, p.paidAt = :paidAt
+        WHERE p.paymentId = :paymentId
+          AND p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.PENDING
+        """)
+    int completePending(@Param("paymentId") String paymentId, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * 결제 대기 → 실패 (PG 승인 거절 기록)
+     * 이미 다른 상태로 확정된 결제는 변경하지 않음
+     * 거절 사유는 payment_events에 기록
+     *
+     * @return 변경된 행 수 (0: 이미 확정된 결제)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.FAILED
+        WHERE p.paymentId = :paymentId
+          AND p.status = com.sparta.ecommerce.domain.payment.PaymentStatus.PENDING
+        """)
+    int failPending(@Param("paymentId") String paymentId);
 }
@@ -0,0 +1,12 @@
+package com.sparta.ecommerce.domain.payment.repository;
+
+import com.sparta.ecommerce.domain.payment.entity.ReconciliationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 대사 작업 저장소 인터페이스
+ */
+@Repository
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, String> {
+}
@@ -8,14 +8,18 @@ import com.sparta.ecommerce.domain.payment.exception.PaymentFailedException;
 import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
 import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
 import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.event.UserBalanceChangedEvent;
 import com.sparta.ecommerce.domain.user.exception.InsufficientBalanceException;
 import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
 import com.sparta.ecommerce.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.OptionalLong;
+
 /**
  * 결제 도메인 서비스
  *
@@ -37,6 +41,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final BalanceHistoryRepository balanceHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 결제 처리
@@ -53,9 +58,7 @@ public class PaymentService {
         // 결제 수단별 처리
         Payment payment = switch (method) {
             case BALANCE -> processBalancePayment(order);
-            case CARD -> processCardPayment(order);
-            case KAKAO_PAY -> processKakaoPayPayment(order);
-            case TOSS_PAY -> processTossPayPayment(order);
+            case CARD, KAKAO_PAY, TOSS_PAY -> reserveExternalPayment(order, method);
         };
 
         log.info("결제 처리 완료 - 결제ID: {}, 상태: {}", payment.getPaymentId(), payment.getStatus());
@@ -65,128 +68,91 @@ public class PaymentService {
     /**
      * 잔액 결제 처리
      *
-     * 주의: 이 메서드는 OrderFacade에서 호출되며,
-     * CreateOrderUseCase의 분산 락 안에서 실행됩니다.
+     * 잔액 검증과 차감을 조건부 UPDATE 한 문장으로 처리 (UPDATE ... WHERE balance >= 금액)
+     * - 사용자 조회 + 엔티티 merge 없이 차감 → 주문당 SELECT/UPDATE 왕복 감소
+     * - 동시 결제가 겹쳐도 DB가 잔액 부족을 판정하므로 사용자별 분산 락에 의존하지 않음
+     *
+     * 결제 결과가 호출 안에서 확정되므로 결제는 완료 상태로 한 번만 INSERT
+     * (실패 시 주문 트랜잭션 전체가 롤백되어 결제 기록도 남지 않음)
+     *
+     * 차감 후 잔액은 잔액 변경 이벤트로 발행 → 주문 트랜잭션 커밋 후 잔액 캐시에 저장 (버전 = 차감 이력 ID)
      *
      * @param order 주문 정보
      * @return 결제 결과
      */
     private Payment processBalancePayment(Order order) {
-        // 1. 결제 기록 생성 (PENDING 상태)
-        Payment payment = Payment.createBalancePayment(
-                order.getOrderId(),
-                order.getUserId(),
-                order.getFinalAmount()
-        );
-        paymentRepository.save(payment);
-
         try {
-            // 2. 사용자 조회 (분산 락 환경에서 일반 조회)
-            User user = userRepository.findById(order.getUserId())
-                    .orElseThrow(() -> new PaymentFailedException("사용자를 찾을 수 없습니다"));
-
-            // 3. 잔액 확인
-            if (!user.getBalance().isSufficient(order.getFinalAmount())) {
-                String reason = String.format("잔액 부족 (필요: %d, 현재: %d)",
-                        order.getFinalAmount(), user.getBalance().amount());
-                Payment failedPayment = payment.markAsFailed(reason);
-                paymentRepository.save(failedPayment);
-                throw new InsufficientBalanceException(reason);
+            // 1. 조건부 잔액 차감 (차감 후 잔액 반환, 실패 시 empty)
+            long amount = order.getFinalAmount();
+            OptionalLong balanceAfter = userRepository.deductBalanceIfSufficient(order.getUserId(), amount);
+            if (balanceAfter.isEmpty()) {
+                throw balanceShortage(order);
             }
 
-            // 4. 잔액 차감 및 이력 기록
-            long previousBalance = user.getBalance().amount();
-            user.deductBalance(order.getFinalAmount());
-            userRepository.save(user);
-
-            // 잔액 차감 이력 저장
+            // 2. 잔액 차감 이력 저장 (이전 잔액 = 차감 후 잔액 + 차감 금액)
+            long currentBalance = balanceAfter.getAsLong();
+            long previousBalance = currentBalance + amount;
             BalanceHistory history = BalanceHistory.builder()
-                    .userId(user.getUserId())
+                    .userId(order.getUserId())
                     .transactionId("ORDER-" + order.getOrderId())  // 주문 ID 기반 거래 ID
-                    .amount(-order.getFinalAmount())  // 음수로 기록 (차감)
+                    .amount(-amount)  // 음수로 기록 (차감)
                     .previousBalance(previousBalance)
-                    .currentBalance(user.getBalance().amount())
+                    .currentBalance(currentBalance)
                     .paymentMethod(PaymentMethod.BALANCE.name())
                     .build();
             balanceHistoryRepository.save(history);
+            eventPublisher.publishEvent(new UserBalanceChangedEvent(order.getUserId(), currentBalance, history.getId()));
 
             log.info("잔액 차감 이력 저장 - userId={}, amount={}, previousBalance={}, currentBalance={}",
-                    user.getUserId(), -order.getFinalAmount(), previousBalance, user.getBalance().amount());
+                    order.getUserId(), -amount, previousBalance, currentBalance);
 
-            // 5. 결제 성공 처리
-            Payment completedPayment = payment.markAsCompleted();
-            return paymentRepository.save(completedPayment);
+            // 3. 완료 상태로 결제 기록 (INSERT 1회)
+            return paymentRepository.save(Payment.completedBalancePayment(
+                    order.getOrderId(),
+                    order.getUserId(),
+                    amount
+            ));
 
-        } catch (InsufficientBalanceException e) {
+        } catch (InsufficientBalanceException | PaymentFailedException e) {
             throw e;  // 그대로 전파
         } catch (Exception e) {
-            // 6. 예외 발생 시 실패 처리
-            Payment failedPayment = payment.markAsFailed(e.getMessage());
-            paymentRepository.save(failedPayment);
             throw new PaymentFailedException("잔액 결제 처리 중 오류 발생", e);
         }
     }
 
     /**
-     * 카드 결제 처리 (추후 PG 연동)
+     * 조건부 차감 실패 원인 판별 (실패 경로에서만 사용자 조회)
      *
      * @param order 주문 정보
-     * @return 결제 결과
+     * @return 잔액 부족 예외 (사용자가 없으면 PaymentFailedException 발생)
      */
-    private Payment processCardPayment(Order order) {
-        // TODO: 토스페이먼트, 이니시스 등 PG사 연동
-        Payment payment = Payment.createCardPayment(
-                order.getOrderId(),
-                order.getUserId(),
-                order.getFinalAmount()
-        );
-        paymentRepository.save(payment);
+    private InsufficientBalanceException balanceShortage(Order order) {
+        User user = userRepository.findById(order.getUserId())
+                .orElseThrow(() -> new PaymentFailedException("사용자를 찾을 수 없습니다"));
 
-        // 임시: 카드 결제는 구현 예정
-        Payment failedPayment = payment.markAsFailed("카드 결제는 아직 구현되지 않았습니다");
-        return paymentRepository.save(failedPayment);
+        return new InsufficientBalanceException(String.format("잔액 부족 (필요: %d, 현재: %d)",
+                order.getFinalAmount(), user.getBalance().amount()));
     }
 
     /**
-     * 카카오페이 결제 처리 (추후 구현)
+     * 외부 결제(카드/간편결제) 예약
      *
-     * @param order 주문 정보
-     * @return 결제 결과
-     */
-    private Payment processKakaoPayPayment(Order order) {
-        // TODO: 카카오페이 API 연동
-        Payment payment = Payment.builder()
-                .orderId(order.getOrderId())
-                .userId(order.getUserId())
-                .amount(order.getFinalAmount())
-                .method(PaymentMethod.KAKAO_PAY)
-                .status(PaymentStatus.PENDING)
-                .build();
-        paymentRepository.save(payment);
-
-        Payment failedPayment = payment.markAsFailed("카카오페이 결제는 아직 구현되지 않았습니다");
-        return paymentRepository.save(failedPayment);
-    }
-
-    /**
-     * 토스페이 결제 처리 (추후 구현)
+     * 주문 트랜잭션 안에서는 결제 대기(PENDING) 기록만 남기고 PG는 호출하지 않음
+     * PG 승인은 커밋 이후 PaymentConfirmService가 트랜잭션 밖에서 요청하고,
+     * 결과는 짧은 트랜잭션으로 기록 (느린 PG가 주문 트랜잭션의 DB 커넥션/락을 붙잡지 않도록)
      *
      * @param order 주문 정보
-     * @return 결제 결과
+     * @param method 결제 수단
+     * @return 결제 대기 상태의 결제
      */
-    private Payment processTossPayPayment(Order order) {
-        // TODO: 토스페이 API 연동
-        Payment payment = Payment.builder()
-                .orderId(order.getOrderId())
-                .userId(order.getUserId())
-                .amount(order.getFinalAmount())
-                .method(PaymentMethod.TOSS_PAY)
-                .status(PaymentStatus.PENDING)
-                .build();
-        paymentRepository.save(payment);
-
-        Payment failedPayment = payment.markAsFailed("토스페이 결제는 아직 구현되지 않았습니다");
-        return paymentRepository.save(failedPayment);
+    private Payment reserveExternalPayment(Order order, PaymentMethod method) {
+        Payment payment = Payment.createExternalPayment(
+                order.getOrderId(),
+                order.getUserId(),
+                order.getFinalAmount(),
+                method
+        );
+        return paymentRepository.save(payment);
     }
 
     /**
@@ -16,6 +16,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 
 /**
  * 상품 엔티티
@@ -51,9 +52,65 @@ public class Product extends BaseEntity {
     @Column(name = "category")
     private String category;
 
+    /**
+     * 재고 버킷 수 (0이면 일반 상품, 1 이상이면 재고 분산 모드)
+     * 재고 분산 모드에서는 products.stock = 0 이고 재고는 product_stock_buckets에 저장
+     */
+    @Column(name = "stock_bucket_count", nullable = false, columnDefinition = "int default 0")
+    private int stockBucketCount;
+
+    /**
+     * 재고 버킷 합계 (조회 시점 값, 재고 분산 모드일 때만 계산)
+     */
+    @Formula("(CASE WHEN stock_bucket_count > 0 THEN "
+            + "(SELECT COALESCE(SUM(b.quantity), 0) FROM product_stock_buckets b WHERE b.product_id = id) "
+            + "ELSE 0 END)")
+    private int bucketStockQuantity;
+
+    /**
+     * 재고 조회
+     * 재고 분산 모드면 모든 버킷 재고의 합계를 반환
+     */
+    public Stock getStock() {
+        if (isStockSharded()) {
+            return new Stock(stock.getQuantity() + bucketStockQuantity);
+        }
+        return stock;
+    }
+
+    /*재고 분산 모드 여부*/
+    public boolean isStockSharded() {
+        return stockBucketCount > 0;
+    }
+
+    /**
+     * 재고 분산 모드 전환
+     * 상품 행의 재고를 비우고 버킷 수 기록 (버킷 행 생성은 호출 측 책임)
+     *
+     * @param bucketCount   버킷 수
+     * @param totalQuantity 버킷에 나누어 담은 재고 합계
+     */
+    public void shardStock(int bucketCount, int totalQuantity) {
+        this.stock = new Stock(0);
+        this.stockBucketCount = bucketCount;
+        this.bucketStockQuantity = totalQuantity;
+    }
+
+    /**
+     * 재고 분산 모드 해제
+     * 버킷 재고 합계를 상품 행으로 되돌림
+     *
+     * @param totalQuantity 버킷 재고 합계
+     */
+    public void mergeStock(int totalQuantity) {
+        this.stock = new Stock(totalQuantity);
+        this.stockBucketCount = 0;
+        this.bucketStockQuantity = 0;
+    }
+
     /*장바구니 담기 전용*/
     public boolean canAddToCart(int requestQuantity) {
-        return stock.isAvailable(requestQuantity);
+        return getStock().isAvailable(requestQuantity);
     }
 
     /*결제시 검증 + 차감용*/
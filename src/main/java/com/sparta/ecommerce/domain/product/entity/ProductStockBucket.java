@@ -0,0 +1,45 @@
+package com.sparta.ecommerce.domain.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 버킷 엔티티
+ *
+ * 재고 분산 모드 상품의 재고를 N개 행으로 나누어 저장
+ * → 주문마다 서로 다른 버킷 행을 잠가 단일 행 락 경합 제거
+ */
+@Entity
+@Table(name = "product_stock_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_stock_bucket", columnNames = {"product_id", "bucket_no"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductStockBucket {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bucketId;
+
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+}
@@ -0,0 +1,18 @@
+package com.sparta.ecommerce.domain.product.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 주문 처리 중 상품이 핫 상품 모드로 전환되었을 때 발생하는 예외
+ * DB 재고 차감이 핫 상품 재고 스냅샷과 중복되지 않도록 주문을 롤백 (클라이언트 재시도 대상)
+ */
+public class StockModeChangedException extends BusinessException {
+    public StockModeChangedException() {
+        super(ErrorCode.P004);
+    }
+
+    public StockModeChangedException(String productIds) {
+        super(ErrorCode.P004, ErrorCode.P004.getMessage() + ": " + productIds);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sparta.ecommerce.domain.product.exception;
+
+import com.sparta.ecommerce.common.exception.BusinessException;
+import com.sparta.ecommerce.common.exception.ErrorCode;
+
+/**
+ * 핫 상품 모드와 재고 분산 모드를 동시에 설정하려 할 때 발생하는 예외
+ */
+public class StockModeConflictException extends BusinessException {
+    public StockModeConflictException() {
+        super(ErrorCode.P003);
+    }
+
+    public StockModeConflictException(String productId) {
+        super(ErrorCode.P003, "핫 상품 모드와 재고 분산 모드는 함께 사용할 수 없습니다: " + productId);
+    }
+}
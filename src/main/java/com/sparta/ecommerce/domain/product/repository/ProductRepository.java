@@ -15,7 +15,7 @@ import java.util.Optional;
  * 상품 저장소 인터페이스
  * JpaRepository가 기본 CRUD 메서드 제공 (findById, findAll, save 등)
  */
-public interface ProductRepository extends JpaRepository<Product, String> {
+public interface ProductRepository extends JpaRepository<Product, String>, ProductRepositoryCustom {
 
     /**
      * 상품 조회 (비관적 락)
@@ -46,6 +46,22 @@ public interface ProductRepository extends JpaRepository<Product, String> {
      */
     List<Product> findByProductIdIn(List<String> productIds);
 
+    /**
+     * 여러 상품 조회 (비관적 락)
+     * ID 오름차순으로 락을 획득하여 주문 재고 차감과 같은 순서 유지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.productId IN :productIds ORDER BY p.productId")
+    List<Product> findAllByIdsWithLock(@Param("productIds") List<String> productIds);
+
+    /**
+     * 재고를 상품 행에서 관리하는 상품만 잠금 (비관적 락, ID 오름차순)
+     * 재고 분산 상품은 버킷 행으로 경합을 분산하므로 상품 행을 잠그지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.productId IN :productIds AND p.stockBucketCount = 0 ORDER BY p.productId")
+    List<Product> findAllUnshardedByIdsWithLock(@Param("productIds") List<String> productIds);
+
     /**
      * 재고 차감 (직접 UPDATE 쿼리)
      *
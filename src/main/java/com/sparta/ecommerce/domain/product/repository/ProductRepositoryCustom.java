@@ -0,0 +1,34 @@
+package com.sparta.ecommerce.domain.product.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 저장소 커스텀 인터페이스
+ * JPQL로 표현하기 어려운 대량 처리 쿼리를 JDBC로 직접 실행
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 여러 상품 재고 일괄 차감 (JDBC Batch)
+     *
+     * - 상품 ID 오름차순으로 정렬하여 실행 (락 획득 순서 고정 → 데드락 방지)
+     * - 한 번의 배치 호출로 전송하여 라운드트립 최소화
+     * - 각 UPDATE는 기존 decreaseStock과 동일하게 stock >= amount 조건 포함
+     *
+     * @param amounts 상품 ID → 차감 수량
+     * @return 재고 부족으로 차감에 실패한 상품 ID 목록 (상품 ID 오름차순, 모두 성공 시 빈 리스트)
+     */
+    List<String> decreaseStockInBatch(Map<String, Integer> amounts);
+
+    /**
+     * 여러 상품 재고 증감분 일괄 반영 (JDBC Batch)
+     *
+     * Redis에서 이미 재고 검증을 마친 핫 상품 차감분을 DB에 비동기 반영할 때 사용
+     * - 차감 후 재고가 음수가 되는 상품은 0으로 맞춤 (Redis-DB 불일치 → 호출 측에서 경고 로그)
+     *
+     * @param deltas 상품 ID → 차감 수량 (음수면 재고 증가)
+     * @return 재고가 부족해 0으로 맞춘 상품 ID 목록 (상품 ID 오름차순)
+     */
+    List<String> applyStockDeltaInBatch(Map<String, Integer> deltas);
+}
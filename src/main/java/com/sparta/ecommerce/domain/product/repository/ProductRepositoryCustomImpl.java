@@ -0,0 +1,76 @@
+package com.sparta.ecommerce.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 저장소 커스텀 구현체
+ *
+ * JdbcTemplate은 JPA 트랜잭션의 커넥션을 그대로 사용하므로
+ * 주문 트랜잭션 롤백 시 함께 롤백됨
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE products SET stock = stock - ? WHERE id = ? AND stock >= ?";
+
+    private static final String CLAMP_STOCK_SQL =
+            "UPDATE products SET stock = 0 WHERE id = ? AND stock < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> decreaseStockInBatch(Map<String, Integer> amounts) {
+        if (amounts.isEmpty()) {
+            return List.of();
+        }
+
+        // 상품 ID 오름차순 정렬 (모든 주문이 같은 순서로 행 락 획득)
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(new TreeMap<>(amounts).entrySet());
+
+        int[] results = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, sorted, sorted.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                    ps.setInt(3, entry.getValue());
+                })[0];
+
+        // affected rows = 0 → 재고 부족
+        // (드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우는 성공으로 간주)
+        List<String> failedProductIds = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == 0) {
+                failedProductIds.add(sorted.get(i).getKey());
+            }
+        }
+        return failedProductIds;
+    }
+
+    @Override
+    @Transactional
+    public List<String> applyStockDeltaInBatch(Map<String, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        // 재고 조건부 차감 (음수 재고 방지, 재고 증가분은 항상 성공)
+        List<String> shortProductIds = decreaseStockInBatch(deltas);
+
+        // 재고보다 큰 차감분은 0으로 맞춤 (남은 재고만 차감)
+        if (!shortProductIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(CLAMP_STOCK_SQL, shortProductIds, shortProductIds.size(),
+                    (ps, productId) -> {
+                        ps.setString(1, productId);
+                        ps.setInt(2, deltas.get(productId));
+                    });
+        }
+        return shortProductIds;
+    }
+}
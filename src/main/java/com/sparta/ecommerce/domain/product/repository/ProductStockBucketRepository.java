@@ -0,0 +1,38 @@
+package com.sparta.ecommerce.domain.product.repository;
+
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 상품 재고 버킷 저장소 인터페이스
+ */
+public interface ProductStockBucketRepository
+        extends JpaRepository<ProductStockBucket, Long>, ProductStockBucketRepositoryCustom {
+
+    /**
+     * 상품의 재고 버킷 전체 조회 (비관적 락, 버킷 번호 오름차순)
+     * 재고 분산 모드 전환/해제 시 진행 중인 차감을 잠시 차단
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductIdWithLock(@Param("productId") String productId);
+
+    /**
+     * 상품의 재고 버킷 조회 (버킷 번호 오름차순)
+     */
+    List<ProductStockBucket> findByProductIdOrderByBucketNo(String productId);
+
+    /**
+     * 상품의 재고 버킷 전체 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ProductStockBucket b WHERE b.productId = :productId")
+    int deleteAllByProductId(@Param("productId") String productId);
+}
@@ -0,0 +1,33 @@
+package com.sparta.ecommerce.domain.product.repository;
+
+import java.util.Map;
+
+/**
+ * 상품 재고 버킷 저장소 커스텀 인터페이스
+ * 버킷 탐색/차감을 JDBC로 직접 실행
+ */
+public interface ProductStockBucketRepositoryCustom {
+
+    /**
+     * 재고 분산 상품의 재고 차감
+     *
+     * 1. 재고가 충분한 버킷 중 임의의 버킷 하나를 SKIP LOCKED로 잠그고 차감
+     * 2. 후보가 없거나 탐색이 실패하면 버킷 번호 순으로 잠그고 여러 버킷에서 나누어 차감
+     *
+     * @param productId 상품 ID
+     * @param amount    차감할 수량
+     * @return 차감 성공 여부 (false: 전체 버킷 재고 합계 부족)
+     * @throws org.springframework.dao.CannotAcquireLockException 건너뛴 버킷 때문에 재고 부족 여부를 확정할 수 없는 경우
+     */
+    boolean decreaseStock(String productId, int amount);
+
+    /**
+     * 재고 분산 상품들의 재고 일괄 복구 (JDBC Batch, 주문 취소 시)
+     *
+     * 상품마다 재고가 가장 적은 버킷에 복구 (상품 ID 오름차순 실행)
+     * 호출 전 상품 행을 잠가 재고 분산 모드 전환과 겹치지 않도록 해야 함
+     *
+     * @param amounts 상품 ID → 복구 수량
+     */
+    void increaseStockInBatch(Map<String, Integer> amounts);
+}
@@ -0,0 +1,151 @@
+package com.sparta.ecommerce.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 버킷 저장소 커스텀 구현체
+ *
+ * 버킷 탐색 순서:
+ * - 잠금 없는 조회로 재고가 충분해 보이는 버킷만 후보로 선정
+ *   (어느 버킷도 수량을 감당하지 못하면 탐색 없이 바로 버킷 번호 순 잠금 경로로 진행)
+ * - 후보 중 임의의 버킷 하나만 FOR UPDATE SKIP LOCKED로 잠그고 재고 확인 후 차감
+ *   → 주문들이 서로 다른 버킷 행으로 분산되고, 다른 주문이 잡은 버킷은 기다리지 않고 건너뜀
+ * - 탐색 실패 시 버킷 번호 순 FOR UPDATE 경로로 전환
+ *
+ * 교착 상태 방지:
+ * - REPEATABLE READ에서는 실패한 조건부 UPDATE/잠금 조회도 행 락을 유지하고
+ *   세이브포인트 롤백으로도 해제되지 않음
+ * - 그래서 락 대기는 항상 "자신이 잡은 버킷보다 번호가 큰 버킷"에 대해서만 발생하도록 함
+ *   · 탐색은 SKIP LOCKED라 대기하지 않음 (잠긴 버킷이면 락 없이 순서 잠금 경로로)
+ *   · 탐색으로 k번 버킷을 잡은 채 재고가 부족하면, k번 미만 버킷은 SKIP LOCKED로만 잠그고
+ *     k번 이상 버킷만 번호 순으로 대기하며 잠금
+ *   · 건너뛴 버킷 때문에 합계가 부족하면 재고 부족으로 단정하지 않고 락 획득 실패로 처리
+ *     (CannotAcquireLockException → 주문 단위 재시도 대상)
+ *
+ * JdbcTemplate은 JPA 트랜잭션의 커넥션을 그대로 사용하므로
+ * 주문 트랜잭션 롤백 시 함께 롤백됨
+ */
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryCustomImpl implements ProductStockBucketRepositoryCustom {
+
+    private static final String SELECT_BUCKETS_SQL =
+            "SELECT bucket_no, quantity FROM product_stock_buckets WHERE product_id = ? ORDER BY bucket_no";
+
+    private static final String DECREASE_BUCKET_SQL =
+            "UPDATE product_stock_buckets SET quantity = quantity - ? WHERE product_id = ? AND bucket_no = ? AND quantity >= ?";
+
+    private static final String PROBE_BUCKET_SQL =
+            "SELECT bucket_no, quantity FROM product_stock_buckets WHERE product_id = ? AND bucket_no = ? FOR UPDATE SKIP LOCKED";
+
+    private static final String SELECT_LOWER_BUCKETS_SKIP_LOCKED_SQL =
+            "SELECT bucket_no, quantity FROM product_stock_buckets WHERE product_id = ? AND bucket_no < ? ORDER BY bucket_no FOR UPDATE SKIP LOCKED";
+
+    private static final String SELECT_BUCKETS_FROM_FOR_UPDATE_SQL =
+            "SELECT bucket_no, quantity FROM product_stock_buckets WHERE product_id = ? AND bucket_no >= ? ORDER BY bucket_no FOR UPDATE";
+
+    private static final String INCREASE_LOWEST_BUCKET_SQL =
+            "UPDATE product_stock_buckets SET quantity = quantity + ? WHERE product_id = ? ORDER BY quantity, bucket_no LIMIT 1";
+
+    private static final RowMapper<Bucket> BUCKET_ROW_MAPPER =
+            (rs, rowNum) -> new Bucket(rs.getInt("bucket_no"), rs.getInt("quantity"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean decreaseStock(String productId, int amount) {
+        List<Bucket> buckets = jdbcTemplate.query(SELECT_BUCKETS_SQL, BUCKET_ROW_MAPPER, productId);
+
+        // 1. 합계도 부족하면 잠금 없이 실패 (재고 소진)
+        int total = buckets.stream().mapToInt(Bucket::quantity).sum();
+        if (total < amount) {
+            return false;
+        }
+
+        // 2. 단일 버킷 차감 (임의 후보 1개만 SKIP LOCKED로 탐색 → 대기 없이 한 행만 잠금)
+        List<Bucket> candidates = buckets.stream()
+                .filter(bucket -> bucket.quantity() >= amount)
+                .toList();
+        if (candidates.isEmpty()) {
+            return decreaseAcrossBuckets(productId, amount, 0);
+        }
+
+        Bucket candidate = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        List<Bucket> probed = jdbcTemplate.query(PROBE_BUCKET_SQL, BUCKET_ROW_MAPPER, productId, candidate.bucketNo());
+        if (probed.isEmpty()) {
+            // 다른 주문이 잡고 있는 버킷 → 락 없이 버킷 번호 순 잠금 경로로
+            return decreaseAcrossBuckets(productId, amount, 0);
+        }
+
+        Bucket bucket = probed.get(0);
+        if (bucket.quantity() >= amount) {
+            jdbcTemplate.update(DECREASE_BUCKET_SQL, amount, productId, bucket.bucketNo(), amount);
+            return true;
+        }
+
+        // 3. 잠근 버킷의 재고가 그 사이 줄어듦 → 잡은 버킷 번호부터만 대기하며 나누어 차감
+        return decreaseAcrossBuckets(productId, amount, bucket.bucketNo());
+    }
+
+    /**
+     * 여러 버킷에서 나누어 차감
+     *
+     * @param heldBucketNo 이미 잠근 버킷 번호 (없으면 0)
+     *                     이보다 작은 번호의 버킷은 대기하지 않고 SKIP LOCKED로만 잠금
+     */
+    private boolean decreaseAcrossBuckets(String productId, int amount, int heldBucketNo) {
+        List<Bucket> locked = new ArrayList<>();
+        if (heldBucketNo > 0) {
+            locked.addAll(jdbcTemplate.query(SELECT_LOWER_BUCKETS_SKIP_LOCKED_SQL, BUCKET_ROW_MAPPER, productId, heldBucketNo));
+        }
+        int skipped = heldBucketNo - locked.size();
+        locked.addAll(jdbcTemplate.query(SELECT_BUCKETS_FROM_FOR_UPDATE_SQL, BUCKET_ROW_MAPPER, productId, heldBucketNo));
+
+        if (locked.stream().mapToInt(Bucket::quantity).sum() < amount) {
+            if (skipped > 0) {
+                throw new CannotAcquireLockException(
+                        "재고 버킷 락 획득 실패 - productId=" + productId + ", skippedBuckets=" + skipped);
+            }
+            return false;
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        int remaining = amount;
+        for (Bucket bucket : locked) {
+            if (remaining == 0) {
+                break;
+            }
+            int taken = Math.min(bucket.quantity(), remaining);
+            if (taken > 0) {
+                updates.add(new Object[]{taken, productId, bucket.bucketNo(), taken});
+                remaining -= taken;
+            }
+        }
+        jdbcTemplate.batchUpdate(DECREASE_BUCKET_SQL, updates);
+        return true;
+    }
+
+    @Override
+    public void increaseStockInBatch(Map<String, Integer> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(new TreeMap<>(amounts).entrySet());
+        jdbcTemplate.batchUpdate(INCREASE_LOWEST_BUCKET_SQL, sorted, sorted.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                });
+    }
+
+    private record Bucket(int bucketNo, int quantity) {}
+}
@@ -0,0 +1,32 @@
+package com.sparta.ecommerce.domain.product.stock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 핫 상품(선착순 한정 판매) 재고 예약 인터페이스
+ *
+ * 주문 재고 차감 시 핫 상품은 DB 행 락 대신 외부 저장소에서 원자적으로 예약
+ * (DB 반영은 별도 Reconciler가 비동기로 처리)
+ */
+public interface HotStockReserver {
+
+    /**
+     * 주어진 상품 중 핫 상품 필터링
+     *
+     * @param productIds 상품 ID 목록
+     * @return 핫 상품 ID 집합
+     */
+    Set<String> findHotProductIds(Collection<String> productIds);
+
+    /**
+     * 주문 트랜잭션 안에서 재고 예약 (전체 성공 또는 전체 실패)
+     * 트랜잭션이 커밋되지 않으면 예약을 취소해야 함
+     *
+     * @param amounts 상품 ID → 차감 수량
+     * @return 재고 부족 상품 ID 목록 (빈 리스트면 예약 성공)
+     */
+    List<String> reserveForTransaction(Map<String, Integer> amounts);
+}
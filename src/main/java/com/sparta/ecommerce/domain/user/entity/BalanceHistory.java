@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -14,8 +15,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 잔액 변경 이력 (충전, 주문 차감, 환불)
+ *
+ * ID는 AUTO_INCREMENT로 INSERT 시점에 발급
+ * - 모든 이력 INSERT는 해당 사용자 행 락을 잡은 뒤 실행 → 사용자별로 커밋 순서와 ID 순서가 같음
+ * - 잔액 캐시(UserBalanceCacheService)가 이 ID를 버전으로 사용 (늦게 도착한 이전 값이 최신 값을 덮어쓰지 않도록)
+ * - pooled 시퀀스는 서버마다 ID 블록을 미리 받아 두므로 커밋 순서를 보장하지 못함
+ */
 @Entity
-@Table(name="balance_history")
+@Table(name="balance_history", indexes = {
+        @Index(name = "idx_balance_history_user_id", columnList = "user_id, id"),  // 잔액 캐시 버전 조회
+        @Index(name = "idx_balance_history_user_charged_at", columnList = "user_id, charged_at, id")  // 이력 키셋 조회
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -2,11 +2,10 @@ package com.sparta.ecommerce.domain.user.entity;
 
 import com.sparta.ecommerce.infrastructure.jpa.BaseEntity;
 import com.sparta.ecommerce.domain.user.vo.Balance;
+import com.sparta.ecommerce.infrastructure.jpa.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -28,7 +27,7 @@ public class User extends BaseEntity {
 
     @Id
     @Column(name="id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String userId;
 
     @Column(nullable = false)
@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.domain.user.event;
+
+/**
+ * 사용자 잔액 변경 이벤트
+ * 잔액 변경 트랜잭션 안에서 발행되며, 커밋 이후 잔액 캐시에 반영됨
+ *
+ * @param userId  사용자 ID
+ * @param balance 변경 후 잔액
+ * @param version 잔액을 만든 balance_history ID
+ */
+public record UserBalanceChangedEvent(String userId, long balance, long version) {
+
+}
@@ -1,23 +1,70 @@
 package com.sparta.ecommerce.domain.user.repository;
 
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse;
 import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * 잔액 충전 이력 Repository
  */
 @Repository
-public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory, Long> {
+public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory, Long>, BalanceHistoryRepositoryCustom {
 
     /**
-     * 특정 사용자의 충전 이력 조회 (최신순)
+     * 사용자 잔액 이력 첫 페이지 (최신순)
+     * - (user_id, charged_at, id) 인덱스를 역순으로 읽고 LIMIT 건에서 멈춤 → 정렬(filesort) 없음
+     * - DTO Projection으로 필요한 컬럼만 조회 (엔티티 로딩/영속성 컨텍스트 적재 없음)
+     *
+     * @param limit 조회 건수
      */
-    List<BalanceHistory> findByUserIdOrderByChargedAtDesc(String userId);
+    @Query("""
+        SELECT new com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse(
+            h.id, h.transactionId, h.amount, h.previousBalance, h.currentBalance, h.paymentMethod, h.chargedAt
+        )
+        FROM BalanceHistory h
+        WHERE h.userId = :userId
+        ORDER BY h.chargedAt DESC, h.id DESC
+        LIMIT :limit
+        """)
+    List<BalanceHistoryResponse> findFirstPage(@Param("userId") String userId, @Param("limit") int limit);
+
+    /**
+     * 사용자 잔액 이력 다음 페이지 (키셋: 커서보다 이전 (charged_at, id))
+     * OFFSET 없이 커서 위치에서 인덱스 탐색을 시작하므로 페이지 깊이와 무관하게 일정한 비용
+     *
+     * @param chargedAt 커서 변경 일시
+     * @param id        커서 이력 ID
+     * @param limit     조회 건수
+     */
+    @Query("""
+        SELECT new com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse(
+            h.id, h.transactionId, h.amount, h.previousBalance, h.currentBalance, h.paymentMethod, h.chargedAt
+        )
+        FROM BalanceHistory h
+        WHERE h.userId = :userId
+          AND (h.chargedAt < :chargedAt OR (h.chargedAt = :chargedAt AND h.id < :id))
+        ORDER BY h.chargedAt DESC, h.id DESC
+        LIMIT :limit
+        """)
+    List<BalanceHistoryResponse> findPageBefore(@Param("userId") String userId,
+                                                @Param("chargedAt") LocalDateTime chargedAt,
+                                                @Param("id") long id,
+                                                @Param("limit") int limit);
 
     /**
      * 거래 ID로 이미 처리된 충전인지 확인
      */
     boolean existsByTransactionId(String transactionId);
+
+    /**
+     * 사용자의 최신 이력 ID (잔액 캐시 버전)
+     */
+    @Query("SELECT MAX(h.id) FROM BalanceHistory h WHERE h.userId = :userId")
+    Optional<Long> findLatestIdByUserId(@Param("userId") String userId);
 }
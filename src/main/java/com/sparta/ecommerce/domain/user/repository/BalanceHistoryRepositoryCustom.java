@@ -0,0 +1,36 @@
+package com.sparta.ecommerce.domain.user.repository;
+
+import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔액 이력 저장소 커스텀 인터페이스
+ */
+public interface BalanceHistoryRepositoryCustom {
+
+    /**
+     * 충전 이력 선기록 (INSERT ... SELECT ... FROM users FOR UPDATE)
+     *
+     * - transactionId unique 제약이 멱등성 게이트 → 이미 처리된 거래면 DuplicateKeyException
+     * - 사용자 행을 잠근 채 현재 잔액으로 이전/현재 잔액 기록 → 이어지는 잔액 UPDATE와 값이 어긋나지 않음
+     *
+     * @param userId        사용자 ID
+     * @param transactionId 거래 ID
+     * @param amount        충전 금액
+     * @param paymentMethod 결제 수단
+     * @return 저장된 이력 ID (사용자가 없으면 empty)
+     */
+    Optional<Long> insertChargeHistory(String userId, String transactionId, long amount, String paymentMethod);
+
+    /**
+     * 이력 일괄 저장 (JDBC Batch)
+     *
+     * AUTO_INCREMENT ID는 Hibernate가 배치로 묶지 못하므로 대량 저장은 직접 배치 INSERT
+     *
+     * @param histories 저장할 이력
+     * @return 발급된 이력 ID (입력 순서)
+     */
+    List<Long> insertAllInBatch(List<BalanceHistory> histories);
+}
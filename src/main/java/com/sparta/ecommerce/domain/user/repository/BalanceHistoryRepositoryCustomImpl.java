@@ -0,0 +1,93 @@
+package com.sparta.ecommerce.domain.user.repository;
+
+import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 잔액 이력 저장소 커스텀 구현체
+ */
+@RequiredArgsConstructor
+public class BalanceHistoryRepositoryCustomImpl implements BalanceHistoryRepositoryCustom {
+
+    private static final String INSERT_CHARGE_HISTORY_SQL = """
+            INSERT INTO balance_history
+                (user_id, transaction_id, amount, previous_balance, current_balance, payment_method, charged_at)
+            SELECT id, ?, ?, balance, balance + ?, ?, ?
+            FROM users WHERE id = ? FOR UPDATE
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO balance_history
+                (user_id, transaction_id, amount, previous_balance, current_balance, payment_method, charged_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> insertChargeHistory(String userId, String transactionId, long amount, String paymentMethod) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_CHARGE_HISTORY_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, transactionId);
+            ps.setLong(2, amount);
+            ps.setLong(3, amount);
+            ps.setString(4, paymentMethod);
+            ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setString(6, userId);
+            return ps;
+        }, keyHolder);
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKeyAs(Number.class).longValue());
+    }
+
+    @Override
+    public List<Long> insertAllInBatch(List<BalanceHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        BalanceHistory history = histories.get(i);
+                        LocalDateTime chargedAt = history.getChargedAt() != null ? history.getChargedAt() : LocalDateTime.now();
+                        ps.setString(1, history.getUserId());
+                        ps.setString(2, history.getTransactionId());
+                        ps.setLong(3, history.getAmount());
+                        ps.setLong(4, history.getPreviousBalance());
+                        ps.setLong(5, history.getCurrentBalance());
+                        ps.setString(6, history.getPaymentMethod());
+                        ps.setTimestamp(7, Timestamp.valueOf(chargedAt));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return histories.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
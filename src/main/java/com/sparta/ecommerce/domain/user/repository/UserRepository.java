@@ -2,6 +2,7 @@ package com.sparta.ecommerce.domain.user.repository;
 
 import com.sparta.ecommerce.domain.user.entity.User;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -13,13 +14,21 @@ import org.springframework.stereotype.Repository;
  * 사용자 Repository
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserRepositoryCustom {
 
     /**
      * 사용자 ID로 조회
      */
     Optional<User> findByUserId(String userId);
 
+    /**
+     * 여러 사용자 조회 (비관적 락)
+     * ID 오름차순으로 락을 획득하여 배치 간 데드락 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.userId IN :userIds ORDER BY u.userId")
+    List<User> findAllByIdsWithLock(@Param("userIds") List<String> userIds);
+
     /**
      * 잔액 원자적 업데이트 (충전)
      *
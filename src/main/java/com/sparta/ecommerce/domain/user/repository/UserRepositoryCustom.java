@@ -0,0 +1,45 @@
+package com.sparta.ecommerce.domain.user.repository;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 사용자 저장소 커스텀 인터페이스
+ * 사용자 잔액을 JDBC로 직접 갱신 (엔티티 조회/merge 없이 단일 UPDATE)
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 여러 사용자 잔액 일괄 증가 (JDBC Batch, balance = balance + ?)
+     *
+     * - 사용자 ID 오름차순으로 실행 (락 획득 순서 고정 → 데드락 방지)
+     * - 갱신한 행의 락을 보유한 상태에서 결과 잔액 조회 → 이력의 이전/현재 잔액 계산에 사용
+     *
+     * @param amounts 사용자 ID → 증가 금액
+     * @return 사용자 ID → 증가 후 잔액 (존재하지 않는 사용자는 제외)
+     */
+    Map<String, Long> increaseBalanceInBatch(Map<String, Long> amounts);
+
+    /**
+     * 잔액 조건부 차감 (UPDATE ... WHERE balance >= 금액)
+     *
+     * - 잔액 검증과 차감을 한 문장에서 처리 → 분산 락 없이도 동시 결제로 잔액이 음수가 되지 않음
+     * - 차감 후 잔액은 LAST_INSERT_ID(expr)로 UPDATE 응답에 실어 받음 (users 재조회 없음)
+     *
+     * @param userId 사용자 ID
+     * @param amount 차감 금액
+     * @return 차감 후 잔액 (잔액 부족 또는 사용자가 없으면 empty)
+     */
+    OptionalLong deductBalanceIfSufficient(String userId, long amount);
+
+    /**
+     * 잔액 증가 (UPDATE ... SET balance = balance + 금액)
+     *
+     * - 증가 후 잔액은 LAST_INSERT_ID(expr)로 UPDATE 응답(OK 패킷)에 실어 받음 → 추가 조회 없이 한 문장
+     *
+     * @param userId 사용자 ID
+     * @param amount 증가 금액
+     * @return 증가 후 잔액 (사용자가 없으면 empty)
+     */
+    OptionalLong increaseBalance(String userId, long amount);
+}
@@ -0,0 +1,102 @@
+package com.sparta.ecommerce.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * 사용자 저장소 커스텀 구현체
+ *
+ * JdbcTemplate은 JPA 트랜잭션의 커넥션을 그대로 사용하므로
+ * 호출한 트랜잭션 롤백 시 함께 롤백됨
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INCREASE_BALANCE_SQL =
+            "UPDATE users SET balance = balance + ? WHERE id = ?";
+
+    private static final String SELECT_BALANCES_SQL =
+            "SELECT id, balance FROM users WHERE id IN (:userIds)";
+
+    private static final String DEDUCT_BALANCE_SQL =
+            "UPDATE users SET balance = LAST_INSERT_ID(balance - ?), updated_at = NOW(6) WHERE id = ? AND balance >= ?";
+
+    private static final String INCREASE_BALANCE_RETURNING_SQL =
+            "UPDATE users SET balance = LAST_INSERT_ID(balance + ?), updated_at = NOW(6) WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Map<String, Long> increaseBalanceInBatch(Map<String, Long> amounts) {
+        if (amounts.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(new TreeMap<>(amounts).entrySet());
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INCREASE_BALANCE_SQL, sorted, sorted.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                });
+
+        Map<String, Long> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_BALANCES_SQL,
+                new MapSqlParameterSource("userIds", amounts.keySet()),
+                rs -> {
+                    balances.put(rs.getString("id"), rs.getLong("balance"));
+                });
+        return balances;
+    }
+
+    @Override
+    public OptionalLong deductBalanceIfSufficient(String userId, long amount) {
+        return updateReturningBalance(DEDUCT_BALANCE_SQL, ps -> {
+            ps.setLong(1, amount);
+            ps.setString(2, userId);
+            ps.setLong(3, amount);
+        });
+    }
+
+    @Override
+    public OptionalLong increaseBalance(String userId, long amount) {
+        return updateReturningBalance(INCREASE_BALANCE_RETURNING_SQL, ps -> {
+            ps.setLong(1, amount);
+            ps.setString(2, userId);
+        });
+    }
+
+    /**
+     * LAST_INSERT_ID(expr)로 잔액을 갱신하는 UPDATE 실행 후 갱신된 잔액 반환
+     *
+     * MySQL은 LAST_INSERT_ID 값을 UPDATE 응답(OK 패킷)에 담아 보내므로
+     * generated key로 바로 읽음 (SELECT LAST_INSERT_ID() 왕복 없음)
+     * 값이 0이면 드라이버가 키를 돌려주지 않음 → 잔액 0으로 처리
+     */
+    private OptionalLong updateReturningBalance(String sql, PreparedStatementSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int updated = namedParameterJdbcTemplate.getJdbcTemplate().update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            setter.setValues(ps);
+            return ps;
+        }, keyHolder);
+        if (updated == 0) {
+            return OptionalLong.empty();
+        }
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        return OptionalLong.of(keys.isEmpty() ? 0L : ((Number) keys.get(0).values().iterator().next()).longValue());
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.ecommerce.infrastructure.aop;
 
 
+import com.sparta.ecommerce.infrastructure.metrics.TransactionCommitTimer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.hibernate.Session;
@@ -22,6 +23,9 @@ public class AopForTransaction {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private TransactionCommitTimer transactionCommitTimer;
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Object proceed(final ProceedingJoinPoint joinPoint) throws Throwable {
         log.info("=== [트랜잭션 확인] 새 트랜잭션 시작 (REQUIRES_NEW) ===");
@@ -38,6 +42,10 @@ public class AopForTransaction {
             log.info("=== [DB 커넥션 확인] Connection 해시코드: {} ===", System.identityHashCode(connection));
         });
 
+        // 커밋 시간 측정 (락 보유 구간 중 커밋이 차지하는 비중 확인용)
+        transactionCommitTimer.register(
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+
         Object result = joinPoint.proceed();
 
         log.info("=== [트랜잭션 확인] 새 트랜잭션 종료 (곧 커밋됨) ===");
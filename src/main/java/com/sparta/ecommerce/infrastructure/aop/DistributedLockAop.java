@@ -2,7 +2,11 @@ package com.sparta.ecommerce.infrastructure.aop;
 
 import com.sparta.ecommerce.infrastructure.aop.annotation.DistributedLock;
 import com.sparta.ecommerce.infrastructure.util.CustomSpringELParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,10 +15,18 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * @DistributedLock 선언 시 수행되는 AOP 클래스
+ *
+ * 2단계 락:
+ * 1. 노드 로컬 락 (LocalLockRegistry) - 같은 JVM의 같은 키 요청을 메모리에서 먼저 직렬화
+ * 2. Redisson 락 - 로컬 락을 획득한 스레드만 시도 → 키당 노드별 1개의 Redis 락 경쟁/pub-sub 대기
+ *
+ * waitTime은 두 단계가 나눠 사용 (로컬 대기 후 남은 시간만큼 Redisson 대기)
+ * lock.local-tier.enabled=false 이면 기존처럼 Redisson 락만 사용
  */
 
 @Aspect
@@ -27,6 +39,11 @@ public class DistributedLockAop {
 
     private final RedissonClient redissonClient;
     private final AopForTransaction aopForTransaction;
+    private final LocalLockRegistry localLockRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lock.local-tier.enabled:true}")
+    private boolean localTierEnabled;
 
     @Around("@annotation(com.sparta.ecommerce.infrastructure.aop.annotation.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
@@ -40,14 +57,36 @@ public class DistributedLockAop {
                 distributedLock.key()
         );
 
+        long waitNanos = distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+        long startedAt = System.nanoTime();
+
+        // 1단계: 노드 로컬 락
+        boolean localLocked = false;
+        if (localTierEnabled) {
+            LocalLockRegistry.Acquisition acquisition =
+                    localLockRegistry.tryLock(key, waitNanos, TimeUnit.NANOSECONDS);
+            record("local", acquisition.acquired(), System.nanoTime() - startedAt);
+            if (acquisition.contended()) {
+                counter("distributed.lock.local.contended").increment();
+            }
+            if (!acquisition.acquired()) {
+                return false;
+            }
+            localLocked = true;
+        }
+
         RLock rLock = redissonClient.getLock(key);
 
         try {
+            // 2단계: Redisson 락 (남은 대기 시간만 사용)
+            long remoteStartedAt = System.nanoTime();
+            long remainingNanos = Math.max(0, waitNanos - (remoteStartedAt - startedAt));
             boolean available = rLock.tryLock(
-                    distributedLock.waitTime(),
-                    distributedLock.leaseTime(),
-                    distributedLock.timeUnit()
+                    remainingNanos,
+                    distributedLock.timeUnit().toNanos(distributedLock.leaseTime()),
+                    TimeUnit.NANOSECONDS
             );
+            record("remote", available, System.nanoTime() - remoteStartedAt);
 
             if (!available) {
                 return false;
@@ -67,7 +106,28 @@ public class DistributedLockAop {
             } catch (IllegalMonitorStateException e) {
                 log.info("Redisson Lock Already UnLock - serviceName: {}, key: {}",
                         method.getName(), key);
+            } finally {
+                if (localLocked) {
+                    localLockRegistry.unlock(key);
+                }
             }
         }
     }
+
+    /**
+     * 단계별 락 대기 시간 및 획득 결과 기록
+     * distributed.lock.wait{tier=local|remote, result=acquired|timeout} (count = 획득 시도 수)
+     */
+    private void record(String tier, boolean acquired, long waitedNanos) {
+        Timer.builder("distributed.lock.wait")
+                .tag("tier", tier)
+                .tag("result", acquired ? "acquired" : "timeout")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter counter(String name) {
+        return meterRegistry.counter(name);
+    }
 }
\ No newline at end of file
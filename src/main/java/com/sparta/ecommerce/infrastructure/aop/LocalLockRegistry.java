@@ -0,0 +1,98 @@
+package com.sparta.ecommerce.infrastructure.aop;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 키별 락 저장소 (분산 락 1단계)
+ *
+ * 같은 JVM에 들어온 같은 키의 요청을 먼저 로컬에서 직렬화하여
+ * 노드당 한 스레드만 Redisson 락을 시도하도록 함
+ *
+ * - 키별 ReentrantLock을 참조 카운트로 관리 → 사용 중인 키만 메모리에 유지
+ * - 공정(fair) 락으로 대기 순서대로 획득
+ */
+@Component
+public class LocalLockRegistry {
+
+    private final ConcurrentHashMap<String, LockEntry> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 로컬 락 획득 시도
+     *
+     * @param key      락 키
+     * @param waitTime 최대 대기 시간
+     * @param timeUnit 시간 단위
+     * @return 획득 결과 (획득 성공 시 반드시 unlock 호출)
+     */
+    public Acquisition tryLock(String key, long waitTime, TimeUnit timeUnit) throws InterruptedException {
+        LockEntry entry = retain(key);
+        boolean contended = entry.lock.isLocked() && !entry.lock.isHeldByCurrentThread();
+
+        boolean acquired = false;
+        try {
+            acquired = entry.lock.tryLock(waitTime, timeUnit);
+        } finally {
+            if (!acquired) {
+                release(key, entry);
+            }
+        }
+        return new Acquisition(acquired, contended);
+    }
+
+    /**
+     * 로컬 락 해제
+     *
+     * @param key 락 키
+     */
+    public void unlock(String key) {
+        LockEntry entry = locks.get(key);
+        if (entry == null || !entry.lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("로컬 락을 보유하고 있지 않습니다: " + key);
+        }
+        entry.lock.unlock();
+        release(key, entry);
+    }
+
+    /**
+     * 현재 관리 중인 키 개수 (테스트/모니터링용)
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    private LockEntry retain(String key) {
+        return locks.compute(key, (k, entry) -> {
+            LockEntry target = entry != null ? entry : new LockEntry();
+            target.references++;
+            return target;
+        });
+    }
+
+    private void release(String key, LockEntry expected) {
+        locks.computeIfPresent(key, (k, entry) -> {
+            if (entry != expected) {
+                return entry;
+            }
+            return --entry.references == 0 ? null : entry;
+        });
+    }
+
+    /**
+     * 로컬 락 획득 결과
+     *
+     * @param acquired  획득 여부
+     * @param contended 같은 노드의 다른 스레드가 보유 중이어서 대기했는지 여부
+     */
+    public record Acquisition(boolean acquired, boolean contended) {}
+
+    /**
+     * 참조 카운트는 ConcurrentHashMap.compute 안에서만 변경
+     */
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int references;
+    }
+}
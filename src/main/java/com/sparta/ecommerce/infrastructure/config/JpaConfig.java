@@ -0,0 +1,33 @@
+package com.sparta.ecommerce.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 배치 쓰기 설정
+ *
+ * 주문 쓰기 경로(order_items, cart_items, event_outbox)는
+ * pooled 시퀀스(allocationSize = 50)로 ID를 미리 확보하므로 INSERT를 JDBC 배치로 묶을 수 있음
+ * (balance_history는 잔액 캐시 버전으로 쓰기 위해 AUTO_INCREMENT 사용, 대량 INSERT는 JDBC 배치로 직접 처리)
+ * - batch_size: 시퀀스 allocationSize와 동일하게 설정
+ * - order_inserts / order_updates: 엔티티 타입별로 정렬하여 배치가 끊기지 않도록 함
+ *
+ * application.yml에 같은 키가 있으면 yml 설정이 우선
+ */
+@Configuration
+public class JpaConfig {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchWriteCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -1,17 +1,32 @@
 package com.sparta.ecommerce.infrastructure.config;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Redis 설정
  * - StringRedisTemplate: Sorted Set 랭킹 시스템 + Blocking Queue
+ * - RedisMessageListenerContainer: Pub/Sub 구독 (노드 로컬 캐시 무효화, 쿠폰 발급 결과 알림)
  */
 @Configuration
 public class RedisConfig {
 
+    @Value("${redis.listener.pool-size:4}")
+    private int listenerPoolSize;
+
+    @Value("${redis.listener.queue-capacity:1000}")
+    private int listenerQueueCapacity;
+
+    private ThreadPoolTaskExecutor listenerExecutor;
+
     /**
      * StringRedisTemplate 설정
      * - Sorted Set 랭킹용
@@ -22,4 +37,35 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    /**
+     * Pub/Sub 구독 컨테이너
+     * - 구독 채널은 각 서비스가 기동 시 등록 (예: CouponNearCacheService)
+     * - 메시지 처리는 크기가 제한된 전용 스레드 풀에서 실행
+     *   (기본 SimpleAsyncTaskExecutor는 메시지마다 스레드를 생성하므로 알림 폭주 시 스레드가 무한히 늘어남)
+     * - 큐가 가득 차면 구독 스레드가 직접 처리 → 알림을 버리지 않고 수신 속도를 늦춤
+     * - 애플리케이션 TaskExecutor(@Async)를 대체하지 않도록 Bean으로 등록하지 않음
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        listenerExecutor = new ThreadPoolTaskExecutor();
+        listenerExecutor.setThreadNamePrefix("redis-listener-");
+        listenerExecutor.setCorePoolSize(listenerPoolSize);
+        listenerExecutor.setMaxPoolSize(listenerPoolSize);
+        listenerExecutor.setQueueCapacity(listenerQueueCapacity);
+        listenerExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        listenerExecutor.initialize();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
+
+    @PreDestroy
+    void shutdownListenerExecutor() {
+        if (listenerExecutor != null) {
+            listenerExecutor.shutdown();
+        }
+    }
 }
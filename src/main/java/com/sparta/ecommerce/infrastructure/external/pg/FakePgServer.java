@@ -0,0 +1,163 @@
+package com.sparta.ecommerce.infrastructure.external.pg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 테스트/부하 테스트용 가짜 PG 서버
+ *
+ * HttpPaymentGateway와 같은 API를 제공하며 응답 지연과 실패 비율을 설정할 수 있음
+ * - 지연: latencyMs + [0, latencyJitterMs) 만큼 스케줄러로 응답을 미룸 (요청당 스레드를 점유하지 않아 높은 동시성 재현 가능)
+ * - 실패: failureRate 비율로 500, declineRate 비율로 402 (거절) 응답
+ * - 멱등: 같은 Idempotency-Key로 다시 승인 요청하면 처음 발급한 거래 ID 반환
+ * - 조회: GET /v1/payments/{결제 ID}로 승인/거절 결과 조회 (승인 요청이 없었으면 404)
+ *
+ * pg.fake.enabled=true 이면 애플리케이션과 함께 기동 (PaymentGatewayConfig)
+ * 테스트에서는 port 0으로 직접 생성하여 사용
+ */
+@Slf4j
+public class FakePgServer {
+
+    private final Settings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> approvedTransactions = new ConcurrentHashMap<>();
+    private final Map<String, String> declinedPayments = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param port            수신 포트 (0이면 임의 포트)
+     * @param latencyMs       기본 응답 지연
+     * @param latencyJitterMs 추가 지연 최대값
+     * @param failureRate     500 응답 비율 (0.0 ~ 1.0)
+     * @param declineRate     402 거절 응답 비율 (0.0 ~ 1.0)
+     */
+    public record Settings(int port, long latencyMs, long latencyJitterMs, double failureRate, double declineRate) {
+    }
+
+    public FakePgServer(Settings settings) {
+        this.settings = settings;
+    }
+
+    public void start() throws IOException {
+        scheduler = Executors.newScheduledThreadPool(2);
+        server = HttpServer.create(new InetSocketAddress(settings.port()), 1024);
+        server.createContext("/v1/payments/approve", this::handleApprove);
+        server.createContext("/v1/payments/", this::handleInquiry);
+        requestExecutor = Executors.newFixedThreadPool(2);
+        server.setExecutor(requestExecutor);
+        server.start();
+        log.info("가짜 PG 서버 기동 - port={}, settings={}", getPort(), settings);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (requestExecutor != null) {
+            requestExecutor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    private void handleApprove(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, Map.of("code", "METHOD_NOT_ALLOWED", "message", "POST만 허용됩니다"));
+            return;
+        }
+
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        String key = idempotencyKey != null ? idempotencyKey : body.path("paymentId").asText();
+
+        long delay = settings.latencyMs()
+                + (settings.latencyJitterMs() > 0 ? ThreadLocalRandom.current().nextLong(settings.latencyJitterMs()) : 0);
+        scheduler.schedule(() -> respondApprove(exchange, key), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void respondApprove(HttpExchange exchange, String key) {
+        try {
+            String approved = approvedTransactions.get(key);
+            if (approved != null) {
+                respond(exchange, 200, Map.of("transactionId", approved, "status", "APPROVED"));
+                return;
+            }
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < settings.failureRate()) {
+                respond(exchange, 500, Map.of("code", "PG_INTERNAL_ERROR", "message", "PG 내부 오류"));
+            } else if (roll < settings.failureRate() + settings.declineRate()) {
+                declinedPayments.put(key, "카드사 승인 거절");
+                respond(exchange, 402, Map.of("code", "CARD_DECLINED", "message", "카드사 승인 거절"));
+            } else {
+                String transactionId = approvedTransactions.computeIfAbsent(key, k -> "PG-" + UUID.randomUUID());
+                respond(exchange, 200, Map.of("transactionId", transactionId, "status", "APPROVED"));
+            }
+        } catch (IOException e) {
+            log.debug("가짜 PG 응답 실패 (클라이언트 연결 종료 등)", e);
+        }
+    }
+
+    private void handleInquiry(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, Map.of("code", "METHOD_NOT_ALLOWED", "message", "GET만 허용됩니다"));
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String paymentId = path.substring(path.lastIndexOf('/') + 1);
+
+        String approved = approvedTransactions.get(paymentId);
+        if (approved != null) {
+            respond(exchange, 200, Map.of("status", "APPROVED", "transactionId", approved));
+            return;
+        }
+        String declined = declinedPayments.get(paymentId);
+        if (declined != null) {
+            respond(exchange, 200, Map.of("status", "DECLINED", "message", declined));
+            return;
+        }
+        respond(exchange, 404, Map.of("code", "PAYMENT_NOT_FOUND", "message", "결제 요청 이력이 없습니다"));
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, String> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
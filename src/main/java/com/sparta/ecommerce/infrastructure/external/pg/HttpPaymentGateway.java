@@ -0,0 +1,192 @@
+package com.sparta.ecommerce.infrastructure.external.pg;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGatewayException;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalRequest;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalResult;
+import com.sparta.ecommerce.domain.payment.gateway.PgInquiryResult;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * HTTP 기반 PG 클라이언트
+ *
+ * - JDK HttpClient sendAsync: 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+ * - 요청 타임아웃: 응답이 늦으면 결과 미확정(outcomeUnknown) 예외로 완료
+ * - 벌크헤드: 동시 호출 수 제한, 한도 초과 시 대기 없이 즉시 실패 (PG 장애가 서버 자원을 모두 잡아먹지 않도록)
+ * - 서킷 브레이커: 5xx/타임아웃/느린 호출 비율이 임계치를 넘으면 일정 시간 호출 차단
+ *   (카드 한도 초과 같은 거절 응답은 PG가 정상 동작한 것이므로 성공으로 집계)
+ *
+ * PG API:
+ * - POST {base-url}/v1/payments/approve  (Idempotency-Key: 결제 ID)
+ *   200 {"transactionId": "..."} 승인 / 4xx {"code": "...", "message": "..."} 거절 / 5xx 장애
+ * - GET {base-url}/v1/payments/{결제 ID}  (결제 상태 조회)
+ *   200 {"status": "APPROVED", "transactionId": "..."} / 200 {"status": "DECLINED", "message": "..."}
+ *   / 404 승인 요청 미도달 / 5xx 장애
+ *
+ * 승인/조회 모두 같은 벌크헤드와 서킷 브레이커를 거침
+ */
+@Slf4j
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private static final String APPROVE_PATH = "/v1/payments/approve";
+    private static final String PAYMENTS_PATH = "/v1/payments/";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final String baseUrl;
+    private final URI approveUri;
+    private final Duration requestTimeout;
+
+    public HttpPaymentGateway(HttpClient httpClient, ObjectMapper objectMapper,
+                              CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                              String baseUrl, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.baseUrl = baseUrl;
+        this.approveUri = URI.create(baseUrl + APPROVE_PATH);
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public CompletableFuture<PgApprovalResult> approve(PgApprovalRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(approveUri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", request.paymentId())
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new PaymentGatewayException("PG 요청 생성 실패", false, e));
+        }
+
+        return send(httpRequest, request.paymentId(), response -> toApprovalResult(request, response));
+    }
+
+    @Override
+    public CompletableFuture<PgInquiryResult> inquire(String paymentId) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + PAYMENTS_PATH + paymentId))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        return send(httpRequest, paymentId, response -> toInquiryResult(paymentId, response));
+    }
+
+    /**
+     * 벌크헤드/서킷 브레이커를 거쳐 PG 호출
+     * 5xx/전송 실패는 PaymentGatewayException, 그 외 응답은 mapper로 변환
+     */
+    private <T> CompletableFuture<T> send(HttpRequest httpRequest, String paymentId,
+                                          Function<HttpResponse<String>, T> mapper) {
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    new PaymentGatewayException("PG 동시 호출 한도 초과", false));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            return CompletableFuture.failedFuture(
+                    new PaymentGatewayException("PG 서킷 오픈 - 호출 차단", false));
+        }
+
+        long start = System.nanoTime();
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    bulkhead.onComplete();
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+                        throw toGatewayException(paymentId, cause);
+                    }
+
+                    int status = response.statusCode();
+                    if (status >= 500) {
+                        PaymentGatewayException exception = new PaymentGatewayException(
+                                "PG 서버 오류 (HTTP " + status + ")", status != 503);
+                        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, exception);
+                        throw exception;
+                    }
+
+                    circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                    return mapper.apply(response);
+                });
+    }
+
+    private PgApprovalResult toApprovalResult(PgApprovalRequest request, HttpResponse<String> response) {
+        int status = response.statusCode();
+        JsonNode body = readBody(response.body());
+        if (status >= 200 && status < 300) {
+            return PgApprovalResult.approved(body.path("transactionId").asText());
+        }
+
+        String reason = body.path("message").asText("PG 승인 거절 (HTTP " + status + ")");
+        log.info("PG 승인 거절 - paymentId={}, status={}, reason={}", request.paymentId(), status, reason);
+        return PgApprovalResult.declined(reason);
+    }
+
+    private PgInquiryResult toInquiryResult(String paymentId, HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status == 404) {
+            return PgInquiryResult.notFound();
+        }
+        if (status < 200 || status >= 300) {
+            throw new PaymentGatewayException("PG 결제 조회 실패 (HTTP " + status + ")", true);
+        }
+
+        JsonNode body = readBody(response.body());
+        String paymentStatus = body.path("status").asText();
+        if ("APPROVED".equals(paymentStatus)) {
+            return PgInquiryResult.approved(body.path("transactionId").asText());
+        }
+        if ("DECLINED".equals(paymentStatus)) {
+            return PgInquiryResult.declined(body.path("message").asText("PG 승인 거절"));
+        }
+        throw new PaymentGatewayException("PG 결제 조회 응답 해석 실패 - paymentId=" + paymentId
+                + ", status=" + paymentStatus, true);
+    }
+
+    private PaymentGatewayException toGatewayException(String paymentId, Throwable cause) {
+        // 연결 단계 실패는 요청이 전달되지 않았으므로 결과 확정 가능
+        boolean notSent = cause instanceof HttpConnectTimeoutException || cause instanceof ConnectException;
+        if (!notSent && cause instanceof HttpTimeoutException) {
+            log.warn("PG 응답 타임아웃 - paymentId={}, timeout={}", paymentId, requestTimeout);
+        } else {
+            log.warn("PG 호출 실패 - paymentId={}, cause={}", paymentId, cause.toString());
+        }
+        return new PaymentGatewayException("PG 호출 실패: " + cause.getMessage(), !notSent, cause);
+    }
+
+    private JsonNode readBody(String body) {
+        try {
+            return body == null || body.isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.ecommerce.infrastructure.external.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 PG 연동 설정
+ *
+ * 서킷 브레이커/벌크헤드 상태는 resilience4j_circuitbreaker_*, resilience4j_bulkhead_* 메트릭으로 노출
+ */
+@Configuration
+public class PaymentGatewayConfig {
+
+    private static final String PG_NAME = "pg";
+
+    @Value("${pg.base-url:http://localhost:18090}")
+    private String baseUrl;
+
+    @Value("${pg.connect-timeout-ms:500}")
+    private long connectTimeoutMs;
+
+    @Value("${pg.request-timeout-ms:3000}")
+    private long requestTimeoutMs;
+
+    @Value("${pg.bulkhead.max-concurrent-calls:100}")
+    private int maxConcurrentCalls;
+
+    @Value("${pg.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${pg.circuit-breaker.slow-call-duration-ms:2000}")
+    private long slowCallDurationMs;
+
+    @Value("${pg.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${pg.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${pg.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${pg.circuit-breaker.wait-in-open-ms:10000}")
+    private long waitInOpenMs;
+
+    @Bean
+    public CircuitBreaker pgCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(PG_NAME);
+    }
+
+    @Bean
+    public Bulkhead pgBulkhead(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(PG_NAME);
+    }
+
+    @Bean
+    public PaymentGateway paymentGateway(ObjectMapper objectMapper, CircuitBreaker pgCircuitBreaker, Bulkhead pgBulkhead) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        return new HttpPaymentGateway(httpClient, objectMapper, pgCircuitBreaker, pgBulkhead,
+                baseUrl, Duration.ofMillis(requestTimeoutMs));
+    }
+
+    /**
+     * 로컬/부하 테스트용 가짜 PG 서버 (pg.fake.enabled=true)
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "pg.fake.enabled", havingValue = "true")
+    public FakePgServer fakePgServer(
+            @Value("${pg.fake.port:18090}") int port,
+            @Value("${pg.fake.latency-ms:100}") long latencyMs,
+            @Value("${pg.fake.latency-jitter-ms:50}") long latencyJitterMs,
+            @Value("${pg.fake.failure-rate:0.0}") double failureRate,
+            @Value("${pg.fake.decline-rate:0.0}") double declineRate) {
+        return new FakePgServer(new FakePgServer.Settings(port, latencyMs, latencyJitterMs, failureRate, declineRate));
+    }
+}
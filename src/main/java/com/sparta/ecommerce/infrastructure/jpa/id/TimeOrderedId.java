@@ -0,0 +1,19 @@
+package com.sparta.ecommerce.infrastructure.jpa.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간 순서 문자열 ID 자동 생성
+ *
+ * GenerationType.UUID 대체: 랜덤 UUID는 B-Tree 임의 위치 삽입(페이지 분할)을 유발하므로
+ * 단조 증가하는 13자리 TSID로 항상 인덱스 오른쪽 끝에 삽입되도록 함
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,25 @@
+package com.sparta.ecommerce.infrastructure.jpa.id;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * @TimeOrderedId Hibernate ID 생성기
+ * INSERT 전에 애플리케이션에서 ID를 생성하므로 DB 왕복 없이 배치 INSERT 가능
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return TsidGenerator.getInstance().nextString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sparta.ecommerce.infrastructure.jpa.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+
+/**
+ * 시간 순서 ID(TSID) 생성기
+ *
+ * 64비트 구성:
+ * - 상위 42비트: 기준 시각(2025-01-01T00:00:00Z) 이후 경과 밀리초 (약 139년)
+ * - 중간 10비트: 노드 ID (0 ~ 1023)
+ * - 하위 12비트: 같은 밀리초 내 순번 (밀리초당 4096개)
+ *
+ * 문자열 표현:
+ * - Crockford Base32 13자리 고정 길이 → 문자열 정렬 순서 = 숫자 정렬 순서
+ * - UUID(36자) 대비 PK와 이를 복제하는 보조 인덱스 크기 감소
+ *
+ * 단조 증가:
+ * - 같은 밀리초에서는 순번 증가, 순번 소진 시 다음 밀리초를 미리 사용
+ * - 시계가 뒤로 가도 마지막 시각을 유지하여 감소하지 않음
+ *
+ * 노드 ID는 id.node-id 시스템 프로퍼티 또는 ID_NODE_ID 환경변수로 지정
+ * (미지정 시 랜덤 → 다중 서버 환경에서는 서버마다 고유 값 지정 권장)
+ */
+public final class TsidGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private static final TsidGenerator INSTANCE = new TsidGenerator(resolveNodeId());
+
+    private final int nodeId;
+    private long lastMillis;
+    private int counter;
+
+    TsidGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public static TsidGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 64비트 TSID 생성
+     */
+    public synchronized long nextLong() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+
+        if (now > lastMillis) {
+            lastMillis = now;
+            counter = 0;
+        } else if (++counter > MAX_COUNTER) {
+            // 순번 소진 또는 시계 역행 → 논리 시각을 1ms 앞당김
+            lastMillis++;
+            counter = 0;
+        }
+
+        return (lastMillis << (NODE_BITS + COUNTER_BITS))
+                | ((long) nodeId << COUNTER_BITS)
+                | counter;
+    }
+
+    /**
+     * 13자리 문자열 TSID 생성
+     */
+    public String nextString() {
+        return encode(nextLong());
+    }
+
+    /**
+     * 주어진 시각 이후 생성된 ID의 하한 (해당 밀리초, 노드 0, 순번 0)
+     * 시간 범위 조회를 ID 범위 스캔으로 바꿀 때 사용 ([lowerBound(from), lowerBound(to)))
+     *
+     * @param instant 기준 시각 (기준 시각 이전이면 최솟값)
+     * @return 13자리 문자열 ID 하한
+     */
+    public static String lowerBound(Instant instant) {
+        long millis = Math.max(0L, instant.toEpochMilli() - EPOCH_MILLIS);
+        return encode(millis << (NODE_BITS + COUNTER_BITS));
+    }
+
+    /**
+     * 64비트 값을 Crockford Base32 13자리로 인코딩
+     */
+    static String encode(long value) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int resolveNodeId() {
+        String configured = System.getProperty("id.node-id", System.getenv("ID_NODE_ID"));
+        if (configured != null && !configured.isBlank()) {
+            return Integer.parseInt(configured.trim());
+        }
+        return new SecureRandom().nextInt(MAX_NODE + 1);
+    }
+}
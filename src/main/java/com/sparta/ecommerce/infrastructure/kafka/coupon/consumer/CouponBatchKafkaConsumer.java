@@ -0,0 +1,65 @@
+package com.sparta.ecommerce.infrastructure.kafka.coupon.consumer;
+
+import com.sparta.ecommerce.application.coupon.service.CouponIssueProcessor;
+import com.sparta.ecommerce.infrastructure.kafka.coupon.message.CouponIssueMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 배치 Kafka Consumer (coupon.issue.batch.enabled=true)
+ *
+ * 역할:
+ * - poll 1회에 최대 coupon.issue.batch.max-size건을 받아 쿠폰별(버킷 쿠폰은 버킷별)로 묶음
+ * - 묶음별 요청을 CouponIssueProcessor.processBatchIssue 트랜잭션 1회로 발급
+ *
+ * 단건 Consumer(CouponKafkaConsumer)와 같은 토픽/그룹을 사용하며 둘 중 하나만 등록됨
+ * - 메시지 키가 couponId이므로 인기 쿠폰 요청은 한 파티션에 몰림 → 한 poll 대부분이 같은 쿠폰
+ * - 같은 쿠폰 요청은 같은 파티션에서 순서대로 묶이므로 요청 순서대로 발급
+ * - 버킷 쿠폰은 메시지 키(couponId#bucket)로 여러 파티션에 나뉘고, 묶음 단위도 메시지 키와 같음
+ *
+ * 예외 처리:
+ * - CouponIssueProcessor가 요청별 결과에 따라 Redis 보상까지 처리하므로 Consumer는 메시지만 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.batch.enabled", havingValue = "true")
+public class CouponBatchKafkaConsumer {
+
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    /**
+     * 쿠폰 발급 메시지 일괄 소비
+     *
+     * @param messages 쿠폰 발급 요청 메시지 (파티션 내 순서)
+     */
+    @KafkaListener(
+            topics = "coupon-issue-request",
+            groupId = "coupon-issue-group",
+            concurrency = "3",  // 파티션 수(3)와 동일하게 설정
+            batch = "true",
+            properties = "max.poll.records=${coupon.issue.batch.max-size:500}"
+    )
+    public void consumeCouponIssueRequests(List<CouponIssueMessage> messages) {
+        Map<String, List<CouponIssueMessage>> messagesByKey = messages.stream()
+                .collect(Collectors.groupingBy(CouponIssueMessage::partitionKey, LinkedHashMap::new,
+                        Collectors.toList()));
+
+        log.info("[Kafka Consumer] 쿠폰 발급 메시지 일괄 수신 - count: {}, groups: {}",
+                messages.size(), messagesByKey.size());
+
+        messagesByKey.values().forEach(group -> {
+            CouponIssueMessage first = group.get(0);
+            List<String> userIds = group.stream().map(CouponIssueMessage::userId).toList();
+            couponIssueProcessor.processBatchIssue(first.couponId(), first.bucket(), userIds);
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.sparta.ecommerce.application.coupon.service.CouponIssueProcessor;
 import com.sparta.ecommerce.infrastructure.kafka.coupon.message.CouponIssueMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -25,14 +26,18 @@ import org.springframework.stereotype.Component;
  * - Consumer 2 → Partition 1
  * - Consumer 3 → Partition 2
  * - 같은 couponId는 같은 파티션으로 라우팅 → 순차 처리
+ * - 버킷 쿠폰은 couponId#bucket 키로 버킷별 파티션에 분산 → 버킷 단위 순차 처리
  *
  * 예외 처리:
  * - CouponIssueProcessor가 예외를 처리하므로 Consumer는 메시지만 전달
  * - 처리 실패 시 Kafka 자동 재시도 (Offset 커밋 실패)
+ *
+ * coupon.issue.batch.enabled=true 이면 등록되지 않고 CouponBatchKafkaConsumer가 일괄 처리
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class CouponKafkaConsumer {
 
     private final CouponIssueProcessor couponIssueProcessor;
@@ -53,7 +58,7 @@ public class CouponKafkaConsumer {
 
         // 쿠폰 발급 처리 (트랜잭션 내에서 실행)
         // CouponIssueProcessor가 예외 처리 및 재시도 로직 포함
-        couponIssueProcessor.processSingleIssue(message.userId(), message.couponId());
+        couponIssueProcessor.processSingleIssue(message.userId(), message.couponId(), message.bucket());
 
         log.info("[Kafka Consumer] 쿠폰 발급 처리 완료 - couponId: {}, userId: {}",
                 message.couponId(), message.userId());
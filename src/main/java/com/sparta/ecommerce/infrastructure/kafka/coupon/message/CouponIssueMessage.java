@@ -7,21 +7,38 @@ import java.time.LocalDateTime;
  *
  * Kafka Topic: coupon-issue-request
  * 메시지 키: couponId (같은 쿠폰은 같은 파티션으로 라우팅)
+ *          버킷 쿠폰은 couponId#bucket (버킷마다 다른 파티션으로 분산)
  *
  * 필드 설명:
  * - couponId: 쿠폰 ID (파티션 키로 사용)
  * - userId: 사용자 ID
  * - requestedAt: 요청 시각 (모니터링 및 디버깅용)
+ * - bucket: 발급 접수 시 재고를 차감한 버킷 번호 (일반 쿠폰은 null)
  */
 public record CouponIssueMessage(
         String couponId,
         String userId,
-        LocalDateTime requestedAt
+        LocalDateTime requestedAt,
+        Integer bucket
 ) {
     /**
      * 팩토리 메서드: 현재 시각으로 메시지 생성
      */
     public static CouponIssueMessage of(String couponId, String userId) {
-        return new CouponIssueMessage(couponId, userId, LocalDateTime.now());
+        return of(couponId, userId, null);
+    }
+
+    /**
+     * 팩토리 메서드: 현재 시각으로 버킷 쿠폰 메시지 생성
+     */
+    public static CouponIssueMessage of(String couponId, String userId, Integer bucket) {
+        return new CouponIssueMessage(couponId, userId, LocalDateTime.now(), bucket);
+    }
+
+    /**
+     * 메시지 키 (일반 쿠폰: couponId, 버킷 쿠폰: couponId#bucket)
+     */
+    public String partitionKey() {
+        return bucket == null ? couponId : couponId + "#" + bucket;
     }
 }
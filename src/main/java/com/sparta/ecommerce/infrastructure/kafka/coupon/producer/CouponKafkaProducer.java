@@ -17,6 +17,11 @@ import org.springframework.stereotype.Component;
  * - 메시지 키: couponId
  * - 효과: 같은 쿠폰의 발급 요청은 항상 같은 파티션으로 라우팅
  * - 보장: 파티션 내에서 순차 처리 보장
+ *
+ * 버킷 쿠폰:
+ * - 메시지 키: couponId#bucket → 인기 쿠폰 하나의 요청도 여러 파티션/Consumer 스레드로 분산
+ * - 같은 버킷의 요청은 같은 파티션에서 순차 처리 (버킷 재고 행은 한 Consumer만 차감)
+ * - 토픽 파티션 수 이상으로 버킷 수를 잡아야 모든 파티션에 고르게 분산됨
  */
 @Slf4j
 @Component
@@ -32,21 +37,23 @@ public class CouponKafkaProducer {
      *
      * @param couponId 쿠폰 ID (메시지 키로 사용)
      * @param userId   사용자 ID
+     * @param bucket   재고를 차감한 버킷 번호 (일반 쿠폰이면 null)
      */
-    public void publishCouponIssueRequest(String couponId, String userId) {
-        CouponIssueMessage message = CouponIssueMessage.of(couponId, userId);
+    public void publishCouponIssueRequest(String couponId, String userId, Integer bucket) {
+        CouponIssueMessage message = CouponIssueMessage.of(couponId, userId, bucket);
 
-        // couponId를 메시지 키로 사용
+        // couponId(버킷 쿠폰은 couponId#bucket)를 메시지 키로 사용
         // Kafka는 hash(key) % partitionCount 로 파티션 결정
-        // 같은 couponId는 항상 같은 파티션으로 라우팅됨
-        kafkaTemplate.send(TOPIC, couponId, message)
+        // 같은 키는 항상 같은 파티션으로 라우팅됨
+        String key = message.partitionKey();
+        kafkaTemplate.send(TOPIC, key, message)
                 .whenComplete((result, ex) -> {
                     if (ex != null) {
-                        log.error("[Kafka Producer] 쿠폰 발급 메시지 발행 실패 - couponId: {}, userId: {}",
-                                couponId, userId, ex);
+                        log.error("[Kafka Producer] 쿠폰 발급 메시지 발행 실패 - key: {}, userId: {}",
+                                key, userId, ex);
                     } else {
-                        log.info("[Kafka Producer] 쿠폰 발급 메시지 발행 성공 - couponId: {}, userId: {}, partition: {}",
-                                couponId, userId, result.getRecordMetadata().partition());
+                        log.info("[Kafka Producer] 쿠폰 발급 메시지 발행 성공 - key: {}, userId: {}, partition: {}",
+                                key, userId, result.getRecordMetadata().partition());
                     }
                 });
     }
@@ -0,0 +1,39 @@
+package com.sparta.ecommerce.infrastructure.kafka.order.consumer;
+
+import com.sparta.ecommerce.application.order.service.AsyncOrderProcessor;
+import com.sparta.ecommerce.infrastructure.kafka.order.message.OrderRequestMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 주문 요청 Kafka Consumer
+ *
+ * 동시성 제어:
+ * - 메시지 키(userId) 기준 파티셔닝 → 같은 사용자의 주문은 한 Consumer가 순차 처리
+ * - 동기 주문과의 동시 실행은 AsyncOrderProcessor가 동일한 사용자 분산 락으로 직렬화
+ * - 재전달 중복은 티켓 선점(PENDING → PROCESSING)으로 차단
+ *
+ * 예외 처리:
+ * - AsyncOrderProcessor가 결과(성공/실패)를 티켓에 기록하므로 Consumer는 메시지만 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRequestKafkaConsumer {
+
+    private final AsyncOrderProcessor asyncOrderProcessor;
+
+    @KafkaListener(
+            topics = "order-request",
+            groupId = "order-request-group",
+            concurrency = "3"
+    )
+    public void consumeOrderRequest(OrderRequestMessage message) {
+        log.info("[Kafka Consumer] 주문 요청 메시지 수신 - ticketId: {}, userId: {}, requestedAt: {}",
+                message.ticketId(), message.userId(), message.requestedAt());
+
+        asyncOrderProcessor.process(message.ticketId(), message.userId(), message.couponId());
+    }
+}
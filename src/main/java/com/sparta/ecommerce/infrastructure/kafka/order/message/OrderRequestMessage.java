@@ -0,0 +1,29 @@
+package com.sparta.ecommerce.infrastructure.kafka.order.message;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 요청 메시지
+ *
+ * Kafka Topic: order-request
+ * 메시지 키: userId (같은 사용자의 주문은 같은 파티션으로 라우팅 → 순차 처리)
+ *
+ * 필드 설명:
+ * - ticketId: 주문 접수 티켓 ID (결과 조회용)
+ * - userId: 사용자 ID (파티션 키로 사용)
+ * - couponId: 쿠폰 ID (nullable)
+ * - requestedAt: 요청 시각 (모니터링 및 디버깅용)
+ */
+public record OrderRequestMessage(
+        String ticketId,
+        String userId,
+        String couponId,
+        LocalDateTime requestedAt
+) {
+    /**
+     * 팩토리 메서드: 현재 시각으로 메시지 생성
+     */
+    public static OrderRequestMessage of(String ticketId, String userId, String couponId) {
+        return new OrderRequestMessage(ticketId, userId, couponId, LocalDateTime.now());
+    }
+}
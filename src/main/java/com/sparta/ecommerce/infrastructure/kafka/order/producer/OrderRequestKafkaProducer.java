@@ -0,0 +1,47 @@
+package com.sparta.ecommerce.infrastructure.kafka.order.producer;
+
+import com.sparta.ecommerce.infrastructure.kafka.order.message.OrderRequestMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 주문 요청 Kafka Producer
+ *
+ * 파티션 전략:
+ * - 메시지 키: userId
+ * - 효과: 같은 사용자의 주문 요청은 항상 같은 파티션으로 라우팅
+ * - 보장: 사용자별 순차 처리 → 분산 락 없이 사용자 단위 동시성 제어
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRequestKafkaProducer {
+
+    private static final String TOPIC = "order-request";
+
+    private final KafkaTemplate<String, OrderRequestMessage> kafkaTemplate;
+
+    /**
+     * 주문 요청 메시지 발행
+     *
+     * @param message 주문 요청 메시지
+     * @return 발행 결과 (실패 처리는 호출자가 담당)
+     */
+    public CompletableFuture<SendResult<String, OrderRequestMessage>> publishOrderRequest(OrderRequestMessage message) {
+        return kafkaTemplate.send(TOPIC, message.userId(), message)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[Kafka Producer] 주문 요청 메시지 발행 실패 - ticketId: {}, userId: {}",
+                                message.ticketId(), message.userId(), ex);
+                    } else {
+                        log.info("[Kafka Producer] 주문 요청 메시지 발행 성공 - ticketId: {}, userId: {}, partition: {}",
+                                message.ticketId(), message.userId(), result.getRecordMetadata().partition());
+                    }
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.sparta.ecommerce.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트랜잭션 커밋 시간 측정
+ *
+ * 현재 트랜잭션에 동기화 콜백을 등록하여 beforeCompletion → afterCommit 구간을 기록
+ * (Hibernate flush + DB 커밋, 다른 콜백의 afterCommit 작업이 포함되지 않도록 최우선 순서 사용)
+ *
+ * transaction.commit{transaction=이름, result=committed|rolled_back}
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionCommitTimer {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 트랜잭션의 커밋 시간 측정 등록
+     * 트랜잭션 동기화가 비활성 상태면 아무것도 하지 않음
+     *
+     * @param transaction 트랜잭션 이름 (메트릭 태그)
+     */
+    public void register(String transaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startedAt;
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCompletion() {
+                startedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                record("committed");
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    record("rolled_back");
+                }
+            }
+
+            private void record(String result) {
+                if (startedAt == 0) {
+                    return;
+                }
+                Timer.builder("transaction.commit")
+                        .tag("transaction", transaction)
+                        .tag("result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+}
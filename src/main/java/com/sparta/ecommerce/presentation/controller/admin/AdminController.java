@@ -1,11 +1,23 @@
 package com.sparta.ecommerce.presentation.controller.admin;
 
+import com.sparta.ecommerce.application.order.dto.BulkCancelOrdersRequest;
+import com.sparta.ecommerce.application.order.dto.OrderCancelJobResponse;
+import com.sparta.ecommerce.application.order.usecase.BulkCancelOrdersUseCase;
+import com.sparta.ecommerce.application.payment.dto.PaymentDiscrepancyResponse;
+import com.sparta.ecommerce.application.payment.dto.ReconcilePaymentsRequest;
+import com.sparta.ecommerce.application.payment.dto.ReconciliationRunResponse;
+import com.sparta.ecommerce.application.payment.usecase.ReconcilePaymentsUseCase;
+import com.sparta.ecommerce.application.product.usecase.ManageHotProductUseCase;
+import com.sparta.ecommerce.application.product.usecase.ManageStockShardingUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -13,9 +25,15 @@ import java.util.Map;
  */
 @Tag(name = "관리자", description = "외부 데이터 연동 관리 API")
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    private final ManageHotProductUseCase manageHotProductUseCase;
+    private final ManageStockShardingUseCase manageStockShardingUseCase;
+    private final BulkCancelOrdersUseCase bulkCancelOrdersUseCase;
+    private final ReconcilePaymentsUseCase reconcilePaymentsUseCase;
+
     /**
      * 주문 데이터 전송 상태 조회
      * GET /api/admin/orders/{orderId}/sync-status
@@ -56,4 +74,127 @@ public class AdminController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 핫 상품 모드 활성화 (선착순 한정 판매)
+     * POST /api/admin/products/{productId}/hot-mode
+     */
+    @Operation(summary = "핫 상품 모드 활성화", description = "상품 재고를 Redis에 미러링하여 주문 시 Redis에서 재고를 예약합니다")
+    @PostMapping("/products/{productId}/hot-mode")
+    public ResponseEntity<Void> enableHotMode(
+            @Parameter(description = "상품 ID") @PathVariable String productId) {
+
+        manageHotProductUseCase.enable(productId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 핫 상품 모드 비활성화
+     * DELETE /api/admin/products/{productId}/hot-mode
+     */
+    @Operation(summary = "핫 상품 모드 비활성화", description = "Redis 예약 차감분을 DB에 반영하고 DB 직접 차감 방식으로 전환합니다")
+    @DeleteMapping("/products/{productId}/hot-mode")
+    public ResponseEntity<Void> disableHotMode(
+            @Parameter(description = "상품 ID") @PathVariable String productId) {
+
+        manageHotProductUseCase.disable(productId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 재고 분산 모드 활성화 (선착순 한정 판매 상품 행 락 경합 분산)
+     * PUT /api/admin/products/{productId}/stock-buckets?count=8
+     */
+    @Operation(summary = "재고 분산 모드 활성화", description = "상품 재고를 여러 버킷 행으로 나누어 주문 시 행 락 경합을 분산합니다")
+    @PutMapping("/products/{productId}/stock-buckets")
+    public ResponseEntity<Void> enableStockSharding(
+            @Parameter(description = "상품 ID") @PathVariable String productId,
+            @Parameter(description = "버킷 수 (2 ~ 64)") @RequestParam int count) {
+
+        manageStockShardingUseCase.enable(productId, count);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 재고 분산 모드 비활성화
+     * DELETE /api/admin/products/{productId}/stock-buckets
+     */
+    @Operation(summary = "재고 분산 모드 비활성화", description = "버킷 재고 합계를 상품 재고로 되돌립니다")
+    @DeleteMapping("/products/{productId}/stock-buckets")
+    public ResponseEntity<Void> disableStockSharding(
+            @Parameter(description = "상품 ID") @PathVariable String productId) {
+
+        manageStockShardingUseCase.disable(productId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 주문 일괄 취소/환불 작업 등록
+     * POST /api/admin/orders/bulk-cancel
+     */
+    @Operation(summary = "주문 일괄 취소", description = "필터에 해당하는 주문을 청크 단위로 취소하고 잔액 환불, 재고/쿠폰 복구를 수행하는 작업을 등록합니다")
+    @PostMapping("/orders/bulk-cancel")
+    public ResponseEntity<OrderCancelJobResponse> bulkCancelOrders(@Valid @RequestBody BulkCancelOrdersRequest request) {
+        return ResponseEntity.accepted().body(bulkCancelOrdersUseCase.start(request));
+    }
+
+    /**
+     * 주문 일괄 취소 작업 상태 조회
+     * GET /api/admin/orders/bulk-cancel/{jobId}
+     */
+    @Operation(summary = "주문 일괄 취소 작업 조회", description = "처리 건수, 환불 금액, 체크포인트를 조회합니다")
+    @GetMapping("/orders/bulk-cancel/{jobId}")
+    public ResponseEntity<OrderCancelJobResponse> getBulkCancelJob(
+            @Parameter(description = "작업 ID") @PathVariable String jobId) {
+
+        return ResponseEntity.ok(bulkCancelOrdersUseCase.getJob(jobId));
+    }
+
+    /**
+     * 중단된 주문 일괄 취소 작업 재개
+     * POST /api/admin/orders/bulk-cancel/{jobId}/resume
+     */
+    @Operation(summary = "주문 일괄 취소 작업 재개", description = "연속 실패로 중단된 작업을 마지막 체크포인트부터 재개합니다")
+    @PostMapping("/orders/bulk-cancel/{jobId}/resume")
+    public ResponseEntity<OrderCancelJobResponse> resumeBulkCancelJob(
+            @Parameter(description = "작업 ID") @PathVariable String jobId) {
+
+        return ResponseEntity.ok(bulkCancelOrdersUseCase.resume(jobId));
+    }
+
+    /**
+     * 결제 대사 작업 등록
+     * POST /api/admin/payments/reconciliation
+     */
+    @Operation(summary = "결제 대사", description = "주문 최종 금액, 결제, 잔액 이력의 정합성을 구간 단위로 병렬 검사하는 작업을 등록합니다")
+    @PostMapping("/payments/reconciliation")
+    public ResponseEntity<ReconciliationRunResponse> reconcilePayments(@Valid @RequestBody ReconcilePaymentsRequest request) {
+        return ResponseEntity.accepted().body(reconcilePaymentsUseCase.start(request));
+    }
+
+    /**
+     * 결제 대사 작업 상태 조회
+     * GET /api/admin/payments/reconciliation/{runId}
+     */
+    @Operation(summary = "결제 대사 작업 조회", description = "검사한 주문 수와 불일치 수를 조회합니다")
+    @GetMapping("/payments/reconciliation/{runId}")
+    public ResponseEntity<ReconciliationRunResponse> getReconciliationRun(
+            @Parameter(description = "대사 작업 ID") @PathVariable String runId) {
+
+        return ResponseEntity.ok(reconcilePaymentsUseCase.getRun(runId));
+    }
+
+    /**
+     * 결제 대사 불일치 목록 조회
+     * GET /api/admin/payments/reconciliation/{runId}/discrepancies?page=0&size=100
+     */
+    @Operation(summary = "결제 대사 불일치 조회", description = "대사 작업이 찾은 불일치를 주문 ID 순으로 조회합니다")
+    @GetMapping("/payments/reconciliation/{runId}/discrepancies")
+    public ResponseEntity<List<PaymentDiscrepancyResponse>> getReconciliationDiscrepancies(
+            @Parameter(description = "대사 작업 ID") @PathVariable String runId,
+            @Parameter(description = "페이지 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "100") int size) {
+
+        return ResponseEntity.ok(reconcilePaymentsUseCase.getDiscrepancies(runId, page, size));
+    }
 }
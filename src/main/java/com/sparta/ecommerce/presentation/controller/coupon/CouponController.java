@@ -2,8 +2,10 @@ package com.sparta.ecommerce.presentation.controller.coupon;
 
 import com.sparta.ecommerce.application.coupon.usecase.CreateCouponUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.GetAvailableCouponsUseCase;
+import com.sparta.ecommerce.application.coupon.usecase.GetCouponIssueStatusUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.IssueCouponWithQueueUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.ValidateCouponUseCase;
+import com.sparta.ecommerce.application.coupon.dto.CouponIssueStatusResponse;
 import com.sparta.ecommerce.application.coupon.dto.CouponQueueResponse;
 import com.sparta.ecommerce.application.coupon.dto.CouponResponse;
 import com.sparta.ecommerce.application.coupon.dto.CreateCouponRequest;
@@ -19,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 쿠폰 시스템 API
@@ -33,6 +36,7 @@ public class CouponController {
     private final GetAvailableCouponsUseCase getAvailableCouponsUseCase;
     private final ValidateCouponUseCase validateCouponUseCase;
     private final IssueCouponWithQueueUseCase issueCouponWithQueueUseCase;
+    private final GetCouponIssueStatusUseCase getCouponIssueStatusUseCase;
 
     /**
      * 쿠폰 생성 (관리자)
@@ -73,6 +77,23 @@ public class CouponController {
         return ResponseEntity.accepted().body(response);  // 202 Accepted
     }
 
+    /**
+     * 쿠폰 발급 결과 조회 (Long Polling)
+     * GET /api/coupons/{couponId}/issue-status?userId={userId}&waitMs={waitMs}
+     *
+     * 처리 대기 중이면 결과가 나올 때까지 최대 waitMs 대기 후 응답 (그래도 대기 중이면 PENDING)
+     */
+    @Operation(summary = "쿠폰 발급 결과 조회", description = "선착순 발급 요청의 처리 결과를 조회합니다. "
+            + "waitMs 동안 결과를 기다린 뒤 응답합니다 (Long Polling)")
+    @GetMapping("/{couponId}/issue-status")
+    public CompletableFuture<ResponseEntity<CouponIssueStatusResponse>> getIssueStatus(
+            @Parameter(description = "쿠폰 ID") @PathVariable String couponId,
+            @Parameter(description = "사용자 ID") @RequestParam String userId,
+            @Parameter(description = "최대 대기 시간(ms), 0이면 즉시 응답") @RequestParam(defaultValue = "0") long waitMs) {
+        return getCouponIssueStatusUseCase.execute(couponId, userId, waitMs)
+                .thenApply(ResponseEntity::ok);
+    }
+
     /**
      * 쿠폰 유효성 검증
      * POST /api/coupons/validate
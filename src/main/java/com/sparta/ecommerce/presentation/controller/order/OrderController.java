@@ -1,16 +1,23 @@
 package com.sparta.ecommerce.presentation.controller.order;
 
-import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
 import com.sparta.ecommerce.application.order.usecase.GetOrderDetailUseCase;
+import com.sparta.ecommerce.application.order.usecase.GetOrderTicketUseCase;
 import com.sparta.ecommerce.application.order.usecase.GetOrdersUseCase;
+import com.sparta.ecommerce.application.order.usecase.IdempotentCreateOrderUseCase;
+import com.sparta.ecommerce.application.order.usecase.SubmitOrderUseCase;
 import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 주문 관리 API
  */
@@ -20,18 +27,51 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderController {
 
-    private final CreateOrderUseCase createOrderUseCase;
+    private final IdempotentCreateOrderUseCase idempotentCreateOrderUseCase;
     private final GetOrdersUseCase getOrdersUseCase;
     private final GetOrderDetailUseCase getOrderDetailUseCase;
+    private final SubmitOrderUseCase submitOrderUseCase;
+    private final GetOrderTicketUseCase getOrderTicketUseCase;
 
     /**
      * 주문 생성 (결제)
      * POST /api/orders
+     *
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 저장된 결과를 반환
      */
-    @Operation(summary = "주문 생성", description = "장바구니 상품을 주문하고 결제를 진행합니다")
+    @Operation(summary = "주문 생성", description = "장바구니 상품을 주문하고 결제를 진행합니다. "
+            + "Idempotency-Key 헤더로 재시도 시 중복 주문을 방지합니다 (처리 중이면 409)")
     @PostMapping
-    public ResponseEntity<?> createOrder(@RequestBody CreateOrderRequest orderRequest) {
-        var response = createOrderUseCase.execute(orderRequest);
+    public CompletableFuture<ResponseEntity<OrderResponse>> createOrder(
+            @Parameter(description = "멱등성 키 (클라이언트 생성 UUID 권장, 1~100자, 비어 있거나 초과 시 400)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreateOrderRequest orderRequest) {
+
+        return idempotentCreateOrderUseCase.execute(orderRequest, idempotencyKey)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 비동기 주문 접수
+     * POST /api/orders/async
+     */
+    @Operation(summary = "비동기 주문 접수", description = "주문 요청을 대기열에 등록하고 결과 조회용 티켓을 즉시 반환합니다")
+    @PostMapping("/async")
+    public ResponseEntity<?> submitOrder(@Valid @RequestBody CreateOrderRequest orderRequest) {
+        var response = submitOrderUseCase.execute(orderRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 비동기 주문 결과 조회
+     * GET /api/orders/tickets/{ticketId}
+     */
+    @Operation(summary = "비동기 주문 결과 조회", description = "주문 접수 티켓의 처리 상태(PENDING/COMPLETED/FAILED)를 조회합니다")
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<?> getOrderTicket(
+            @Parameter(description = "티켓 ID") @PathVariable String ticketId) {
+
+        var response = getOrderTicketUseCase.execute(ticketId);
         return ResponseEntity.ok(response);
     }
 
@@ -2,8 +2,10 @@ package com.sparta.ecommerce.presentation.controller.user;
 
 import com.sparta.ecommerce.application.coupon.dto.UserCouponResponse;
 import com.sparta.ecommerce.application.user.usecase.ChargeUserBalanceUseCase;
+import com.sparta.ecommerce.application.user.usecase.GetBalanceHistoryUseCase;
 import com.sparta.ecommerce.application.user.usecase.GetUserBalanceUseCase;
 import com.sparta.ecommerce.application.user.usecase.GetUserCouponsUseCase;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryPageResponse;
 import com.sparta.ecommerce.application.user.dto.ChargeBalanceRequest;
 import com.sparta.ecommerce.application.user.dto.ChargeBalanceResponse;
 import com.sparta.ecommerce.application.user.dto.UserBalanceResponse;
@@ -30,6 +32,7 @@ public class UserController {
     private final GetUserBalanceUseCase getUserBalanceUseCase;
     private final ChargeUserBalanceUseCase chargeUserBalanceUseCase;
     private final GetUserCouponsUseCase getUserCouponsUseCase;
+    private final GetBalanceHistoryUseCase getBalanceHistoryUseCase;
 
     /**
      * 잔액 조회
@@ -60,6 +63,23 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 잔액 이력 조회 (커서 기반)
+     * GET /api/users/{userId}/balance/history?cursor=&size=20
+     */
+    @Operation(summary = "잔액 이력 조회", description = "충전/결제/환불 잔액 이력을 최신순으로 조회합니다 (다음 페이지는 nextCursor 전달)")
+    @GetMapping("/{userId}/balance/history")
+    public ResponseEntity<BalanceHistoryPageResponse> getBalanceHistory(
+            @Parameter(description = "사용자 ID")
+            @PathVariable String userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(getBalanceHistoryUseCase.execute(userId, cursor, size));
+    }
+
     /**
      * 내 쿠폰 목록 조회
      * GET /api/users/{userId}/coupons
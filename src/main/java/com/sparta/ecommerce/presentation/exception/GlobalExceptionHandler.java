@@ -4,6 +4,9 @@ package com.sparta.ecommerce.presentation.exception;
 import com.sparta.ecommerce.common.exception.BusinessException;
 import com.sparta.ecommerce.common.exception.ErrorCode;
 import com.sparta.ecommerce.domain.coupon.exception.DuplicateCouponIssueException;
+import com.sparta.ecommerce.domain.order.exception.OrderInProgressException;
+import com.sparta.ecommerce.domain.order.exception.OrderQueueFullException;
+import com.sparta.ecommerce.domain.product.exception.StockModeChangedException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +39,51 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    /**
+     * 주문 대기열 포화 예외 처리 (503 Service Unavailable)
+     * 클라이언트 재시도 대상이므로 일반 비즈니스 예외(400)와 구분
+     */
+    @ExceptionHandler(OrderQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleOrderQueueFullException(OrderQueueFullException e) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            e.getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)  // 503
+            .body(errorResponse);
+    }
+
+    /**
+     * 같은 Idempotency-Key 주문 처리 중 예외 (409 Conflict)
+     * 재시도 요청이 원 요청과 동시에 실행되지 않도록 거절
+     */
+    @ExceptionHandler(OrderInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleOrderInProgressException(OrderInProgressException e) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            e.getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)  // 409
+            .body(errorResponse);
+    }
+
+    /**
+     * 주문 중 재고 관리 방식 변경 예외 (409 Conflict)
+     * 주문이 롤백되었으므로 클라이언트 재시도 대상
+     */
+    @ExceptionHandler(StockModeChangedException.class)
+    public ResponseEntity<ErrorResponse> handleStockModeChangedException(StockModeChangedException e) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            e.getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)  // 409
+            .body(errorResponse);
+    }
+
     /**
      * 비즈니스 예외 처리 (400 Bad Request)
      */
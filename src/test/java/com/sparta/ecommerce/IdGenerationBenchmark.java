@@ -0,0 +1,79 @@
+package com.sparta.ecommerce;
+
+import com.sparta.ecommerce.infrastructure.jpa.id.TsidGenerator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * PK 생성 방식별 INSERT 처리량 / 인덱스 크기 비교 벤치마크
+ * LoadTestDataSeeder와 같은 데이터량(사용자 150,000명)으로 orders 형태의 임시 테이블에 적재
+ *
+ * 비교 대상:
+ * - UUID    : VARCHAR PK, 랜덤 UUID 36자 (기존 GenerationType.UUID)
+ * - TSID    : VARCHAR PK, 시간 순서 13자 (@TimeOrderedId)
+ * - BIGINT  : BIGINT PK, 같은 TSID의 64비트 값 (향후 BIGINT 전환 시 참고)
+ *
+ * 실행 방법 (로컬 MySQL 필요):
+ * ./gradlew test --tests "IdGenerationBenchmark.compareInsertAndIndexSize"
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+public class IdGenerationBenchmark {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int ROW_COUNT = 150000;   // LoadTestDataSeeder.TEST_USER_COUNT
+    private static final int BATCH_SIZE = 1000;
+
+    @Test
+    @DisplayName("PK 생성 방식별 INSERT 처리량 및 인덱스 크기 비교")
+    void compareInsertAndIndexSize() {
+        TsidGenerator tsid = TsidGenerator.getInstance();
+
+        run("bench_orders_uuid", "VARCHAR(255)", () -> UUID.randomUUID().toString());
+        run("bench_orders_tsid", "VARCHAR(255)", tsid::nextString);
+        run("bench_orders_bigint", "BIGINT", tsid::nextLong);
+    }
+
+    private void run(String table, String idType, Supplier<Object> idSupplier) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (" +
+                "id " + idType + " NOT NULL PRIMARY KEY, " +
+                "user_id VARCHAR(255) NOT NULL, " +
+                "final_amount BIGINT NOT NULL, " +
+                "created_at DATETIME(6) NOT NULL, " +
+                "INDEX idx_" + table + "_user_id (user_id))");
+
+        String sql = "INSERT INTO " + table + " (id, user_id, final_amount, created_at) VALUES (?, ?, ?, NOW(6))";
+
+        long start = System.nanoTime();
+        for (int batch = 0; batch < ROW_COUNT / BATCH_SIZE; batch++) {
+            int offset = batch * BATCH_SIZE;
+            jdbcTemplate.batchUpdate(sql, IntStream.range(0, BATCH_SIZE)
+                    .mapToObj(i -> new Object[]{idSupplier.get(), "test-user-" + (offset + i + 1), 10000L})
+                    .toList());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        jdbcTemplate.execute("ANALYZE TABLE " + table);
+        Map<String, Object> size = jdbcTemplate.queryForMap(
+                "SELECT data_length, index_length FROM information_schema.tables " +
+                        "WHERE table_schema = DATABASE() AND table_name = ?", table);
+
+        System.out.printf("[%s] %,d건 INSERT: %.2f초 (%,.0f rows/s), PK(클러스터드) %,d KB, 보조 인덱스 %,d KB%n",
+                table, ROW_COUNT, seconds, ROW_COUNT / seconds,
+                ((Number) size.get("data_length")).longValue() / 1024,
+                ((Number) size.get("index_length")).longValue() / 1024);
+
+        jdbcTemplate.execute("DROP TABLE " + table);
+    }
+}
@@ -81,12 +81,12 @@ public class LoadTestDataSeeder {
         System.out.println("Redis 쿠폰 데이터 초기화 중...");
         try {
             // test-coupon-1 관련 Redis 키 삭제
-            redisTemplate.delete("coupon:issued:test-coupon-1");   // 발급된 사용자 Set
-            redisTemplate.delete("coupon:sold-out:test-coupon-1"); // 품절 플래그
+            redisTemplate.delete("coupon:issued:{test-coupon-1}");   // 발급된 사용자 Set
+            redisTemplate.delete("coupon:sold-out:{test-coupon-1}"); // 품절 플래그
 
             // Redis 재고 초기화 ⭐
             redisTemplate.opsForValue().set(
-                "coupon:stock:test-coupon-1",
+                "coupon:stock:{test-coupon-1}",
                 String.valueOf(TEST_COUPON_QUANTITY)
             );
 
@@ -230,12 +230,15 @@ public class LoadTestDataSeeder {
     private void seedTestCartItems() {
         System.out.println("테스트 장바구니 아이템 생성 중...");
 
-        String sql = "INSERT INTO cart_items (cart_id, product_id, quantity, added_at) VALUES (?, ?, ?, ?)";
+        String sql = "INSERT INTO cart_items (id, cart_id, product_id, quantity, added_at) VALUES (?, ?, ?, ?, ?)";
 
         // 각 장바구니당 3개 상품 = 총 450,000개 아이템
         final int ITEMS_PER_CART = 3;
         final int TOTAL_ITEMS = TEST_USER_COUNT * ITEMS_PER_CART;
 
+        // cart_items ID는 시퀀스 테이블에서 구간 예약
+        final long firstId = SequenceIdAllocator.reserve(jdbcTemplate, "cart_items_seq", TOTAL_ITEMS);
+
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
@@ -250,10 +253,11 @@ public class LoadTestDataSeeder {
 
                 int quantity = 2;  // 고정 수량 2개
 
-                ps.setString(1, cartId);
-                ps.setString(2, productId);
-                ps.setInt(3, quantity);
-                ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                ps.setLong(1, firstId + i);
+                ps.setString(2, cartId);
+                ps.setString(3, productId);
+                ps.setInt(4, quantity);
+                ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
             }
 
             @Override
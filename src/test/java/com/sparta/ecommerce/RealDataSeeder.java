@@ -300,6 +300,7 @@ public class RealDataSeeder {
         System.out.println("BalanceHistory 데이터 생성 중...");
         long start = System.currentTimeMillis();
 
+        // id는 AUTO_INCREMENT
         String sql = "INSERT INTO balance_history (user_id, transaction_id, amount, previous_balance, current_balance, payment_method, charged_at) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?)";
 
@@ -317,7 +318,6 @@ public class RealDataSeeder {
             jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
                 @Override
                 public void setValues(PreparedStatement ps, int i) throws SQLException {
-                    int idx = finalStartIdx + i;
                     String userId = userIds.get(random.nextInt(userIds.size()));
                     String transactionId = "TXN-" + UUID.randomUUID().toString();  // 고유한 거래 ID
                     long amount = (random.nextInt(100) + 1) * 1000L; // 1,000 ~ 100,000원
@@ -403,12 +403,13 @@ public class RealDataSeeder {
         System.out.println("CartItem 데이터 생성 중...");
         long start = System.currentTimeMillis();
 
-        String sql = "INSERT INTO cart_items (cart_id, product_id, quantity, added_at) " +
-                "VALUES (?, ?, ?, ?)";
+        String sql = "INSERT INTO cart_items (id, cart_id, product_id, quantity, added_at) " +
+                "VALUES (?, ?, ?, ?, ?)";
 
         // 각 장바구니당 3개 상품 = 총 30,000개 아이템
         final int ITEMS_PER_CART = 3;
         final int TOTAL_ITEMS = USER_COUNT * ITEMS_PER_CART;
+        final long firstId = SequenceIdAllocator.reserve(jdbcTemplate, "cart_items_seq", TOTAL_ITEMS);
 
         // 배치 처리
         int batchSize = 1000;
@@ -443,10 +444,11 @@ public class RealDataSeeder {
 
                     LocalDateTime addedAt = LocalDateTime.now().minusDays(random.nextInt(7));
 
-                    ps.setString(1, cartId);
-                    ps.setString(2, productId);
-                    ps.setInt(3, quantity);
-                    ps.setTimestamp(4, Timestamp.valueOf(addedAt));
+                    ps.setLong(1, firstId + idx);
+                    ps.setString(2, cartId);
+                    ps.setString(3, productId);
+                    ps.setInt(4, quantity);
+                    ps.setTimestamp(5, Timestamp.valueOf(addedAt));
                 }
 
                 @Override
@@ -531,10 +533,11 @@ public class RealDataSeeder {
         System.out.println("OrderItem 데이터 생성 중...");
         long start = System.currentTimeMillis();
 
-        String sql = "INSERT INTO order_items (order_id, product_id, product_name, quantity, unit_price, subtotal, created_at) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO order_items (id, order_id, product_id, product_name, quantity, unit_price, subtotal, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
         int itemCount = ORDER_COUNT * AVG_ITEMS_PER_ORDER;
+        final long firstId = SequenceIdAllocator.reserve(jdbcTemplate, "order_items_seq", itemCount);
 
         // 배치 처리 (1000개씩)
         int batchSize = 1000;
@@ -555,13 +558,14 @@ public class RealDataSeeder {
                     long unitPrice = (random.nextInt(200) + 1) * 1000L;
                     long subtotal = unitPrice * quantity;
 
-                    ps.setString(1, orderId);
-                    ps.setString(2, productId);
-                    ps.setString(3, faker.commerce().productName());
-                    ps.setInt(4, quantity);
-                    ps.setLong(5, unitPrice);
-                    ps.setLong(6, subtotal);
-                    ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+                    ps.setLong(1, firstId + idx);
+                    ps.setString(2, orderId);
+                    ps.setString(3, productId);
+                    ps.setString(4, faker.commerce().productName());
+                    ps.setInt(5, quantity);
+                    ps.setLong(6, unitPrice);
+                    ps.setLong(7, subtotal);
+                    ps.setTimestamp(8, Timestamp.valueOf(LocalDateTime.now()));
                 }
 
                 @Override
@@ -0,0 +1,45 @@
+package com.sparta.ecommerce;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 시더용 ID 구간 예약
+ *
+ * order_items, balance_history, cart_items, event_outbox는 Hibernate pooled 시퀀스 테이블(*_seq)로 ID를 발급하므로
+ * JDBC로 직접 INSERT할 때도 시퀀스 테이블을 증가시켜 애플리케이션이 발급할 ID와 겹치지 않는 구간을 확보해야 함
+ */
+final class SequenceIdAllocator {
+
+    // 엔티티 @SequenceGenerator allocationSize와 동일
+    private static final int ALLOCATION_SIZE = 50;
+
+    private SequenceIdAllocator() {
+    }
+
+    /**
+     * ID 구간 예약
+     *
+     * @param sequenceTable 시퀀스 테이블명 (예: cart_items_seq)
+     * @param count         필요한 ID 개수
+     * @return 예약된 구간의 첫 ID (first ~ first + count - 1 사용 가능)
+     */
+    static long reserve(JdbcTemplate jdbcTemplate, String sequenceTable, int count) {
+        long increment = (long) count + ALLOCATION_SIZE;
+
+        Long first = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // LAST_INSERT_ID(expr)로 증가 후 값을 같은 커넥션에서 원자적으로 읽음
+                statement.executeUpdate("UPDATE " + sequenceTable
+                        + " SET next_val = LAST_INSERT_ID(next_val + " + increment + ")");
+                try (ResultSet resultSet = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                    resultSet.next();
+                    return resultSet.getLong(1) - increment + 1;
+                }
+            }
+        });
+        return first;
+    }
+}
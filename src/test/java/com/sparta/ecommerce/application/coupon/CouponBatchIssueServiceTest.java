@@ -0,0 +1,182 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.IntegrationTestBase;
+import com.sparta.ecommerce.application.coupon.service.CouponBatchIssueService;
+import com.sparta.ecommerce.application.coupon.service.CouponBatchIssueService.IssueOutcome;
+import com.sparta.ecommerce.domain.coupon.DiscountType;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.entity.CouponStockBucket;
+import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
+import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
+import com.sparta.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.vo.CouponStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 일괄 발급 통합 테스트
+ * 재고 UPDATE 1회 + user_coupons 일괄 INSERT, unique 제약 기반 중복 처리 검증
+ */
+@DisplayName("쿠폰 일괄 발급 통합 테스트")
+class CouponBatchIssueServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private CouponBatchIssueService couponBatchIssueService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponStockBucketRepository stockBucketRepository;
+
+    private Coupon createCoupon(int stock, LocalDateTime expiresAt) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("선착순 쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(1000L)
+                .stock(new CouponStock(stock, 0, stock))
+                .minOrderAmount(0L)
+                .expiresAt(expiresAt)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("요청 전체를 한 번에 발급하고 재고를 발급 수만큼 차감한다")
+    void issueAll() {
+        // given
+        Coupon coupon = createCoupon(10, LocalDateTime.now().plusDays(1));
+        List<String> userIds = List.of("user1", "user2", "user3");
+
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll(coupon.getCouponId(), null, userIds);
+        entityManager.clear();
+
+        // then
+        assertThat(outcomes).containsExactly(IssueOutcome.ISSUED, IssueOutcome.ISSUED, IssueOutcome.ISSUED);
+        assertThat(userCouponRepository.findByCouponId(coupon.getCouponId())).hasSize(3);
+
+        Coupon found = couponRepository.findById(coupon.getCouponId()).get();
+        assertThat(found.getStock().getIssuedQuantity()).isEqualTo(3);
+        assertThat(found.getStock().getRemainingQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자와 배치 안의 중복 요청은 DUPLICATE로 건너뛴다")
+    void duplicate() {
+        // given
+        Coupon coupon = createCoupon(10, LocalDateTime.now().plusDays(1));
+        userCouponRepository.save(UserCoupon.issue("user1", coupon));
+        entityManager.flush();
+        List<String> userIds = List.of("user1", "user2", "user2");
+
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll(coupon.getCouponId(), null, userIds);
+        entityManager.clear();
+
+        // then
+        assertThat(outcomes).containsExactly(IssueOutcome.DUPLICATE, IssueOutcome.ISSUED, IssueOutcome.DUPLICATE);
+        assertThat(userCouponRepository.findByCouponId(coupon.getCouponId())).hasSize(2);
+        assertThat(couponRepository.findById(coupon.getCouponId()).get().getStock().getRemainingQuantity()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("재고보다 요청이 많으면 요청 순서대로 발급하고 나머지는 SOLD_OUT, 중복으로 남은 재고는 다음 요청에 발급한다")
+    void soldOut() {
+        // given
+        Coupon coupon = createCoupon(2, LocalDateTime.now().plusDays(1));
+        userCouponRepository.save(UserCoupon.issue("user1", coupon));
+        entityManager.flush();
+        List<String> userIds = List.of("user1", "user2", "user3", "user4");
+
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll(coupon.getCouponId(), null, userIds);
+        entityManager.clear();
+
+        // then
+        assertThat(outcomes).containsExactly(
+                IssueOutcome.DUPLICATE, IssueOutcome.ISSUED, IssueOutcome.ISSUED, IssueOutcome.SOLD_OUT);
+
+        Coupon found = couponRepository.findById(coupon.getCouponId()).get();
+        assertThat(found.getStock().getIssuedQuantity()).isEqualTo(2);
+        assertThat(found.getStock().getRemainingQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 쿠폰은 전체 요청이 EXPIRED이며 재고가 변하지 않는다")
+    void expired() {
+        // given
+        Coupon coupon = createCoupon(10, LocalDateTime.now().minusDays(1));
+
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll(coupon.getCouponId(), null, List.of("user1", "user2"));
+        entityManager.clear();
+
+        // then
+        assertThat(outcomes).containsOnly(IssueOutcome.EXPIRED);
+        assertThat(userCouponRepository.findByCouponId(coupon.getCouponId())).isEmpty();
+        assertThat(couponRepository.findById(coupon.getCouponId()).get().getStock().getRemainingQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("버킷 쿠폰은 해당 버킷 재고만 차감하고, 버킷이 비면 나머지 요청은 SOLD_OUT")
+    void bucket() {
+        // given - 재고 4개를 버킷 2개(2, 2)로 분할
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("선착순 쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(1000L)
+                .stock(new CouponStock(4, 4, 0))
+                .stockBucketCount(2)
+                .minOrderAmount(0L)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+        for (int i = 0; i < 2; i++) {
+            stockBucketRepository.save(CouponStockBucket.builder()
+                    .couponId(coupon.getCouponId())
+                    .bucketNo(i)
+                    .remainingQuantity(2)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll(coupon.getCouponId(), 0,
+                List.of("user1", "user2", "user3"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(outcomes).containsExactly(IssueOutcome.ISSUED, IssueOutcome.ISSUED, IssueOutcome.SOLD_OUT);
+        assertThat(stockBucketRepository.findByCouponIdOrderByBucketNo(coupon.getCouponId()))
+                .extracting(CouponStockBucket::getRemainingQuantity)
+                .containsExactly(0, 2);
+
+        Coupon found = couponRepository.findById(coupon.getCouponId()).get();
+        assertThat(found.getStock().getIssuedQuantity()).isEqualTo(2);
+        assertThat(found.getStock().getRemainingQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 전체 요청이 INVALID")
+    void invalid() {
+        // when
+        List<IssueOutcome> outcomes = couponBatchIssueService.issueAll("no-such-coupon", null, List.of("user1"));
+
+        // then
+        assertThat(outcomes).containsExactly(IssueOutcome.INVALID);
+    }
+}
@@ -1,12 +1,21 @@
 package com.sparta.ecommerce.application.coupon;
 
+import com.sparta.ecommerce.application.coupon.dto.CouponResponse;
+import com.sparta.ecommerce.application.coupon.dto.CreateCouponRequest;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueProcessor;
 import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService;
+import com.sparta.ecommerce.application.coupon.usecase.CreateCouponUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.IssueCouponWithQueueUseCase;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import com.sparta.ecommerce.domain.coupon.DiscountType;
 import com.sparta.ecommerce.domain.coupon.exception.CouponSoldOutException;
 import com.sparta.ecommerce.domain.coupon.exception.DuplicateCouponIssueException;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
+import com.sparta.ecommerce.infrastructure.kafka.coupon.producer.CouponKafkaProducer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -14,8 +23,15 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @ActiveProfiles("local")
@@ -25,9 +41,22 @@ class CouponIssueIntegrationTest {
     @MockBean
     private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
 
+    // 발급 요청 메시지를 캡처하여 테스트에서 직접 Consumer 처리 (Kafka 대기열 역할)
+    @MockBean
+    private CouponKafkaProducer kafkaProducer;
+
     @Autowired
     private IssueCouponWithQueueUseCase issueCouponUseCase;
 
+    @Autowired
+    private CreateCouponUseCase createCouponUseCase;
+
+    @Autowired
+    private CouponIssueProcessor couponIssueProcessor;
+
+    @Autowired
+    private CouponStockBucketRepository stockBucketRepository;
+
     @Autowired
     private CouponIssueRedisService redisService;
 
@@ -43,9 +72,9 @@ class CouponIssueIntegrationTest {
      */
     private void setupCoupon(String couponId, int stock) {
         // Redis 초기화
-        redisTemplate.delete("coupon:issued:" + couponId);
-        redisTemplate.delete("coupon:stock:" + couponId);
-        redisTemplate.delete("coupon:sold-out:" + couponId);
+        redisTemplate.delete("coupon:issued:{" + couponId + "}");
+        redisTemplate.delete("coupon:stock:{" + couponId + "}");
+        redisTemplate.delete("coupon:sold-out:{" + couponId + "}");
 
         // Redis 재고 설정
         redisService.initializeStock(couponId, stock);
@@ -53,6 +82,61 @@ class CouponIssueIntegrationTest {
         System.out.println("=== 테스트 준비 완료: couponId=" + couponId + ", 재고=" + stock + "개 (Redis) ===");
     }
 
+    @Test
+    @DisplayName("버킷 쿠폰: 모든 버킷 재고가 소진될 때까지 접수하고 이후 품절")
+    void bucketedIssue() {
+        // given - 재고 5개를 버킷 3개(2, 2, 1)로 분할
+        String couponId = "test-coupon-bucketed";
+        redisTemplate.delete("coupon:issued:{" + couponId + "}");
+        redisTemplate.delete("coupon:sold-out:{" + couponId + "}");
+        redisService.initializeBucketedStock(couponId, List.of(2, 2, 1));
+
+        // when - 5명은 버킷 중 하나에서 차감되어 접수
+        for (int i = 1; i <= 5; i++) {
+            var response = issueCouponUseCase.execute("user" + i, couponId);
+            assertThat(response.queued()).isTrue();
+        }
+
+        // then - 모든 버킷이 비면 품절
+        assertThatThrownBy(() -> issueCouponUseCase.execute("user6", couponId))
+                .isInstanceOf(CouponSoldOutException.class);
+        for (int bucket = 0; bucket < 3; bucket++) {
+            assertThat(redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}:" + bucket)).isEqualTo("0");
+        }
+    }
+
+    @Test
+    @DisplayName("버킷 쿠폰: 재고를 모두 접수한 뒤 추가 요청이 품절되어도 대기열의 접수 요청은 모두 발급된다")
+    void bucketedIssue_AdmittedRequestsIssuedAfterSoldOut() {
+        // given - 재고 5개, 버킷 3개 (DB + Redis)
+        CouponResponse coupon = createCouponUseCase.execute(new CreateCouponRequest(
+                "버킷 소진 테스트 쿠폰", DiscountType.FIXED, 1000L, 0L, 5,
+                LocalDateTime.now().plusDays(1), 3));
+        String couponId = coupon.couponId();
+
+        List<String> admitted = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            issueCouponUseCase.execute("bucket-user" + i, couponId);
+            admitted.add("bucket-user" + i);
+        }
+
+        // when - 재고 소진 후 추가 요청 (접수 단계 품절), 이후 대기열 처리
+        assertThatThrownBy(() -> issueCouponUseCase.execute("bucket-user6", couponId))
+                .isInstanceOf(CouponSoldOutException.class);
+
+        ArgumentCaptor<String> userIds = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Integer> buckets = ArgumentCaptor.forClass(Integer.class);
+        verify(kafkaProducer, atLeastOnce()).publishCouponIssueRequest(eq(couponId), userIds.capture(), buckets.capture());
+        for (int i = 0; i < userIds.getAllValues().size(); i++) {
+            couponIssueProcessor.processSingleIssue(userIds.getAllValues().get(i), couponId, buckets.getAllValues().get(i));
+        }
+
+        // then - 접수된 5명 모두 발급, DB 버킷 재고 전부 차감
+        assertThat(userIds.getAllValues()).containsExactlyElementsOf(admitted);
+        assertThat(redisService.getResults(couponId, admitted)).containsOnly(CouponIssueStatus.ISSUED);
+        assertThat(stockBucketRepository.sumRemainingQuantity(couponId)).isZero();
+    }
+
     @Test
     @DisplayName("정상 발급: 5명이 순차적으로 발급 성공")
     void successfulIssue() {
@@ -68,12 +152,13 @@ class CouponIssueIntegrationTest {
             // 발급 성공
             var response = issueCouponUseCase.execute(userId, couponId);
             assertThat(response.queued()).isTrue();
+            assertThat(response.queueSize()).isEqualTo(i + 1);  // 접수 순번
 
             System.out.println((i + 1) + "번째 발급 성공: " + userId);
         }
 
         // 재고 확인
-        String stock = redisTemplate.opsForValue().get("coupon:stock:" + couponId);
+        String stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}");
         assertThat(stock).isEqualTo("0");
         System.out.println("=== 최종 재고: " + stock + " ===");
     }
@@ -99,7 +184,7 @@ class CouponIssueIntegrationTest {
         System.out.println("두 번째 발급 차단 (중복): " + userId);
 
         // 재고 확인 (1개만 감소)
-        String stock = redisTemplate.opsForValue().get("coupon:stock:" + couponId);
+        String stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}");
         assertThat(stock).isEqualTo("4");
         System.out.println("=== 최종 재고: " + stock + " (1개만 감소) ===");
     }
@@ -120,7 +205,7 @@ class CouponIssueIntegrationTest {
         }
 
         // 재고 확인
-        String stock = redisTemplate.opsForValue().get("coupon:stock:" + couponId);
+        String stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}");
         assertThat(stock).isEqualTo("0");
         System.out.println("재고 소진: " + stock);
 
@@ -129,9 +214,10 @@ class CouponIssueIntegrationTest {
         assertThatThrownBy(() -> issueCouponUseCase.execute("user6", couponId))
                 .isInstanceOf(CouponSoldOutException.class);
         System.out.println("6번째 발급 차단 (품절): user6");
+        assertThat(redisService.hasRequested(couponId, "user6")).isFalse();  // 품절 요청은 발급 Set에 남지 않음
 
         // 재고 확인 (0 유지)
-        stock = redisTemplate.opsForValue().get("coupon:stock:" + couponId);
+        stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}");
         assertThat(stock).isEqualTo("0");
         System.out.println("=== 최종 재고: " + stock + " ===");
     }
@@ -165,7 +251,7 @@ class CouponIssueIntegrationTest {
         System.out.println("user6 품절 차단");
 
         // 최종 재고 확인
-        String stock = redisTemplate.opsForValue().get("coupon:stock:" + couponId);
+        String stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponId + "}");
         assertThat(stock).isEqualTo("0");
         System.out.println("=== 최종 재고: " + stock + " ===");
     }
@@ -0,0 +1,157 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.application.coupon.service.CouponBatchIssueService;
+import com.sparta.ecommerce.application.coupon.service.CouponBatchIssueService.IssueOutcome;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueProcessor;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueService;
+import com.sparta.ecommerce.application.coupon.service.CouponNearCacheService;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import com.sparta.ecommerce.domain.coupon.repository.CouponStockBucketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 일괄 발급 처리 (Redis 보상) 테스트")
+class CouponIssueProcessorTest {
+
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    @Mock
+    private CouponBatchIssueService couponBatchIssueService;
+
+    @Mock
+    private CouponIssueRedisService redisService;
+
+    @Mock
+    private CouponNearCacheService couponNearCacheService;
+
+    @Mock
+    private CouponStockBucketRepository stockBucketRepository;
+
+    @InjectMocks
+    private CouponIssueProcessor couponIssueProcessor;
+
+    @Test
+    @DisplayName("요청별 결과에 따라 품절은 재고만 복구하고, 중복/만료는 Set 제거 + 재고 복구한다")
+    void 요청별_결과로_Redis_보상() {
+        // given
+        String couponId = "C001";
+        List<String> userIds = List.of("user1", "user2", "user3", "user4", "user5");
+        given(couponBatchIssueService.issueAll(couponId, null, userIds)).willReturn(List.of(
+                IssueOutcome.ISSUED, IssueOutcome.DUPLICATE, IssueOutcome.ISSUED,
+                IssueOutcome.SOLD_OUT, IssueOutcome.SOLD_OUT));
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, null, userIds);
+
+        // then
+        then(redisService).should().setSoldOutFlag(couponId);
+        then(redisService).should().incrementStock(couponId, null, 2);
+        then(redisService).should().releaseAll(couponId, null, List.of("user2"));
+        then(redisService).should().saveResults(couponId, Map.of(
+                "user1", CouponIssueStatus.ISSUED, "user2", CouponIssueStatus.DUPLICATE, "user3", CouponIssueStatus.ISSUED,
+                "user4", CouponIssueStatus.SOLD_OUT, "user5", CouponIssueStatus.SOLD_OUT));
+    }
+
+    @Test
+    @DisplayName("전부 발급되면 재고 소진 플래그를 설정하지 않는다")
+    void 전부_발급() {
+        // given
+        String couponId = "C001";
+        List<String> userIds = List.of("user1", "user2");
+        given(couponBatchIssueService.issueAll(couponId, null, userIds))
+                .willReturn(List.of(IssueOutcome.ISSUED, IssueOutcome.ISSUED));
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, null, userIds);
+
+        // then
+        then(redisService).should(never()).setSoldOutFlag(any());
+        then(redisService).should(never()).incrementStock(any(), any(), anyLong());
+        then(redisService).should().releaseAll(couponId, null, List.of());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 실패하면 전체 요청을 Set에서 제거하고 재고를 복구한다")
+    void 트랜잭션_실패_시_전체_복구() {
+        // given
+        String couponId = "C001";
+        List<String> userIds = List.of("user1", "user2");
+        given(couponBatchIssueService.issueAll(couponId, null, userIds)).willThrow(new RuntimeException("DB 오류"));
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, null, userIds);
+
+        // then
+        then(redisService).should().releaseAll(couponId, null, userIds);
+        then(redisService).should(never()).setSoldOutFlag(any());
+        then(redisService).should().saveResults(couponId, Map.of(
+                "user1", CouponIssueStatus.FAILED, "user2", CouponIssueStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("버킷 쿠폰의 버킷만 비고 다른 버킷에 재고가 남으면 소진 플래그 없이 Set에서만 제거한다")
+    void 버킷_소진_시_Set에서만_제거() {
+        // given
+        String couponId = "C001";
+        List<String> userIds = List.of("user1", "user2", "user3");
+        given(couponBatchIssueService.issueAll(couponId, 1, userIds)).willReturn(List.of(
+                IssueOutcome.ISSUED, IssueOutcome.SOLD_OUT, IssueOutcome.DUPLICATE));
+        given(stockBucketRepository.sumRemainingQuantity(couponId)).willReturn(3L);
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, 1, userIds);
+
+        // then
+        then(redisService).should(never()).setSoldOutFlag(any());
+        then(redisService).should().removeAllFromIssuedSet(couponId, List.of("user2"));
+        then(redisService).should().releaseAll(couponId, 1, List.of("user3"));
+    }
+
+    @Test
+    @DisplayName("버킷 쿠폰의 모든 DB 버킷 재고가 0이면 재고 소진 플래그를 설정한다")
+    void 모든_버킷_소진_시_플래그_설정() {
+        // given
+        String couponId = "C001";
+        List<String> userIds = List.of("user1", "user2");
+        given(couponBatchIssueService.issueAll(couponId, 1, userIds))
+                .willReturn(List.of(IssueOutcome.ISSUED, IssueOutcome.SOLD_OUT));
+        given(stockBucketRepository.sumRemainingQuantity(couponId)).willReturn(0L);
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, 1, userIds);
+
+        // then
+        then(redisService).should().removeAllFromIssuedSet(couponId, List.of("user2"));
+        then(redisService).should().setSoldOutFlag(couponId);
+    }
+
+    @Test
+    @DisplayName("재고 소진 플래그가 있으면 DB 처리 없이 건너뛴다")
+    void 재고_소진_플래그_스킵() {
+        // given
+        String couponId = "C001";
+        given(couponNearCacheService.isSoldOut(couponId)).willReturn(true);
+
+        // when
+        couponIssueProcessor.processBatchIssue(couponId, null, List.of("user1"));
+
+        // then
+        then(couponBatchIssueService).should(never()).issueAll(any(), any(), any());
+    }
+}
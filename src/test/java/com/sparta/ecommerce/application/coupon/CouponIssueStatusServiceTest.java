@@ -0,0 +1,135 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService.IssueResultMessage;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueStatusService;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 발급 결과 조회 (Long Polling) 테스트")
+class CouponIssueStatusServiceTest {
+
+    @Mock
+    private CouponIssueRedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private CouponIssueStatusService couponIssueStatusService;
+
+    private static final List<CouponIssueStatus> NO_RESULT = Collections.singletonList(null);
+
+    @Test
+    @DisplayName("저장된 결과가 있으면 대기 없이 즉시 응답한다")
+    void 결과_있으면_즉시_응답() {
+        // given
+        given(redisService.getResults("C001", List.of("user1"))).willReturn(List.of(CouponIssueStatus.ISSUED));
+
+        // when
+        CompletableFuture<CouponIssueStatus> future =
+                couponIssueStatusService.awaitStatus("C001", "user1", Duration.ofSeconds(5));
+
+        // then
+        assertThat(future).isCompletedWithValue(CouponIssueStatus.ISSUED);
+        then(redisService).should(never()).hasRequested(any(), any());
+    }
+
+    @Test
+    @DisplayName("결과도 발급 요청도 없으면 NOT_REQUESTED")
+    void 요청_없음() {
+        // given
+        given(redisService.getResults("C001", List.of("user1"))).willReturn(NO_RESULT);
+        given(redisService.hasRequested("C001", "user1")).willReturn(false);
+
+        // when
+        CompletableFuture<CouponIssueStatus> future =
+                couponIssueStatusService.awaitStatus("C001", "user1", Duration.ofSeconds(5));
+
+        // then
+        assertThat(future).isCompletedWithValue(CouponIssueStatus.NOT_REQUESTED);
+    }
+
+    @Test
+    @DisplayName("처리 대기 중이면 결과 저장 알림을 받을 때 Redis 재조회 없이 응답하고 대기 목록에서 제거한다")
+    void 결과_알림_시_응답() {
+        // given
+        given(redisService.getResults("C001", List.of("user1"))).willReturn(NO_RESULT);
+        given(redisService.hasRequested("C001", "user1")).willReturn(true);
+
+        CompletableFuture<CouponIssueStatus> future =
+                couponIssueStatusService.awaitStatus("C001", "user1", Duration.ofSeconds(5));
+        assertThat(future).isNotDone();
+
+        // when
+        ReflectionTestUtils.invokeMethod(couponIssueStatusService, "onResultSaved",
+                new IssueResultMessage("C001", Map.of("user1", CouponIssueStatus.SOLD_OUT)).encode());
+
+        // then
+        assertThat(future).isCompletedWithValue(CouponIssueStatus.SOLD_OUT);
+        then(redisService).should(times(2)).getResults("C001", List.of("user1"));  // 대기 등록 전/후 조회만
+        Map<?, ?> waiters = (Map<?, ?>) ReflectionTestUtils.getField(couponIssueStatusService, "waitersByCoupon");
+        assertThat(waiters).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 결과 알림은 결과가 포함된 사용자의 대기 요청만 완료한다")
+    void 배치_결과_알림_해당_사용자만_응답() {
+        // given
+        given(redisService.getResults(eq("C001"), any())).willReturn(NO_RESULT);
+        given(redisService.hasRequested(eq("C001"), any())).willReturn(true);
+
+        CompletableFuture<CouponIssueStatus> user1 =
+                couponIssueStatusService.awaitStatus("C001", "user1", Duration.ofSeconds(5));
+        CompletableFuture<CouponIssueStatus> user2 =
+                couponIssueStatusService.awaitStatus("C001", "user2", Duration.ofSeconds(5));
+
+        // when
+        ReflectionTestUtils.invokeMethod(couponIssueStatusService, "onResultSaved",
+                new IssueResultMessage("C001", Map.of(
+                        "user1", CouponIssueStatus.ISSUED,
+                        "user3", CouponIssueStatus.SOLD_OUT)).encode());
+
+        // then
+        assertThat(user1).isCompletedWithValue(CouponIssueStatus.ISSUED);
+        assertThat(user2).isNotDone();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 결과가 없으면 PENDING으로 응답한다")
+    void 대기_시간_초과() throws Exception {
+        // given
+        given(redisService.getResults("C001", List.of("user1"))).willReturn(NO_RESULT);
+        given(redisService.hasRequested("C001", "user1")).willReturn(true);
+
+        // when
+        CompletableFuture<CouponIssueStatus> future =
+                couponIssueStatusService.awaitStatus("C001", "user1", Duration.ofMillis(50));
+
+        // then
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(CouponIssueStatus.PENDING);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.application.coupon.dto.CouponMetadata;
+import com.sparta.ecommerce.application.coupon.service.CouponIssueRedisService;
+import com.sparta.ecommerce.application.coupon.service.CouponNearCacheService;
+import com.sparta.ecommerce.domain.coupon.DiscountType;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.exception.InvalidCouponException;
+import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.vo.CouponStock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 노드 로컬 캐시 테스트")
+class CouponNearCacheServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponIssueRedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponNearCacheService couponNearCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        couponNearCacheService = new CouponNearCacheService(couponRepository, redisService, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(couponNearCacheService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(couponNearCacheService, "metadataTtlSeconds", 3600L);
+        ReflectionTestUtils.setField(couponNearCacheService, "availableTtlMs", 60_000L);
+        ReflectionTestUtils.invokeMethod(couponNearCacheService, "init");
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.counter("cache.gets", "cache", cache, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("메타데이터는 첫 조회만 DB에서 읽고 이후 로컬 캐시에서 응답한다")
+    void 메타데이터_캐시() {
+        // given
+        Coupon coupon = Coupon.builder()
+                .couponId("C001")
+                .name("5000원 할인쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(5000L)
+                .stock(new CouponStock(100, 0, 100))
+                .minOrderAmount(10000L)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        given(couponRepository.findById("C001")).willReturn(Optional.of(coupon));
+
+        // when
+        CouponMetadata first = couponNearCacheService.getMetadata("C001");
+        CouponMetadata second = couponNearCacheService.getMetadata("C001");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.name()).isEqualTo("5000원 할인쿠폰");
+        then(couponRepository).should(times(1)).findById("C001");
+        assertThat(count("coupon-metadata", "hit")).isEqualTo(1.0);
+        assertThat(count("coupon-metadata", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 예외를 던지고 캐시하지 않는다")
+    void 존재하지_않는_쿠폰() {
+        // given
+        given(couponRepository.findById("NONE")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> couponNearCacheService.getMetadata("NONE"))
+                .isInstanceOf(InvalidCouponException.class);
+        assertThatThrownBy(() -> couponNearCacheService.getMetadata("NONE"))
+                .isInstanceOf(InvalidCouponException.class);
+        then(couponRepository).should(times(2)).findById("NONE");
+    }
+
+    @Test
+    @DisplayName("소진 알림을 받은 쿠폰은 Redis 조회 없이 소진으로 응답한다")
+    void 소진_알림_후_로컬_응답() {
+        // given
+        couponNearCacheService.markSoldOut("C001");
+
+        // when
+        boolean soldOut = couponNearCacheService.isSoldOut("C001");
+
+        // then
+        assertThat(soldOut).isTrue();
+        then(redisService).should(never()).isSoldOut("C001");
+        assertThat(count("coupon-sold-out", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("소진 아님 결과도 보관 시간 동안 로컬에서 응답하고, 소진 알림이 오면 즉시 소진으로 바뀐다")
+    void 소진_아님_캐시_후_알림() {
+        // given
+        given(redisService.isSoldOut("C001")).willReturn(false);
+
+        // when
+        boolean first = couponNearCacheService.isSoldOut("C001");
+        boolean second = couponNearCacheService.isSoldOut("C001");
+        couponNearCacheService.markSoldOut("C001");
+        boolean afterNotification = couponNearCacheService.isSoldOut("C001");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(afterNotification).isTrue();
+        then(redisService).should(times(1)).isSoldOut("C001");
+        assertThat(count("coupon-sold-out", "miss")).isEqualTo(1.0);
+        assertThat(count("coupon-sold-out", "hit")).isEqualTo(2.0);
+    }
+}
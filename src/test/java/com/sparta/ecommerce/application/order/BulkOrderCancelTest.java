@@ -0,0 +1,231 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.dto.BulkCancelOrdersRequest;
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderCancelJobResponse;
+import com.sparta.ecommerce.application.order.service.BulkOrderCancelService;
+import com.sparta.ecommerce.application.order.usecase.BulkCancelOrdersUseCase;
+import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
+import com.sparta.ecommerce.domain.cart.entity.Cart;
+import com.sparta.ecommerce.domain.cart.entity.CartItem;
+import com.sparta.ecommerce.domain.cart.repository.CartItemRepository;
+import com.sparta.ecommerce.domain.cart.repository.CartRepository;
+import com.sparta.ecommerce.domain.coupon.DiscountType;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
+import com.sparta.ecommerce.domain.coupon.repository.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.vo.CouponStock;
+import com.sparta.ecommerce.domain.order.OrderCancelJobStatus;
+import com.sparta.ecommerce.domain.order.OrderStatus;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.vo.Stock;
+import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.domain.user.vo.Balance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 일괄 취소/환불 통합 테스트
+ *
+ * [목적]
+ * - 청크 단위로 취소되며 체크포인트가 청크 커밋과 함께 전진하는지 검증
+ * - 잔액 환불, 환불 이력, 재고 복구, 쿠폰 복구가 모두 반영되는지 검증
+ * - PG 취소가 필요한 외부 결제 주문은 취소하지 않는지 검증
+ */
+@SpringBootTest(properties = {
+        "order.bulk-cancel.chunk-size=2",
+        "order.bulk-cancel.poll-interval-ms=3600000"  // Scheduler 대신 테스트에서 직접 청크 실행
+})
+@Testcontainers
+@ActiveProfiles("test")
+public class BulkOrderCancelTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("ecommerce")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private BulkCancelOrdersUseCase bulkCancelOrdersUseCase;
+
+    @Autowired
+    private BulkOrderCancelService bulkOrderCancelService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Test
+    @DisplayName("[일괄 취소] 쿠폰 주문 3건을 청크 2건씩 취소하며 잔액/재고/쿠폰을 복구한다")
+    void bulkCancel_RefundsAndRestoresInChunks() {
+        // given - 재고 10개 상품, 쿠폰 사용 주문 3건 (각 2개, 20,000원 - 1,000원 할인)
+        Product product = productRepository.save(Product.builder()
+                .name("일괄취소테스트상품")
+                .price(10000L)
+                .stock(new Stock(10))
+                .build());
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("일괄취소테스트쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(1000L)
+                .stock(CouponStock.of(100, 3, 97))
+                .minOrderAmount(0L)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("일괄취소유저" + i)
+                    .email("bulk-cancel" + i + "@example.com")
+                    .balance(new Balance(100000L))
+                    .build());
+            userCouponRepository.save(UserCoupon.issue(user.getUserId(), coupon));
+            Cart cart = cartRepository.save(Cart.builder().userId(user.getUserId()).build());
+            cartItemRepository.save(CartItem.builder()
+                    .cartId(cart.getCartId())
+                    .productId(product.getProductId())
+                    .quantity(2)
+                    .build());
+            createOrderUseCase.execute(new CreateOrderRequest(user.getUserId(), coupon.getCouponId()));
+            users.add(user);
+        }
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock().getQuantity())
+                .isEqualTo(4);
+
+        OrderCancelJobResponse job = bulkCancelOrdersUseCase.start(new BulkCancelOrdersRequest(
+                coupon.getCouponId(), LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1), "테스트"));
+
+        // when - 첫 번째 청크
+        boolean hasMore = bulkOrderCancelService.processChunk(job.jobId());
+
+        // then - 2건 처리, 체크포인트 전진
+        OrderCancelJobResponse afterFirst = bulkCancelOrdersUseCase.getJob(job.jobId());
+        assertThat(hasMore).isTrue();
+        assertThat(afterFirst.status()).isEqualTo(OrderCancelJobStatus.RUNNING);
+        assertThat(afterFirst.cancelledCount()).isEqualTo(2);
+        assertThat(afterFirst.refundedAmount()).isEqualTo(38000L);
+
+        // when - 체크포인트부터 이어서 처리
+        hasMore = bulkOrderCancelService.processChunk(job.jobId());
+
+        // then
+        OrderCancelJobResponse completed = bulkCancelOrdersUseCase.getJob(job.jobId());
+        assertThat(hasMore).isFalse();
+        assertThat(completed.status()).isEqualTo(OrderCancelJobStatus.COMPLETED);
+        assertThat(completed.cancelledCount()).isEqualTo(3);
+        assertThat(completed.refundedAmount()).isEqualTo(57000L);
+
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock().getQuantity())
+                .isEqualTo(10);
+        for (User user : users) {
+            assertThat(userRepository.findById(user.getUserId()).orElseThrow().getBalance().amount())
+                    .isEqualTo(100000L);
+            assertThat(userCouponRepository.findByUserIdAndCouponId(user.getUserId(), coupon.getCouponId())
+                    .orElseThrow().isUsed()).isFalse();
+
+            Order order = orderRepository.findByUserId(user.getUserId()).get(0);
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(paymentRepository.findByOrderId(order.getOrderId()).orElseThrow().getStatus())
+                    .isEqualTo(PaymentStatus.CANCELLED);
+            assertThat(balanceHistoryRepository.existsByTransactionId("REFUND-" + order.getOrderId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("[일괄 취소] 카드 결제 주문은 PG 환불 없이 취소되지 않도록 대상에서 제외한다")
+    void bulkCancel_SkipsExternalPayments() {
+        // given - 카드 결제가 완료된 쿠폰 주문 1건
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("일괄취소카드테스트쿠폰")
+                .discountType(DiscountType.FIXED)
+                .discountValue(1000L)
+                .stock(CouponStock.of(100, 1, 99))
+                .minOrderAmount(0L)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+        Order order = orderRepository.save(Order.builder()
+                .userId("bulk-cancel-card-user")
+                .userCouponId(coupon.getCouponId())
+                .totalAmount(20000L)
+                .discountAmount(1000L)
+                .finalAmount(19000L)
+                .status(OrderStatus.COMPLETED)
+                .build());
+        Payment payment = paymentRepository.save(Payment.builder()
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .amount(19000L)
+                .method(PaymentMethod.CARD)
+                .status(PaymentStatus.COMPLETED)
+                .paidAt(LocalDateTime.now())
+                .build());
+
+        OrderCancelJobResponse job = bulkCancelOrdersUseCase.start(new BulkCancelOrdersRequest(
+                coupon.getCouponId(), LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1), "테스트"));
+
+        // when
+        boolean hasMore = bulkOrderCancelService.processChunk(job.jobId());
+
+        // then - 처리 대상 없음, 주문/결제 상태 유지
+        OrderCancelJobResponse completed = bulkCancelOrdersUseCase.getJob(job.jobId());
+        assertThat(hasMore).isFalse();
+        assertThat(completed.status()).isEqualTo(OrderCancelJobStatus.COMPLETED);
+        assertThat(completed.cancelledCount()).isZero();
+        assertThat(orderRepository.findById(order.getOrderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(paymentRepository.findById(payment.getPaymentId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.IntegrationTestBase;
+import com.sparta.ecommerce.domain.cart.entity.Cart;
+import com.sparta.ecommerce.domain.cart.entity.CartItem;
+import com.sparta.ecommerce.domain.cart.repository.CartItemRepository;
+import com.sparta.ecommerce.domain.cart.repository.CartRepository;
+import com.sparta.ecommerce.domain.order.service.OrderFacade;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.vo.Stock;
+import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.domain.user.vo.Balance;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 쓰기 경로 JDBC 배치 회귀 테스트
+ *
+ * order_items가 IDENTITY 키로 돌아가면 라인 수만큼 INSERT가 개별 실행되므로
+ * Hibernate가 준비(prepare)한 SQL 수를 세어 배치가 유지되는지 검증
+ *
+ * balance_history는 잔액 캐시 버전 때문에 IDENTITY 키를 사용하므로
+ * 주문당 INSERT 1회만 실행되고 ID 재조회 SELECT가 없는지 함께 검증
+ * (IDENTITY INSERT가 앞서 쌓인 order_items 배치를 쪼개지 않는지도 위 배치 검증으로 확인)
+ */
+@DisplayName("주문 생성 SQL 실행 수 테스트")
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.sparta.ecommerce.application.order.CreateOrderStatementCountTest$SqlCollector")
+class CreateOrderStatementCountTest extends IntegrationTestBase {
+
+    private static final int ORDER_LINES = 20;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("20개 라인 주문의 order_items INSERT는 한 번의 배치로, balance_history INSERT는 한 번만 실행된다")
+    void 주문_항목_배치_INSERT() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("batch@test.com")
+                .name("배치테스트")
+                .balance(new Balance(10_000_000L))
+                .build());
+        Cart cart = cartRepository.save(Cart.builder()
+                .userId(user.getUserId())
+                .build());
+
+        for (int i = 0; i < ORDER_LINES; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("배치상품" + i)
+                    .price(1000L)
+                    .stock(new Stock(100))
+                    .category("테스트")
+                    .build());
+            cartItemRepository.save(CartItem.builder()
+                    .cartId(cart.getCartId())
+                    .productId(product.getProductId())
+                    .quantity(1)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlCollector.clear();
+
+        // when
+        OrderFacade.OrderResult result = orderFacade.createOrder(user.getUserId(), null);
+        entityManager.flush();
+
+        // then
+        // 시퀀스 테이블 조회/갱신은 allocationSize마다 발생하므로 집계에서 제외
+        List<String> statements = SqlCollector.statements().stream()
+                .filter(sql -> !sql.toLowerCase().contains("_seq"))
+                .toList();
+        long orderItemInserts = statements.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("insert into order_items"))
+                .count();
+        long balanceHistoryStatements = statements.stream()
+                .filter(sql -> sql.toLowerCase().contains("balance_history"))
+                .count();
+        long balanceHistoryInserts = statements.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("insert into balance_history"))
+                .count();
+
+        assertThat(result.orderItems()).hasSize(ORDER_LINES);
+        assertThat(orderItemInserts).isEqualTo(1);
+        assertThat(balanceHistoryInserts).isEqualTo(1);
+        assertThat(balanceHistoryStatements).isEqualTo(balanceHistoryInserts);
+        // 라인당 INSERT가 발생하면 라인 수(20)를 넘게 됨
+        assertThat(statements).hasSizeLessThan(ORDER_LINES);
+    }
+
+    /**
+     * Hibernate가 준비한 SQL 수집 (배치로 재사용되는 PreparedStatement는 한 번만 기록됨)
+     */
+    public static class SqlCollector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.trim());
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+}
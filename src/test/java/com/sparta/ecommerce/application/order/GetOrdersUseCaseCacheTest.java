@@ -0,0 +1,125 @@
+package com.sparta.ecommerce.application.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.sparta.ecommerce.application.order.dto.OrderListResponse;
+import com.sparta.ecommerce.application.order.dto.OrderSummaryResponse;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService.CachedList;
+import com.sparta.ecommerce.application.order.usecase.GetOrdersUseCase;
+import com.sparta.ecommerce.domain.order.OrderStatus;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주문 목록 조회 캐시 테스트")
+class GetOrdersUseCaseCacheTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderReadCacheService orderReadCacheService;
+
+    @InjectMocks
+    private GetOrdersUseCase getOrdersUseCase;
+
+    @Test
+    @DisplayName("캐시된 첫 페이지는 DB 조회 없이 응답한다")
+    void 캐시_히트() {
+        // given
+        OrderListResponse cachedResponse = new OrderListResponse(List.of(), 1, 1, 3);
+        given(orderReadCacheService.isCacheablePage(1, 10)).willReturn(true);
+        given(orderReadCacheService.getList("user-1", 1, 10))
+                .willReturn(new CachedList("2", Optional.of(cachedResponse)));
+
+        // when
+        OrderListResponse response = getOrdersUseCase.execute("user-1", 1, 10, null);
+
+        // then
+        assertThat(response).isEqualTo(cachedResponse);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 최신 주문을 한 번에 조회하여 조회 전 버전으로 캐시에 저장한다")
+    void 캐시_미스() {
+        // given
+        List<Order> orders = IntStream.range(0, 15)
+                .mapToObj(i -> Order.builder()
+                        .orderId("order-" + i)
+                        .userId("user-1")
+                        .totalAmount(1000L)
+                        .finalAmount(1000L)
+                        .status(OrderStatus.PENDING)
+                        .build())
+                .toList();
+        given(orderReadCacheService.isCacheablePage(2, 10)).willReturn(true);
+        given(orderReadCacheService.getListWindow()).willReturn(50);
+        given(orderReadCacheService.getList("user-1", 2, 10)).willReturn(new CachedList("3", Optional.empty()));
+        given(orderRepository.findByUserId(eq("user-1"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(orders, PageRequest.of(0, 50), 15));
+
+        // when
+        OrderListResponse response = getOrdersUseCase.execute("user-1", 2, 10, null);
+
+        // then
+        assertThat(response.orders()).extracting(OrderSummaryResponse::orderId)
+                .containsExactly("order-10", "order-11", "order-12", "order-13", "order-14");
+        assertThat(response.totalPages()).isEqualTo(2);
+        assertThat(response.totalCount()).isEqualTo(15);
+        verify(orderReadCacheService).putList(eq("user-1"), eq("3"), argThat(list -> list.size() == 15), eq(15L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 캐시 조회에 실패하면 DB 조회 결과로 응답하고 캐시에 저장하지 않는다")
+    void 캐시_조회_실패() {
+        // given
+        Order order = Order.builder()
+                .orderId("order-1")
+                .userId("user-1")
+                .totalAmount(1000L)
+                .finalAmount(1000L)
+                .status(OrderStatus.PENDING)
+                .build();
+        given(orderReadCacheService.isCacheablePage(1, 10)).willReturn(true);
+        given(orderReadCacheService.getListWindow()).willReturn(50);
+        given(orderReadCacheService.getList("user-1", 1, 10)).willReturn(new CachedList(null, Optional.empty()));
+        given(orderRepository.findByUserId(eq("user-1"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(order), PageRequest.of(0, 50), 1));
+
+        // when
+        OrderListResponse response = getOrdersUseCase.execute("user-1", 1, 10, null);
+
+        // then
+        assertThat(response.orders()).extracting(OrderSummaryResponse::orderId).containsExactly("order-1");
+        verify(orderReadCacheService, never()).putList(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("상태 필터가 있으면 캐시를 사용하지 않는다")
+    void 상태_필터() {
+        // given
+        given(orderRepository.findByUserIdAndStatus(eq("user-1"), eq(OrderStatus.CANCELLED), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+        // when
+        getOrdersUseCase.execute("user-1", 1, 10, "cancelled");
+
+        // then
+        verify(orderReadCacheService, never()).getList(any(), anyInt(), anyInt());
+    }
+}
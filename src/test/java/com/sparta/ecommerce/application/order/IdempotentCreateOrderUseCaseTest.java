@@ -0,0 +1,141 @@
+package com.sparta.ecommerce.application.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.order.service.OrderIdempotencyService;
+import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
+import com.sparta.ecommerce.application.order.usecase.IdempotentCreateOrderUseCase;
+import com.sparta.ecommerce.domain.order.exception.InvalidIdempotencyKeyException;
+import com.sparta.ecommerce.domain.order.exception.OrderInProgressException;
+import com.sparta.ecommerce.domain.product.exception.InsufficientStockException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("멱등성 키 주문 생성 유스케이스 테스트")
+class IdempotentCreateOrderUseCaseTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private OrderIdempotencyService idempotencyService;
+
+    @InjectMocks
+    private IdempotentCreateOrderUseCase useCase;
+
+    private final CreateOrderRequest request = new CreateOrderRequest("user-1", null);
+    private final CreateOrderRequest keyedRequest = request.withIdempotencyKey("key-1");
+    private final OrderResponse response =
+            new OrderResponse("order-1", List.of(), 10000L, 0L, 10000L, LocalDateTime.now());
+
+    @Test
+    @DisplayName("완료된 멱등성 키로 재요청하면 주문을 다시 실행하지 않고 저장된 응답을 반환한다")
+    void 완료된_키_재요청() throws Exception {
+        // given
+        given(idempotencyService.begin("user-1", "key-1")).willReturn(Optional.of(response));
+
+        // when
+        OrderResponse result = useCase.execute(request, "key-1").get();
+
+        // then
+        assertThat(result).isEqualTo(response);
+        verify(createOrderUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("비어 있거나 100자를 넘는 멱등성 키는 키 선점 없이 거절한다")
+    void 유효하지_않은_키() {
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request, " "))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> useCase.execute(request, "k".repeat(101)))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        verifyNoInteractions(idempotencyService, createOrderUseCase);
+    }
+
+    @Test
+    @DisplayName("처리 중인 멱등성 키로 재요청하면 주문을 실행하지 않고 예외가 발생한다")
+    void 처리중인_키_재요청() {
+        // given
+        given(idempotencyService.begin("user-1", "key-1")).willThrow(new OrderInProgressException());
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request, "key-1"))
+                .isInstanceOf(OrderInProgressException.class);
+        verify(createOrderUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("새 멱등성 키로 주문이 성공하면 결과를 저장한다")
+    void 새_키_주문_성공() throws Exception {
+        // given
+        given(idempotencyService.begin("user-1", "key-1")).willReturn(Optional.empty());
+        given(createOrderUseCase.execute(keyedRequest)).willReturn(response);
+
+        // when
+        OrderResponse result = useCase.execute(request, "key-1").get();
+
+        // then
+        assertThat(result).isEqualTo(response);
+        verify(idempotencyService).complete("user-1", "key-1", response);
+        verify(idempotencyService, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("새 멱등성 키로 주문이 실패하면 키를 해제하여 재시도를 허용한다")
+    void 새_키_주문_실패() {
+        // given
+        given(idempotencyService.begin("user-1", "key-1")).willReturn(Optional.empty());
+        given(createOrderUseCase.execute(keyedRequest)).willThrow(new InsufficientStockException());
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request, "key-1"))
+                .isInstanceOf(InsufficientStockException.class);
+        verify(idempotencyService).release("user-1", "key-1");
+        verify(idempotencyService, never()).complete(any(), any(), any());
+        verify(idempotencyService, never()).recover(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키의 주문이 DB에 이미 있으면 중복 주문 대신 기존 주문 응답을 반환한다")
+    void 완료_저장_실패_후_재시도() throws Exception {
+        // given - 완료 결과 저장 실패로 PROCESSING이 만료된 뒤 재시도 → 유니크 제약 위반
+        given(idempotencyService.begin("user-1", "key-1")).willReturn(Optional.empty());
+        given(createOrderUseCase.execute(keyedRequest))
+                .willThrow(new DataIntegrityViolationException("uk_orders_user_id_idempotency_key"));
+        given(idempotencyService.recover("user-1", "key-1")).willReturn(Optional.of(response));
+
+        // when
+        OrderResponse result = useCase.execute(request, "key-1").get();
+
+        // then
+        assertThat(result).isEqualTo(response);
+        verify(idempotencyService, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 없으면 멱등성 저장소를 사용하지 않는다")
+    void 키_없음() throws Exception {
+        // given
+        given(createOrderUseCase.execute(request)).willReturn(response);
+
+        // when
+        OrderResponse result = useCase.execute(request, null).get();
+
+        // then
+        assertThat(result).isEqualTo(response);
+        verifyNoInteractions(idempotencyService);
+    }
+}
@@ -0,0 +1,206 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
+import com.sparta.ecommerce.application.product.usecase.GetProductStockUseCase;
+import com.sparta.ecommerce.application.product.usecase.ManageStockShardingUseCase;
+import com.sparta.ecommerce.domain.cart.entity.Cart;
+import com.sparta.ecommerce.domain.cart.entity.CartItem;
+import com.sparta.ecommerce.domain.cart.repository.CartItemRepository;
+import com.sparta.ecommerce.domain.cart.repository.CartRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.repository.ProductStockBucketRepository;
+import com.sparta.ecommerce.domain.product.vo.Stock;
+import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.domain.user.vo.Balance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 분산(버킷) 모드 동시성 테스트
+ *
+ * [목적]
+ * - 재고를 여러 버킷 행으로 나눈 상품에 동시 주문이 몰려도 초과 판매가 없는지 검증
+ * - 한 버킷으로 부족한 수량은 여러 버킷에서 나누어 차감되는지 검증
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+public class ShardedStockConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("ecommerce")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ManageStockShardingUseCase manageStockShardingUseCase;
+
+    @Autowired
+    private GetProductStockUseCase getProductStockUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    private Product testProduct;
+    private final List<String> userIds = new ArrayList<>();
+    private final List<String> cartIds = new ArrayList<>();
+    private final List<Long> cartItemIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        cartItemIds.forEach(id -> cartItemRepository.deleteById(id));
+        cartIds.forEach(id -> cartRepository.deleteById(id));
+        userIds.forEach(id -> userRepository.deleteById(id));
+        manageStockShardingUseCase.disable(testProduct.getProductId());
+        productRepository.deleteById(testProduct.getProductId());
+    }
+
+    @Test
+    @DisplayName("[재고 분산] 100명이 버킷 4개로 나뉜 재고 10개 상품 주문 시 정확히 10명만 성공")
+    void createOrder_ShardedStock_NoOverselling() throws InterruptedException {
+        // given - 재고 10개를 버킷 4개(3, 3, 2, 2)로 분산
+        List<User> users = prepare(10, 4, 100, 1);
+
+        // when
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        orderConcurrently(users, successCount, failCount);
+
+        // then
+        int finalStock = getProductStockUseCase.execute(testProduct.getProductId()).stock();
+        List<ProductStockBucket> buckets =
+                productStockBucketRepository.findByProductIdOrderByBucketNo(testProduct.getProductId());
+
+        System.out.println("\n=== 재고 분산 동시성 테스트 결과 ===");
+        System.out.println("초기 재고: 10 (버킷 4개)");
+        System.out.println("최종 재고: " + finalStock);
+        System.out.println("성공한 주문: " + successCount.get());
+        System.out.println("실패한 주문: " + failCount.get());
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(90);
+        assertThat(finalStock).isEqualTo(0);
+        assertThat(buckets).hasSize(4).allMatch(bucket -> bucket.getQuantity() == 0);
+    }
+
+    @Test
+    @DisplayName("[재고 분산] 한 버킷보다 큰 수량은 여러 버킷에서 나누어 차감되고 재고를 초과하지 않는다")
+    void createOrder_ShardedStock_SpansBuckets() throws InterruptedException {
+        // given - 재고 10개를 버킷 4개(3, 3, 2, 2)로 분산, 30명이 각자 4개씩 주문
+        List<User> users = prepare(10, 4, 30, 4);
+
+        // when
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        orderConcurrently(users, successCount, failCount);
+
+        // then - 4개씩 2건 (8개)만 판매, 남은 2개는 버킷에 그대로 남음
+        int finalStock = getProductStockUseCase.execute(testProduct.getProductId()).stock();
+        List<ProductStockBucket> buckets =
+                productStockBucketRepository.findByProductIdOrderByBucketNo(testProduct.getProductId());
+
+        assertThat(successCount.get()).isEqualTo(2);
+        assertThat(failCount.get()).isEqualTo(28);
+        assertThat(finalStock).isEqualTo(2);
+        assertThat(buckets).hasSize(4).allMatch(bucket -> bucket.getQuantity() >= 0);
+        assertThat(buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum()).isEqualTo(2);
+    }
+
+    private List<User> prepare(int stock, int bucketCount, int userCount, int quantityPerUser) {
+        testProduct = Product.builder()
+                .name("재고분산테스트상품")
+                .price(10000L)
+                .stock(new Stock(stock))
+                .build();
+        productRepository.save(testProduct);
+        manageStockShardingUseCase.enable(testProduct.getProductId(), bucketCount);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = User.builder()
+                    .name("재고분산유저" + i)
+                    .email("sharded-stock" + i + "@example.com")
+                    .balance(new Balance(100000L))
+                    .build();
+            userRepository.save(user);
+            users.add(user);
+            userIds.add(user.getUserId());
+
+            Cart cart = Cart.builder()
+                    .userId(user.getUserId())
+                    .build();
+            cartRepository.save(cart);
+            cartIds.add(cart.getCartId());
+
+            CartItem cartItem = CartItem.builder()
+                    .cartId(cart.getCartId())
+                    .productId(testProduct.getProductId())
+                    .quantity(quantityPerUser)
+                    .build();
+            cartItemRepository.save(cartItem);
+            cartItemIds.add(cartItem.getCartItemId());
+        }
+        return users;
+    }
+
+    private void orderConcurrently(List<User> users, AtomicInteger successCount, AtomicInteger failCount)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(users.size());
+        CountDownLatch latch = new CountDownLatch(users.size());
+
+        for (User user : users) {
+            executorService.execute(() -> {
+                try {
+                    createOrderUseCase.execute(new CreateOrderRequest(user.getUserId(), null));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.ecommerce.application.order.service;
+
+import static org.mockito.BDDMockito.*;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.order.usecase.CreateOrderUseCase;
+import com.sparta.ecommerce.domain.product.exception.InsufficientStockException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("비동기 주문 처리 테스트")
+class AsyncOrderProcessorTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private OrderTicketRedisService ticketRedisService;
+
+    @InjectMocks
+    private AsyncOrderProcessor asyncOrderProcessor;
+
+    @Test
+    @DisplayName("주문 성공 시 티켓이 주문 ID와 함께 완료 처리된다")
+    void 주문_성공_티켓_완료() {
+        // given
+        given(ticketRedisService.claim("T001")).willReturn(true);
+        given(createOrderUseCase.execute(new CreateOrderRequest("U001", null)))
+                .willReturn(new OrderResponse("O001", List.of(), 10000L, 0L, 10000L, null));
+
+        // when
+        asyncOrderProcessor.process("T001", "U001", null);
+
+        // then
+        verify(ticketRedisService).markCompleted("T001", "O001");
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외 발생 시 티켓에 에러 코드가 기록된다")
+    void 주문_실패_티켓_실패() {
+        // given
+        given(ticketRedisService.claim("T001")).willReturn(true);
+        given(createOrderUseCase.execute(any())).willThrow(new InsufficientStockException("재고 부족"));
+
+        // when
+        asyncOrderProcessor.process("T001", "U001", null);
+
+        // then
+        verify(ticketRedisService).markFailed("T001", "P002", "재고 부족");
+        verify(ticketRedisService, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("티켓 선점에 실패한 재전달 메시지는 주문을 생성하지 않고 티켓 상태도 변경하지 않는다")
+    void 재전달_메시지_스킵() {
+        // given - 이미 다른 Consumer가 처리 중이거나 완료된 티켓
+        given(ticketRedisService.claim("T001")).willReturn(false);
+
+        // when
+        asyncOrderProcessor.process("T001", "U001", null);
+
+        // then
+        verify(createOrderUseCase, never()).execute(any());
+        verify(ticketRedisService, never()).markCompleted(any(), any());
+        verify(ticketRedisService, never()).markFailed(any(), any(), any());
+    }
+}
@@ -3,22 +3,26 @@ package com.sparta.ecommerce.application.order.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
 import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.payment.service.PaymentConfirmService;
 import com.sparta.ecommerce.application.product.service.ProductRankingService;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 import com.sparta.ecommerce.domain.order.service.OrderFacade;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
 import com.sparta.ecommerce.infrastructure.outbox.EventStatus;
 import com.sparta.ecommerce.infrastructure.outbox.entity.OutboxEvent;
 import com.sparta.ecommerce.infrastructure.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,9 +48,22 @@ class CreateOrderServiceOutboxTest {
     @Mock
     private ObjectMapper objectMapper;
 
-    @InjectMocks
+    @Mock
+    private OrderReadCacheService orderReadCacheService;
+
+    @Mock
+    private PaymentConfirmService paymentConfirmService;
+
     private CreateOrderService createOrderService;
 
+    @BeforeEach
+    void setUp() {
+        OrderCompletionRecorder orderCompletionRecorder =
+                new OrderCompletionRecorder(rankingService, outboxEventRepository, objectMapper);
+        createOrderService = new CreateOrderService(
+                orderFacade, orderCompletionRecorder, orderReadCacheService, paymentConfirmService);
+    }
+
     @Test
     @DisplayName("주문 생성 시 Outbox에 이벤트가 저장된다")
     void create_savesToOutbox() throws Exception {
@@ -66,7 +83,7 @@ class CreateOrderServiceOutboxTest {
                 List.of(orderItem)
         );
 
-        given(orderFacade.createOrder(userId, couponId)).willReturn(orderResult);
+        given(orderFacade.createOrder(userId, couponId, PaymentMethod.BALANCE, null)).willReturn(orderResult);
         given(objectMapper.writeValueAsString(order)).willReturn("{\"orderId\":\"order-789\"}");
         given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -108,7 +125,7 @@ class CreateOrderServiceOutboxTest {
                 List.of(orderItem)
         );
 
-        given(orderFacade.createOrder(userId, null)).willReturn(orderResult);
+        given(orderFacade.createOrder(userId, null, PaymentMethod.BALANCE, null)).willReturn(orderResult);
         given(objectMapper.writeValueAsString(order)).willReturn("{\"orderId\":\"order-789\"}");
         given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -142,7 +159,7 @@ class CreateOrderServiceOutboxTest {
                 List.of(orderItem)
         );
 
-        given(orderFacade.createOrder(userId, null)).willReturn(orderResult);
+        given(orderFacade.createOrder(userId, null, PaymentMethod.BALANCE, null)).willReturn(orderResult);
         given(objectMapper.writeValueAsString(order))
                 .willThrow(new com.fasterxml.jackson.core.JsonProcessingException("Serialization error") {});
 
@@ -180,7 +197,7 @@ class CreateOrderServiceOutboxTest {
                 List.of(item1, item2, item3)
         );
 
-        given(orderFacade.createOrder(userId, null)).willReturn(orderResult);
+        given(orderFacade.createOrder(userId, null, PaymentMethod.BALANCE, null)).willReturn(orderResult);
         given(objectMapper.writeValueAsString(order)).willReturn("{\"orderId\":\"order-789\"}");
         given(outboxEventRepository.save(any(OutboxEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -194,4 +211,29 @@ class CreateOrderServiceOutboxTest {
         // 랭킹 업데이트는 3번 (각 상품마다)
         verify(rankingService, times(3)).incrementPurchaseCount(any());
     }
+
+    @Test
+    @DisplayName("외부 결제 주문은 PG 승인 전이므로 Outbox 이벤트와 랭킹을 기록하지 않는다")
+    void create_externalPayment_defersCompletion() {
+        // given
+        String userId = "user-123";
+        CreateOrderRequest request = new CreateOrderRequest(userId, null, PaymentMethod.CARD);
+
+        Order order = mock(Order.class);
+        OrderItem orderItem = mock(OrderItem.class);
+        Payment payment = Payment.createCardPayment("order-789", userId, 10000L);
+
+        OrderFacade.OrderResult orderResult = new OrderFacade.OrderResult(order, List.of(orderItem), payment);
+        given(orderFacade.createOrder(userId, null, PaymentMethod.CARD, null)).willReturn(orderResult);
+        given(paymentConfirmService.confirm(payment))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        createOrderService.create(request);
+
+        // then - 승인 기록 시점(PaymentOutcomeRecorder.approve)으로 미룸
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+        verify(rankingService, never()).incrementPurchaseCount(any());
+        verify(paymentConfirmService).confirm(payment);
+    }
 }
@@ -0,0 +1,216 @@
+package com.sparta.ecommerce.application.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.sparta.ecommerce.application.order.dto.CreateOrderRequest;
+import com.sparta.ecommerce.application.order.dto.OrderResponse;
+import com.sparta.ecommerce.application.order.service.GroupCommitOrderWriter.PendingOrder;
+import com.sparta.ecommerce.domain.cart.repository.CartItemRepository;
+import com.sparta.ecommerce.domain.product.exception.InsufficientStockException;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.user.repository.UserRepository;
+import com.sparta.ecommerce.infrastructure.metrics.TransactionCommitTimer;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("그룹 커밋 주문 Writer 테스트")
+class GroupCommitOrderWriterTest {
+
+    @Mock
+    private CreateOrderService createOrderService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionCommitTimer transactionCommitTimer;
+
+    @InjectMocks
+    private GroupCommitOrderWriter writer;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        ReflectionTestUtils.setField(writer, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(writer, "queue", queue);
+        ReflectionTestUtils.setField(writer, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(writer, "maxWaitMs", 1L);
+        ReflectionTestUtils.setField(writer, "maxBatchRetries", 3);
+        ReflectionTestUtils.setField(writer, "individualMaxRetries", 2);
+    }
+
+    @Test
+    @DisplayName("배치 내 한 주문이 실패해도 나머지 주문은 하나의 트랜잭션으로 커밋된다")
+    void 실패_주문_격리() throws Exception {
+        // given
+        CreateOrderRequest ok1 = new CreateOrderRequest("U001", null);
+        CreateOrderRequest fail = new CreateOrderRequest("U002", null);
+        CreateOrderRequest ok2 = new CreateOrderRequest("U003", null);
+
+        given(createOrderService.create(ok1)).willReturn(response("O001"));
+        given(createOrderService.create(fail)).willThrow(new InsufficientStockException("재고 부족"));
+        given(createOrderService.create(ok2)).willReturn(response("O003"));
+
+        List<PendingOrder> batch = List.of(pending(ok1), pending(fail), pending(ok2));
+
+        // when
+        writer.processBatch(batch);
+
+        // then
+        assertThat(batch.get(0).future().get().orderId()).isEqualTo("O001");
+        assertThat(batch.get(2).future().get().orderId()).isEqualTo("O003");
+        assertThatThrownBy(() -> batch.get(1).future().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InsufficientStockException.class);
+
+        // 첫 시도 롤백 1회 + 실패 주문 제외 후 재시도 커밋 1회
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(createOrderService, times(1)).create(fail);
+    }
+
+    @Test
+    @DisplayName("커밋이 실패하면 주문별 개별 트랜잭션으로 처리한다")
+    void 커밋_실패시_개별_처리() throws Exception {
+        // given
+        CreateOrderRequest request1 = new CreateOrderRequest("U001", null);
+        CreateOrderRequest request2 = new CreateOrderRequest("U002", null);
+
+        given(createOrderService.create(request1)).willReturn(response("O001"));
+        given(createOrderService.create(request2)).willReturn(response("O002"));
+        willThrow(new RuntimeException("커밋 실패"))
+                .willDoNothing()
+                .given(transactionManager).commit(any());
+
+        List<PendingOrder> batch = List.of(pending(request1), pending(request2));
+
+        // when
+        writer.processBatch(batch);
+
+        // then
+        assertThat(batch.get(0).future().get().orderId()).isEqualTo("O001");
+        assertThat(batch.get(1).future().get().orderId()).isEqualTo("O002");
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외가 아닌 실패는 주문을 실패 처리하지 않고 개별 트랜잭션에서 재시도한다")
+    void 일시적_실패_개별_재시도() throws Exception {
+        // given
+        CreateOrderRequest request1 = new CreateOrderRequest("U001", null);
+        CreateOrderRequest request2 = new CreateOrderRequest("U002", null);
+
+        given(createOrderService.create(request1)).willReturn(response("O001"));
+        given(createOrderService.create(request2))
+                .willThrow(new CannotAcquireLockException("락 대기 타임아웃"))
+                .willThrow(new CannotAcquireLockException("락 대기 타임아웃"))
+                .willReturn(response("O002"));
+
+        List<PendingOrder> batch = List.of(pending(request1), pending(request2));
+
+        // when
+        writer.processBatch(batch);
+
+        // then - 배치 1회 실패 후 개별 처리, U002는 개별 트랜잭션에서 1회 재시도 후 성공
+        assertThat(batch.get(0).future().get().orderId()).isEqualTo("O001");
+        assertThat(batch.get(1).future().get().orderId()).isEqualTo("O002");
+        verify(createOrderService, times(3)).create(request2);
+    }
+
+    @Test
+    @DisplayName("개별 트랜잭션 재시도 한도를 넘으면 마지막 예외로 완료한다")
+    void 개별_재시도_한도_초과() {
+        // given
+        CreateOrderRequest request = new CreateOrderRequest("U001", null);
+        given(createOrderService.create(request)).willThrow(new CannotAcquireLockException("락 대기 타임아웃"));
+
+        List<PendingOrder> batch = List.of(pending(request));
+
+        // when
+        writer.processBatch(batch);
+
+        // then - 배치 1회 + 개별 1회 + 재시도 2회
+        assertThatThrownBy(() -> batch.get(0).future().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CannotAcquireLockException.class);
+        verify(createOrderService, times(4)).create(request);
+    }
+
+    @Test
+    @DisplayName("배치 시작 시 배치 전체 장바구니의 상품 행을 ID 오름차순으로 한 번에 잠근다")
+    void 배치_상품_락_정렬() throws Exception {
+        // given
+        CreateOrderRequest request1 = new CreateOrderRequest("U002", null);
+        CreateOrderRequest request2 = new CreateOrderRequest("U001", null);
+
+        given(cartItemRepository.findProductIdsByUserIds(List.of("U001", "U002")))
+                .willReturn(List.of("P003", "P001", "P002"));
+        given(createOrderService.create(request1)).willReturn(response("O001"));
+        given(createOrderService.create(request2)).willReturn(response("O002"));
+
+        List<PendingOrder> batch = List.of(pending(request1), pending(request2));
+
+        // when
+        writer.processBatch(batch);
+
+        // then
+        assertThat(batch.get(1).future().get().orderId()).isEqualTo("O002");
+        verify(userRepository).findAllByIdsWithLock(List.of("U001", "U002"));
+        verify(productRepository, times(1)).findAllUnshardedByIdsWithLock(List.of("P001", "P002", "P003"));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 주문은 한 배치에 하나만 포함되고 나머지는 다음 배치로 이월된다")
+    void 같은_사용자_주문_이월() throws Exception {
+        // given
+        PendingOrder first = pending(new CreateOrderRequest("U001", null));
+        PendingOrder other = pending(new CreateOrderRequest("U002", null));
+        PendingOrder second = pending(new CreateOrderRequest("U001", null));
+        queue.addAll(List.of(first, other, second));
+
+        // when
+        List<PendingOrder> batch1 = writer.collectBatch();
+        List<PendingOrder> batch2 = writer.collectBatch();
+
+        // then
+        assertThat(batch1).containsExactly(first, other);
+        assertThat(batch2).containsExactly(second);
+    }
+
+    private PendingOrder pending(CreateOrderRequest request) {
+        return new PendingOrder(request, new CompletableFuture<>());
+    }
+
+    private OrderResponse response(String orderId) {
+        return new OrderResponse(orderId, List.of(), 10000L, 0L, 10000L, null);
+    }
+}
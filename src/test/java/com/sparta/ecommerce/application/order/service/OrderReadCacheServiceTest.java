@@ -0,0 +1,61 @@
+package com.sparta.ecommerce.application.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService.CachedDetail;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService.CachedList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("주문 조회 캐시 서비스 테스트")
+class OrderReadCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderReadCacheService orderReadCacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 모든 Redis 호출이 실패하는 템플릿
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("Redis 연결 실패");
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        orderReadCacheService = new OrderReadCacheService(redisTemplate, new ObjectMapper(), meterRegistry);
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.counter("cache.gets", "cache", cache, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 상세 조회는 저장 불가 미스로 처리된다")
+    void 상세_조회_Redis_장애() {
+        // when
+        CachedDetail cached = orderReadCacheService.getDetail("order-1");
+
+        // then
+        assertThat(cached.response()).isEmpty();
+        assertThat(cached.writable()).isFalse();
+        assertThat(count("order-detail", "miss")).isEqualTo(1);
+        assertThat(count("order-detail", "hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 목록 조회는 저장 불가 미스로 처리된다")
+    void 목록_조회_Redis_장애() {
+        // when
+        CachedList cached = orderReadCacheService.getList("user-1", 1, 10);
+
+        // then
+        assertThat(cached.response()).isEmpty();
+        assertThat(cached.writable()).isFalse();
+        assertThat(count("order-list", "miss")).isEqualTo(1);
+        assertThat(count("order-list", "hit")).isZero();
+    }
+}
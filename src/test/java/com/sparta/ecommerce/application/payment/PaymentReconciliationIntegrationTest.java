@@ -0,0 +1,163 @@
+package com.sparta.ecommerce.application.payment;
+
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationService;
+import com.sparta.ecommerce.domain.payment.DiscrepancyType;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.ReconciliationRunStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.entity.PaymentDiscrepancy;
+import com.sparta.ecommerce.domain.payment.entity.ReconciliationRun;
+import com.sparta.ecommerce.domain.payment.repository.PaymentDiscrepancyRepository;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
+import com.sparta.ecommerce.infrastructure.jpa.id.TsidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 결제 대사 통합 테스트
+ *
+ * [목적]
+ * - 별도 읽기 커넥션 풀이 애플리케이션 DataSource 접속 정보(@ServiceConnection)로 연결되는지 검증
+ * - 시간 구간 → TSID 주문 ID 구간 분할: 구간마다 주문 1건, 대사 구간 밖 주문은 제외
+ * - fetch-size 1 서버 커서 스트리밍으로 orders/payments/balance_history merge join
+ * - flush-size 1로 불일치를 여러 번 나눠 JDBC Batch 저장
+ */
+@SpringBootTest(properties = {
+        "payment.reconciliation.slice-minutes=15",
+        "payment.reconciliation.fetch-size=1",
+        "payment.reconciliation.flush-size=1"
+})
+@Testcontainers
+@ActiveProfiles("test")
+public class PaymentReconciliationIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("ecommerce")
+            .withUsername("root")
+            .withPassword("root")
+            .withReuse(true);
+
+    @Autowired
+    private PaymentReconciliationService reconciliationService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 다른 테스트 데이터와 겹치지 않는 과거 1시간 구간
+    private static final LocalDateTime RANGE_FROM = LocalDateTime.of(2025, 3, 1, 4, 0);
+    private static final LocalDateTime RANGE_TO = RANGE_FROM.plusHours(1);
+
+    private final List<String> orderIds = new ArrayList<>();
+    private String runId;
+
+    @AfterEach
+    void tearDown() {
+        for (String orderId : orderIds) {
+            jdbcTemplate.update("DELETE FROM balance_history WHERE transaction_id = ?", "ORDER-" + orderId);
+            jdbcTemplate.update("DELETE FROM payments WHERE order_id = ?", orderId);
+            jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId);
+        }
+        if (runId != null) {
+            jdbcTemplate.update("DELETE FROM payment_discrepancies WHERE run_id = ?", runId);
+            jdbcTemplate.update("DELETE FROM reconciliation_runs WHERE id = ?", runId);
+        }
+    }
+
+    @Test
+    @DisplayName("구간별로 주문/결제/잔액 이력을 merge join하여 불일치만 저장한다")
+    void reconcile_SlicesStreamsAndStoresDiscrepancies() {
+        // given - 15분 구간 4개에 주문 1건씩 + 대사 구간 밖 주문 1건
+        String matched = givenBalanceOrder(RANGE_FROM.plusMinutes(5), 10000L, 10000L, true);
+        String amountMismatch = givenBalanceOrder(RANGE_FROM.plusMinutes(20), 20000L, 15000L, true);
+        String missingPayment = givenOrder(RANGE_FROM.plusMinutes(35), 30000L);
+        String missingDebit = givenBalanceOrder(RANGE_FROM.plusMinutes(50), 40000L, 40000L, false);
+        givenOrder(RANGE_TO.plusMinutes(10), 50000L);
+
+        // when
+        ReconciliationRun run = reconciliationService.reconcile(RANGE_FROM, RANGE_TO);
+        runId = run.getRunId();
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(ReconciliationRunStatus.COMPLETED);
+        assertThat(run.getScannedOrders()).isEqualTo(4);
+        assertThat(run.getDiscrepancyCount()).isEqualTo(3);
+
+        List<PaymentDiscrepancy> discrepancies =
+                paymentDiscrepancyRepository.findByRunIdOrderByOrderIdAscIdAsc(runId, PageRequest.of(0, 10));
+        assertThat(discrepancies)
+                .extracting(PaymentDiscrepancy::getOrderId, PaymentDiscrepancy::getType)
+                .containsExactly(
+                        tuple(amountMismatch, DiscrepancyType.AMOUNT_MISMATCH),
+                        tuple(missingPayment, DiscrepancyType.MISSING_PAYMENT),
+                        tuple(missingDebit, DiscrepancyType.MISSING_BALANCE_DEBIT));
+        assertThat(discrepancies).extracting(PaymentDiscrepancy::getOrderId).doesNotContain(matched);
+    }
+
+    /**
+     * 주어진 시각에 생성된 주문 (주문 ID = 해당 시각의 TSID)
+     */
+    private String givenOrder(LocalDateTime createdAt, long finalAmount) {
+        String orderId = TsidGenerator.lowerBound(createdAt.atZone(ZoneId.systemDefault()).toInstant());
+        jdbcTemplate.update("""
+                        INSERT INTO orders (id, user_id, total_amount, discount_amount, final_amount, status, created_at, updated_at)
+                        VALUES (?, ?, ?, 0, ?, 'COMPLETED', ?, ?)
+                        """,
+                orderId, "recon-user", finalAmount, finalAmount, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        orderIds.add(orderId);
+        return orderId;
+    }
+
+    private String givenBalanceOrder(LocalDateTime createdAt, long finalAmount, long paidAmount, boolean debited) {
+        String orderId = givenOrder(createdAt, finalAmount);
+        paymentRepository.save(Payment.builder()
+                .orderId(orderId)
+                .userId("recon-user")
+                .amount(paidAmount)
+                .method(PaymentMethod.BALANCE)
+                .status(PaymentStatus.COMPLETED)
+                .build());
+        if (debited) {
+            balanceHistoryRepository.save(BalanceHistory.builder()
+                    .userId("recon-user")
+                    .transactionId("ORDER-" + orderId)
+                    .amount(-paidAmount)
+                    .previousBalance(paidAmount)
+                    .currentBalance(0)
+                    .build());
+        }
+        return orderId;
+    }
+}
@@ -0,0 +1,114 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGatewayException;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PaymentConfirmService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentConfirmService 테스트")
+class PaymentConfirmServiceTest {
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PaymentOutcomeRecorder paymentOutcomeRecorder;
+
+    private PaymentConfirmService paymentConfirmService;
+
+    private final Payment payment = Payment.builder()
+            .paymentId("payment-1")
+            .orderId("order-1")
+            .userId("user-1")
+            .amount(10000L)
+            .method(PaymentMethod.CARD)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        paymentConfirmService = new PaymentConfirmService(paymentGateway, paymentOutcomeRecorder, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("PG 승인 시 승인을 기록한다")
+    void 승인_기록() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(CompletableFuture.completedFuture(PgApprovalResult.approved("PG-123")));
+
+        // when
+        PaymentStatus status = paymentConfirmService.confirm(payment).join();
+
+        // then
+        assertThat(status).isEqualTo(PaymentStatus.COMPLETED);
+        verify(paymentOutcomeRecorder).approve("payment-1", "PG-123");
+    }
+
+    @Test
+    @DisplayName("PG 거절 시 거절을 기록하여 주문을 보상한다")
+    void 거절_기록() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(CompletableFuture.completedFuture(PgApprovalResult.declined("카드사 승인 거절")));
+
+        // when
+        PaymentStatus status = paymentConfirmService.confirm(payment).join();
+
+        // then
+        assertThat(status).isEqualTo(PaymentStatus.FAILED);
+        verify(paymentOutcomeRecorder).decline("payment-1", "카드사 승인 거절");
+    }
+
+    @Test
+    @DisplayName("요청이 PG에 전달되지 않았음이 확실하면 거절로 처리한다")
+    void 미전달_거절_처리() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(
+                CompletableFuture.failedFuture(new PaymentGatewayException("PG 서킷 오픈 - 호출 차단", false)));
+
+        // when
+        PaymentStatus status = paymentConfirmService.confirm(payment).join();
+
+        // then
+        assertThat(status).isEqualTo(PaymentStatus.FAILED);
+        verify(paymentOutcomeRecorder).decline("payment-1", "PG 서킷 오픈 - 호출 차단");
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없으면 결제 대기로 두고 이력만 남긴다")
+    void 결과_미확정_대기_유지() {
+        // given
+        given(paymentGateway.approve(any())).willReturn(
+                CompletableFuture.failedFuture(new PaymentGatewayException("PG 응답 타임아웃", true)));
+
+        // when
+        PaymentStatus status = paymentConfirmService.confirm(payment).join();
+
+        // then
+        assertThat(status).isEqualTo(PaymentStatus.PENDING);
+        verify(paymentOutcomeRecorder).markOutcomeUnknown(eq("payment-1"), anyString());
+        verify(paymentOutcomeRecorder, never()).approve(any(), any());
+        verify(paymentOutcomeRecorder, never()).decline(any(), any());
+    }
+}
@@ -0,0 +1,163 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.application.order.service.OrderCompletionRecorder;
+import com.sparta.ecommerce.application.order.service.OrderReadCacheService;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.entity.OrderItem;
+import com.sparta.ecommerce.domain.order.repository.OrderItemRepository;
+import com.sparta.ecommerce.domain.order.repository.OrderRepository;
+import com.sparta.ecommerce.domain.order.service.OrderCompensationService;
+import com.sparta.ecommerce.domain.payment.PaymentEventType;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.entity.PaymentEvent;
+import com.sparta.ecommerce.domain.payment.repository.PaymentEventRepository;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * PaymentOutcomeRecorder 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOutcomeRecorder 테스트")
+class PaymentOutcomeRecorderTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentEventRepository paymentEventRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderCompensationService orderCompensationService;
+
+    @Mock
+    private OrderReadCacheService orderReadCacheService;
+
+    @Mock
+    private OrderCompletionRecorder orderCompletionRecorder;
+
+    @InjectMocks
+    private PaymentOutcomeRecorder paymentOutcomeRecorder;
+
+    @Test
+    @DisplayName("승인 시 결제 상태만 갱신하고 PG 거래 ID는 결제 이벤트로 추가된다")
+    void 승인_이벤트_기록() {
+        // given
+        given(paymentRepository.completePending(eq("payment-1"), any(LocalDateTime.class))).willReturn(1);
+        givenPaymentAndOrder();
+
+        // when
+        boolean recorded = paymentOutcomeRecorder.approve("payment-1", "PG-123");
+
+        // then
+        assertThat(recorded).isTrue();
+        ArgumentCaptor<PaymentEvent> eventCaptor = ArgumentCaptor.forClass(PaymentEvent.class);
+        verify(paymentEventRepository).save(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getPaymentId()).isEqualTo("payment-1");
+        assertThat(eventCaptor.getValue().getEventType()).isEqualTo(PaymentEventType.APPROVED);
+        assertThat(eventCaptor.getValue().getPgTransactionId()).isEqualTo("PG-123");
+    }
+
+    @Test
+    @DisplayName("승인 시 주문 완료 이벤트와 랭킹을 기록한다")
+    void 승인_주문_완료_기록() {
+        // given
+        given(paymentRepository.completePending(eq("payment-1"), any(LocalDateTime.class))).willReturn(1);
+        Order order = givenPaymentAndOrder();
+        List<OrderItem> orderItems = List.of(mock(OrderItem.class));
+        given(orderItemRepository.findByOrderId("order-1")).willReturn(orderItems);
+
+        // when
+        paymentOutcomeRecorder.approve("payment-1", "PG-123");
+
+        // then
+        verify(orderCompletionRecorder).record(order, orderItems);
+    }
+
+    @Test
+    @DisplayName("이미 확정된 결제의 승인 응답은 이벤트를 남기지 않는다")
+    void 중복_승인_무시() {
+        // given
+        given(paymentRepository.completePending(eq("payment-1"), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        boolean recorded = paymentOutcomeRecorder.approve("payment-1", "PG-123");
+
+        // then
+        assertThat(recorded).isFalse();
+        verify(paymentEventRepository, never()).save(any());
+        verifyNoInteractions(orderCompletionRecorder);
+    }
+
+    @Test
+    @DisplayName("거절 시 주문을 취소하고 재고/쿠폰을 복구한다")
+    void 거절_주문_보상() {
+        // given
+        given(paymentRepository.failPending("payment-1")).willReturn(1);
+        Order order = givenPaymentAndOrder();
+
+        // when
+        boolean recorded = paymentOutcomeRecorder.decline("payment-1", "카드사 승인 거절");
+
+        // then
+        assertThat(recorded).isTrue();
+        ArgumentCaptor<PaymentEvent> eventCaptor = ArgumentCaptor.forClass(PaymentEvent.class);
+        verify(paymentEventRepository).save(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEventType()).isEqualTo(PaymentEventType.DECLINED);
+        verify(orderRepository).cancelAllByIds(List.of("order-1"));
+        verify(orderCompensationService).restoreStock(List.of("order-1"));
+        verify(orderCompensationService).releaseCoupons(List.of(order));
+        verify(orderReadCacheService).invalidateAfterCommit(List.of(order));
+        verifyNoInteractions(orderCompletionRecorder);
+    }
+
+    @Test
+    @DisplayName("이미 확정된 결제의 거절 응답은 주문을 보상하지 않는다")
+    void 중복_거절_무시() {
+        // given
+        given(paymentRepository.failPending("payment-1")).willReturn(0);
+
+        // when
+        boolean recorded = paymentOutcomeRecorder.decline("payment-1", "카드사 승인 거절");
+
+        // then
+        assertThat(recorded).isFalse();
+        verify(paymentEventRepository, never()).save(any());
+        verifyNoInteractions(orderRepository, orderCompensationService, orderReadCacheService);
+    }
+
+    private Order givenPaymentAndOrder() {
+        Payment payment = Payment.createCardPayment("order-1", "user-1", 10000L);
+        Order order = Order.builder()
+                .orderId("order-1")
+                .userId("user-1")
+                .totalAmount(10000L)
+                .finalAmount(10000L)
+                .build();
+        given(paymentRepository.findById("payment-1")).willReturn(Optional.of(payment));
+        given(orderRepository.findById("order-1")).willReturn(Optional.of(order));
+        return order;
+    }
+}
@@ -0,0 +1,109 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationScanner.Finding;
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationScanner.HistoryRow;
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationScanner.OrderRow;
+import com.sparta.ecommerce.application.payment.service.PaymentReconciliationScanner.PaymentRow;
+import com.sparta.ecommerce.domain.payment.DiscrepancyType;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 대사 비교 규칙 단위 테스트
+ */
+@DisplayName("PaymentReconciliationScanner 비교 규칙 테스트")
+class PaymentReconciliationScannerTest {
+
+    private static final String ORDER_ID = "0A1B2C3D4E5F6";
+
+    @Test
+    @DisplayName("주문 금액, 결제, 잔액 차감 이력이 모두 일치하면 불일치가 없다")
+    void 정상_잔액_결제() {
+        // given
+        OrderRow order = new OrderRow(ORDER_ID, 50000L);
+        PaymentRow payment = new PaymentRow(ORDER_ID, PaymentMethod.BALANCE, PaymentStatus.COMPLETED, 50000L);
+        HistoryRow debit = new HistoryRow(ORDER_ID, -50000L);
+
+        // when
+        List<Finding> findings = compare(order, List.of(payment), debit, null);
+
+        // then
+        assertThat(findings).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 금액이 주문 최종 금액과 다르면 AMOUNT_MISMATCH")
+    void 금액_불일치() {
+        // given
+        OrderRow order = new OrderRow(ORDER_ID, 50000L);
+        PaymentRow payment = new PaymentRow(ORDER_ID, PaymentMethod.BALANCE, PaymentStatus.COMPLETED, 45000L);
+        HistoryRow debit = new HistoryRow(ORDER_ID, -45000L);
+
+        // when
+        List<Finding> findings = compare(order, List.of(payment), debit, null);
+
+        // then
+        assertThat(findings).extracting(Finding::type).containsExactly(DiscrepancyType.AMOUNT_MISMATCH);
+        assertThat(findings.get(0).expectedAmount()).isEqualTo(50000L);
+        assertThat(findings.get(0).actualAmount()).isEqualTo(45000L);
+    }
+
+    @Test
+    @DisplayName("완료된 잔액 결제에 차감 이력이 없으면 MISSING_BALANCE_DEBIT")
+    void 차감_이력_누락() {
+        // given
+        OrderRow order = new OrderRow(ORDER_ID, 50000L);
+        PaymentRow payment = new PaymentRow(ORDER_ID, PaymentMethod.BALANCE, PaymentStatus.COMPLETED, 50000L);
+
+        // when
+        List<Finding> findings = compare(order, List.of(payment), null, null);
+
+        // then
+        assertThat(findings).extracting(Finding::type).containsExactly(DiscrepancyType.MISSING_BALANCE_DEBIT);
+    }
+
+    @Test
+    @DisplayName("취소된 잔액 결제에 환불 이력이 없으면 MISSING_REFUND")
+    void 환불_이력_누락() {
+        // given
+        OrderRow order = new OrderRow(ORDER_ID, 50000L);
+        PaymentRow payment = new PaymentRow(ORDER_ID, PaymentMethod.BALANCE, PaymentStatus.CANCELLED, 50000L);
+        HistoryRow debit = new HistoryRow(ORDER_ID, -50000L);
+
+        // when
+        List<Finding> findings = compare(order, List.of(payment), debit, null);
+
+        // then
+        assertThat(findings).extracting(Finding::type).containsExactly(DiscrepancyType.MISSING_REFUND);
+    }
+
+    @Test
+    @DisplayName("주문 없는 결제와 결과 미확정 외부 결제를 찾는다")
+    void 고아_결제와_미확정_결제() {
+        // given
+        PaymentRow orphan = new PaymentRow(ORDER_ID, PaymentMethod.BALANCE, PaymentStatus.COMPLETED, 10000L);
+        OrderRow order = new OrderRow(ORDER_ID, 30000L);
+        PaymentRow pending = new PaymentRow(ORDER_ID, PaymentMethod.CARD, PaymentStatus.PENDING, 30000L);
+
+        // when
+        List<Finding> orphanFindings = compare(null, List.of(orphan), null, null);
+        List<Finding> pendingFindings = compare(order, List.of(pending), null, null);
+
+        // then
+        assertThat(orphanFindings).extracting(Finding::type).containsExactly(DiscrepancyType.ORPHAN_PAYMENT);
+        assertThat(pendingFindings).extracting(Finding::type).containsExactly(DiscrepancyType.STALE_PENDING_PAYMENT);
+    }
+
+    private List<Finding> compare(OrderRow order, List<PaymentRow> payments, HistoryRow debit, HistoryRow refund) {
+        List<Finding> findings = new ArrayList<>();
+        PaymentReconciliationScanner.compare(order, payments, debit, refund, findings::add);
+        return findings;
+    }
+}
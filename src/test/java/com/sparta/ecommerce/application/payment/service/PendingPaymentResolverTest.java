@@ -0,0 +1,164 @@
+package com.sparta.ecommerce.application.payment.service;
+
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.PaymentStatus;
+import com.sparta.ecommerce.domain.payment.entity.Payment;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGateway;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGatewayException;
+import com.sparta.ecommerce.domain.payment.gateway.PgInquiryResult;
+import com.sparta.ecommerce.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * PendingPaymentResolver 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingPaymentResolver 테스트")
+class PendingPaymentResolverTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PaymentConfirmService paymentConfirmService;
+
+    @Mock
+    private PaymentOutcomeRecorder paymentOutcomeRecorder;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @InjectMocks
+    private PendingPaymentResolver pendingPaymentResolver;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pendingPaymentResolver, "minAgeSeconds", 60L);
+        ReflectionTestUtils.setField(pendingPaymentResolver, "expireAfterSeconds", 1800L);
+        ReflectionTestUtils.setField(pendingPaymentResolver, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("PG에서 승인된 결제는 승인으로 확정한다")
+    void 승인_확정() {
+        // given
+        givenPendingPayment(NOW.minusMinutes(5));
+        given(paymentGateway.inquire("payment-1"))
+                .willReturn(CompletableFuture.completedFuture(PgInquiryResult.approved("PG-123")));
+
+        // when
+        pendingPaymentResolver.resolve(NOW);
+
+        // then
+        verify(paymentOutcomeRecorder).approve("payment-1", "PG-123");
+        verifyNoInteractions(paymentConfirmService);
+    }
+
+    @Test
+    @DisplayName("PG에서 거절된 결제는 거절로 확정하여 주문을 보상한다")
+    void 거절_확정() {
+        // given
+        givenPendingPayment(NOW.minusMinutes(5));
+        given(paymentGateway.inquire("payment-1"))
+                .willReturn(CompletableFuture.completedFuture(PgInquiryResult.declined("카드사 승인 거절")));
+
+        // when
+        pendingPaymentResolver.resolve(NOW);
+
+        // then
+        verify(paymentOutcomeRecorder).decline("payment-1", "카드사 승인 거절");
+        verifyNoInteractions(paymentConfirmService);
+    }
+
+    @Test
+    @DisplayName("PG에 승인 요청이 도달하지 않은 결제는 승인을 다시 요청한다")
+    void 미도달_승인_재요청() {
+        // given
+        Payment payment = givenPendingPayment(NOW.minusMinutes(5));
+        given(paymentGateway.inquire("payment-1"))
+                .willReturn(CompletableFuture.completedFuture(PgInquiryResult.notFound()));
+        given(paymentConfirmService.confirm(payment))
+                .willReturn(CompletableFuture.completedFuture(PaymentStatus.COMPLETED));
+
+        // when
+        pendingPaymentResolver.resolve(NOW);
+
+        // then
+        verify(paymentConfirmService).confirm(payment);
+        verifyNoInteractions(paymentOutcomeRecorder);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나도록 PG에 승인 요청이 도달하지 않은 결제는 거절로 확정한다")
+    void 미도달_만료_거절() {
+        // given
+        givenPendingPayment(NOW.minusHours(1));
+        given(paymentGateway.inquire("payment-1"))
+                .willReturn(CompletableFuture.completedFuture(PgInquiryResult.notFound()));
+
+        // when
+        pendingPaymentResolver.resolve(NOW);
+
+        // then
+        verify(paymentOutcomeRecorder).decline(eq("payment-1"), any());
+        verifyNoInteractions(paymentConfirmService);
+    }
+
+    @Test
+    @DisplayName("PG 조회에 실패하면 결제 대기로 두고 다음 주기에 재시도한다")
+    void 조회_실패_보류() {
+        // given
+        givenPendingPayment(NOW.minusMinutes(5));
+        given(paymentGateway.inquire("payment-1"))
+                .willReturn(CompletableFuture.failedFuture(new PaymentGatewayException("PG 응답 타임아웃", true)));
+
+        // when
+        int resolved = pendingPaymentResolver.resolve(NOW);
+
+        // then
+        assertThat(resolved).isEqualTo(1);
+        verify(paymentOutcomeRecorder, never()).approve(any(), any());
+        verify(paymentOutcomeRecorder, never()).decline(any(), any());
+        verifyNoInteractions(paymentConfirmService);
+    }
+
+    private Payment givenPendingPayment(LocalDateTime createdAt) {
+        Payment payment = Payment.builder()
+                .paymentId("payment-1")
+                .orderId("order-1")
+                .userId("user-1")
+                .amount(10000L)
+                .method(PaymentMethod.CARD)
+                .build();
+        ReflectionTestUtils.setField(payment, "createdAt", createdAt);
+        given(paymentRepository.findUnresolvedExternalPayments(eq(NOW.minusSeconds(60)), any(Pageable.class)))
+                .willReturn(List.of(payment));
+        return payment;
+    }
+}
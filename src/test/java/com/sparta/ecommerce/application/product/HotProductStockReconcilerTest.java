@@ -0,0 +1,114 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.application.product.service.HotProductStockReconciler;
+import com.sparta.ecommerce.application.product.service.ProductStockRedisService;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.repository.ProductRepository;
+import com.sparta.ecommerce.domain.product.vo.Stock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("핫 상품 재고 정합성 Scheduler 테스트")
+class HotProductStockReconcilerTest {
+
+    @Mock
+    private ProductStockRedisService stockRedisService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private HotProductStockReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "hotStockEnabled", true);
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("pending 차감분을 DB에 반영한 뒤 DB 재고 기준으로 Redis 재고를 보정한다")
+    void pending_반영_후_보정() {
+        // given
+        Product product = Product.builder()
+                .productId("P001")
+                .name("한정판")
+                .price(10000L)
+                .stock(new Stock(7))
+                .build();
+        given(stockRedisService.takePending()).willReturn(Map.of("P001", 3));
+        given(productRepository.applyStockDeltaInBatch(Map.of("P001", 3))).willReturn(List.of());
+        given(stockRedisService.getHotProductIds()).willReturn(Set.of("P001"));
+        given(productRepository.findByProductIdIn(List.of("P001"))).willReturn(List.of(product));
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        InOrder inOrder = inOrder(productRepository, stockRedisService, lock);
+        inOrder.verify(productRepository).applyStockDeltaInBatch(Map.of("P001", 3));
+        inOrder.verify(stockRedisService).repair("P001", 7);
+        inOrder.verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 pending을 되돌리고 보정은 건너뛴다")
+    void DB_반영_실패_시_pending_복구() {
+        // given
+        Map<String, Integer> pending = Map.of("P001", 3);
+        given(stockRedisService.takePending()).willReturn(pending);
+        willThrow(new RuntimeException("DB 오류")).given(productRepository).applyStockDeltaInBatch(pending);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        then(stockRedisService).should().restorePending(pending);
+        then(stockRedisService).should(never()).repair(anyString(), anyInt());
+        then(lock).should().unlock();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 정합성 처리 중이면 건너뛴다")
+    void 락_획득_실패_시_스킵() {
+        // given
+        given(lock.tryLock()).willReturn(false);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        then(stockRedisService).should(never()).takePending();
+        then(productRepository).should(never()).applyStockDeltaInBatch(any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.application.product.service.ProductStockRedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 핫 상품 재고 Redis 예약/보상/보정 테스트 (실제 Redis)
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@DisplayName("핫 상품 재고 Redis 예약 테스트")
+class ProductStockRedisServiceTest {
+
+    // Kafka Consumer를 Mock으로 대체하여 비활성화
+    @MockBean
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Autowired
+    private ProductStockRedisService stockRedisService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final String HOT_A = "test-hot-product-a";
+    private static final String HOT_B = "test-hot-product-b";
+
+    @BeforeEach
+    void setUp() {
+        stockRedisService.takePending();
+        stockRedisService.enableHotMode(HOT_A, 5);
+        stockRedisService.enableHotMode(HOT_B, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        stockRedisService.disableHotMode(HOT_A);
+        stockRedisService.disableHotMode(HOT_B);
+        stockRedisService.removeStock(HOT_A);
+        stockRedisService.removeStock(HOT_B);
+        stockRedisService.takePending();
+    }
+
+    private int stock(String productId) {
+        return Integer.parseInt(redisTemplate.opsForValue().get("product:{hot-stock}:stock:" + productId));
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 재고가 부족하면 전체 예약하지 않는다")
+    void 전체_성공_또는_전체_실패() {
+        // when
+        List<String> failed = stockRedisService.reserve(Map.of(HOT_A, 2, HOT_B, 2));
+
+        // then
+        assertThat(failed).containsExactly(HOT_B);
+        assertThat(stock(HOT_A)).isEqualTo(5);
+        assertThat(stock(HOT_B)).isEqualTo(1);
+        assertThat(stockRedisService.takePending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약 성공 시 Redis 재고를 차감하고 DB 반영 대기 수량을 기록한다")
+    void 예약_성공() {
+        // when
+        List<String> failed = stockRedisService.reserve(Map.of(HOT_A, 2, HOT_B, 1));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(stock(HOT_A)).isEqualTo(3);
+        assertThat(stock(HOT_B)).isZero();
+        assertThat(stockRedisService.takePending()).isEqualTo(Map.of(HOT_A, 2, HOT_B, 1));
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 예약을 취소한다")
+    void 롤백_시_예약_취소() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        stockRedisService.reserveForTransaction(Map.of(HOT_A, 2));
+        assertThat(stock(HOT_A)).isEqualTo(3);
+
+        // when - 트랜잭션 롤백
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(stock(HOT_A)).isEqualTo(5);
+        assertThat(stockRedisService.takePending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 커밋되면 예약을 유지한다")
+    void 커밋_시_예약_유지() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        stockRedisService.reserveForTransaction(Map.of(HOT_A, 2));
+
+        // when - 트랜잭션 커밋
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(stock(HOT_A)).isEqualTo(3);
+        assertThat(stockRedisService.takePending()).isEqualTo(Map.of(HOT_A, 2));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 보상을 등록할 수 없으므로 예약하지 않고 예외를 던진다")
+    void 트랜잭션_밖_예약_거절() {
+        // when & then
+        assertThatThrownBy(() -> stockRedisService.reserveForTransaction(Map.of(HOT_A, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(stock(HOT_A)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("보정 시 Redis 재고를 DB 재고 - pending으로 맞추고 드리프트를 반환한다")
+    void 드리프트_보정() {
+        // given - 예약 2개 (pending 2), DB에는 아직 반영 안 됨, Redis 재고가 외부 요인으로 1 증가
+        stockRedisService.reserve(Map.of(HOT_A, 2));
+        redisTemplate.opsForValue().increment("product:{hot-stock}:stock:" + HOT_A);
+
+        // when
+        long drift = stockRedisService.repair(HOT_A, 5);
+
+        // then
+        assertThat(drift).isEqualTo(1);
+        assertThat(stock(HOT_A)).isEqualTo(3);
+    }
+}
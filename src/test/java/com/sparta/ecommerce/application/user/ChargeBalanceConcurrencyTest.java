@@ -1,8 +1,12 @@
 package com.sparta.ecommerce.application.user;
 
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse;
 import com.sparta.ecommerce.application.user.dto.ChargeBalanceRequest;
+import com.sparta.ecommerce.application.user.dto.ChargeBalanceResponse;
+import com.sparta.ecommerce.application.user.service.UserBalanceCacheService;
 import com.sparta.ecommerce.application.user.usecase.ChargeUserBalanceUseCase;
 import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
 import com.sparta.ecommerce.domain.user.repository.UserRepository;
 import com.sparta.ecommerce.domain.user.vo.Balance;
 import org.junit.jupiter.api.AfterEach;
@@ -18,6 +22,7 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -47,6 +52,12 @@ public class ChargeBalanceConcurrencyTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private UserBalanceCacheService userBalanceCacheService;
+
     private String testUserId;
 
     @BeforeEach
@@ -122,6 +133,9 @@ public class ChargeBalanceConcurrencyTest {
             assertThat(successCount.get()).isEqualTo(threadCount);
             assertThat(failCount.get()).isEqualTo(0);
             assertThat(finalBalance).isEqualTo(expectedBalance);
+
+            // 잔액 캐시: 커밋 후 도착 순서와 무관하게 마지막 충전 결과가 남아야 함 (이력 ID 버전)
+            assertThat(userBalanceCacheService.get(testUserId)).hasValue(expectedBalance);
         }
 
         @Test
@@ -138,6 +152,7 @@ public class ChargeBalanceConcurrencyTest {
             AtomicInteger failCount = new AtomicInteger(0);
 
             // when
+            long startNanos = System.nanoTime();
             for (int i = 0; i < threadCount; i++) {
                 final int index = i;
                 executorService.execute(() -> {
@@ -154,6 +169,7 @@ public class ChargeBalanceConcurrencyTest {
             }
 
             latch.await();
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
             executorService.shutdown();
 
             // then
@@ -163,6 +179,7 @@ public class ChargeBalanceConcurrencyTest {
 
             System.out.println("\n=== 대량 분산 락 동시성 제어 테스트 결과 ===");
             System.out.println("성공: " + successCount.get() + ", 실패: " + failCount.get());
+            System.out.println("소요 시간: " + elapsedMs + "ms (" + (threadCount * 1000L / Math.max(elapsedMs, 1)) + " TPS)");
             System.out.println("예상 잔액: " + expectedBalance + "원");
             System.out.println("실제 잔액: " + finalBalance + "원");
 
@@ -171,6 +188,63 @@ public class ChargeBalanceConcurrencyTest {
             assertThat(failCount.get()).isEqualTo(0);
             assertThat(finalBalance).isEqualTo(expectedBalance);
         }
+
+        @Test
+        @DisplayName("같은 transactionId로 동시에 재시도해도 한 번만 충전된다")
+        void chargeBalance_SameTransactionId_ChargedOnce() throws InterruptedException {
+            // given
+            long chargeAmount = 5000L;
+            int threadCount = 20;
+            String transactionId = "txn-retry-" + System.nanoTime();
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            AtomicInteger chargedCount = new AtomicInteger(0);
+            AtomicInteger duplicateCount = new AtomicInteger(0);
+            AtomicInteger failCount = new AtomicInteger(0);
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        ChargeBalanceResponse response = chargeUserBalanceUseCase.execute(testUserId,
+                                new ChargeBalanceRequest(transactionId, chargeAmount));
+                        if (response.chargedAmount() > 0) {
+                            chargedCount.incrementAndGet();
+                        } else {
+                            duplicateCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                        System.out.println("충전 실패: " + e.getClass().getSimpleName());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+            executorService.shutdown();
+
+            // then
+            User updatedUser = userRepository.findById(testUserId).orElseThrow();
+            List<BalanceHistoryResponse> histories = balanceHistoryRepository.findFirstPage(testUserId, 10);
+
+            System.out.println("\n=== 중복 거래 동시 재시도 테스트 결과 ===");
+            System.out.println("충전: " + chargedCount.get() + ", 중복 응답: " + duplicateCount.get() + ", 실패: " + failCount.get());
+            System.out.println("실제 잔액: " + updatedUser.getBalance().amount() + "원");
+
+            // 멱등성: 한 번만 충전, 나머지는 충전 금액 0으로 정상 응답
+            assertThat(chargedCount.get()).isEqualTo(1);
+            assertThat(duplicateCount.get()).isEqualTo(threadCount - 1);
+            assertThat(failCount.get()).isEqualTo(0);
+            assertThat(updatedUser.getBalance().amount()).isEqualTo(chargeAmount);
+
+            assertThat(histories).hasSize(1);
+            assertThat(histories.get(0).previousBalance()).isEqualTo(0L);
+            assertThat(histories.get(0).currentBalance()).isEqualTo(chargeAmount);
+        }
     }
 
     /*
@@ -0,0 +1,82 @@
+package com.sparta.ecommerce.application.user;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryCursor;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryPageResponse;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse;
+import com.sparta.ecommerce.application.user.usecase.GetBalanceHistoryUseCase;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("잔액 이력 조회 UseCase 테스트")
+class GetBalanceHistoryUseCaseTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 11, 5, 12, 0, 30, 123_456_000);
+
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @InjectMocks
+    private GetBalanceHistoryUseCase getBalanceHistoryUseCase;
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 응답하고 마지막 이력으로 다음 커서를 만든다")
+    void 다음_페이지_있음() {
+        // given
+        given(balanceHistoryRepository.findFirstPage("U001", 4)).willReturn(histories(4));
+
+        // when
+        BalanceHistoryPageResponse response = getBalanceHistoryUseCase.execute("U001", null, 3);
+
+        // then
+        assertThat(response.histories()).hasSize(3);
+        assertThat(response.hasNext()).isTrue();
+        BalanceHistoryCursor cursor = BalanceHistoryCursor.decode(response.nextCursor());
+        assertThat(cursor.id()).isEqualTo(3L);
+        assertThat(cursor.chargedAt()).isEqualTo(BASE.minusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("커서를 전달하면 커서 위치 이전 이력을 조회하고, 마지막 페이지는 커서가 없다")
+    void 커서로_다음_페이지_조회() {
+        // given
+        String cursor = new BalanceHistoryCursor(BASE, 10L).encode();
+        given(balanceHistoryRepository.findPageBefore("U001", BASE, 10L, 4)).willReturn(histories(2));
+
+        // when
+        BalanceHistoryPageResponse response = getBalanceHistoryUseCase.execute("U001", cursor, 3);
+
+        // then
+        assertThat(response.histories()).hasSize(2);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서나 페이지 크기는 IllegalArgumentException을 던진다")
+    void 잘못된_요청() {
+        assertThatThrownBy(() -> getBalanceHistoryUseCase.execute("U001", "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getBalanceHistoryUseCase.execute("U001", null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(balanceHistoryRepository);
+    }
+
+    private List<BalanceHistoryResponse> histories(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new BalanceHistoryResponse((long) i + 1, "TX-" + i, 1000L,
+                        0L, 1000L, "CARD", BASE.minusMinutes(i)))
+                .toList();
+    }
+}
@@ -4,15 +4,19 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import com.sparta.ecommerce.application.user.dto.UserBalanceResponse;
+import com.sparta.ecommerce.application.user.service.UserBalanceCacheService;
 import com.sparta.ecommerce.application.user.usecase.GetUserBalanceUseCase;
 import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.domain.user.repository.BalanceHistoryRepository;
 import com.sparta.ecommerce.domain.user.repository.UserRepository;
 import com.sparta.ecommerce.domain.user.exception.UserNotFoundException;
 import com.sparta.ecommerce.domain.user.vo.Balance;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +28,12 @@ class GetUserBalanceUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Mock
+    private UserBalanceCacheService userBalanceCacheService;
+
     @InjectMocks
     private GetUserBalanceUseCase getUserBalanceUseCase;
 
@@ -92,4 +102,43 @@ class GetUserBalanceUseCaseTest {
 
         verify(userRepository, times(1)).findById(userId);
     }
+
+    @Test
+    @DisplayName("캐시된 잔액은 DB 조회 없이 응답한다")
+    void 캐시_히트() {
+        // given
+        given(userBalanceCacheService.get("U001")).willReturn(OptionalLong.of(70000L));
+
+        // when
+        UserBalanceResponse response = getUserBalanceUseCase.execute("U001");
+
+        // then
+        assertThat(response.userId()).isEqualTo("U001");
+        assertThat(response.balance()).isEqualTo(70000L);
+        verifyNoInteractions(userRepository, balanceHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 최신 이력 ID를 먼저 읽고 잔액을 읽어 그 버전으로 캐시에 저장한다")
+    void 캐시_미스_저장() {
+        // given
+        User user = User.builder()
+                .userId("U001")
+                .name("홍길동")
+                .balance(new Balance(50000))
+                .build();
+        given(userBalanceCacheService.get("U001")).willReturn(OptionalLong.empty());
+        given(balanceHistoryRepository.findLatestIdByUserId("U001")).willReturn(Optional.of(42L));
+        given(userRepository.findById("U001")).willReturn(Optional.of(user));
+
+        // when
+        UserBalanceResponse response = getUserBalanceUseCase.execute("U001");
+
+        // then
+        assertThat(response.balance()).isEqualTo(50000L);
+        InOrder inOrder = inOrder(balanceHistoryRepository, userRepository, userBalanceCacheService);
+        inOrder.verify(balanceHistoryRepository).findLatestIdByUserId("U001");
+        inOrder.verify(userRepository).findById("U001");
+        inOrder.verify(userBalanceCacheService).putAfterCommit("U001", 50000L, 42L);
+    }
 }
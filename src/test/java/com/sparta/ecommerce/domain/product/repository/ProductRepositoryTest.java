@@ -8,6 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -166,4 +169,71 @@ public class ProductRepositoryTest extends IntegrationTestBase {
         assertThat(foundProduct.getCreatedAt()).isNotNull();
         assertThat(foundProduct.getUpdatedAt()).isNotNull();
     }
+
+    @Test
+    @DisplayName("여러 상품 재고 일괄 차감 - 재고 부족 상품만 실패 목록으로 반환")
+    void decreaseStockInBatch() {
+        // given
+        Product enough = productRepository.save(Product.builder()
+                .name("재고충분상품")
+                .price(10000L)
+                .stock(new Stock(10))
+                .build());
+        Product lacking = productRepository.save(Product.builder()
+                .name("재고부족상품")
+                .price(10000L)
+                .stock(new Stock(1))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<String> failedProductIds = productRepository.decreaseStockInBatch(Map.of(
+                enough.getProductId(), 3,
+                lacking.getProductId(), 2
+        ));
+        entityManager.clear();
+
+        // then
+        assertThat(failedProductIds).containsExactly(lacking.getProductId());
+        assertThat(productRepository.findById(enough.getProductId()).get().getStock().getQuantity()).isEqualTo(7);
+        assertThat(productRepository.findById(lacking.getProductId()).get().getStock().getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 증감분 일괄 반영 - 재고보다 큰 차감은 0으로 맞추고 해당 상품을 반환")
+    void applyStockDeltaInBatch() {
+        // given
+        Product enough = productRepository.save(Product.builder()
+                .name("재고충분상품")
+                .price(10000L)
+                .stock(new Stock(10))
+                .build());
+        Product lacking = productRepository.save(Product.builder()
+                .name("재고부족상품")
+                .price(10000L)
+                .stock(new Stock(1))
+                .build());
+        Product restored = productRepository.save(Product.builder()
+                .name("재고복구상품")
+                .price(10000L)
+                .stock(new Stock(0))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<String> clampedProductIds = productRepository.applyStockDeltaInBatch(Map.of(
+                enough.getProductId(), 3,
+                lacking.getProductId(), 2,
+                restored.getProductId(), -5
+        ));
+        entityManager.clear();
+
+        // then
+        assertThat(clampedProductIds).containsExactly(lacking.getProductId());
+        assertThat(productRepository.findById(enough.getProductId()).get().getStock().getQuantity()).isEqualTo(7);
+        assertThat(productRepository.findById(lacking.getProductId()).get().getStock().getQuantity()).isZero();
+        assertThat(productRepository.findById(restored.getProductId()).get().getStock().getQuantity()).isEqualTo(5);
+    }
 }
@@ -0,0 +1,71 @@
+package com.sparta.ecommerce.domain.user.repository;
+
+import com.sparta.ecommerce.IntegrationTestBase;
+import com.sparta.ecommerce.application.user.dto.BalanceHistoryResponse;
+import com.sparta.ecommerce.domain.user.entity.BalanceHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BalanceHistory Repository 통합 테스트 (키셋 페이지네이션)
+ */
+@DisplayName("BalanceHistory Repository 통합 테스트")
+public class BalanceHistoryRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Test
+    @DisplayName("키셋 페이지를 이어 읽으면 같은 일시의 이력도 빠짐없이 최신순으로 조회된다")
+    void keysetPaging() {
+        // given - 같은 일시 이력 3건 포함 7건
+        String userId = "U-HISTORY-" + System.nanoTime();
+        LocalDateTime base = LocalDateTime.of(2025, 11, 5, 12, 0);
+        List<LocalDateTime> times = List.of(
+                base, base.plusMinutes(1), base.plusMinutes(1), base.plusMinutes(1),
+                base.plusMinutes(2), base.plusMinutes(3), base.plusMinutes(4));
+        for (int i = 0; i < times.size(); i++) {
+            balanceHistoryRepository.save(BalanceHistory.builder()
+                    .userId(userId)
+                    .transactionId(userId + "-" + i)
+                    .amount(1000L)
+                    .previousBalance(i * 1000L)
+                    .currentBalance((i + 1) * 1000L)
+                    .paymentMethod("CARD")
+                    .chargedAt(times.get(i))
+                    .build());
+        }
+        balanceHistoryRepository.save(BalanceHistory.builder()
+                .userId("U-OTHER-" + System.nanoTime())
+                .transactionId("OTHER-" + System.nanoTime())
+                .amount(1000L)
+                .previousBalance(0L)
+                .currentBalance(1000L)
+                .chargedAt(base.plusMinutes(2))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - 3건씩 이어 읽기
+        List<BalanceHistoryResponse> all = new ArrayList<>();
+        List<BalanceHistoryResponse> page = balanceHistoryRepository.findFirstPage(userId, 3);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            BalanceHistoryResponse last = page.get(page.size() - 1);
+            page = balanceHistoryRepository.findPageBefore(userId, last.chargedAt(), last.historyId(), 3);
+        }
+
+        // then
+        assertThat(all).hasSize(7);
+        assertThat(all).extracting(BalanceHistoryResponse::transactionId).doesNotHaveDuplicates();
+        assertThat(all).extracting(BalanceHistoryResponse::currentBalance)
+                .containsExactly(7000L, 6000L, 5000L, 4000L, 3000L, 2000L, 1000L);
+    }
+}
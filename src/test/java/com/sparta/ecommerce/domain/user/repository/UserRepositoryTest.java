@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.OptionalLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -95,6 +97,93 @@ public class UserRepositoryTest extends IntegrationTestBase {
         assertThat(updatedUser.getBalance().amount()).isEqualTo(7000L);
     }
 
+    @Test
+    @DisplayName("User 잔액 조건부 차감 - 차감 후 잔액 반환")
+    void deductBalanceIfSufficient() {
+        // given
+        User user = User.builder()
+                .name("테스트유저")
+                .email("conditional@test.com")
+                .balance(new Balance(10000L))
+                .build();
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        OptionalLong balanceAfter = userRepository.deductBalanceIfSufficient(user.getUserId(), 3000L);
+
+        // then
+        assertThat(balanceAfter).hasValue(7000L);
+        User updatedUser = userRepository.findById(user.getUserId()).get();
+        assertThat(updatedUser.getBalance().amount()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("User 잔액 조건부 차감 - 잔액 부족이면 차감하지 않음")
+    void deductBalanceIfSufficient_insufficient() {
+        // given
+        User user = User.builder()
+                .name("테스트유저")
+                .email("insufficient@test.com")
+                .balance(new Balance(10000L))
+                .build();
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        OptionalLong balanceAfter = userRepository.deductBalanceIfSufficient(user.getUserId(), 10001L);
+
+        // then
+        assertThat(balanceAfter).isEmpty();
+        User unchangedUser = userRepository.findById(user.getUserId()).get();
+        assertThat(unchangedUser.getBalance().amount()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("User 잔액 조건부 차감 - 전액 차감 시 잔액 0 반환")
+    void deductBalanceIfSufficient_toZero() {
+        // given
+        User user = User.builder()
+                .name("테스트유저")
+                .email("zero@test.com")
+                .balance(new Balance(10000L))
+                .build();
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        OptionalLong balanceAfter = userRepository.deductBalanceIfSufficient(user.getUserId(), 10000L);
+
+        // then
+        assertThat(balanceAfter).hasValue(0L);
+    }
+
+    @Test
+    @DisplayName("User 잔액 증가 - 증가 후 잔액을 함께 반환")
+    void increaseBalance() {
+        // given
+        User user = User.builder()
+                .name("테스트유저")
+                .email("increase@test.com")
+                .balance(new Balance(10000L))
+                .build();
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        OptionalLong balanceAfter = userRepository.increaseBalance(user.getUserId(), 5000L);
+
+        // then
+        assertThat(balanceAfter).hasValue(15000L);
+        User updatedUser = userRepository.findById(user.getUserId()).get();
+        assertThat(updatedUser.getBalance().amount()).isEqualTo(15000L);
+        assertThat(userRepository.increaseBalance("NOT-EXISTS", 5000L)).isEmpty();
+    }
+
     @Test
     @DisplayName("User 이메일 중복 시 에러 - DB 제약조건 검증")
     void duplicateEmail() {
@@ -0,0 +1,95 @@
+package com.sparta.ecommerce.infrastructure.aop;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("노드 로컬 락 저장소 테스트")
+class LocalLockRegistryTest {
+
+    private final LocalLockRegistry registry = new LocalLockRegistry();
+
+    @Test
+    @DisplayName("같은 키의 임계 구역은 동시에 한 스레드만 진입한다")
+    void 같은_키_직렬화() throws Exception {
+        // given
+        int threadCount = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    if (registry.tryLock("LOCK:user-1", 5, TimeUnit.SECONDS).acquired()) {
+                        try {
+                            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                            Thread.sleep(1);
+                            inside.decrementAndGet();
+                        } finally {
+                            registry.unlock("LOCK:user-1");
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(maxInside.get()).isEqualTo(1);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유 중이면 대기 시간 초과 후 획득 실패하고 경합으로 기록된다")
+    void 대기_시간_초과() throws Exception {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                registry.tryLock("LOCK:user-1", 1, TimeUnit.SECONDS);
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                registry.unlock("LOCK:user-1");
+            }
+        });
+        holder.start();
+        locked.await();
+
+        // when
+        LocalLockRegistry.Acquisition acquisition = registry.tryLock("LOCK:user-1", 10, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(acquisition.acquired()).isFalse();
+        assertThat(acquisition.contended()).isTrue();
+
+        done.countDown();
+        holder.join();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("보유하지 않은 락을 해제하면 예외가 발생한다")
+    void 미보유_락_해제() {
+        // when & then
+        assertThatThrownBy(() -> registry.unlock("LOCK:user-1"))
+                .isInstanceOf(IllegalMonitorStateException.class);
+    }
+}
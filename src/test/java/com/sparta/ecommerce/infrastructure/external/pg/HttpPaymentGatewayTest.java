@@ -0,0 +1,191 @@
+package com.sparta.ecommerce.infrastructure.external.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.ecommerce.domain.payment.PaymentMethod;
+import com.sparta.ecommerce.domain.payment.gateway.PaymentGatewayException;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalRequest;
+import com.sparta.ecommerce.domain.payment.gateway.PgApprovalResult;
+import com.sparta.ecommerce.domain.payment.gateway.PgInquiryResult;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * HttpPaymentGateway 단위 테스트 (가짜 PG 서버 사용)
+ */
+@DisplayName("HttpPaymentGateway 테스트")
+class HttpPaymentGatewayTest {
+
+    private FakePgServer fakePgServer;
+
+    @AfterEach
+    void tearDown() {
+        fakePgServer.stop();
+    }
+
+    @Test
+    @DisplayName("승인 응답을 받으면 PG 거래 ID를 반환하고, 같은 결제 ID로 재요청하면 같은 거래 ID를 받는다")
+    void 승인_성공_멱등() throws Exception {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 0.0, 0.0), 1000, 10, 10);
+
+        // when
+        PgApprovalResult first = gateway.approve(request("payment-1")).get();
+        PgApprovalResult retry = gateway.approve(request("payment-1")).get();
+
+        // then
+        assertThat(first.approved()).isTrue();
+        assertThat(first.transactionId()).startsWith("PG-");
+        assertThat(retry.transactionId()).isEqualTo(first.transactionId());
+    }
+
+    @Test
+    @DisplayName("거절 응답은 예외가 아닌 거절 결과로 반환된다")
+    void 승인_거절() throws Exception {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 0.0, 1.0), 1000, 10, 10);
+
+        // when
+        PgApprovalResult result = gateway.approve(request("payment-1")).get();
+
+        // then
+        assertThat(result.approved()).isFalse();
+        assertThat(result.failureReason()).isEqualTo("카드사 승인 거절");
+    }
+
+    @Test
+    @DisplayName("응답이 요청 타임아웃보다 늦으면 결과 미확정 예외로 완료된다")
+    void 응답_타임아웃() {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 1000, 0, 0.0, 0.0), 100, 10, 10);
+
+        // when
+        PaymentGatewayException exception = gatewayException(gateway.approve(request("payment-1")));
+
+        // then
+        assertThat(exception.isOutcomeUnknown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("PG 오류가 임계치를 넘으면 서킷이 열려 PG를 호출하지 않고 즉시 실패한다")
+    void 서킷_오픈() {
+        // given - 최소 5회 호출 중 실패율 50% 이상이면 서킷 오픈
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 1.0, 0.0), 1000, 10, 5);
+        for (int i = 0; i < 5; i++) {
+            gatewayException(gateway.approve(request("payment-" + i)));
+        }
+        long requestsBeforeOpen = fakePgServer.getRequestCount();
+
+        // when
+        PaymentGatewayException exception = gatewayException(gateway.approve(request("payment-open")));
+
+        // then
+        assertThat(exception.isOutcomeUnknown()).isFalse();
+        assertThat(fakePgServer.getRequestCount()).isEqualTo(requestsBeforeOpen);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기 없이 즉시 실패한다")
+    void 벌크헤드_초과() throws Exception {
+        // given - 동시 호출 1개, 응답 300ms
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 300, 0, 0.0, 0.0), 1000, 1, 10);
+        CompletableFuture<PgApprovalResult> inFlight = gateway.approve(request("payment-1"));
+
+        // when
+        PaymentGatewayException exception = gatewayException(gateway.approve(request("payment-2")));
+
+        // then
+        assertThat(exception.isOutcomeUnknown()).isFalse();
+        assertThat(inFlight.get().approved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상태 조회 시 승인된 결제는 승인 시 발급된 거래 ID를 반환한다")
+    void 상태_조회_승인() throws Exception {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 0.0, 0.0), 1000, 10, 10);
+        PgApprovalResult approval = gateway.approve(request("payment-1")).get();
+
+        // when
+        PgInquiryResult result = gateway.inquire("payment-1").get();
+
+        // then
+        assertThat(result.status()).isEqualTo(PgInquiryResult.Status.APPROVED);
+        assertThat(result.transactionId()).isEqualTo(approval.transactionId());
+    }
+
+    @Test
+    @DisplayName("상태 조회 시 거절된 결제는 거절 사유를 반환한다")
+    void 상태_조회_거절() throws Exception {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 0.0, 1.0), 1000, 10, 10);
+        gateway.approve(request("payment-1")).get();
+
+        // when
+        PgInquiryResult result = gateway.inquire("payment-1").get();
+
+        // then
+        assertThat(result.status()).isEqualTo(PgInquiryResult.Status.DECLINED);
+        assertThat(result.failureReason()).isEqualTo("카드사 승인 거절");
+    }
+
+    @Test
+    @DisplayName("승인 요청이 도달하지 않은 결제는 NOT_FOUND로 조회된다")
+    void 상태_조회_미도달() throws Exception {
+        // given
+        HttpPaymentGateway gateway = gateway(new FakePgServer.Settings(0, 0, 0, 0.0, 0.0), 1000, 10, 10);
+
+        // when
+        PgInquiryResult result = gateway.inquire("payment-unknown").get();
+
+        // then
+        assertThat(result.status()).isEqualTo(PgInquiryResult.Status.NOT_FOUND);
+    }
+
+    private HttpPaymentGateway gateway(FakePgServer.Settings settings, long requestTimeoutMs,
+                                       int maxConcurrentCalls, int minimumCalls) {
+        fakePgServer = new FakePgServer(settings);
+        try {
+            fakePgServer.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("pg-test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(minimumCalls)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(50)
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("pg-test", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        return new HttpPaymentGateway(HttpClient.newHttpClient(), new ObjectMapper(), circuitBreaker, bulkhead,
+                "http://localhost:" + fakePgServer.getPort(), Duration.ofMillis(requestTimeoutMs));
+    }
+
+    private PgApprovalRequest request(String paymentId) {
+        return new PgApprovalRequest(paymentId, "order-" + paymentId, 10000L, PaymentMethod.CARD);
+    }
+
+    private PaymentGatewayException gatewayException(CompletableFuture<PgApprovalResult> future) {
+        Throwable thrown = catchThrowable(future::get);
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        assertThat(thrown.getCause()).isInstanceOf(PaymentGatewayException.class);
+        return (PaymentGatewayException) thrown.getCause();
+    }
+}
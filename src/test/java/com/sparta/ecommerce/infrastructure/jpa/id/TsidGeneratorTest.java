@@ -0,0 +1,110 @@
+package com.sparta.ecommerce.infrastructure.jpa.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TSID 생성기 테스트")
+class TsidGeneratorTest {
+
+    @Test
+    @DisplayName("생성된 ID는 13자리 고정 길이이며 생성 순서대로 문자열 정렬된다")
+    void 단조_증가_문자열() {
+        // given
+        TsidGenerator generator = new TsidGenerator(1);
+
+        // when
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextString());
+        }
+
+        // then
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(13));
+        assertThat(ids).isSorted();
+        assertThat(Set.copyOf(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("시각 하한 ID는 그 이전에 생성된 ID보다 크고 이후에 생성된 ID보다 작거나 같다")
+    void 시각_하한() throws InterruptedException {
+        // given
+        TsidGenerator generator = new TsidGenerator(1023);
+        String before = generator.nextString();
+        Thread.sleep(5);
+        Instant boundary = Instant.now();
+        Thread.sleep(5);
+        String after = generator.nextString();
+
+        // when
+        String lowerBound = TsidGenerator.lowerBound(boundary);
+
+        // then
+        assertThat(lowerBound).hasSize(13);
+        assertThat(lowerBound).isGreaterThan(before);
+        assertThat(lowerBound).isLessThanOrEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번(4096)을 넘겨도 ID가 감소하지 않는다")
+    void 순번_소진시_단조_증가() {
+        // given
+        TsidGenerator generator = new TsidGenerator(1);
+
+        // when
+        long previous = generator.nextLong();
+        for (int i = 0; i < 20_000; i++) {
+            long next = generator.nextLong();
+
+            // then
+            assertThat(Long.compareUnsigned(next, previous)).isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없다")
+    void 동시_생성_중복_없음() throws InterruptedException {
+        // given
+        TsidGenerator generator = new TsidGenerator(7);
+        int threadCount = 8;
+        int idsPerThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.nextLong());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위(0~1023)를 벗어나면 예외가 발생한다")
+    void 노드_ID_범위_검증() {
+        assertThatThrownBy(() -> new TsidGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
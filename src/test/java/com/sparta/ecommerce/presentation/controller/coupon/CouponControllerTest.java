@@ -1,9 +1,12 @@
 package com.sparta.ecommerce.presentation.controller.coupon;
 
 import com.sparta.ecommerce.application.coupon.usecase.GetAvailableCouponsUseCase;
+import com.sparta.ecommerce.application.coupon.usecase.GetCouponIssueStatusUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.IssueCouponWithQueueUseCase;
 import com.sparta.ecommerce.application.coupon.usecase.ValidateCouponUseCase;
+import com.sparta.ecommerce.application.coupon.dto.CouponIssueStatusResponse;
 import com.sparta.ecommerce.application.coupon.dto.CouponResponse;
+import com.sparta.ecommerce.domain.coupon.CouponIssueStatus;
 import com.sparta.ecommerce.domain.coupon.DiscountType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,17 +14,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -43,6 +50,9 @@ class CouponControllerTest {
     @MockBean
     private ValidateCouponUseCase validateCouponUseCase;
 
+    @MockBean
+    private GetCouponIssueStatusUseCase getCouponIssueStatusUseCase;
+
     @Test
     @DisplayName("GET /api/coupons - 발급 가능한 쿠폰 목록을 조회한다")
     void 쿠폰_목록_조회_성공() throws Exception {
@@ -161,4 +171,27 @@ class CouponControllerTest {
 
         verify(getAvailableCouponsUseCase, times(1)).execute();
     }
+
+    @Test
+    @DisplayName("GET /api/coupons/{couponId}/issue-status - 발급 결과를 대기 후 조회한다")
+    void 발급_결과_조회() throws Exception {
+        // given
+        given(getCouponIssueStatusUseCase.execute("C001", "user1", 5000L)).willReturn(
+                CompletableFuture.completedFuture(new CouponIssueStatusResponse("C001", "user1", CouponIssueStatus.ISSUED)));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/coupons/C001/issue-status")
+                        .param("userId", "user1")
+                        .param("waitMs", "5000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.couponId", is("C001")))
+                .andExpect(jsonPath("$.userId", is("user1")))
+                .andExpect(jsonPath("$.status", is("ISSUED")));
+    }
 }